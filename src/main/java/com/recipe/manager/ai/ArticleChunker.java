@@ -0,0 +1,193 @@
+package com.recipe.manager.ai;
+
+import com.recipe.manager.config.KnowledgeChunkProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Markdown の記事を見出し単位のパッセージに分ける。
+ * 短い節は targetChars まで後続の節とまとめ、maxChars を超える節は段落→文→文字数の順に境界を探して分割する。
+ * 分割した節では前のパッセージの末尾を overlapChars だけ次に重ね、文脈が途切れないようにする。
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleChunker {
+
+    private static final Pattern HEADING = Pattern.compile("^(#{1,6})\\s+(.+?)\\s*#*\\s*$");
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[。！？!?\\n])|(?<=\\.\\s)");
+    private static final String HEADING_SEPARATOR = " > ";
+
+    private final KnowledgeChunkProperties properties;
+
+    public List<Passage> split(String markdown) {
+        List<Passage> passages = new ArrayList<>();
+        Passage pending = null;
+        for (Passage section : sections(markdown)) {
+            if (section.content().length() > properties.getMaxChars()) {
+                if (pending != null) {
+                    passages.add(pending);
+                    pending = null;
+                }
+                for (String piece : withOverlap(pack(splitParagraphs(section.content()), "\n\n"))) {
+                    passages.add(new Passage(section.heading(), piece));
+                }
+                continue;
+            }
+            if (pending != null
+                    && pending.content().length() + 2 + section.content().length() <= properties.getTargetChars()) {
+                pending = new Passage(pending.heading(), pending.content() + "\n\n" + section.content());
+                continue;
+            }
+            if (pending != null) {
+                passages.add(pending);
+            }
+            pending = section;
+        }
+        if (pending != null) {
+            passages.add(pending);
+        }
+        return passages;
+    }
+
+    /**
+     * 見出しごとに節へ分ける。節の本文は見出し行を含み、heading は上位見出しからの経路。
+     * コードブロック内の # は見出しとして扱わない
+     */
+    private List<Passage> sections(String markdown) {
+        List<Passage> sections = new ArrayList<>();
+        String[] headingPath = new String[6];
+        String currentHeading = null;
+        StringBuilder body = new StringBuilder();
+        boolean inFence = false;
+        for (String line : (markdown != null ? markdown : "").split("\\R", -1)) {
+            if (line.stripLeading().startsWith("```")) {
+                inFence = !inFence;
+            }
+            Matcher matcher = inFence ? null : HEADING.matcher(line);
+            if (matcher != null && matcher.matches()) {
+                addSection(sections, currentHeading, body);
+                body.setLength(0);
+                int level = matcher.group(1).length();
+                headingPath[level - 1] = matcher.group(2);
+                for (int i = level; i < headingPath.length; i++) {
+                    headingPath[i] = null;
+                }
+                currentHeading = joinPath(headingPath, level);
+            }
+            body.append(line).append('\n');
+        }
+        addSection(sections, currentHeading, body);
+        return sections;
+    }
+
+    private static void addSection(List<Passage> sections, String heading, StringBuilder body) {
+        String content = body.toString().strip();
+        if (!content.isEmpty()) {
+            sections.add(new Passage(heading, content));
+        }
+    }
+
+    private static String joinPath(String[] headingPath, int level) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < level; i++) {
+            if (headingPath[i] == null) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(HEADING_SEPARATOR);
+            }
+            sb.append(headingPath[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 段落に分け、maxChars を超える段落は文、さらに超える文は文字数で切る
+     */
+    private List<String> splitParagraphs(String content) {
+        List<String> parts = new ArrayList<>();
+        for (String paragraph : PARAGRAPH_BREAK.split(content)) {
+            String trimmed = paragraph.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (trimmed.length() <= properties.getMaxChars()) {
+                parts.add(trimmed);
+                continue;
+            }
+            List<String> sentences = new ArrayList<>();
+            for (String sentence : SENTENCE_END.split(trimmed)) {
+                for (int start = 0; start < sentence.length(); start += properties.getMaxChars()) {
+                    sentences.add(sentence.substring(start, Math.min(sentence.length(), start + properties.getMaxChars())));
+                }
+            }
+            parts.addAll(pack(sentences, ""));
+        }
+        return parts;
+    }
+
+    /**
+     * 前から順に targetChars を超えない範囲で詰める
+     */
+    private List<String> pack(List<String> parts, String separator) {
+        List<String> packed = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String part : parts) {
+            if (!current.isEmpty()
+                    && current.length() + separator.length() + part.length() > properties.getTargetChars()) {
+                packed.add(current.toString());
+                current.setLength(0);
+            }
+            if (!current.isEmpty()) {
+                current.append(separator);
+            }
+            current.append(part);
+        }
+        if (!current.isEmpty()) {
+            packed.add(current.toString());
+        }
+        return packed;
+    }
+
+    private List<String> withOverlap(List<String> pieces) {
+        int overlap = properties.getOverlapChars();
+        if (overlap <= 0 || pieces.size() < 2) {
+            return pieces;
+        }
+        List<String> result = new ArrayList<>(pieces.size());
+        result.add(pieces.get(0));
+        for (int i = 1; i < pieces.size(); i++) {
+            result.add(tail(pieces.get(i - 1), overlap) + pieces.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 末尾 length 文字を、なるべく文の先頭から始まるように切り出す
+     */
+    private static String tail(String text, int length) {
+        if (text.length() <= length) {
+            return text + "\n";
+        }
+        int start = text.length() - length;
+        for (int i = start; i < text.length() - 1; i++) {
+            char c = text.charAt(i);
+            if (c == '。' || c == '\n' || c == '！' || c == '？') {
+                return text.substring(i + 1).stripLeading() + "\n";
+            }
+        }
+        return text.substring(start) + "\n";
+    }
+
+    /**
+     * heading は見出しの経路（例: 「歴史 > 江戸時代」）。見出しより前の導入部では null
+     */
+    public record Passage(String heading, String content) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.recipe.manager.ai;
+
+/**
+ * テキストを固定長ベクトルに変換するモデル。name はモデルを差し替えたときに保存済みベクトルを作り直す判定に使う
+ */
+public interface EmbeddingModel {
+
+    String name();
+
+    int dimensions();
+
+    float[] embed(String text);
+}
@@ -0,0 +1,62 @@
+package com.recipe.manager.ai;
+
+import com.recipe.manager.config.EmbeddingProperties;
+import com.recipe.manager.search.TextNormalizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 文字2-gram・3-gramを特徴量ハッシュで固定長ベクトルにする決定的なモデル。
+ * 外部モデルなしで動く代わりに表記の近さしか捉えられない（「盛り付け」と「プレゼンテーション」は近くならない）。
+ * 開発環境とテスト用で、意味的な検索には CPU 向けの埋め込みモデルを EmbeddingModel として差し替える。
+ */
+@Component
+@ConditionalOnProperty(name = "app.embedding.model", havingValue = "hashing", matchIfMissing = true)
+public class HashingEmbeddingModel implements EmbeddingModel {
+
+    private final int dimensions;
+
+    public HashingEmbeddingModel(EmbeddingProperties properties) {
+        this.dimensions = properties.getDimensions();
+    }
+
+    @Override
+    public String name() {
+        return "hashing-ngram-v1";
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        String normalized = TextNormalizer.normalize(text);
+        if (normalized.length() == 1) {
+            add(vector, normalized);
+        }
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= normalized.length(); i++) {
+                add(vector, normalized.substring(i, i + n));
+            }
+        }
+        return vector;
+    }
+
+    private void add(float[] vector, String feature) {
+        int hash = mix(feature.hashCode());
+        // 上位ビットで符号を決め、衝突した特徴量どうしが打ち消し合うようにする
+        vector[Math.floorMod(hash, dimensions)] += hash < 0 ? -1 : 1;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
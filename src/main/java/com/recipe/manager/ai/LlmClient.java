@@ -3,4 +3,22 @@ package com.recipe.manager.ai;
 public interface LlmClient {
 
     String chat(String systemPrompt, String userMessage);
+
+    default String modelName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * 利用量付きで応答を得る。プロバイダが利用量を返す場合は実装側で上書きする
+     */
+    default LlmCompletion complete(String systemPrompt, String userMessage) {
+        String content = chat(systemPrompt, userMessage);
+        return LlmCompletion.builder()
+                .content(content)
+                .model(modelName())
+                .promptTokens((int) (TokenEstimator.estimate(systemPrompt) + TokenEstimator.estimate(userMessage)))
+                .completionTokens((int) TokenEstimator.estimate(content))
+                .cacheHit(false)
+                .build();
+    }
 }
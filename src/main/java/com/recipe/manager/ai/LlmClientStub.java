@@ -20,6 +20,11 @@ public class LlmClientStub implements LlmClient {
                 + "ご質問の内容: " + summarize(userMessage);
     }
 
+    @Override
+    public String modelName() {
+        return "stub";
+    }
+
     private String summarize(String message) {
         if (message.length() <= 100) {
             return message;
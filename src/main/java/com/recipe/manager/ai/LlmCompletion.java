@@ -0,0 +1,18 @@
+package com.recipe.manager.ai;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * LLM応答と利用量。トークン数をプロバイダが返さない場合は TokenEstimator の推定値を入れる
+ */
+@Getter
+@Builder
+public class LlmCompletion {
+
+    private final String content;
+    private final String model;
+    private final int promptTokens;
+    private final int completionTokens;
+    private final boolean cacheHit;
+}
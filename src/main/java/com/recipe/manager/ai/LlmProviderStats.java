@@ -0,0 +1,18 @@
+package com.recipe.manager.ai;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LlmProviderStats {
+
+    private final String name;
+    private final double weight;
+    private final long requests;
+    private final long failures;
+    private final long hedgesWon;
+    private final int inFlight;
+    private final double ewmaLatencyMs;
+    private final double ewmaErrorRate;
+}
@@ -3,12 +3,17 @@ package com.recipe.manager.ai;
 import com.recipe.manager.entity.AiConsultationMessage;
 import com.recipe.manager.entity.AiConsultationThread;
 import com.recipe.manager.entity.KnowledgeArticle;
+import com.recipe.manager.entity.KnowledgeCategory;
+import com.recipe.manager.entity.KnowledgeChunk;
 import com.recipe.manager.entity.Recipe;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
+@RequiredArgsConstructor
 public class PromptBuilder {
 
     private static final String SYSTEM_PROMPT_BASE = """
@@ -24,33 +29,43 @@ public class PromptBuilder {
             回答はMarkdown形式で、具体的かつ実践的な内容にしてください。
             """;
 
-    public String buildSystemPrompt(AiConsultationThread thread,
-                                     List<KnowledgeArticle> relatedArticles) {
-        StringBuilder sb = new StringBuilder(SYSTEM_PROMPT_BASE);
+    private static final String THEME_HEADER = "\n## 相談テーマ\n";
+    private static final String KNOWLEDGE_HEADER = "\n## 参考ナレッジ\n";
 
-        sb.append("\n## 相談テーマ\n").append(thread.getTheme()).append("\n");
+    private final PromptFragmentCache fragmentCache;
 
-        if (thread.getRecipe() != null) {
-            Recipe recipe = thread.getRecipe();
-            sb.append("\n## 関連レシピ\n");
-            sb.append("- タイトル: ").append(recipe.getTitle()).append("\n");
-            if (recipe.getDescription() != null) {
-                sb.append("- 説明: ").append(recipe.getDescription()).append("\n");
-            }
-            if (recipe.getConcept() != null) {
-                sb.append("- コンセプト: ").append(recipe.getConcept()).append("\n");
-            }
+    /**
+     * レシピ・パッセージの部分は版ごとにキャッシュした断片を使い、全体の長さを求めてから一度で連結する
+     */
+    public String buildSystemPrompt(AiConsultationThread thread,
+                                     List<KnowledgeChunk> passages) {
+        int passageCount = passages != null ? passages.size() : 0;
+        List<String> chunks = new ArrayList<>(6 + passageCount);
+        chunks.add(SYSTEM_PROMPT_BASE);
+        chunks.add(THEME_HEADER);
+        chunks.add(String.valueOf(thread.getTheme()));
+        chunks.add("\n");
+
+        Recipe recipe = thread.getRecipe();
+        if (recipe != null) {
+            chunks.add(fragmentCache.recipe(recipe.getId(), recipe.getVersion(), () -> renderRecipe(recipe)));
         }
 
-        if (relatedArticles != null && !relatedArticles.isEmpty()) {
-            sb.append("\n## 参考ナレッジ\n");
-            for (KnowledgeArticle article : relatedArticles) {
-                sb.append("### ").append(article.getTitle()).append("\n");
-                sb.append("カテゴリ: ").append(article.getCategory().getName()).append("\n");
-                sb.append(article.getContent()).append("\n\n");
+        if (passageCount > 0) {
+            chunks.add(KNOWLEDGE_HEADER);
+            for (KnowledgeChunk passage : passages) {
+                KnowledgeCategory category = passage.getArticle().getCategory();
+                chunks.add(fragmentCache.passage(passage.getId(), passage.getArticleVersion(),
+                        category.getId(), category.getName(), () -> renderPassage(passage)));
             }
         }
 
+        int length = 0;
+        for (String chunk : chunks) {
+            length += chunk.length();
+        }
+        StringBuilder sb = new StringBuilder(length);
+        chunks.forEach(sb::append);
         return sb.toString();
     }
 
@@ -69,4 +84,24 @@ public class PromptBuilder {
         sb.append("## 新しい質問\n").append(newUserMessage);
         return sb.toString();
     }
+
+    private static String renderRecipe(Recipe recipe) {
+        StringBuilder sb = new StringBuilder("\n## 関連レシピ\n");
+        sb.append("- タイトル: ").append(recipe.getTitle()).append("\n");
+        if (recipe.getDescription() != null) {
+            sb.append("- 説明: ").append(recipe.getDescription()).append("\n");
+        }
+        if (recipe.getConcept() != null) {
+            sb.append("- コンセプト: ").append(recipe.getConcept()).append("\n");
+        }
+        return sb.toString();
+    }
+
+    private static String renderPassage(KnowledgeChunk passage) {
+        KnowledgeArticle article = passage.getArticle();
+        String heading = passage.getHeading() != null ? "（" + passage.getHeading() + "）" : "";
+        return "### " + article.getTitle() + heading + "\n"
+                + "カテゴリ: " + article.getCategory().getName() + "\n"
+                + passage.getContent() + "\n\n";
+    }
 }
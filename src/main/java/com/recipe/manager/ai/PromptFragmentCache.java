@@ -0,0 +1,67 @@
+package com.recipe.manager.ai;
+
+import com.recipe.manager.config.CacheConfig;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.RecipeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * レシピ・ナレッジのパッセージをプロンプト用に描画した断片のキャッシュ。
+ * エンティティのバージョンと一緒に保持し、読み出し時に版が違えば描画し直す。レシピは変更イベントの同報でも破棄する。
+ * パッセージは記事の更新時に別IDで作り直されるため、古い断片は参照されなくなり期限で消える。
+ * パッセージの断片に含むカテゴリ名は記事の版を変えずに変わるため、カテゴリのIDと名前もキーに含める。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptFragmentCache {
+
+    private final CacheManager cacheManager;
+
+    public String recipe(Long recipeId, Long version, Supplier<String> renderer) {
+        return get("recipe:" + recipeId, recipeId, version, renderer);
+    }
+
+    public String passage(Long chunkId, Long articleVersion, Long categoryId, String categoryName,
+                          Supplier<String> renderer) {
+        return get("passage:" + chunkId + ":" + categoryId + ":" + categoryName, chunkId, articleVersion, renderer);
+    }
+
+    @EventListener
+    public void onRecipeChanged(BroadcastEvent<RecipeChangedEvent> broadcast) {
+        evict("recipe:" + broadcast.getEvent().getRecipeId());
+    }
+
+    private String get(String key, Long id, Long version, Supplier<String> renderer) {
+        Cache cache = cacheManager.getCache(CacheConfig.PROMPT_FRAGMENTS);
+        // 未保存のエンティティは版で同一性を判断できないため毎回描画する
+        if (cache == null || id == null || version == null) {
+            return renderer.get();
+        }
+        Fragment cached = cache.get(key, Fragment.class);
+        if (cached != null && cached.version() == version) {
+            return cached.text();
+        }
+        String text = renderer.get();
+        cache.put(key, new Fragment(version, text));
+        return text;
+    }
+
+    private void evict(String key) {
+        Cache cache = cacheManager.getCache(CacheConfig.PROMPT_FRAGMENTS);
+        if (cache != null) {
+            cache.evict(key);
+            log.debug("Prompt fragment evicted: {}", key);
+        }
+    }
+
+    private record Fragment(long version, String text) {
+    }
+}
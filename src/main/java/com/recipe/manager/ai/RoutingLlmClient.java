@@ -0,0 +1,267 @@
+package com.recipe.manager.ai;
+
+import com.recipe.manager.config.AiProperties;
+import com.recipe.manager.exception.ApplicationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 複数プロバイダへ振り分ける LlmClient。
+ * 呼び出しごとに「レイテンシのEWMA ×（1 + エラー率のEWMA × ペナルティ）×（1 + 実行中件数）÷ 重み」が
+ * 最小のプロバイダを選ぶ。一次プロバイダがヘッジ待ち時間内に応答しなければ次点にも同じ要求を送り、
+ * 先に成功した方を返す。失敗した場合は残りのプロバイダへ順にフェイルオーバーする。
+ */
+@Slf4j
+public class RoutingLlmClient implements LlmClient {
+
+    private final List<ProviderState> providers;
+    private final AiProperties.Routing settings;
+    private final AsyncTaskExecutor executor;
+
+    public RoutingLlmClient(List<Route> routes, AiProperties.Routing settings, AsyncTaskExecutor executor) {
+        if (routes.isEmpty()) {
+            throw new IllegalArgumentException("At least one LLM provider is required");
+        }
+        this.providers = routes.stream()
+                .map(route -> new ProviderState(route, settings.getInitialLatencyMs()))
+                .toList();
+        this.settings = settings;
+        this.executor = executor;
+    }
+
+    @Override
+    public String chat(String systemPrompt, String userMessage) {
+        return complete(systemPrompt, userMessage).getContent();
+    }
+
+    @Override
+    public String modelName() {
+        return "router";
+    }
+
+    @Override
+    public LlmCompletion complete(String systemPrompt, String userMessage) {
+        List<ProviderState> candidates = rank();
+        Call call = new Call(candidates, systemPrompt, userMessage);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.getTimeoutMs());
+        boolean timedOut = false;
+        try {
+            call.launchNext();
+            if (settings.isHedgingEnabled() && candidates.size() > 1) {
+                try {
+                    return call.result.get(hedgeDelayMs(candidates.get(0)), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    log.debug("LLM request hedged: primary={}", candidates.get(0).name);
+                    call.launchNext();
+                }
+            }
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return call.result.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw new ApplicationException("AIの応答がタイムアウトしました");
+        } catch (ExecutionException e) {
+            throw new ApplicationException("AIの応答を取得できませんでした", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApplicationException("AIの応答待ちが中断されました", e);
+        } finally {
+            call.cancelRemaining(timedOut);
+        }
+    }
+
+    public List<LlmProviderStats> getProviderStats() {
+        return providers.stream().map(ProviderState::snapshot).toList();
+    }
+
+    /**
+     * スコア順に並べる。exploreRatio の確率で先頭を別のプロバイダと入れ替え、
+     * 避けられているプロバイダの計測値も時々更新する。
+     */
+    List<ProviderState> rank() {
+        List<ProviderState> ranked = new ArrayList<>(providers);
+        ranked.sort(Comparator.comparingDouble(provider -> provider.score(settings.getErrorPenalty())));
+        if (ranked.size() > 1 && ThreadLocalRandom.current().nextDouble() < settings.getExploreRatio()) {
+            int swap = 1 + ThreadLocalRandom.current().nextInt(ranked.size() - 1);
+            ranked.set(0, ranked.set(swap, ranked.get(0)));
+        }
+        return ranked;
+    }
+
+    private long hedgeDelayMs(ProviderState primary) {
+        long delay = (long) (primary.ewmaLatencyMs() * settings.getHedgeLatencyMultiplier());
+        return Math.max(settings.getHedgeMinDelayMs(), Math.min(settings.getHedgeMaxDelayMs(), delay));
+    }
+
+    public record Route(String name, double weight, LlmClient client) {
+    }
+
+    private final class Call {
+
+        private final List<ProviderState> candidates;
+        private final String systemPrompt;
+        private final String userMessage;
+        private final CompletableFuture<LlmCompletion> result = new CompletableFuture<>();
+        private final Map<ProviderState, FutureTask<Void>> pending = new ConcurrentHashMap<>();
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicBoolean answered = new AtomicBoolean();
+
+        private Call(List<ProviderState> candidates, String systemPrompt, String userMessage) {
+            this.candidates = candidates;
+            this.systemPrompt = systemPrompt;
+            this.userMessage = userMessage;
+        }
+
+        /**
+         * 次点のプロバイダへ要求を送る。候補が尽きたか実行スレッドが満杯なら false
+         */
+        private boolean launchNext() {
+            int index = next.getAndIncrement();
+            if (index >= candidates.size() || result.isDone()) {
+                return false;
+            }
+            ProviderState provider = candidates.get(index);
+            boolean hedge = running.getAndIncrement() > 0;
+            FutureTask<Void> task = new FutureTask<>(() -> attempt(provider, index > 0 && hedge), null);
+            pending.put(provider, task);
+            try {
+                executor.execute(task);
+                return true;
+            } catch (RejectedExecutionException e) {
+                pending.remove(provider);
+                log.warn("LLM executor saturated, skipping provider: {}", provider.name);
+                if (running.decrementAndGet() == 0 && !result.isDone()) {
+                    result.completeExceptionally(e);
+                }
+                return false;
+            }
+        }
+
+        private void attempt(ProviderState provider, boolean hedge) {
+            provider.inFlight.incrementAndGet();
+            long startedAt = System.nanoTime();
+            try {
+                LlmCompletion completion = provider.client.complete(systemPrompt, userMessage);
+                provider.recordSuccess(elapsedMs(startedAt), settings.getEwmaAlpha());
+                // 呼び出し元が結果を受け取った時点でヘッジの勝ちが計上済みになるよう、勝者を決めてから完了させる
+                if (!result.isDone() && answered.compareAndSet(false, true)) {
+                    if (hedge) {
+                        provider.recordHedgeWin();
+                    }
+                    result.complete(completion);
+                }
+            } catch (RuntimeException e) {
+                if (result.isDone()) {
+                    // ヘッジで負けた側の取り消しは失敗として数えない
+                    return;
+                }
+                provider.recordFailure(settings.getEwmaAlpha());
+                log.warn("LLM provider failed: provider={}, error={}", provider.name, e.getMessage());
+                // 並行中の試行がなければ次のプロバイダへフェイルオーバーする
+                if (running.decrementAndGet() == 0 && !launchNext() && !result.isDone()) {
+                    result.completeExceptionally(e);
+                }
+                return;
+            } finally {
+                provider.inFlight.decrementAndGet();
+                pending.remove(provider);
+            }
+            running.decrementAndGet();
+        }
+
+        /**
+         * 応答待ちを打ち切る。先に結果を確定させてフェイルオーバーを止め、
+         * タイムアウト時は応答しなかったプロバイダを失敗として計上する
+         */
+        private void cancelRemaining(boolean timedOut) {
+            result.cancel(false);
+            pending.forEach((provider, task) -> {
+                if (timedOut) {
+                    provider.recordFailure(settings.getEwmaAlpha());
+                }
+                task.cancel(true);
+            });
+        }
+    }
+
+    private static double elapsedMs(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000.0;
+    }
+
+    static final class ProviderState {
+
+        private final String name;
+        private final double weight;
+        private final LlmClient client;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double ewmaLatencyMs;
+        private double ewmaErrorRate;
+        private long requests;
+        private long failures;
+        private long hedgesWon;
+
+        private ProviderState(Route route, long initialLatencyMs) {
+            this.name = route.name();
+            this.weight = route.weight() > 0 ? route.weight() : 1.0;
+            this.client = route.client();
+            this.ewmaLatencyMs = initialLatencyMs;
+        }
+
+        String name() {
+            return name;
+        }
+
+        private synchronized double score(double errorPenalty) {
+            return ewmaLatencyMs * (1 + ewmaErrorRate * errorPenalty) * (1 + inFlight.get()) / weight;
+        }
+
+        private synchronized double ewmaLatencyMs() {
+            return ewmaLatencyMs;
+        }
+
+        private synchronized void recordSuccess(double latencyMs, double alpha) {
+            requests++;
+            ewmaLatencyMs = requests == 1 ? latencyMs : alpha * latencyMs + (1 - alpha) * ewmaLatencyMs;
+            ewmaErrorRate = (1 - alpha) * ewmaErrorRate;
+        }
+
+        private synchronized void recordFailure(double alpha) {
+            requests++;
+            failures++;
+            ewmaErrorRate = alpha + (1 - alpha) * ewmaErrorRate;
+        }
+
+        private synchronized void recordHedgeWin() {
+            hedgesWon++;
+        }
+
+        private synchronized LlmProviderStats snapshot() {
+            return LlmProviderStats.builder()
+                    .name(name)
+                    .weight(weight)
+                    .requests(requests)
+                    .failures(failures)
+                    .hedgesWon(hedgesWon)
+                    .inFlight(inFlight.get())
+                    .ewmaLatencyMs(ewmaLatencyMs)
+                    .ewmaErrorRate(ewmaErrorRate)
+                    .build();
+        }
+    }
+}
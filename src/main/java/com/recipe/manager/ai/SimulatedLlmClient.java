@@ -0,0 +1,50 @@
+package com.recipe.manager.ai;
+
+import com.recipe.manager.exception.ApplicationException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 遅延とエラー率を指定できる擬似プロバイダ。ルーティングの検証と、実プロバイダ接続前の代用に使う
+ */
+public class SimulatedLlmClient implements LlmClient {
+
+    private final String name;
+    private volatile long latencyMs;
+    private volatile double errorRate;
+
+    public SimulatedLlmClient(String name, long latencyMs, double errorRate) {
+        this.name = name;
+        this.latencyMs = latencyMs;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public String chat(String systemPrompt, String userMessage) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApplicationException("LLM request cancelled: " + name, e);
+            }
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            throw new ApplicationException("Simulated LLM failure: " + name);
+        }
+        return "【" + name + "】" + userMessage.length() + "文字のご相談を受け付けました。";
+    }
+
+    @Override
+    public String modelName() {
+        return name;
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+}
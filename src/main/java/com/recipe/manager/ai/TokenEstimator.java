@@ -0,0 +1,30 @@
+package com.recipe.manager.ai;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * プロバイダのトークナイザを使わずにトークン数を見積もる。
+ * 英数字・記号は約4文字で1トークン、日本語などそれ以外の文字は1文字1トークンとして数える。
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenEstimator {
+
+    private static final int ASCII_CHARS_PER_TOKEN = 4;
+
+    public static long estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        long ascii = 0;
+        long other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return other + (ascii + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN;
+    }
+}
@@ -0,0 +1,181 @@
+package com.recipe.manager.analytics;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * TF-IDF ベクトルの球面 k-means。初期中心は最も典型的なコメントから始めて最遠点を順に選ぶため、
+ * 結果は入力順に対して決定的になる。ほぼ同一のコメントしかない場合は k より少ないクラスタで止める。
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CommentClusterer {
+
+    private static final double DUPLICATE_SIMILARITY = 0.999;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Cluster {
+        /** 中心に最も近いコメントの入力上の位置 */
+        private final int representative;
+        private final int size;
+    }
+
+    /**
+     * クラスタを大きい順に返す。語を1つも持たないベクトルはどのクラスタにも含めない。
+     */
+    public static List<Cluster> cluster(List<Map<String, Double>> vectors, int k, int maxIterations) {
+        List<Integer> indexes = new ArrayList<>();
+        List<Map<String, Double>> unitVectors = new ArrayList<>();
+        for (int i = 0; i < vectors.size(); i++) {
+            Map<String, Double> unit = normalize(vectors.get(i));
+            if (!unit.isEmpty()) {
+                indexes.add(i);
+                unitVectors.add(unit);
+            }
+        }
+        if (unitVectors.isEmpty() || k <= 0) {
+            return List.of();
+        }
+
+        List<Map<String, Double>> centroids = initialCentroids(unitVectors, k);
+        int[] assignment = new int[unitVectors.size()];
+        Arrays.fill(assignment, -1);
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            boolean changed = false;
+            for (int i = 0; i < unitVectors.size(); i++) {
+                int nearest = nearest(unitVectors.get(i), centroids);
+                if (assignment[i] != nearest) {
+                    assignment[i] = nearest;
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                break;
+            }
+            centroids = recomputeCentroids(unitVectors, assignment, centroids.size());
+        }
+
+        List<Cluster> clusters = new ArrayList<>();
+        for (int c = 0; c < centroids.size(); c++) {
+            int size = 0;
+            int best = -1;
+            double bestSimilarity = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < unitVectors.size(); i++) {
+                if (assignment[i] != c) {
+                    continue;
+                }
+                size++;
+                double similarity = dot(unitVectors.get(i), centroids.get(c));
+                if (similarity > bestSimilarity) {
+                    bestSimilarity = similarity;
+                    best = i;
+                }
+            }
+            if (size > 0) {
+                clusters.add(new Cluster(indexes.get(best), size));
+            }
+        }
+        clusters.sort(Comparator.comparingInt(Cluster::getSize).reversed()
+                .thenComparingInt(Cluster::getRepresentative));
+        return clusters;
+    }
+
+    private static List<Map<String, Double>> initialCentroids(List<Map<String, Double>> vectors, int k) {
+        Map<String, Double> mean = new HashMap<>();
+        for (Map<String, Double> vector : vectors) {
+            vector.forEach((term, weight) -> mean.merge(term, weight, Double::sum));
+        }
+        List<Map<String, Double>> centroids = new ArrayList<>();
+        centroids.add(vectors.get(argMax(vectors, v -> dot(v, mean))));
+
+        while (centroids.size() < k) {
+            int farthest = argMax(vectors, v -> -maxSimilarity(v, centroids));
+            if (maxSimilarity(vectors.get(farthest), centroids) >= DUPLICATE_SIMILARITY) {
+                break;
+            }
+            centroids.add(vectors.get(farthest));
+        }
+        return centroids;
+    }
+
+    private static List<Map<String, Double>> recomputeCentroids(List<Map<String, Double>> vectors,
+                                                                int[] assignment, int k) {
+        List<Map<String, Double>> sums = new ArrayList<>(k);
+        for (int c = 0; c < k; c++) {
+            sums.add(new HashMap<>());
+        }
+        for (int i = 0; i < vectors.size(); i++) {
+            Map<String, Double> sum = sums.get(assignment[i]);
+            vectors.get(i).forEach((term, weight) -> sum.merge(term, weight, Double::sum));
+        }
+        return sums.stream().map(CommentClusterer::normalize).toList();
+    }
+
+    private static int nearest(Map<String, Double> vector, List<Map<String, Double>> centroids) {
+        int nearest = 0;
+        double best = Double.NEGATIVE_INFINITY;
+        for (int c = 0; c < centroids.size(); c++) {
+            double similarity = dot(vector, centroids.get(c));
+            if (similarity > best) {
+                best = similarity;
+                nearest = c;
+            }
+        }
+        return nearest;
+    }
+
+    private static double maxSimilarity(Map<String, Double> vector, List<Map<String, Double>> centroids) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (Map<String, Double> centroid : centroids) {
+            max = Math.max(max, dot(vector, centroid));
+        }
+        return max;
+    }
+
+    private static int argMax(List<Map<String, Double>> vectors,
+                              ToDoubleFunction<Map<String, Double>> score) {
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < vectors.size(); i++) {
+            double s = score.applyAsDouble(vectors.get(i));
+            if (s > bestScore) {
+                bestScore = s;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    static double dot(Map<String, Double> a, Map<String, Double> b) {
+        Map<String, Double> small = a.size() <= b.size() ? a : b;
+        Map<String, Double> large = small == a ? b : a;
+        double sum = 0;
+        for (Map.Entry<String, Double> entry : small.entrySet()) {
+            Double other = large.get(entry.getKey());
+            if (other != null) {
+                sum += entry.getValue() * other;
+            }
+        }
+        return sum;
+    }
+
+    private static Map<String, Double> normalize(Map<String, Double> vector) {
+        double norm = Math.sqrt(dot(vector, vector));
+        if (norm == 0) {
+            return Map.of();
+        }
+        Map<String, Double> unit = new HashMap<>(vector.size());
+        vector.forEach((term, weight) -> unit.put(term, weight / norm));
+        return unit;
+    }
+}
@@ -0,0 +1,4 @@
+package com.recipe.manager.analytics;
+
+public record CommentDocument(Long feedbackId, String text) {
+}
@@ -0,0 +1,66 @@
+package com.recipe.manager.analytics;
+
+import com.atilika.kuromoji.ipadic.Token;
+import com.atilika.kuromoji.ipadic.Tokenizer;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Kuromoji（IPA辞書）でコメントを形態素解析し、キーワード候補となる内容語の原形を取り出す。
+ * Tokenizer はスレッドセーフなので1インスタンスを共有する。
+ */
+@Component
+public class CommentTokenizer {
+
+    private static final Set<String> EXCLUDED_NOUN_TYPES = Set.of("数", "非自立", "代名詞", "接尾", "副詞可能");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "する", "ある", "いる", "なる", "れる", "られる", "できる", "思う", "いう", "言う",
+            "こと", "もの", "よう", "ため", "ない", "いい", "よい");
+    private static final int MAX_TERM_LENGTH = 100;
+
+    private final Tokenizer tokenizer = new Tokenizer();
+
+    public List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (Token token : tokenizer.tokenize(normalized)) {
+            if (!isContentWord(token)) {
+                continue;
+            }
+            String term = token.getBaseForm() == null || "*".equals(token.getBaseForm())
+                    ? token.getSurface() : token.getBaseForm();
+            if (isKeywordCandidate(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static boolean isContentWord(Token token) {
+        return switch (token.getPartOfSpeechLevel1()) {
+            case "名詞" -> !EXCLUDED_NOUN_TYPES.contains(token.getPartOfSpeechLevel2());
+            case "形容詞", "動詞" -> "自立".equals(token.getPartOfSpeechLevel2());
+            default -> false;
+        };
+    }
+
+    private static boolean isKeywordCandidate(String term) {
+        if (term.isBlank() || term.length() > MAX_TERM_LENGTH || STOP_WORDS.contains(term)) {
+            return false;
+        }
+        if (term.chars().anyMatch(Character::isWhitespace)) {
+            return false;
+        }
+        // ひらがな1文字は助詞の誤解析がほとんどなので捨てる
+        return term.codePointCount(0, term.length()) > 1
+                || Character.UnicodeBlock.of(term.codePointAt(0)) != Character.UnicodeBlock.HIRAGANA;
+    }
+}
@@ -0,0 +1,68 @@
+package com.recipe.manager.analytics;
+
+import com.recipe.manager.config.FeedbackAnomalyProperties;
+import com.recipe.manager.entity.FeedbackStat;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * EWMA管理図による満足度低下の検知。
+ * ベースラインは小さい係数の指数加重平均・分散、直近値は大きい係数の指数加重平均で追い、
+ * 直近EWMAの標準誤差 σ·√(λ/(2−λ)) を単位にベースラインからの乖離を測る。
+ * 1件ごとにO(1)で更新でき、過去のフィードバックを読み直す必要がない。
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EwmaDriftDetector {
+
+    @Getter
+    @AllArgsConstructor
+    public static class Drift {
+        private final double baseline;
+        private final double recent;
+        private final double zScore;
+    }
+
+    /**
+     * 統計を1件分更新し、低下アラートの発生条件を新たに満たした場合だけ Drift を返す。
+     */
+    public static Optional<Drift> observe(FeedbackStat stat, double score, FeedbackAnomalyProperties properties) {
+        if (stat.getObservationCount() == 0) {
+            stat.setBaselineMean(score);
+            stat.setRecentMean(score);
+            stat.setBaselineVariance(0.0);
+            stat.setObservationCount(1L);
+            return Optional.empty();
+        }
+
+        double baseline = stat.getBaselineMean();
+        double recentAlpha = properties.getRecentAlpha();
+        double recent = stat.getRecentMean() + recentAlpha * (score - stat.getRecentMean());
+        double sigma = Math.max(Math.sqrt(stat.getBaselineVariance()), properties.getMinStdDev());
+        double zScore = (recent - baseline) / (sigma * Math.sqrt(recentAlpha / (2 - recentAlpha)));
+
+        double baselineAlpha = properties.getBaselineAlpha();
+        double diff = score - baseline;
+        double increment = baselineAlpha * diff;
+        stat.setBaselineMean(baseline + increment);
+        stat.setBaselineVariance((1 - baselineAlpha) * (stat.getBaselineVariance() + diff * increment));
+        stat.setRecentMean(recent);
+        stat.setObservationCount(stat.getObservationCount() + 1);
+
+        if (Boolean.TRUE.equals(stat.getInAlert())) {
+            // 閾値の半分まで戻ったら解除し、次の低下で再度通知できるようにする
+            if (zScore > -properties.getThreshold() / 2) {
+                stat.setInAlert(false);
+            }
+            return Optional.empty();
+        }
+        if (stat.getObservationCount() > properties.getMinObservations() && zScore <= -properties.getThreshold()) {
+            stat.setInAlert(true);
+            return Optional.of(new Drift(baseline, recent, zScore));
+        }
+        return Optional.empty();
+    }
+}
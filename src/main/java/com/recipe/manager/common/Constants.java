@@ -13,6 +13,7 @@ public final class Constants {
     // Recipe
     public static final int MAX_RECIPE_TITLE_LENGTH = 200;
     public static final int MAX_RECIPE_DESCRIPTION_LENGTH = 2000;
+    public static final int MAX_SCALED_SERVINGS = 10000;
 
     // Recipe Status
     public static final String STATUS_DRAFT = "DRAFT";
@@ -26,15 +27,55 @@ public final class Constants {
     public static final String ROLE_PURCHASER = "PURCHASER";
     public static final String ROLE_PRODUCER = "PRODUCER";
 
+    // Ingredient
+    public static final int DEFAULT_SUGGESTION_LIMIT = 10;
+    public static final int MAX_SUGGESTION_LIMIT = 50;
+
     // Ingredient Supply Status
     public static final String SUPPLY_AVAILABLE = "AVAILABLE";
     public static final String SUPPLY_LIMITED = "LIMITED";
     public static final String SUPPLY_UNAVAILABLE = "UNAVAILABLE";
     public static final String SUPPLY_SEASONAL = "SEASONAL";
+    public static final int SUPPLY_IMPACT_BATCH_SIZE = 500;
+    public static final int SUPPLY_IMPACT_SAMPLE_TITLES = 5;
+    /** notifications.title の列長 */
+    public static final int NOTIFICATION_TITLE_MAX_LENGTH = 200;
 
     // Feedback
     public static final int MIN_SATISFACTION_SCORE = 1;
     public static final int MAX_SATISFACTION_SCORE = 5;
     public static final int MIN_EMOTION_SCORE = 1;
     public static final int MAX_EMOTION_SCORE = 5;
+    public static final int DEFAULT_RANKING_LIMIT = 50;
+    public static final int MAX_RANKING_LIMIT = 500;
+
+    // Comment Analytics
+    public static final int COMMENT_TREND_KEYWORDS = 5;
+    public static final int COMMENT_TREND_REPRESENTATIVES = 3;
+    public static final int COMMENT_TREND_MAX_LENGTH = 100;
+    public static final int MAX_ANALYZED_COMMENTS = 1000;
+
+    // Knowledge Category
+    public static final int MAX_KNOWLEDGE_CATEGORY_DEPTH = 4;
+
+    // Knowledge Tag
+    public static final int MAX_FILTER_TAGS = 10;
+    public static final int DEFAULT_TAG_FACET_LIMIT = 30;
+    public static final int MAX_TAG_FACET_LIMIT = 200;
+
+    // Recipe Search
+    public static final int RECIPE_INGREDIENT_FACET_LIMIT = 30;
+    public static final int MAX_RECIPE_SEARCH_FILTER_VALUES = 20;
+    public static final int MAX_TEXT_SEARCH_KEYWORD_LENGTH = 100;
+    public static final int TEXT_SEARCH_SNIPPET_LENGTH = 120;
+    /** 全文検索で順位を付ける候補の上限（一致したうち新しい順） */
+    public static final int TEXT_SEARCH_RANK_CANDIDATES = 1000;
+
+    // Recipe Push
+    public static final String RECIPE_CHANGES_PATH = "/api/recipes/changes";
+    public static final String RECIPE_CHANGES_COOKIE = "recipe_changes_token";
+    public static final String RECIPE_CHANGES_SCOPE = "recipe-changes";
+
+    // AI Usage
+    public static final int MAX_USAGE_SUMMARY_DAYS = 366;
 }
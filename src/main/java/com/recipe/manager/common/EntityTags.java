@@ -0,0 +1,15 @@
+package com.recipe.manager.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EntityTags {
+
+    public static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    public static String of(String resourceName, Long id, Long version) {
+        return "\"" + resourceName + "-" + id + "-v" + version + "\"";
+    }
+}
@@ -0,0 +1,103 @@
+package com.recipe.manager.config;
+
+import com.recipe.manager.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "app.ai")
+@Getter
+@Setter
+public class AiProperties {
+
+    private String provider = "stub";
+
+    /** memory: ノード内で判定する / jdbc: DBのバケットを全ノードで共有する */
+    private String rateLimitBackend = "memory";
+
+    /** ロールごとの送信レートと日次クォータ。未設定のロールは defaultLimit を使う */
+    private Map<Role, Limit> limits = new EnumMap<>(Map.of(
+            Role.CHEF, new Limit(10, 6, 200_000),
+            Role.SERVICE, new Limit(5, 3, 100_000),
+            Role.PURCHASER, new Limit(5, 3, 100_000),
+            Role.PRODUCER, new Limit(20, 12, 500_000)));
+
+    private Limit defaultLimit = new Limit(5, 3, 100_000);
+
+    /** provider=router のときに使うプロバイダ群と振り分けの設定 */
+    private Routing routing = new Routing();
+
+    public Limit limitFor(Role role) {
+        return limits.getOrDefault(role, defaultLimit);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /** 連続して送れる回数（バケットの容量） */
+        private int burst;
+
+        /** 1分あたりに補充される回数 */
+        private double requestsPerMinute;
+
+        /** 1日あたりの推定トークン消費量の上限。0以下なら無制限 */
+        private long dailyTokenQuota;
+    }
+
+    @Getter
+    @Setter
+    public static class Routing {
+
+        private List<Provider> providers = new ArrayList<>();
+
+        /** レイテンシ・エラー率の指数移動平均の重み。大きいほど直近の結果に追従する */
+        private double ewmaAlpha = 0.2;
+
+        /** エラー率1.0のプロバイダのスコアを何倍に悪化させるか（スコアは小さいほど優先） */
+        private double errorPenalty = 10.0;
+
+        /** 最良以外のプロバイダをあえて選ぶ割合。回復したプロバイダの計測値を更新するために使う */
+        private double exploreRatio = 0.05;
+
+        /** 初回呼び出し前のレイテンシ推定値 */
+        private long initialLatencyMs = 1000;
+
+        private boolean hedgingEnabled = true;
+
+        /** 一次プロバイダの平均レイテンシのこの倍数を待っても応答がなければ、次点のプロバイダにも同じ要求を送る */
+        private double hedgeLatencyMultiplier = 2.0;
+
+        private long hedgeMinDelayMs = 100;
+
+        private long hedgeMaxDelayMs = 5000;
+
+        private long timeoutMs = 60_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Provider {
+
+        private String name;
+
+        /** 振り分けの重み。大きいほど選ばれやすい */
+        private double weight = 1.0;
+
+        /** 実プロバイダ未接続のため、擬似応答の遅延とエラー率で代用する */
+        private long simulatedLatencyMs = 0;
+
+        private double simulatedErrorRate = 0;
+    }
+}
@@ -0,0 +1,84 @@
+package com.recipe.manager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String FAN_OUT_EXECUTOR = "fanOutExecutor";
+    public static final String SUMMARY_EXECUTOR = "summaryExecutor";
+    public static final String LLM_EXECUTOR = "llmExecutor";
+
+    @Bean(name = FAN_OUT_EXECUTOR)
+    public ThreadPoolTaskExecutor fanOutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("fan-out-");
+        // 溢れた場合に呼び出し元（リクエストスレッド）で実行すると応答が止まるため、捨てて記録する
+        executor.setRejectedExecutionHandler(new DiscardAndLogPolicy(FAN_OUT_EXECUTOR));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = SUMMARY_EXECUTOR)
+    public ThreadPoolTaskExecutor summaryExecutor(FeedbackSummaryProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkerThreads());
+        executor.setMaxPoolSize(properties.getWorkerThreads());
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("summary-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = LLM_EXECUTOR)
+    public ThreadPoolTaskExecutor llmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("llm-");
+        // 溢れた場合は拒否し、ヘッジ要求を諦める（一次要求の拒否は呼び出し元にエラーを返す）
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 溢れたタスクを捨て、捨てた件数の累計とともに警告ログを出す
+     */
+    static class DiscardAndLogPolicy implements RejectedExecutionHandler {
+
+        private final String executorName;
+        private final AtomicLong rejected = new AtomicLong();
+
+        DiscardAndLogPolicy(String executorName) {
+            this.executorName = executorName;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            log.warn("Task discarded, queue full: executor={}, rejectedTotal={}, active={}, queued={}",
+                    executorName, rejected.incrementAndGet(), executor.getActiveCount(), executor.getQueue().size());
+        }
+    }
+}
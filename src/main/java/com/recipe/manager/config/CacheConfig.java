@@ -0,0 +1,40 @@
+package com.recipe.manager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SCALED_RECIPES = "scaledRecipes";
+    public static final String FEEDBACK_RANKINGS = "feedbackRankings";
+    public static final String PROMPT_FRAGMENTS = "promptFragments";
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // キーにレシピのバージョンを含めるため明示的な破棄は不要。古い版はサイズ上限と期限で追い出される
+        cacheManager.registerCustomCache(SCALED_RECIPES, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(Duration.ofHours(6))
+                .build());
+        // フィードバックの登録・削除時に該当レシピ・店舗のランキングを破棄する。期限は破棄漏れの保険
+        cacheManager.registerCustomCache(FEEDBACK_RANKINGS, Caffeine.newBuilder()
+                .maximumSize(5_000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build());
+        // 値にバージョンを持たせて読み出し時に照合し、変更イベントでも破棄する
+        cacheManager.registerCustomCache(PROMPT_FRAGMENTS, Caffeine.newBuilder()
+                .maximumSize(5_000)
+                .expireAfterAccess(Duration.ofHours(12))
+                .build());
+        return cacheManager;
+    }
+}
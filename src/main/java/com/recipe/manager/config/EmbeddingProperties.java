@@ -0,0 +1,42 @@
+package com.recipe.manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.embedding")
+@Getter
+@Setter
+public class EmbeddingProperties {
+
+    /** 無効ならナレッジ検索はキーワード一致のみ */
+    private boolean enabled = false;
+
+    /** 使う埋め込みモデル。hashing は外部モデルなしで動く開発用 */
+    private String model = "hashing";
+
+    private int dimensions = 256;
+
+    /** 近似最近傍索引のスナップショット。起動時はここから読み込み、以降の差分だけDBから反映する */
+    private String indexPath = "data/knowledge-hnsw.idx";
+
+    private long snapshotIntervalMs = 10 * 60 * 1000L;
+
+    /** 索引はノードごとに持つため、他ノードが書いた埋め込みと削除をこの間隔でDBから取り込む */
+    private long catchUpIntervalMs = 60 * 1000L;
+
+    /** HNSW の各ノードの近傍数（第0層はこの2倍） */
+    private int hnswM = 16;
+
+    private int hnswEfConstruction = 100;
+
+    private int hnswEfSearch = 64;
+
+    /** 埋め込みに使うパッセージ本文の先頭文字数 */
+    private int maxInputChars = 4000;
+
+    /** これ未満の類似度のベクトル検索結果は捨てる */
+    private double minScore = 0.2;
+}
@@ -0,0 +1,44 @@
+package com.recipe.manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.events")
+@Getter
+@Setter
+public class EventProperties {
+
+    /** 配信スレッド数。同じ集約のイベントは常に同じスレッドに割り当て、発行順に配信する */
+    private int stripes = 4;
+
+    /** スレッドごとの待ち行列の上限。溢れた分はアウトボックスに残り、再送ジョブが拾う */
+    private int queueCapacity = 1000;
+
+    /** コミット直後の配信と重ならないよう、作成からこの秒数が経った未配信イベントだけを再送する */
+    private int relayDelaySeconds = 30;
+
+    private int relayBatchSize = 500;
+
+    /**
+     * 配信権の有効秒数。購読側の処理がこれを超えると、期限切れとして他のノードが同じイベントを再配信し得る
+     */
+    private int claimLeaseSeconds = 300;
+
+    /** この回数失敗したイベントは再送を止める（last_error を見て手動で対応する） */
+    private int maxAttempts = 10;
+
+    /** 配信済みイベントを残す日数 */
+    private int retentionDays = 7;
+
+    /** ノード内の購読側へ同報するイベントの待ち行列の上限。溢れた分は次の読み取りで入れ直す */
+    private int broadcastQueueCapacity = 10000;
+
+    /**
+     * 同報で読み飛ばしたID（採番後に未コミットだった行）を待つ秒数。これより長いトランザクションのイベントは
+     * 他のノードへ同報されないため、同報を受ける購読側は定期的な読み直しなど別の手段でも追いつくようにする
+     */
+    private int broadcastGapWaitSeconds = 60;
+}
@@ -0,0 +1,40 @@
+package com.recipe.manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.feedback-anomaly")
+@Getter
+@Setter
+public class FeedbackAnomalyProperties {
+
+    private boolean enabled = false;
+
+    private int batchSize = 500;
+
+    /** ベースライン（長期）の平滑化係数 */
+    private double baselineAlpha = 0.05;
+
+    /** 直近（短期）の平滑化係数。EWMA管理図の λ */
+    private double recentAlpha = 0.3;
+
+    /** 直近EWMAがベースラインをこの標準誤差倍以上下回ったらアラートにする */
+    private double threshold = 3.0;
+
+    private int minObservations = 10;
+
+    /** 満点続きで分散が0に近い場合でも過敏に反応しないための下限 */
+    private double minStdDev = 0.25;
+
+    /** 採番後まだコミットされていない行を読み飛ばさないよう、登録からこの秒数が経った行だけを処理する */
+    private int commitLagSeconds = 30;
+
+    /**
+     * commitLagSeconds を超えて遅れてコミットされた行を拾うため、ウォーターマークの手前もこの秒数分は読み直す。
+     * 反映済みの行は feedback_anomaly_observations で除くので二重には数えない
+     */
+    private int rescanOverlapSeconds = 600;
+}
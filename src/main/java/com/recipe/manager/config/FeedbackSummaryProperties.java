@@ -0,0 +1,27 @@
+package com.recipe.manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.feedback-summary")
+@Getter
+@Setter
+public class FeedbackSummaryProperties {
+
+    private boolean enabled = false;
+
+    /** 1トランザクションで集計するレシピ数 */
+    private int batchSize = 200;
+
+    /** 期間パーティションを並列に処理するワーカー数 */
+    private int workerThreads = 4;
+
+    /** 今週を含めて遡る週数 */
+    private int weeksBack = 4;
+
+    /** 今月を含めて遡る月数 */
+    private int monthsBack = 2;
+}
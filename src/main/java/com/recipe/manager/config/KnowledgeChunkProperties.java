@@ -0,0 +1,34 @@
+package com.recipe.manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.knowledge-chunks")
+@Getter
+@Setter
+public class KnowledgeChunkProperties {
+
+    /** 1パッセージの目安の文字数。短い節はこの長さまで後続の節とまとめる */
+    private int targetChars = 1000;
+
+    /** 1パッセージの上限。これを超える節は段落・文の境界で分割する */
+    private int maxChars = 2000;
+
+    /** 節を分割したとき、前のパッセージの末尾をこの文字数まで次の先頭に重ねる */
+    private int overlapChars = 150;
+
+    /** 1回の相談でプロンプトに入れるパッセージ数の上限 */
+    private int maxPassagesPerPrompt = 6;
+
+    /** 1回の相談で同じ記事から入れるパッセージ数の上限 */
+    private int maxPassagesPerArticle = 2;
+
+    /** 1回の相談でプロンプトに入れるパッセージ本文の合計文字数の上限 */
+    private int maxPromptChars = 6000;
+
+    /** キーワード一致で候補にするパッセージ数 */
+    private int keywordCandidates = 50;
+}
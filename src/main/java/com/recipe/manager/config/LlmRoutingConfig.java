@@ -0,0 +1,35 @@
+package com.recipe.manager.config;
+
+import com.recipe.manager.ai.RoutingLlmClient;
+import com.recipe.manager.ai.SimulatedLlmClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.List;
+
+/**
+ * app.ai.provider=router のとき、app.ai.routing.providers の各プロバイダへ振り分ける LlmClient を登録する。
+ * 実プロバイダのクライアントは未実装のため、各プロバイダは擬似応答で代用している。
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.ai.provider", havingValue = "router")
+public class LlmRoutingConfig {
+
+    @Bean
+    public RoutingLlmClient routingLlmClient(AiProperties aiProperties,
+                                             @Qualifier(AsyncConfig.LLM_EXECUTOR) AsyncTaskExecutor executor) {
+        AiProperties.Routing routing = aiProperties.getRouting();
+        if (routing.getProviders().isEmpty()) {
+            throw new IllegalStateException("app.ai.routing.providers must not be empty when app.ai.provider=router");
+        }
+        List<RoutingLlmClient.Route> routes = routing.getProviders().stream()
+                .map(provider -> new RoutingLlmClient.Route(provider.getName(), provider.getWeight(),
+                        new SimulatedLlmClient(provider.getName(), provider.getSimulatedLatencyMs(),
+                                provider.getSimulatedErrorRate())))
+                .toList();
+        return new RoutingLlmClient(routes, routing, executor);
+    }
+}
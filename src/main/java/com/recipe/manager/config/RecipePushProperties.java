@@ -0,0 +1,37 @@
+package com.recipe.manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.recipe-push")
+@Getter
+@Setter
+public class RecipePushProperties {
+
+    /** 1ノードあたりの同時接続数の上限 */
+    private int maxConnections = 5000;
+
+    /** 1接続で購読できるレシピID・カテゴリの合計数の上限 */
+    private int maxSubscriptionsPerConnection = 200;
+
+    /**
+     * 接続の最大保持時間。切断後は EventSource が Last-Event-ID を付けて自動で再接続し、
+     * 同じノードが保持している範囲の取りこぼしはそこで送り直す
+     */
+    private long connectionTimeoutMs = 30 * 60 * 1000L;
+
+    /**
+     * 変更ストリーム用 Cookie（POST /api/recipes/changes/session で発行）の有効期間。
+     * 失効後の再接続は 401 になり EventSource は再接続をやめるため、クライアントは Cookie を取り直して開き直す
+     */
+    private long streamTokenTtlMs = 8 * 60 * 60 * 1000L;
+
+    /** Last-Event-ID での再送用に保持する直近の通知件数 */
+    private int replayBufferSize = 1000;
+
+    /** 1つの配信タスクで送る接続数。これを超える購読者はファンアウト用スレッドで並行して送る */
+    private int sendChunkSize = 256;
+}
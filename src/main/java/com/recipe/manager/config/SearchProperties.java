@@ -0,0 +1,23 @@
+package com.recipe.manager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.search")
+@Getter
+@Setter
+public class SearchProperties {
+
+    private boolean recipeBitmapIndexEnabled = false;
+
+    /** ビットマップ索引はノードごとに持つため、同報を取りこぼした変更をこの間隔でDBから取り込む */
+    private long recipeBitmapCatchUpIntervalMs = 60 * 1000L;
+
+    private boolean recipeFacetIndexEnabled = false;
+
+    /** ファセット索引はノードごとに持つため、同報を取りこぼした変更をこの間隔でDBから取り込む */
+    private long recipeFacetCatchUpIntervalMs = 60 * 1000L;
+}
@@ -37,6 +37,12 @@ public class SecurityConfig {
                             .hasRole(Constants.ROLE_PRODUCER)
                         .requestMatchers(HttpMethod.GET, "/api/users")
                             .hasRole(Constants.ROLE_PRODUCER)
+                        .requestMatchers(HttpMethod.GET, "/api/ai/usage/**")
+                            .hasRole(Constants.ROLE_PRODUCER)
+                        .requestMatchers(HttpMethod.POST, "/api/knowledge/categories")
+                            .hasRole(Constants.ROLE_PRODUCER)
+                        .requestMatchers(HttpMethod.PUT, "/api/knowledge/categories/**")
+                            .hasRole(Constants.ROLE_PRODUCER)
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
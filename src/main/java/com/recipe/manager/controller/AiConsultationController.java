@@ -7,7 +7,10 @@ import com.recipe.manager.dto.response.AiMessageResponse;
 import com.recipe.manager.dto.response.AiThreadResponse;
 import com.recipe.manager.entity.AiConsultationMessage;
 import com.recipe.manager.entity.AiConsultationThread;
+import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.ForbiddenException;
+import com.recipe.manager.ratelimit.AiRateLimiter;
 import com.recipe.manager.service.AiConsultationService;
 import com.recipe.manager.service.UserService;
 import jakarta.validation.Valid;
@@ -35,11 +38,13 @@ public class AiConsultationController {
 
     private final AiConsultationService aiConsultationService;
     private final UserService userService;
+    private final AiRateLimiter aiRateLimiter;
 
     @PostMapping("/threads")
     public ResponseEntity<AiThreadResponse> createThread(
             @Valid @RequestBody CreateAiThreadRequest request,
             Authentication authentication) {
+        acquireRateLimit(authentication);
         User currentUser = getCurrentUser(authentication);
         AiConsultationThread thread = aiConsultationService.createThread(request, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(AiThreadResponse.from(thread));
@@ -82,12 +87,26 @@ public class AiConsultationController {
             @PathVariable Long threadId,
             @Valid @RequestBody SendAiMessageRequest request,
             Authentication authentication) {
+        acquireRateLimit(authentication);
         User currentUser = getCurrentUser(authentication);
         AiConsultationMessage aiMessage =
                 aiConsultationService.sendMessage(threadId, request.getMessage(), currentUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(AiMessageResponse.from(aiMessage));
     }
 
+    /**
+     * LLM呼び出しを伴う操作だけを制限する。DBを引く前にJWTのユーザーIDとロールで判定する
+     */
+    private void acquireRateLimit(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        Role role = authentication.getAuthorities().stream()
+                .map(authority -> authority.getAuthority().substring("ROLE_".length()))
+                .map(Role::valueOf)
+                .findFirst()
+                .orElseThrow(() -> new ForbiddenException("ロールが設定されていません"));
+        aiRateLimiter.acquire(userId, role);
+    }
+
     private User getCurrentUser(Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
         return userService.getUserById(userId);
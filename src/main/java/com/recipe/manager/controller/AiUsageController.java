@@ -0,0 +1,62 @@
+package com.recipe.manager.controller;
+
+import com.recipe.manager.ai.RoutingLlmClient;
+import com.recipe.manager.dto.response.AiUsageSummaryResponse;
+import com.recipe.manager.dto.response.LlmProviderStatsResponse;
+import com.recipe.manager.service.AiUsageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * AI相談のコスト・レイテンシ集計（PRODUCERのみ。SecurityConfigで制限）
+ */
+@RestController
+@RequestMapping("/api/ai/usage")
+@RequiredArgsConstructor
+public class AiUsageController {
+
+    private final AiUsageService aiUsageService;
+    private final ObjectProvider<RoutingLlmClient> routingLlmClient;
+
+    @GetMapping("/users")
+    public ResponseEntity<List<AiUsageSummaryResponse>> summarizeByUser(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(aiUsageService.summarizeByUser(from, to));
+    }
+
+    @GetMapping("/recipes")
+    public ResponseEntity<List<AiUsageSummaryResponse>> summarizeByRecipe(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(aiUsageService.summarizeByRecipe(from, to));
+    }
+
+    @GetMapping("/days")
+    public ResponseEntity<List<AiUsageSummaryResponse>> summarizeByDay(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(aiUsageService.summarizeByDay(from, to));
+    }
+
+    /**
+     * プロバイダ別のレイテンシ・エラー率（プロセス内の直近値）。ルーター未使用時は空
+     */
+    @GetMapping("/providers")
+    public ResponseEntity<List<LlmProviderStatsResponse>> providerStats() {
+        RoutingLlmClient router = routingLlmClient.getIfAvailable();
+        if (router == null) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(router.getProviderStats().stream().map(LlmProviderStatsResponse::from).toList());
+    }
+}
@@ -3,11 +3,17 @@ package com.recipe.manager.controller;
 import com.recipe.manager.common.Constants;
 import com.recipe.manager.dto.request.CreateProductFeedbackRequest;
 import com.recipe.manager.dto.request.GenerateFeedbackSummaryRequest;
+import com.recipe.manager.dto.response.FeedbackAlertResponse;
+import com.recipe.manager.dto.response.FeedbackRankingResponse;
 import com.recipe.manager.dto.response.FeedbackSummaryResponse;
 import com.recipe.manager.dto.response.ProductFeedbackResponse;
+import com.recipe.manager.entity.FeedbackAlert;
+import com.recipe.manager.entity.FeedbackAlertStatus;
 import com.recipe.manager.entity.FeedbackSummary;
 import com.recipe.manager.entity.ProductFeedback;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.service.FeedbackAnomalyService;
+import com.recipe.manager.service.FeedbackRankingService;
 import com.recipe.manager.service.FeedbackService;
 import com.recipe.manager.service.UserService;
 import jakarta.validation.Valid;
@@ -16,6 +22,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -23,11 +30,13 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -36,6 +45,8 @@ import java.util.List;
 public class FeedbackController {
 
     private final FeedbackService feedbackService;
+    private final FeedbackAnomalyService feedbackAnomalyService;
+    private final FeedbackRankingService feedbackRankingService;
     private final UserService userService;
 
     @PostMapping
@@ -105,6 +116,47 @@ public class FeedbackController {
         return ResponseEntity.ok(trend);
     }
 
+    @GetMapping("/alerts")
+    public ResponseEntity<Page<FeedbackAlertResponse>> listAlerts(
+            @RequestParam(required = false) Long recipeId,
+            @RequestParam(required = false) FeedbackAlertStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int size) {
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Page<FeedbackAlert> alerts = feedbackAnomalyService.listAlerts(recipeId, status, pageable);
+        return ResponseEntity.ok(alerts.map(FeedbackAlertResponse::from));
+    }
+
+    @PutMapping("/alerts/{id}/acknowledge")
+    public ResponseEntity<FeedbackAlertResponse> acknowledgeAlert(@PathVariable Long id,
+                                                                  Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        FeedbackAlert alert = feedbackAnomalyService.acknowledgeAlert(id, currentUser);
+        return ResponseEntity.ok(FeedbackAlertResponse.from(alert));
+    }
+
+    @GetMapping("/rankings/stores")
+    public ResponseEntity<FeedbackRankingResponse> rankStores(
+            @RequestParam Long recipeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "1") int minCount) {
+        return ResponseEntity.ok(feedbackRankingService.rankStoresForRecipe(recipeId, from, to, Math.max(minCount, 1)));
+    }
+
+    @GetMapping("/rankings/recipes")
+    public ResponseEntity<FeedbackRankingResponse> rankRecipes(
+            @RequestParam(required = false) Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "1") int minCount,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_RANKING_LIMIT) int limit) {
+        int rankingLimit = Math.max(1, Math.min(limit, Constants.MAX_RANKING_LIMIT));
+        return ResponseEntity.ok(feedbackRankingService.rankRecipes(
+                storeId, from, to, Math.max(minCount, 1), rankingLimit));
+    }
+
     private User getCurrentUser(Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
         return userService.getUserById(userId);
@@ -0,0 +1,113 @@
+package com.recipe.manager.controller;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.dto.request.CreateIngredientRequest;
+import com.recipe.manager.dto.request.UpdateIngredientRequest;
+import com.recipe.manager.dto.request.UpdateSupplyStatusRequest;
+import com.recipe.manager.dto.response.IngredientResponse;
+import com.recipe.manager.dto.response.IngredientSuggestionResponse;
+import com.recipe.manager.dto.response.SupplyStatusHistoryResponse;
+import com.recipe.manager.dto.response.SupplyStatusResponse;
+import com.recipe.manager.entity.Ingredient;
+import com.recipe.manager.entity.IngredientSupplyStatus;
+import com.recipe.manager.entity.IngredientSupplyStatusHistory;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.service.IngredientService;
+import com.recipe.manager.service.SupplyStatusService;
+import com.recipe.manager.service.UserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/ingredients")
+@RequiredArgsConstructor
+public class IngredientController {
+
+    private final IngredientService ingredientService;
+    private final SupplyStatusService supplyStatusService;
+    private final UserService userService;
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<IngredientSuggestionResponse>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_SUGGESTION_LIMIT) int limit) {
+        List<IngredientSuggestionResponse> suggestions = ingredientService.suggest(query, limit).stream()
+                .map(IngredientSuggestionResponse::from)
+                .toList();
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<IngredientResponse> getIngredient(@PathVariable Long id) {
+        Ingredient ingredient = ingredientService.getIngredientById(id);
+        return ResponseEntity.ok(IngredientResponse.from(ingredient));
+    }
+
+    @PostMapping
+    public ResponseEntity<IngredientResponse> createIngredient(
+            @Valid @RequestBody CreateIngredientRequest request,
+            Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        Ingredient ingredient = ingredientService.createIngredient(request, currentUser);
+        return ResponseEntity.status(HttpStatus.CREATED).body(IngredientResponse.from(ingredient));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<IngredientResponse> updateIngredient(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateIngredientRequest request,
+            Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        Ingredient ingredient = ingredientService.updateIngredient(id, request, currentUser);
+        return ResponseEntity.ok(IngredientResponse.from(ingredient));
+    }
+
+    @GetMapping("/{id}/supply-status")
+    public ResponseEntity<List<SupplyStatusResponse>> getSupplyStatuses(@PathVariable Long id) {
+        List<SupplyStatusResponse> statuses = supplyStatusService.getSupplyStatuses(id).stream()
+                .map(SupplyStatusResponse::from)
+                .toList();
+        return ResponseEntity.ok(statuses);
+    }
+
+    @PutMapping("/{id}/supply-status")
+    public ResponseEntity<SupplyStatusResponse> updateSupplyStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateSupplyStatusRequest request,
+            Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        IngredientSupplyStatus supplyStatus = supplyStatusService.updateSupplyStatus(id, request, currentUser);
+        return ResponseEntity.ok(SupplyStatusResponse.from(supplyStatus));
+    }
+
+    @GetMapping("/{id}/supply-status/history")
+    public ResponseEntity<Page<SupplyStatusHistoryResponse>> getSupplyStatusHistory(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int size) {
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        Page<IngredientSupplyStatusHistory> histories =
+                supplyStatusService.getSupplyStatusHistory(id, PageRequest.of(page, pageSize));
+        return ResponseEntity.ok(histories.map(SupplyStatusHistoryResponse::from));
+    }
+
+    private User getCurrentUser(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return userService.getUserById(userId);
+    }
+}
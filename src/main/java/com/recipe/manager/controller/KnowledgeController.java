@@ -1,13 +1,24 @@
 package com.recipe.manager.controller;
 
 import com.recipe.manager.common.Constants;
+import com.recipe.manager.common.EntityTags;
 import com.recipe.manager.dto.request.CreateKnowledgeArticleRequest;
+import com.recipe.manager.dto.request.CreateKnowledgeCategoryRequest;
+import com.recipe.manager.dto.request.MoveKnowledgeCategoryRequest;
 import com.recipe.manager.dto.request.UpdateKnowledgeArticleRequest;
 import com.recipe.manager.dto.response.KnowledgeArticleResponse;
 import com.recipe.manager.dto.response.KnowledgeCategoryResponse;
+import com.recipe.manager.dto.response.KnowledgeCategoryTreeResponse;
+import com.recipe.manager.dto.response.KnowledgeSearchResponse;
+import com.recipe.manager.dto.response.TagFacetResponse;
+import com.recipe.manager.dto.response.TaggedArticlesResponse;
 import com.recipe.manager.entity.KnowledgeArticle;
+import com.recipe.manager.entity.KnowledgeCategory;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.search.MatchMode;
+import com.recipe.manager.service.KnowledgeCategoryService;
 import com.recipe.manager.service.KnowledgeService;
+import com.recipe.manager.service.KnowledgeTagService;
 import com.recipe.manager.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +38,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -36,6 +48,8 @@ import java.util.List;
 public class KnowledgeController {
 
     private final KnowledgeService knowledgeService;
+    private final KnowledgeCategoryService knowledgeCategoryService;
+    private final KnowledgeTagService knowledgeTagService;
     private final UserService userService;
 
     @GetMapping("/categories")
@@ -46,6 +60,26 @@ public class KnowledgeController {
         return ResponseEntity.ok(categories);
     }
 
+    @GetMapping("/categories/tree")
+    public ResponseEntity<List<KnowledgeCategoryTreeResponse>> getCategoryTree() {
+        return ResponseEntity.ok(knowledgeCategoryService.getTree());
+    }
+
+    @PostMapping("/categories")
+    public ResponseEntity<KnowledgeCategoryResponse> createCategory(
+            @Valid @RequestBody CreateKnowledgeCategoryRequest request) {
+        KnowledgeCategory category = knowledgeCategoryService.createCategory(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(KnowledgeCategoryResponse.from(category));
+    }
+
+    @PutMapping("/categories/{id}/parent")
+    public ResponseEntity<KnowledgeCategoryResponse> moveCategory(
+            @PathVariable Long id,
+            @RequestBody MoveKnowledgeCategoryRequest request) {
+        KnowledgeCategory category = knowledgeCategoryService.moveCategory(id, request.getParentId());
+        return ResponseEntity.ok(KnowledgeCategoryResponse.from(category));
+    }
+
     @PostMapping("/articles")
     public ResponseEntity<KnowledgeArticleResponse> createArticle(
             @Valid @RequestBody CreateKnowledgeArticleRequest request,
@@ -56,28 +90,55 @@ public class KnowledgeController {
     }
 
     @GetMapping("/articles/{id}")
-    public ResponseEntity<KnowledgeArticleResponse> getArticle(@PathVariable Long id) {
+    public ResponseEntity<KnowledgeArticleResponse> getArticle(@PathVariable Long id, WebRequest webRequest) {
+        Long version = knowledgeService.getArticleVersion(id);
+        String eTag = EntityTags.of("article", id, version);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(EntityTags.DETAIL_CACHE_CONTROL)
+                    .build();
+        }
+
         KnowledgeArticle article = knowledgeService.getArticleById(id);
-        return ResponseEntity.ok(KnowledgeArticleResponse.from(article));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of("article", id, article.getVersion()))
+                .cacheControl(EntityTags.DETAIL_CACHE_CONTROL)
+                .body(KnowledgeArticleResponse.from(article));
     }
 
     @GetMapping("/articles")
     public ResponseEntity<Page<KnowledgeArticleResponse>> listArticles(
             @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "false") boolean includeDescendants,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int size) {
         int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
         Pageable pageable = PageRequest.of(page, pageSize, Sort.by(Sort.Direction.DESC, "updatedAt"));
-        Page<KnowledgeArticle> articles = knowledgeService.listArticles(categoryId, pageable);
+        Page<KnowledgeArticle> articles = knowledgeService.listArticles(categoryId, includeDescendants, pageable);
         return ResponseEntity.ok(articles.map(KnowledgeArticleResponse::from));
     }
 
     @GetMapping("/articles/search")
-    public ResponseEntity<List<KnowledgeArticleResponse>> searchArticles(@RequestParam String keyword) {
-        List<KnowledgeArticleResponse> articles = knowledgeService.searchArticles(keyword).stream()
-                .map(KnowledgeArticleResponse::from)
-                .toList();
-        return ResponseEntity.ok(articles);
+    public ResponseEntity<KnowledgeSearchResponse> searchArticles(@RequestParam String keyword) {
+        return ResponseEntity.ok(knowledgeService.searchArticles(keyword));
+    }
+
+    @GetMapping("/articles/tagged")
+    public ResponseEntity<TaggedArticlesResponse> listTaggedArticles(
+            @RequestParam List<String> tags,
+            @RequestParam(defaultValue = "ALL") MatchMode match,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int size) {
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(page, pageSize, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        return ResponseEntity.ok(knowledgeTagService.findByTags(tags, match, pageable));
+    }
+
+    @GetMapping("/tags")
+    public ResponseEntity<List<TagFacetResponse>> getTags(
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_TAG_FACET_LIMIT) int limit) {
+        return ResponseEntity.ok(knowledgeTagService.getTagFacets(limit));
     }
 
     @PutMapping("/articles/{id}")
@@ -0,0 +1,68 @@
+package com.recipe.manager.controller;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.dto.response.NotificationResponse;
+import com.recipe.manager.entity.Notification;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.service.NotificationService;
+import com.recipe.manager.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final UserService userService;
+
+    @GetMapping
+    public ResponseEntity<Page<NotificationResponse>> listNotifications(
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int size,
+            Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        Page<Notification> notifications =
+                notificationService.listNotifications(currentUser, unreadOnly, PageRequest.of(page, pageSize));
+        return ResponseEntity.ok(notifications.map(NotificationResponse::from));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> countUnread(Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        return ResponseEntity.ok(Map.of("count", notificationService.countUnread(currentUser)));
+    }
+
+    @PutMapping("/{id}/read")
+    public ResponseEntity<NotificationResponse> markAsRead(@PathVariable Long id, Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        Notification notification = notificationService.markAsRead(id, currentUser);
+        return ResponseEntity.ok(NotificationResponse.from(notification));
+    }
+
+    @PutMapping("/read-all")
+    public ResponseEntity<Void> markAllAsRead(Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        notificationService.markAllAsRead(currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    private User getCurrentUser(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        return userService.getUserById(userId);
+    }
+}
@@ -0,0 +1,34 @@
+package com.recipe.manager.controller;
+
+import com.recipe.manager.dto.request.KitchenScheduleRequest;
+import com.recipe.manager.dto.request.PrepPlanRequest;
+import com.recipe.manager.dto.response.KitchenScheduleResponse;
+import com.recipe.manager.dto.response.PrepPlanResponse;
+import com.recipe.manager.service.KitchenScheduleService;
+import com.recipe.manager.service.PrepPlannerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/planner")
+@RequiredArgsConstructor
+public class PlannerController {
+
+    private final PrepPlannerService prepPlannerService;
+    private final KitchenScheduleService kitchenScheduleService;
+
+    @PostMapping("/prep")
+    public ResponseEntity<PrepPlanResponse> planPrep(@Valid @RequestBody PrepPlanRequest request) {
+        return ResponseEntity.ok(prepPlannerService.plan(request.getItems()));
+    }
+
+    @PostMapping("/schedule")
+    public ResponseEntity<KitchenScheduleResponse> schedule(@Valid @RequestBody KitchenScheduleRequest request) {
+        return ResponseEntity.ok(kitchenScheduleService.schedule(request));
+    }
+}
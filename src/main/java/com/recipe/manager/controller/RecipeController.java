@@ -1,7 +1,10 @@
 package com.recipe.manager.controller;
 
 import com.recipe.manager.common.Constants;
+import com.recipe.manager.common.EntityTags;
+import com.recipe.manager.config.RecipePushProperties;
 import com.recipe.manager.dto.request.CreateRecipeRequest;
+import com.recipe.manager.dto.request.ScaleRecipesRequest;
 import com.recipe.manager.dto.request.UpdateExperienceDesignRequest;
 import com.recipe.manager.dto.request.UpdateRecipeRequest;
 import com.recipe.manager.dto.request.UpdateServiceDesignRequest;
@@ -9,10 +12,20 @@ import com.recipe.manager.dto.request.UpdateStatusRequest;
 import com.recipe.manager.dto.response.RecipeHistoryResponse;
 import com.recipe.manager.dto.response.RecipeListResponse;
 import com.recipe.manager.dto.response.RecipeResponse;
+import com.recipe.manager.dto.response.RecipeSearchResponse;
+import com.recipe.manager.dto.response.RecipeTextSearchResponse;
+import com.recipe.manager.dto.response.ScaledRecipeResponse;
 import com.recipe.manager.entity.Recipe;
 import com.recipe.manager.entity.RecipeStatus;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.push.RecipeChangeHub;
+import com.recipe.manager.search.MatchMode;
+import com.recipe.manager.search.RecipeSearchCriteria;
+import com.recipe.manager.security.JwtTokenProvider;
+import com.recipe.manager.service.RecipeScalingService;
+import com.recipe.manager.service.RecipeSearchService;
 import com.recipe.manager.service.RecipeService;
+import com.recipe.manager.service.RecipeTextSearchService;
 import com.recipe.manager.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +33,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,10 +46,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -41,7 +63,13 @@ import java.util.List;
 public class RecipeController {
 
     private final RecipeService recipeService;
+    private final RecipeScalingService recipeScalingService;
+    private final RecipeSearchService recipeSearchService;
+    private final RecipeTextSearchService recipeTextSearchService;
     private final UserService userService;
+    private final RecipeChangeHub recipeChangeHub;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RecipePushProperties recipePushProperties;
 
     @PostMapping
     public ResponseEntity<RecipeResponse> createRecipe(@Valid @RequestBody CreateRecipeRequest request,
@@ -52,9 +80,21 @@ public class RecipeController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<RecipeResponse> getRecipe(@PathVariable Long id) {
+    public ResponseEntity<RecipeResponse> getRecipe(@PathVariable Long id, WebRequest webRequest) {
+        Long version = recipeService.getRecipeVersion(id);
+        String eTag = EntityTags.of("recipe", id, version);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(EntityTags.DETAIL_CACHE_CONTROL)
+                    .build();
+        }
+
         Recipe recipe = recipeService.getRecipeById(id);
-        return ResponseEntity.ok(RecipeResponse.from(recipe));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of("recipe", id, recipe.getVersion()))
+                .cacheControl(EntityTags.DETAIL_CACHE_CONTROL)
+                .body(RecipeResponse.from(recipe));
     }
 
     @GetMapping
@@ -73,6 +113,118 @@ public class RecipeController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 条件を組み合わせたレシピ検索。同じ条件は OR、条件どうしは AND で絞り込み、ファセット件数も合わせて返す。
+     */
+    @GetMapping("/search")
+    public ResponseEntity<RecipeSearchResponse> searchRecipes(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) List<String> categories,
+            @RequestParam(required = false) List<RecipeStatus> statuses,
+            @RequestParam(required = false) List<Long> ingredientIds,
+            @RequestParam(defaultValue = "ALL") MatchMode match,
+            @RequestParam(required = false) List<Long> createdBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate updatedTo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int size) {
+
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(page, pageSize,
+                Sort.by(Sort.Direction.DESC, "updatedAt").and(Sort.by(Sort.Direction.DESC, "id")));
+
+        RecipeSearchCriteria criteria = RecipeSearchCriteria.builder()
+                .keyword(keyword)
+                .categories(categories)
+                .statuses(statuses)
+                .ingredientIds(ingredientIds)
+                .ingredientMatch(match)
+                .creatorIds(createdBy)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .updatedFrom(updatedFrom)
+                .updatedTo(updatedTo)
+                .build();
+        return ResponseEntity.ok(recipeSearchService.search(criteria, pageable));
+    }
+
+    /**
+     * タイトル・説明・コンセプト・ストーリーの全文検索。次のページは前のレスポンスの nextCursor を渡して取得する。
+     */
+    @GetMapping("/text-search")
+    public ResponseEntity<RecipeTextSearchResponse> searchRecipeText(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int size) {
+        int pageSize = Math.max(1, Math.min(size, Constants.MAX_PAGE_SIZE));
+        return ResponseEntity.ok(recipeTextSearchService.search(q, cursor, pageSize));
+    }
+
+    /**
+     * 指定したレシピID・カテゴリの変更を Server-Sent Events で受け取る。ポーリングの代わりに使う。
+     * EventSource は Authorization ヘッダーを付けられないため、先に POST /changes/session で Cookie を受け取ってから開く。
+     * 再接続時は EventSource が付ける Last-Event-ID 以降の変更を送り直し、送り直せない場合は resync イベントを送る。
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeChanges(
+            @RequestParam(required = false) List<Long> recipeIds,
+            @RequestParam(required = false) List<String> categories,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        recipeService.requireVisibleRecipes(recipeIds);
+        return recipeChangeHub.subscribe(recipeIds, categories, lastEventId);
+    }
+
+    /**
+     * 変更ストリーム専用のトークンを HttpOnly Cookie で発行する。Cookie は /changes にだけ送られ、
+     * 他の API の認証には使えない。失効後はストリームが 401 になるので、発行し直してから開き直す。
+     */
+    @PostMapping("/changes/session")
+    public ResponseEntity<Void> openChangeSession(Authentication authentication) {
+        User currentUser = getCurrentUser(authentication);
+        long ttlMs = recipePushProperties.getStreamTokenTtlMs();
+        String token = jwtTokenProvider.createScopedToken(currentUser.getId(), currentUser.getEmail(),
+                currentUser.getRole(), Constants.RECIPE_CHANGES_SCOPE, ttlMs);
+        ResponseCookie cookie = ResponseCookie.from(Constants.RECIPE_CHANGES_COOKIE, token)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Strict")
+                .path(Constants.RECIPE_CHANGES_PATH)
+                .maxAge(Duration.ofMillis(ttlMs))
+                .build();
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .build();
+    }
+
+    @GetMapping("/by-ingredients")
+    public ResponseEntity<Page<RecipeListResponse>> findRecipesByIngredients(
+            @RequestParam List<Long> ingredientIds,
+            @RequestParam(defaultValue = "ANY") MatchMode match,
+            @RequestParam(required = false) RecipeStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int size) {
+
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(page, pageSize, Sort.by(Sort.Direction.DESC, "id"));
+
+        Page<Recipe> recipes = recipeService.findRecipesByIngredients(ingredientIds, match, status, pageable);
+        return ResponseEntity.ok(recipes.map(RecipeListResponse::from));
+    }
+
+    @GetMapping("/{id}/scaled")
+    public ResponseEntity<ScaledRecipeResponse> getScaledRecipe(
+            @PathVariable Long id,
+            @RequestParam int servings) {
+        return ResponseEntity.ok(recipeScalingService.scaleRecipe(id, servings));
+    }
+
+    @PostMapping("/scaled")
+    public ResponseEntity<List<ScaledRecipeResponse>> scaleRecipes(@Valid @RequestBody ScaleRecipesRequest request) {
+        return ResponseEntity.ok(recipeScalingService.scaleRecipes(request.getItems()));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<RecipeResponse> updateRecipe(@PathVariable Long id,
                                                         @Valid @RequestBody UpdateRecipeRequest request,
@@ -0,0 +1,39 @@
+package com.recipe.manager.controller;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.dto.response.RecipeScorecardResponse;
+import com.recipe.manager.entity.RecipeScorecard;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.service.RecipeScorecardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/scorecards")
+@RequiredArgsConstructor
+public class ScorecardController {
+
+    private final RecipeScorecardService scorecardService;
+
+    @GetMapping("/{recipeId}")
+    public ResponseEntity<RecipeScorecardResponse> getScorecard(@PathVariable Long recipeId) {
+        return ResponseEntity.ok(RecipeScorecardResponse.from(scorecardService.getScorecard(recipeId)));
+    }
+
+    @GetMapping
+    public ResponseEntity<Page<RecipeScorecardResponse>> listScorecards(
+            @RequestParam(required = false) RecipeStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_PAGE_SIZE) int size) {
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        Page<RecipeScorecard> scorecards = scorecardService.listScorecards(status, PageRequest.of(page, pageSize));
+        return ResponseEntity.ok(scorecards.map(RecipeScorecardResponse::from));
+    }
+}
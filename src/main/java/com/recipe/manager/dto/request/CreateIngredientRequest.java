@@ -0,0 +1,22 @@
+package com.recipe.manager.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateIngredientRequest {
+
+    @NotBlank(message = "食材名は必須です")
+    @Size(max = 255, message = "食材名は255文字以内で入力してください")
+    private String name;
+
+    @Size(max = 255, message = "読みは255文字以内で入力してください")
+    private String nameKana;
+}
@@ -0,0 +1,25 @@
+package com.recipe.manager.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateKnowledgeCategoryRequest {
+
+    @NotBlank(message = "カテゴリ名は必須です")
+    @Size(max = 100, message = "カテゴリ名は100文字以内で入力してください")
+    private String name;
+
+    private String description;
+
+    private Long parentId;
+
+    private Integer sortOrder;
+}
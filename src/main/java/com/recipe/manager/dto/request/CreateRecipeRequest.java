@@ -46,6 +46,7 @@ public class CreateRecipeRequest {
         private Integer durationMinutes;
         private String temperature;
         private String tips;
+        private List<Integer> dependsOn;
     }
 
     @Getter
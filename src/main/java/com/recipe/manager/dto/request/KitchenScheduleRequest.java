@@ -0,0 +1,34 @@
+package com.recipe.manager.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KitchenScheduleRequest {
+
+    @NotEmpty(message = "レシピを1件以上指定してください")
+    @Size(max = 200, message = "一度に計画できるレシピは200件までです")
+    private List<Long> recipeIds;
+
+    @NotNull(message = "料理人の人数は必須です")
+    @Min(value = 1, message = "料理人は1人以上で指定してください")
+    @Max(value = 100, message = "料理人は100人以下で指定してください")
+    private Integer cooks;
+
+    @NotNull(message = "ステーション数は必須です")
+    @Min(value = 0, message = "ステーション数は0以上で指定してください")
+    @Max(value = 100, message = "ステーション数は100以下で指定してください")
+    private Integer stations;
+}
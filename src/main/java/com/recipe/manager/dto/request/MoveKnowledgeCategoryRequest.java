@@ -0,0 +1,14 @@
+package com.recipe.manager.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveKnowledgeCategoryRequest {
+
+    /** 移動先の親カテゴリ。null なら最上位へ移す */
+    private Long parentId;
+}
@@ -0,0 +1,41 @@
+package com.recipe.manager.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PrepPlanRequest {
+
+    @NotEmpty(message = "メニューのレシピを1件以上指定してください")
+    @Size(max = 1000, message = "一度に計画できるレシピは1000件までです")
+    @Valid
+    private List<Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        @NotNull(message = "レシピIDは必須です")
+        private Long recipeId;
+
+        @NotNull(message = "予測食数は必須です")
+        @Min(value = 1, message = "予測食数は1以上で指定してください")
+        @Max(value = 10000, message = "予測食数は10000以下で指定してください")
+        private Integer covers;
+    }
+}
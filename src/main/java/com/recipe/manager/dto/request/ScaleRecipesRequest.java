@@ -0,0 +1,41 @@
+package com.recipe.manager.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScaleRecipesRequest {
+
+    @NotEmpty(message = "換算するレシピを1件以上指定してください")
+    @Size(max = 200, message = "一度に換算できるレシピは200件までです")
+    @Valid
+    private List<Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        @NotNull(message = "レシピIDは必須です")
+        private Long recipeId;
+
+        @NotNull(message = "人数は必須です")
+        @Min(value = 1, message = "人数は1以上で指定してください")
+        @Max(value = 10000, message = "人数は10000以下で指定してください")
+        private Integer servings;
+    }
+}
@@ -16,4 +16,6 @@ public class UpdateExperienceDesignRequest {
     private String specialOccasionSupport;
     private String seasonalPresentation;
     private String sensoryAppeal;
+
+    private Long version;
 }
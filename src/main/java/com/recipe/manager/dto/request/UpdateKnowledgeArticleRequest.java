@@ -24,4 +24,6 @@ public class UpdateKnowledgeArticleRequest {
     private String tags;
 
     private List<Long> relatedRecipeIds;
+
+    private Long version;
 }
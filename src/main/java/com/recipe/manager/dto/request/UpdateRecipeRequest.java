@@ -22,4 +22,6 @@ public class UpdateRecipeRequest {
     private Integer servings;
     private String concept;
     private String story;
+
+    private Long version;
 }
@@ -17,4 +17,6 @@ public class UpdateServiceDesignRequest {
     private String stagingMethod;
     private String timing;
     private String storytelling;
+
+    private Long version;
 }
@@ -0,0 +1,24 @@
+package com.recipe.manager.dto.request;
+
+import com.recipe.manager.entity.SupplyStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UpdateSupplyStatusRequest {
+
+    private Long storeId;
+
+    @NotNull(message = "供給状況は必須です")
+    private SupplyStatus status;
+
+    @Size(max = 1000, message = "備考は1000文字以内で入力してください")
+    private String note;
+}
@@ -16,6 +16,11 @@ public class AiMessageResponse {
     private final SenderType senderType;
     private final String content;
     private final List<ReferencedArticleInfo> referencedArticles;
+    private final Integer promptTokens;
+    private final Integer completionTokens;
+    private final Integer latencyMs;
+    private final Boolean cacheHit;
+    private final String model;
     private final LocalDateTime createdAt;
 
     @Getter
@@ -41,6 +46,11 @@ public class AiMessageResponse {
                 .senderType(message.getSenderType())
                 .content(message.getContent())
                 .referencedArticles(refs)
+                .promptTokens(message.getPromptTokens())
+                .completionTokens(message.getCompletionTokens())
+                .latencyMs(message.getLatencyMs())
+                .cacheHit(message.getCacheHit())
+                .model(message.getModel())
                 .createdAt(message.getCreatedAt())
                 .build();
     }
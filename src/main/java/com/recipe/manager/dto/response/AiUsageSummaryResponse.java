@@ -0,0 +1,53 @@
+package com.recipe.manager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.recipe.manager.repository.AiUsageDailySummaryRepository.UsageAggregateRef;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * AI利用量の集計行。ユーザー別・レシピ別では id/name、日別では usageDate が入る
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AiUsageSummaryResponse {
+
+    private final Long id;
+    private final String name;
+    private final LocalDate usageDate;
+    private final long requestCount;
+    private final long promptTokens;
+    private final long completionTokens;
+    private final long totalTokens;
+    private final BigDecimal avgLatencyMs;
+    private final Integer maxLatencyMs;
+    private final BigDecimal cacheHitRate;
+
+    public static AiUsageSummaryResponse from(UsageAggregateRef ref) {
+        long requests = ref.getRequestCount() != null ? ref.getRequestCount() : 0;
+        return AiUsageSummaryResponse.builder()
+                .id(ref.getId())
+                .name(ref.getName())
+                .usageDate(ref.getUsageDate())
+                .requestCount(requests)
+                .promptTokens(ref.getPromptTokens() != null ? ref.getPromptTokens() : 0)
+                .completionTokens(ref.getCompletionTokens() != null ? ref.getCompletionTokens() : 0)
+                .totalTokens(ref.getTotalTokens() != null ? ref.getTotalTokens() : 0)
+                .avgLatencyMs(ratio(ref.getTotalLatencyMs(), requests, 1))
+                .maxLatencyMs(ref.getMaxLatencyMs())
+                .cacheHitRate(ratio(ref.getCacheHits(), requests, 3))
+                .build();
+    }
+
+    private static BigDecimal ratio(Long numerator, long requests, int scale) {
+        if (numerator == null || requests == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(requests), scale, RoundingMode.HALF_UP);
+    }
+}
@@ -16,6 +16,7 @@ public class ErrorResponse {
     private final String error;
     private final String message;
     private final List<FieldError> fieldErrors;
+    private final Long currentVersion;
     private final LocalDateTime timestamp;
 
     @Getter
@@ -0,0 +1,55 @@
+package com.recipe.manager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.recipe.manager.entity.FeedbackAlert;
+import com.recipe.manager.entity.FeedbackAlertStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class FeedbackAlertResponse {
+
+    private final Long id;
+    private final Long recipeId;
+    private final String recipeTitle;
+    private final Long storeId;
+    private final String storeName;
+    private final Long feedbackId;
+    private final BigDecimal baselineScore;
+    private final BigDecimal recentScore;
+    private final BigDecimal zScore;
+    private final FeedbackAlertStatus status;
+    private final String acknowledgedByName;
+    private final LocalDateTime acknowledgedAt;
+    private final LocalDateTime createdAt;
+
+    /**
+     * Lombok が生成する getZScore() のままだと JSON のキーが "zscore" になるため、名前を指定して自前で定義する
+     */
+    @JsonProperty("zScore")
+    public BigDecimal getZScore() {
+        return zScore;
+    }
+
+    public static FeedbackAlertResponse from(FeedbackAlert alert) {
+        return FeedbackAlertResponse.builder()
+                .id(alert.getId())
+                .recipeId(alert.getRecipe().getId())
+                .recipeTitle(alert.getRecipe().getTitle())
+                .storeId(alert.getStore() != null ? alert.getStore().getId() : null)
+                .storeName(alert.getStore() != null ? alert.getStore().getName() : null)
+                .feedbackId(alert.getFeedbackId())
+                .baselineScore(alert.getBaselineScore())
+                .recentScore(alert.getRecentScore())
+                .zScore(alert.getZScore())
+                .status(alert.getStatus())
+                .acknowledgedByName(alert.getAcknowledgedBy() != null ? alert.getAcknowledgedBy().getName() : null)
+                .acknowledgedAt(alert.getAcknowledgedAt())
+                .createdAt(alert.getCreatedAt())
+                .build();
+    }
+}
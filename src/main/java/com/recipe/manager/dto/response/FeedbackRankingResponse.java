@@ -0,0 +1,50 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.repository.ProductFeedbackRepository.RankingRef;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class FeedbackRankingResponse {
+
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final List<Entry> entries;
+
+    public static FeedbackRankingResponse from(LocalDate periodStart, LocalDate periodEnd, List<RankingRef> refs) {
+        return FeedbackRankingResponse.builder()
+                .periodStart(periodStart)
+                .periodEnd(periodEnd)
+                .entries(refs.stream().map(Entry::from).toList())
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Entry {
+        private final Long id;
+        private final String name;
+        private final Long feedbackCount;
+        private final BigDecimal avgSatisfaction;
+        private final Long rank;
+        /** 0〜100。100が最上位 */
+        private final BigDecimal percentile;
+
+        static Entry from(RankingRef ref) {
+            return Entry.builder()
+                    .id(ref.getId())
+                    .name(ref.getName())
+                    .feedbackCount(ref.getFeedbackCount())
+                    .avgSatisfaction(BigDecimal.valueOf(ref.getAvgSatisfaction()).setScale(2, RoundingMode.HALF_UP))
+                    .rank(ref.getRanking())
+                    .percentile(BigDecimal.valueOf(ref.getPercentRank() * 100).setScale(1, RoundingMode.HALF_UP))
+                    .build();
+        }
+    }
+}
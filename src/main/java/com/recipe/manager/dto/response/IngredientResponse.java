@@ -0,0 +1,28 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.entity.Ingredient;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class IngredientResponse {
+
+    private final Long id;
+    private final String name;
+    private final String nameKana;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public static IngredientResponse from(Ingredient ingredient) {
+        return IngredientResponse.builder()
+                .id(ingredient.getId())
+                .name(ingredient.getName())
+                .nameKana(ingredient.getNameKana())
+                .createdAt(ingredient.getCreatedAt())
+                .updatedAt(ingredient.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.search.IngredientSuggestion;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class IngredientSuggestionResponse {
+
+    private final Long id;
+    private final String name;
+    private final String nameKana;
+    private final double score;
+
+    public static IngredientSuggestionResponse from(IngredientSuggestion suggestion) {
+        return IngredientSuggestionResponse.builder()
+                .id(suggestion.getId())
+                .name(suggestion.getName())
+                .nameKana(suggestion.getNameKana())
+                .score(suggestion.getScore())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.recipe.manager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class KitchenScheduleResponse {
+
+    private final Integer cooks;
+    private final Integer stations;
+    private final Integer makespanMinutes;
+    private final Integer criticalPathMinutes;
+    private final List<StepSlot> steps;
+
+    @Getter
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class StepSlot {
+        private final Long recipeId;
+        private final String recipeTitle;
+        private final Integer stepNumber;
+        private final String description;
+        private final Integer startMinute;
+        private final Integer endMinute;
+        private final Integer cook;
+        private final Integer station;
+    }
+}
@@ -21,6 +21,7 @@ public class KnowledgeArticleResponse {
     private final String authorName;
     private final Long authorId;
     private final List<RelatedRecipeInfo> relatedRecipes;
+    private final Long version;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
 
@@ -52,6 +53,7 @@ public class KnowledgeArticleResponse {
                 .authorName(article.getAuthor().getName())
                 .authorId(article.getAuthor().getId())
                 .relatedRecipes(recipeInfos)
+                .version(article.getVersion())
                 .createdAt(article.getCreatedAt())
                 .updatedAt(article.getUpdatedAt())
                 .build();
@@ -12,6 +12,10 @@ public class KnowledgeCategoryResponse {
     private final String name;
     private final String description;
     private final Integer sortOrder;
+    private final Long parentId;
+    private final Integer depth;
+    private final Integer articleCount;
+    private final Integer subtreeArticleCount;
 
     public static KnowledgeCategoryResponse from(KnowledgeCategory category) {
         return KnowledgeCategoryResponse.builder()
@@ -19,6 +23,10 @@ public class KnowledgeCategoryResponse {
                 .name(category.getName())
                 .description(category.getDescription())
                 .sortOrder(category.getSortOrder())
+                .parentId(category.getParentId())
+                .depth(category.getDepth())
+                .articleCount(category.getArticleCount())
+                .subtreeArticleCount(category.getSubtreeArticleCount())
                 .build();
     }
 }
@@ -0,0 +1,35 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.entity.KnowledgeCategory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class KnowledgeCategoryTreeResponse {
+
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final Integer sortOrder;
+    private final Integer depth;
+    private final Integer articleCount;
+    private final Integer subtreeArticleCount;
+    private final List<KnowledgeCategoryTreeResponse> children;
+
+    public static KnowledgeCategoryTreeResponse from(KnowledgeCategory category,
+                                                     List<KnowledgeCategoryTreeResponse> children) {
+        return KnowledgeCategoryTreeResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .sortOrder(category.getSortOrder())
+                .depth(category.getDepth())
+                .articleCount(category.getArticleCount())
+                .subtreeArticleCount(category.getSubtreeArticleCount())
+                .children(children)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.entity.KnowledgeArticle;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class KnowledgeSearchResponse {
+
+    private final List<KnowledgeArticleResponse> articles;
+    /** 検索に一致した記事に付いているタグごとの記事数 */
+    private final List<TagFacetResponse> facets;
+
+    public static KnowledgeSearchResponse from(List<KnowledgeArticle> articles, List<TagFacetResponse> facets) {
+        return KnowledgeSearchResponse.builder()
+                .articles(articles.stream().map(KnowledgeArticleResponse::from).toList())
+                .facets(facets)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.ai.LlmProviderStats;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+@Getter
+@Builder
+public class LlmProviderStatsResponse {
+
+    private final String name;
+    private final double weight;
+    private final long requests;
+    private final long failures;
+    private final long hedgesWon;
+    private final int inFlight;
+    private final BigDecimal ewmaLatencyMs;
+    private final BigDecimal ewmaErrorRate;
+
+    public static LlmProviderStatsResponse from(LlmProviderStats stats) {
+        return LlmProviderStatsResponse.builder()
+                .name(stats.getName())
+                .weight(stats.getWeight())
+                .requests(stats.getRequests())
+                .failures(stats.getFailures())
+                .hedgesWon(stats.getHedgesWon())
+                .inFlight(stats.getInFlight())
+                .ewmaLatencyMs(BigDecimal.valueOf(stats.getEwmaLatencyMs()).setScale(1, RoundingMode.HALF_UP))
+                .ewmaErrorRate(BigDecimal.valueOf(stats.getEwmaErrorRate()).setScale(3, RoundingMode.HALF_UP))
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.entity.Notification;
+import com.recipe.manager.entity.NotificationType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class NotificationResponse {
+
+    private final Long id;
+    private final NotificationType type;
+    private final String title;
+    private final String message;
+    private final Long ingredientId;
+    private final Long storeId;
+    private final Boolean read;
+    private final LocalDateTime createdAt;
+
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .ingredientId(notification.getIngredientId())
+                .storeId(notification.getStoreId())
+                .read(notification.getRead())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.recipe.manager.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+public class PrepPlanResponse {
+
+    private final Integer totalCovers;
+    private final Long totalPrepMinutes;
+    private final List<RecipeLine> recipes;
+    private final List<IngredientTotal> ingredients;
+
+    @Getter
+    @Builder
+    public static class RecipeLine {
+        private final Long recipeId;
+        private final String title;
+        private final Integer baseServings;
+        private final Integer covers;
+        private final Long prepMinutes;
+    }
+
+    @Getter
+    @Builder
+    public static class IngredientTotal {
+        private final Long ingredientId;
+        private final String ingredientName;
+        private final BigDecimal quantity;
+        private final String unit;
+        private final Integer recipeCount;
+    }
+}
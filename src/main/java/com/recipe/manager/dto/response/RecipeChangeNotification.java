@@ -0,0 +1,25 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.entity.RecipeStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * レシピ変更の通知。集約期間内の連続した編集は1件にまとめ、editCount にまとめた件数を入れる。
+ * 本文は含めないので、クライアントは ETag 付きの GET /api/recipes/{id} で最新を取得する。
+ */
+@Getter
+@Builder
+public class RecipeChangeNotification {
+
+    private Long recipeId;
+    private String category;
+    private RecipeStatus status;
+    private List<String> changeTypes;
+    private List<String> changedFields;
+    private int editCount;
+    private LocalDateTime lastChangedAt;
+}
@@ -27,6 +27,7 @@ public class RecipeResponse {
     private final RecipeStatus status;
     private final String concept;
     private final String story;
+    private final Long version;
     private final CreatedByInfo createdBy;
     private final List<CookingStepInfo> cookingSteps;
     private final List<IngredientInfo> ingredients;
@@ -52,6 +53,7 @@ public class RecipeResponse {
         private final Integer durationMinutes;
         private final String temperature;
         private final String tips;
+        private final List<Integer> dependsOn;
     }
 
     @Getter
@@ -76,6 +78,7 @@ public class RecipeResponse {
         private final String stagingMethod;
         private final String timing;
         private final String storytelling;
+        private final Long version;
     }
 
     @Getter
@@ -87,6 +90,7 @@ public class RecipeResponse {
         private final String specialOccasionSupport;
         private final String seasonalPresentation;
         private final String sensoryAppeal;
+        private final Long version;
     }
 
     public static RecipeResponse from(Recipe recipe) {
@@ -99,6 +103,7 @@ public class RecipeResponse {
                 .status(recipe.getStatus())
                 .concept(recipe.getConcept())
                 .story(recipe.getStory())
+                .version(recipe.getVersion())
                 .createdBy(CreatedByInfo.builder()
                         .id(recipe.getCreatedBy().getId())
                         .name(recipe.getCreatedBy().getName())
@@ -138,6 +143,7 @@ public class RecipeResponse {
                 .durationMinutes(step.getDurationMinutes())
                 .temperature(step.getTemperature())
                 .tips(step.getTips())
+                .dependsOn(step.getDependsOnStepNumbers().stream().sorted().toList())
                 .build();
     }
 
@@ -162,6 +168,7 @@ public class RecipeResponse {
                 .stagingMethod(sd.getStagingMethod())
                 .timing(sd.getTiming())
                 .storytelling(sd.getStorytelling())
+                .version(sd.getVersion())
                 .build();
     }
 
@@ -173,6 +180,7 @@ public class RecipeResponse {
                 .specialOccasionSupport(ed.getSpecialOccasionSupport())
                 .seasonalPresentation(ed.getSeasonalPresentation())
                 .sensoryAppeal(ed.getSensoryAppeal())
+                .version(ed.getVersion())
                 .build();
     }
 }
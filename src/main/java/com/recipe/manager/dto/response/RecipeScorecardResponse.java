@@ -0,0 +1,51 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.entity.RecipeScorecard;
+import com.recipe.manager.entity.RecipeStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class RecipeScorecardResponse {
+
+    private final Long recipeId;
+    private final String title;
+    private final RecipeStatus status;
+    private final Long feedbackCount;
+    private final BigDecimal avgSatisfaction;
+    private final LocalDateTime lastFeedbackAt;
+    private final BigDecimal latestAvgSatisfaction;
+    private final BigDecimal latestAvgEmotion;
+    private final LocalDate latestPeriodStart;
+    private final LocalDate latestPeriodEnd;
+    private final BigDecimal trendSlope;
+    private final LocalDateTime lastEditedAt;
+    private final Integer editorCount;
+    private final Integer linkedArticleCount;
+    private final LocalDateTime refreshedAt;
+
+    public static RecipeScorecardResponse from(RecipeScorecard scorecard) {
+        return RecipeScorecardResponse.builder()
+                .recipeId(scorecard.getRecipeId())
+                .title(scorecard.getTitle())
+                .status(scorecard.getStatus())
+                .feedbackCount(scorecard.getFeedbackCount())
+                .avgSatisfaction(scorecard.getAvgSatisfaction())
+                .lastFeedbackAt(scorecard.getLastFeedbackAt())
+                .latestAvgSatisfaction(scorecard.getLatestAvgSatisfaction())
+                .latestAvgEmotion(scorecard.getLatestAvgEmotion())
+                .latestPeriodStart(scorecard.getLatestPeriodStart())
+                .latestPeriodEnd(scorecard.getLatestPeriodEnd())
+                .trendSlope(scorecard.getTrendSlope())
+                .lastEditedAt(scorecard.getLastEditedAt())
+                .editorCount(scorecard.getEditorCount())
+                .linkedArticleCount(scorecard.getLinkedArticleCount())
+                .refreshedAt(scorecard.getRefreshedAt())
+                .build();
+    }
+}
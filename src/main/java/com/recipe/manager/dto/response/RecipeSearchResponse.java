@@ -0,0 +1,40 @@
+package com.recipe.manager.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class RecipeSearchResponse {
+
+    private final List<RecipeListResponse> recipes;
+    private final long totalElements;
+    private final int totalPages;
+    private final int page;
+    private final int size;
+    private final Facets facets;
+
+    /**
+     * カテゴリ・ステータス・作成者はその軸の条件だけを外した件数、食材は検索結果に含まれる件数（上位のみ）
+     */
+    @Getter
+    @Builder
+    public static class Facets {
+
+        private final List<FacetEntry> categories;
+        private final List<FacetEntry> statuses;
+        private final List<FacetEntry> creators;
+        private final List<FacetEntry> ingredients;
+    }
+
+    @Getter
+    @Builder
+    public static class FacetEntry {
+
+        private final String key;
+        private final String label;
+        private final long count;
+    }
+}
@@ -0,0 +1,28 @@
+package com.recipe.manager.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class RecipeTextSearchResponse {
+
+    private final List<Hit> hits;
+    /** 次のページを取得するときに cursor に渡す値。最後のページなら null */
+    private final String nextCursor;
+
+    @Getter
+    @Builder
+    public static class Hit {
+
+        private final RecipeListResponse recipe;
+        private final float score;
+        /** 一致箇所を &lt;mark&gt; で囲んだタイトル。タイトルに一致がなければ null */
+        private final String titleHighlight;
+        /** snippet を切り出したフィールド（description / concept / story） */
+        private final String snippetField;
+        private final String snippet;
+    }
+}
@@ -0,0 +1,31 @@
+package com.recipe.manager.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+public class ScaledRecipeResponse {
+
+    private final Long recipeId;
+    private final String title;
+    private final Long version;
+    private final Integer baseServings;
+    private final Integer servings;
+    private final List<ScaledIngredient> ingredients;
+
+    @Getter
+    @Builder
+    public static class ScaledIngredient {
+        private final Long ingredientId;
+        private final String ingredientName;
+        private final BigDecimal originalQuantity;
+        private final String originalUnit;
+        private final BigDecimal quantity;
+        private final String unit;
+        private final String preparationNote;
+    }
+}
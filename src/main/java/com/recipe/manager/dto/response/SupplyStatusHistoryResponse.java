@@ -0,0 +1,35 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.entity.IngredientSupplyStatusHistory;
+import com.recipe.manager.entity.SupplyStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class SupplyStatusHistoryResponse {
+
+    private final Long id;
+    private final Long storeId;
+    private final String storeName;
+    private final SupplyStatus previousStatus;
+    private final SupplyStatus newStatus;
+    private final String note;
+    private final String changedByName;
+    private final LocalDateTime changedAt;
+
+    public static SupplyStatusHistoryResponse from(IngredientSupplyStatusHistory history) {
+        return SupplyStatusHistoryResponse.builder()
+                .id(history.getId())
+                .storeId(history.getStore() != null ? history.getStore().getId() : null)
+                .storeName(history.getStore() != null ? history.getStore().getName() : null)
+                .previousStatus(history.getPreviousStatus())
+                .newStatus(history.getNewStatus())
+                .note(history.getNote())
+                .changedByName(history.getChangedBy().getName())
+                .changedAt(history.getChangedAt())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.entity.IngredientSupplyStatus;
+import com.recipe.manager.entity.SupplyStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class SupplyStatusResponse {
+
+    private final Long id;
+    private final Long ingredientId;
+    private final Long storeId;
+    private final String storeName;
+    private final SupplyStatus status;
+    private final String note;
+    private final String updatedByName;
+    private final LocalDateTime updatedAt;
+
+    public static SupplyStatusResponse from(IngredientSupplyStatus supplyStatus) {
+        return SupplyStatusResponse.builder()
+                .id(supplyStatus.getId())
+                .ingredientId(supplyStatus.getIngredient().getId())
+                .storeId(supplyStatus.getStore() != null ? supplyStatus.getStore().getId() : null)
+                .storeName(supplyStatus.getStore() != null ? supplyStatus.getStore().getName() : null)
+                .status(supplyStatus.getStatus())
+                .note(supplyStatus.getNote())
+                .updatedByName(supplyStatus.getUpdatedBy().getName())
+                .updatedAt(supplyStatus.getUpdatedAt())
+                .build();
+    }
+}
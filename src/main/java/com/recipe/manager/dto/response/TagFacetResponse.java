@@ -0,0 +1,22 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.repository.KnowledgeTagRepository.TagCountRef;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TagFacetResponse {
+
+    private final Long tagId;
+    private final String name;
+    private final Long articleCount;
+
+    public static TagFacetResponse from(TagCountRef ref) {
+        return TagFacetResponse.builder()
+                .tagId(ref.getTagId())
+                .name(ref.getName())
+                .articleCount(ref.getArticleCount())
+                .build();
+    }
+}
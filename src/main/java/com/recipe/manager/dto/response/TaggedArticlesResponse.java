@@ -0,0 +1,32 @@
+package com.recipe.manager.dto.response;
+
+import com.recipe.manager.entity.KnowledgeArticle;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TaggedArticlesResponse {
+
+    private final List<KnowledgeArticleResponse> articles;
+    private final long totalElements;
+    private final int totalPages;
+    private final int page;
+    private final int size;
+    /** 絞り込み後の記事に付いているタグごとの記事数 */
+    private final List<TagFacetResponse> facets;
+
+    public static TaggedArticlesResponse from(Page<KnowledgeArticle> articles, List<TagFacetResponse> facets) {
+        return TaggedArticlesResponse.builder()
+                .articles(articles.getContent().stream().map(KnowledgeArticleResponse::from).toList())
+                .totalElements(articles.getTotalElements())
+                .totalPages(articles.getTotalPages())
+                .page(articles.getNumber())
+                .size(articles.getSize())
+                .facets(facets)
+                .build();
+    }
+}
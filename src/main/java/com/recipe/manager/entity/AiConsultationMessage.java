@@ -56,6 +56,21 @@ public class AiConsultationMessage {
     @Builder.Default
     private List<KnowledgeArticle> referencedArticles = new ArrayList<>();
 
+    @Column(name = "prompt_tokens")
+    private Integer promptTokens;
+
+    @Column(name = "completion_tokens")
+    private Integer completionTokens;
+
+    @Column(name = "latency_ms")
+    private Integer latencyMs;
+
+    @Column(name = "cache_hit")
+    private Boolean cacheHit;
+
+    @Column(length = 100)
+    private String model;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -52,6 +52,10 @@ public class AiConsultationThread {
     @Builder.Default
     private List<AiConsultationMessage> messages = new ArrayList<>();
 
+    @Column(name = "token_cost", nullable = false)
+    @Builder.Default
+    private Long tokenCost = 0L;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
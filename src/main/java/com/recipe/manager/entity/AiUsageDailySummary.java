@@ -0,0 +1,59 @@
+package com.recipe.manager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "ai_usage_daily_summaries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiUsageDailySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    @Column(name = "request_count", nullable = false)
+    private Integer requestCount;
+
+    @Column(name = "prompt_tokens", nullable = false)
+    private Long promptTokens;
+
+    @Column(name = "completion_tokens", nullable = false)
+    private Long completionTokens;
+
+    @Column(name = "total_latency_ms", nullable = false)
+    private Long totalLatencyMs;
+
+    @Column(name = "max_latency_ms", nullable = false)
+    private Integer maxLatencyMs;
+
+    @Column(name = "cache_hits", nullable = false)
+    private Integer cacheHits;
+}
@@ -0,0 +1,29 @@
+package com.recipe.manager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "comment_term_frequencies")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentTermFrequency {
+
+    @Id
+    @Column(name = "term", length = 100)
+    private String term;
+
+    @Column(name = "document_count", nullable = false)
+    @Builder.Default
+    private Long documentCount = 0L;
+}
@@ -1,6 +1,8 @@
 package com.recipe.manager.entity;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -17,6 +19,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "cooking_steps")
@@ -50,6 +54,12 @@ public class CookingStep {
     @Column(columnDefinition = "TEXT")
     private String tips;
 
+    @ElementCollection
+    @CollectionTable(name = "cooking_step_dependencies", joinColumns = @JoinColumn(name = "cooking_step_id"))
+    @Column(name = "depends_on_step_number", nullable = false)
+    @Builder.Default
+    private Set<Integer> dependsOnStepNumbers = new HashSet<>();
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
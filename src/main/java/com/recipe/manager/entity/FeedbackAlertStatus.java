@@ -0,0 +1,6 @@
+package com.recipe.manager.entity;
+
+public enum FeedbackAlertStatus {
+    OPEN,
+    ACKNOWLEDGED
+}
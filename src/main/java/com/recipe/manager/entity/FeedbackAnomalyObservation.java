@@ -0,0 +1,37 @@
+package com.recipe.manager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 異常検知バッチで統計に反映済みのフィードバック。ウォーターマークより手前を読み直すときに二重に数えないために使う
+ */
+@Entity
+@Table(name = "feedback_anomaly_observations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedbackAnomalyObservation {
+
+    @Id
+    @Column(name = "feedback_id")
+    private Long feedbackId;
+
+    @Column(name = "feedback_created_at", nullable = false)
+    private LocalDateTime feedbackCreatedAt;
+
+    @Column(name = "observed_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime observedAt = LocalDateTime.now();
+}
@@ -0,0 +1,35 @@
+package com.recipe.manager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "feedback_comment_terms")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedbackCommentTerms {
+
+    @Id
+    @Column(name = "feedback_id")
+    private Long feedbackId;
+
+    /** 半角スペース区切りの内容語（原形）。出現回数を保つため重複を含む */
+    @Column(name = "terms", nullable = false, columnDefinition = "TEXT")
+    private String terms;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,68 @@
+package com.recipe.manager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "feedback_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedbackStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipe_id", nullable = false)
+    private Long recipeId;
+
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "observation_count", nullable = false)
+    @Builder.Default
+    private Long observationCount = 0L;
+
+    @Column(name = "baseline_mean", nullable = false)
+    @Builder.Default
+    private Double baselineMean = 0.0;
+
+    @Column(name = "baseline_variance", nullable = false)
+    @Builder.Default
+    private Double baselineVariance = 0.0;
+
+    @Column(name = "recent_mean", nullable = false)
+    @Builder.Default
+    private Double recentMean = 0.0;
+
+    @Column(name = "in_alert", nullable = false)
+    @Builder.Default
+    private Boolean inAlert = false;
+
+    @Column(name = "last_feedback_id")
+    private Long lastFeedbackId;
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -2,12 +2,15 @@ package com.recipe.manager.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -43,6 +46,11 @@ public class FeedbackSummary {
     @Column(name = "period_end", nullable = false)
     private LocalDate periodEnd;
 
+    /** 期間の形から決まる。保存時に periodStart / periodEnd から設定する */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 20)
+    private SummaryPeriodType periodType;
+
     @Column(name = "avg_satisfaction", nullable = false, precision = 4, scale = 2)
     private BigDecimal avgSatisfaction;
 
@@ -56,6 +64,10 @@ public class FeedbackSummary {
     @Column(name = "main_comment_trend", columnDefinition = "TEXT")
     private String mainCommentTrend;
 
+    /** 集計元フィードバックの updated_at の最大値。これが変わった期間だけ集計し直す */
+    @Column(name = "source_updated_at")
+    private LocalDateTime sourceUpdatedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -64,8 +76,14 @@ public class FeedbackSummary {
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    @PrePersist
+    protected void onCreate() {
+        this.periodType = SummaryPeriodType.of(periodStart, periodEnd);
+    }
+
     @PreUpdate
     protected void onUpdate() {
+        this.periodType = SummaryPeriodType.of(periodStart, periodEnd);
         this.updatedAt = LocalDateTime.now();
     }
 }
@@ -31,6 +31,9 @@ public class Ingredient {
     @Column(nullable = false)
     private String name;
 
+    @Column(name = "name_kana")
+    private String nameKana;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
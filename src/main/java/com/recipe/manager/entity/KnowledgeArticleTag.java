@@ -0,0 +1,38 @@
+package com.recipe.manager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "knowledge_article_tags")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KnowledgeArticleTag {
+
+    @EmbeddedId
+    private Key id;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "article_id", nullable = false)
+        private Long articleId;
+
+        @Column(name = "tag_id", nullable = false)
+        private Long tagId;
+    }
+}
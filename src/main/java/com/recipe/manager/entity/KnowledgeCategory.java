@@ -38,6 +38,27 @@ public class KnowledgeCategory {
     @Builder.Default
     private Integer sortOrder = 0;
 
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    /** 祖先からのIDを並べた経路（例: /1/4/）。部分木の検索に使う */
+    @Column(nullable = false, length = 1000)
+    private String path;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer depth = 0;
+
+    /** このカテゴリ直下の記事数 */
+    @Column(name = "article_count", nullable = false)
+    @Builder.Default
+    private Integer articleCount = 0;
+
+    /** 子孫カテゴリを含む記事数 */
+    @Column(name = "subtree_article_count", nullable = false)
+    @Builder.Default
+    private Integer subtreeArticleCount = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -0,0 +1,40 @@
+package com.recipe.manager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "knowledge_embeddings")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KnowledgeEmbedding {
+
+    @Id
+    @Column(name = "chunk_id")
+    private Long chunkId;
+
+    @Column(name = "model", nullable = false, length = 100)
+    private String model;
+
+    @Column(name = "dimensions", nullable = false)
+    private Integer dimensions;
+
+    /** float32 のビッグエンディアン列 */
+    @Column(name = "vector", nullable = false)
+    private byte[] vector;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
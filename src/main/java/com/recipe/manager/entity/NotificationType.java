@@ -0,0 +1,5 @@
+package com.recipe.manager.entity;
+
+public enum NotificationType {
+    SUPPLY_STATUS_CHANGED
+}
@@ -44,6 +44,9 @@ public class RecipeHistory {
     @Column(name = "changed_fields", columnDefinition = "TEXT")
     private String changedFields;
 
+    @Column(name = "base_version")
+    private Long baseVersion;
+
     @Column(name = "changed_at", nullable = false)
     @Builder.Default
     private LocalDateTime changedAt = LocalDateTime.now();
@@ -0,0 +1,84 @@
+package com.recipe.manager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "recipe_scorecards")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeScorecard {
+
+    @Id
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RecipeStatus status;
+
+    @Column(name = "feedback_count", nullable = false)
+    @Builder.Default
+    private Long feedbackCount = 0L;
+
+    @Column(name = "avg_satisfaction", precision = 4, scale = 2)
+    private BigDecimal avgSatisfaction;
+
+    @Column(name = "last_feedback_at")
+    private LocalDateTime lastFeedbackAt;
+
+    @Column(name = "latest_avg_satisfaction", precision = 4, scale = 2)
+    private BigDecimal latestAvgSatisfaction;
+
+    @Column(name = "latest_avg_emotion", precision = 4, scale = 2)
+    private BigDecimal latestAvgEmotion;
+
+    @Column(name = "latest_period_start")
+    private LocalDate latestPeriodStart;
+
+    @Column(name = "latest_period_end")
+    private LocalDate latestPeriodEnd;
+
+    @Column(name = "trend_slope", precision = 6, scale = 3)
+    private BigDecimal trendSlope;
+
+    @Column(name = "last_edited_at")
+    private LocalDateTime lastEditedAt;
+
+    @Column(name = "editor_count", nullable = false)
+    @Builder.Default
+    private Integer editorCount = 0;
+
+    @Column(name = "linked_article_count", nullable = false)
+    @Builder.Default
+    private Integer linkedArticleCount = 0;
+
+    @Column(name = "refreshed_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime refreshedAt = LocalDateTime.now();
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.refreshedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,24 @@
+package com.recipe.manager.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 集計期間の種類。自動集計と同じ形（月曜〜日曜、月初〜月末）の期間は手動で作った集計も同じ種類として扱う。
+ */
+public enum SummaryPeriodType {
+    WEEKLY,
+    MONTHLY,
+    CUSTOM;
+
+    public static SummaryPeriodType of(LocalDate start, LocalDate end) {
+        if (start.getDayOfWeek() == DayOfWeek.MONDAY && end.equals(start.plusDays(6))) {
+            return WEEKLY;
+        }
+        if (start.getDayOfMonth() == 1 && end.equals(start.with(TemporalAdjusters.lastDayOfMonth()))) {
+            return MONTHLY;
+        }
+        return CUSTOM;
+    }
+}
@@ -0,0 +1,8 @@
+package com.recipe.manager.entity;
+
+public enum SupplyStatus {
+    AVAILABLE,
+    LIMITED,
+    UNAVAILABLE,
+    SEASONAL
+}
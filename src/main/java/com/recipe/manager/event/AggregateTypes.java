@@ -0,0 +1,12 @@
+package com.recipe.manager.event;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AggregateTypes {
+
+    public static final String RECIPE = "Recipe";
+    public static final String KNOWLEDGE_ARTICLE = "KnowledgeArticle";
+    public static final String USER = "User";
+}
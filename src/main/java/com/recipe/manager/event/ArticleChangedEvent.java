@@ -0,0 +1,33 @@
+package com.recipe.manager.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.Collection;
+
+/**
+ * ナレッジ記事の作成・更新・削除。relatedRecipeIds は変更前後いずれかで紐付いていたレシピ
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class ArticleChangedEvent implements DomainEvent {
+
+    private final Long articleId;
+    private final boolean deleted;
+    private final Collection<Long> relatedRecipeIds;
+
+    @Override
+    public String getAggregateType() {
+        return AggregateTypes.KNOWLEDGE_ARTICLE;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return articleId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.recipe.manager.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * 全ノードに届けるドメインイベントの包み。ノード内の状態（キャッシュ・インメモリ索引・SSE 接続）を持つ購読側は
+ * {@code @EventListener} の引数を {@code BroadcastEvent<RecipeChangedEvent>} のように型引数付きで宣言して受け取る。
+ * 配信は各ノードで高々1回で、再送はしない。
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class BroadcastEvent<E extends DomainEvent> implements ResolvableTypeProvider {
+
+    private final E event;
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(event));
+    }
+}
@@ -0,0 +1,18 @@
+package com.recipe.manager.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * アウトボックス経由で配信するドメインイベント。
+ * 同じ集約（種別とID）のイベントは発行順に配信される。購読側は @EventListener で受け取り、
+ * 再送で同じイベントを複数回受け取っても結果が変わらないように実装する。
+ * イベントはクラスタ内の1ノードにだけ配信されるため、ノード内の状態を更新する購読側は {@link BroadcastEvent} で受け取る。
+ */
+public interface DomainEvent {
+
+    @JsonIgnore
+    String getAggregateType();
+
+    @JsonIgnore
+    Long getAggregateId();
+}
@@ -0,0 +1,152 @@
+package com.recipe.manager.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.manager.config.EventProperties;
+import com.recipe.manager.entity.OutboxEvent;
+import com.recipe.manager.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * アウトボックスを各ノードが自分で読み進め、ノード内の購読側へ {@link BroadcastEvent} として届ける。
+ * 書き込んだノードにはコミット直後に届け、他のノードには読み取りの間隔（既定1秒）以内に届く。
+ * <p>
+ * IDは採番順にコミットされるとは限らないため、読み飛ばしたIDは broadcastGapWaitSeconds の間だけ待って読み直す。
+ * 配信は各ノードで高々1回で、購読側が失敗しても再送しない。起動前に書き込まれたイベントは届けないので、
+ * 購読側は起動時にDBから状態を作る。
+ */
+@Slf4j
+@Component
+public class DomainEventBroadcaster {
+
+    private static final int BATCH_SIZE = 500;
+    /** 待つIDの上限。大きく飛んだ場合は古い側を諦める */
+    private static final int MAX_GAPS = 10_000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final long gapWaitNanos;
+    private final ThreadPoolExecutor executor;
+    /** 待ち行列に入れたイベントのIDと入れた時刻。コミット直後の配信と読み取りの重複を除く */
+    private final Map<Long, Long> delivered = new ConcurrentHashMap<>();
+    /** 読み飛ばしたIDと待つ期限 */
+    private final Map<Long, Long> gaps = new ConcurrentHashMap<>();
+    /** 読み取り済みの最大ID。読み取りは単一スレッドでしか動かない */
+    private long lastId = -1;
+
+    public DomainEventBroadcaster(OutboxEventRepository outboxEventRepository,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  ObjectMapper objectMapper,
+                                  EventProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.gapWaitNanos = TimeUnit.SECONDS.toNanos(properties.getBroadcastGapWaitSeconds());
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getBroadcastQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "domain-event-broadcast");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * コミット直後に、書き込んだノード自身の購読側へ届ける
+     */
+    public void broadcast(OutboxEvent outboxEvent) {
+        enqueue(outboxEvent);
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.broadcast-interval-ms:1000}")
+    public void tail() {
+        if (lastId < 0) {
+            lastId = outboxEventRepository.findMaxId().orElse(0L);
+            return;
+        }
+        long now = System.nanoTime();
+        List<OutboxEvent> rows = new ArrayList<>();
+        if (!gaps.isEmpty()) {
+            rows.addAll(outboxEventRepository.findAllById(List.copyOf(gaps.keySet())));
+        }
+        List<OutboxEvent> page;
+        do {
+            page = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BATCH_SIZE));
+            for (OutboxEvent outboxEvent : page) {
+                awaitSkipped(lastId, outboxEvent.getId(), now + gapWaitNanos);
+                lastId = outboxEvent.getId();
+                rows.add(outboxEvent);
+            }
+        } while (page.size() == BATCH_SIZE);
+
+        rows.sort(Comparator.comparing(OutboxEvent::getId));
+        for (OutboxEvent outboxEvent : rows) {
+            gaps.remove(outboxEvent.getId());
+            enqueue(outboxEvent);
+        }
+        gaps.entrySet().removeIf(gap -> {
+            if (gap.getValue() - now > 0) {
+                return false;
+            }
+            log.debug("Domain event broadcast gave up waiting: id={}", gap.getKey());
+            return true;
+        });
+        delivered.values().removeIf(queuedAt -> now - queuedAt > gapWaitNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitSkipped(long previousId, long nextId, long deadline) {
+        for (long id = Math.max(previousId + 1, nextId - MAX_GAPS); id < nextId && gaps.size() < MAX_GAPS; id++) {
+            gaps.putIfAbsent(id, deadline);
+        }
+    }
+
+    private void enqueue(OutboxEvent outboxEvent) {
+        Long id = outboxEvent.getId();
+        if (delivered.putIfAbsent(id, System.nanoTime()) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> deliver(outboxEvent));
+        } catch (RejectedExecutionException e) {
+            // 次の読み取りでアウトボックスから読み直す
+            delivered.remove(id);
+            gaps.putIfAbsent(id, System.nanoTime() + gapWaitNanos);
+            log.debug("Domain event broadcast queue full, retrying on next read: id={}", id);
+        }
+    }
+
+    private void deliver(OutboxEvent outboxEvent) {
+        try {
+            applicationEventPublisher.publishEvent(
+                    new BroadcastEvent<>(DomainEventDispatcher.deserialize(objectMapper, outboxEvent)));
+        } catch (Exception e) {
+            log.warn("Domain event broadcast failed: id={}, type={}, aggregate={}:{}",
+                    outboxEvent.getId(), outboxEvent.getEventType(),
+                    outboxEvent.getAggregateType(), outboxEvent.getAggregateId(), e);
+        }
+    }
+}
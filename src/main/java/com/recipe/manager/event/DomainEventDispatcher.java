@@ -0,0 +1,168 @@
+package com.recipe.manager.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.manager.config.EventProperties;
+import com.recipe.manager.entity.OutboxEvent;
+import com.recipe.manager.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * アウトボックスのイベントを購読側（@EventListener）へ非同期に配信する。
+ * 集約ごとに単一スレッドのストライプへ割り当てるため、同じ集約のイベントは発行順に1件ずつ処理され、
+ * 別の集約のイベントは並行して処理される。
+ * 配信は少なくとも1回（at-least-once）で、待ち行列が溢れた場合や購読側が失敗した場合は
+ * アウトボックスに未配信のまま残り、再送ジョブが後から配信する。
+ * 配信の直前にアウトボックスの行で配信権を取る。同じ集約に未配信の古いイベントが残っている間は取れないため、
+ * 古いイベントが再送待ちでも後のイベントが先に届くことはなく、複数ノードが同じイベントを同時に配信することもない。
+ * <p>
+ * ここでの配信はクラスタ全体で1ノードだけに届く。DBへの書き込みのように1回だけ行えばよい処理に使い、
+ * ノード内の状態（キャッシュ・インメモリ索引・SSE 接続）の更新は {@link DomainEventBroadcaster} が全ノードへ届ける
+ * {@link BroadcastEvent} で受け取る。
+ */
+@Slf4j
+@Component
+public class DomainEventDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final EventProperties properties;
+    private final String owner = UUID.randomUUID().toString();
+    private final List<ThreadPoolExecutor> stripes;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public DomainEventDispatcher(OutboxEventRepository outboxEventRepository,
+                                 ApplicationEventPublisher applicationEventPublisher,
+                                 ObjectMapper objectMapper,
+                                 EventProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.stripes = new ArrayList<>(properties.getStripes());
+        for (int i = 0; i < properties.getStripes(); i++) {
+            this.stripes.add(newStripe(i, properties.getQueueCapacity()));
+        }
+    }
+
+    /**
+     * 配信を予約する。同じイベントが配信待ち・配信中の場合や待ち行列が満杯の場合は false を返す。
+     */
+    public boolean dispatch(OutboxEvent outboxEvent) {
+        if (!inFlight.add(outboxEvent.getId())) {
+            return false;
+        }
+        try {
+            stripeFor(outboxEvent).execute(() -> deliver(outboxEvent));
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(outboxEvent.getId());
+            log.debug("Domain event queue full, leaving for relay: id={}", outboxEvent.getId());
+            return false;
+        }
+    }
+
+    public boolean isInFlight(Long outboxEventId) {
+        return inFlight.contains(outboxEventId);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stripes.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor stripe : stripes) {
+            if (!stripe.awaitTermination(30, TimeUnit.SECONDS)) {
+                stripe.shutdownNow();
+            }
+        }
+    }
+
+    private void deliver(OutboxEvent outboxEvent) {
+        if (!claim(outboxEvent)) {
+            inFlight.remove(outboxEvent.getId());
+            return;
+        }
+        try {
+            applicationEventPublisher.publishEvent(deserialize(objectMapper, outboxEvent));
+            outboxEventRepository.markPublished(outboxEvent.getId(), LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("Domain event delivery failed: id={}, type={}, aggregate={}:{}",
+                    outboxEvent.getId(), outboxEvent.getEventType(),
+                    outboxEvent.getAggregateType(), outboxEvent.getAggregateId(), e);
+            recordFailure(outboxEvent, e);
+        } finally {
+            inFlight.remove(outboxEvent.getId());
+        }
+    }
+
+    /**
+     * 配信権を取れなかったイベントは未配信のまま残し、古いイベントが片付いた後に再送ジョブが配信する
+     */
+    private boolean claim(OutboxEvent outboxEvent) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (outboxEventRepository.claim(outboxEvent.getId(), owner, now,
+                    now.plusSeconds(properties.getClaimLeaseSeconds()), properties.getMaxAttempts()) > 0) {
+                return true;
+            }
+            log.debug("Domain event deferred: id={}, aggregate={}:{}",
+                    outboxEvent.getId(), outboxEvent.getAggregateType(), outboxEvent.getAggregateId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim domain event, leaving for relay: id={}", outboxEvent.getId(), e);
+        }
+        return false;
+    }
+
+    static DomainEvent deserialize(ObjectMapper objectMapper, OutboxEvent outboxEvent) throws Exception {
+        Class<?> type = Class.forName(outboxEvent.getEventType());
+        if (!DomainEvent.class.isAssignableFrom(type)) {
+            throw new IllegalStateException("Not a domain event type: " + outboxEvent.getEventType());
+        }
+        return (DomainEvent) objectMapper.readValue(outboxEvent.getPayload(), type);
+    }
+
+    private void recordFailure(OutboxEvent outboxEvent, Exception cause) {
+        String message = String.valueOf(cause);
+        if (message.length() > MAX_ERROR_LENGTH) {
+            message = message.substring(0, MAX_ERROR_LENGTH);
+        }
+        try {
+            outboxEventRepository.recordFailure(outboxEvent.getId(), message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record domain event failure: id={}", outboxEvent.getId(), e);
+        }
+    }
+
+    private ThreadPoolExecutor stripeFor(OutboxEvent outboxEvent) {
+        int hash = (outboxEvent.getAggregateType() + ":" + outboxEvent.getAggregateId()).hashCode();
+        return stripes.get(Math.floorMod(hash, stripes.size()));
+    }
+
+    private static ThreadPoolExecutor newStripe(int index, int queueCapacity) {
+        AtomicInteger created = new AtomicInteger();
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "domain-event-" + index + "-" + created.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,45 @@
+package com.recipe.manager.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.manager.common.TransactionCallbacks;
+import com.recipe.manager.entity.OutboxEvent;
+import com.recipe.manager.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * ドメインイベントを呼び出し元のトランザクション内でアウトボックスに書き込み、コミット後に配信を依頼する。
+ * ロールバックされたイベントは配信されず、コミット後にプロセスが落ちたイベントは再送ジョブが配信する。
+ * ノード内の購読側への同報も同時に依頼する。
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventDispatcher dispatcher;
+    private final DomainEventBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+
+    public void publish(DomainEvent event) {
+        OutboxEvent outboxEvent = outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .eventType(event.getClass().getName())
+                .payload(serialize(event))
+                .build());
+        TransactionCallbacks.afterCommit(() -> {
+            dispatcher.dispatch(outboxEvent);
+            broadcaster.broadcast(outboxEvent);
+        });
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize domain event: " + event, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.recipe.manager.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * フィードバックの登録・削除。店舗指定のないフィードバックでは storeId は null。
+ * レシピのスコアカードと順序を揃えるため、集約はレシピとして扱う
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class FeedbackChangedEvent implements DomainEvent {
+
+    private final Long recipeId;
+    private final Long storeId;
+
+    @Override
+    public String getAggregateType() {
+        return AggregateTypes.RECIPE;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return recipeId;
+    }
+}
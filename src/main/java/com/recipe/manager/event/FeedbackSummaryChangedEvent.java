@@ -0,0 +1,26 @@
+package com.recipe.manager.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class FeedbackSummaryChangedEvent implements DomainEvent {
+
+    private final Long recipeId;
+
+    @Override
+    public String getAggregateType() {
+        return AggregateTypes.RECIPE;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return recipeId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.recipe.manager.event;
+
+import com.recipe.manager.entity.RecipeStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * レシピの作成・更新・状態変更・削除。changeType と changedFields は変更履歴と同じ値
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class RecipeChangedEvent implements DomainEvent {
+
+    private final Long recipeId;
+    private final String category;
+    private final RecipeStatus status;
+    private final String changeType;
+    private final String changedFields;
+
+    @Override
+    public String getAggregateType() {
+        return AggregateTypes.RECIPE;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return recipeId;
+    }
+}
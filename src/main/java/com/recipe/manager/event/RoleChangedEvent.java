@@ -0,0 +1,29 @@
+package com.recipe.manager.event;
+
+import com.recipe.manager.entity.Role;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class RoleChangedEvent implements DomainEvent {
+
+    private final Long userId;
+    private final Role oldRole;
+    private final Role newRole;
+
+    @Override
+    public String getAggregateType() {
+        return AggregateTypes.USER;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return userId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.recipe.manager.job;
+
+import com.recipe.manager.config.FeedbackAnomalyProperties;
+import com.recipe.manager.service.FeedbackAnomalyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackAnomalyJob {
+
+    private final FeedbackAnomalyService feedbackAnomalyService;
+    private final FeedbackAnomalyProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.feedback-anomaly.fixed-delay-ms:300000}",
+            initialDelayString = "${app.feedback-anomaly.initial-delay-ms:60000}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long total = 0;
+        int processed;
+        do {
+            processed = feedbackAnomalyService.processNextBatch();
+            total += processed;
+        } while (processed == properties.getBatchSize());
+        if (total > 0) {
+            log.info("Feedback anomaly job finished: rows={}", total);
+        }
+    }
+}
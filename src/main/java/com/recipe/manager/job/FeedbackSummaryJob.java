@@ -0,0 +1,67 @@
+package com.recipe.manager.job;
+
+import com.recipe.manager.config.AsyncConfig;
+import com.recipe.manager.config.FeedbackSummaryProperties;
+import com.recipe.manager.service.FeedbackSummaryBatchService;
+import com.recipe.manager.service.FeedbackSummaryBatchService.BatchResult;
+import com.recipe.manager.service.SummaryPeriod;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class FeedbackSummaryJob {
+
+    private final FeedbackSummaryBatchService batchService;
+    private final FeedbackSummaryProperties properties;
+    private final ThreadPoolTaskExecutor executor;
+
+    public FeedbackSummaryJob(FeedbackSummaryBatchService batchService,
+                              FeedbackSummaryProperties properties,
+                              @Qualifier(AsyncConfig.SUMMARY_EXECUTOR) ThreadPoolTaskExecutor executor) {
+        this.batchService = batchService;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    @Scheduled(cron = "${app.feedback-summary.cron:0 30 3 * * *}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<SummaryPeriod> periods = SummaryPeriod.recent(
+                LocalDate.now(), properties.getWeeksBack(), properties.getMonthsBack());
+        AtomicInteger generated = new AtomicInteger();
+
+        // パーティション（期間）単位でワーカーに割り当て、同じ集計行を複数スレッドが触らないようにする
+        CompletableFuture<?>[] futures = periods.stream()
+                .map(period -> CompletableFuture.runAsync(() -> generated.addAndGet(summarize(period)), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        log.info("Feedback summary job finished: partitions={}, generated={}", periods.size(), generated.get());
+    }
+
+    private int summarize(SummaryPeriod period) {
+        int generated = 0;
+        try {
+            BatchResult result;
+            do {
+                result = batchService.summarizeNextBatch(period);
+                generated += result.getGenerated();
+            } while (!result.isFinished());
+        } catch (RuntimeException e) {
+            // 進捗はバッチ単位でコミット済みのため、次回実行で続きから再開される
+            log.error("Feedback summary partition failed: partition={}", period.partitionKey(), e);
+        }
+        return generated;
+    }
+}
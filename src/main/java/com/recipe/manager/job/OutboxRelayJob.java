@@ -0,0 +1,59 @@
+package com.recipe.manager.job;
+
+import com.recipe.manager.config.EventProperties;
+import com.recipe.manager.entity.OutboxEvent;
+import com.recipe.manager.event.DomainEventDispatcher;
+import com.recipe.manager.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * コミット直後に配信できなかったイベント（プロセス停止・待ち行列溢れ・購読側の失敗・古いイベントの配信待ち）を再送する。
+ * ID 順に配信を依頼するため、同じ集約のイベントは同じストライプに古い順で積まれる。
+ * 複数ノードで同時に動いても、配信権（DomainEventDispatcher）を取れたノードだけが配信する。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayJob {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventDispatcher dispatcher;
+    private final EventProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.events.relay-interval-ms:10000}",
+            initialDelayString = "${app.events.relay-initial-delay-ms:30000}")
+    public void relay() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> pending = outboxEventRepository.findPending(
+                now.minusSeconds(properties.getRelayDelaySeconds()), properties.getMaxAttempts(), now,
+                PageRequest.of(0, properties.getRelayBatchSize()));
+        int dispatched = 0;
+        for (OutboxEvent outboxEvent : pending) {
+            if (dispatcher.isInFlight(outboxEvent.getId())) {
+                continue;
+            }
+            if (dispatcher.dispatch(outboxEvent)) {
+                dispatched++;
+            }
+        }
+        if (dispatched > 0) {
+            log.info("Outbox relay dispatched: count={}, pending={}", dispatched, pending.size());
+        }
+    }
+
+    @Scheduled(cron = "${app.events.cleanup-cron:0 15 4 * * *}")
+    public void purgePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(
+                LocalDateTime.now().minusDays(properties.getRetentionDays()));
+        if (deleted > 0) {
+            log.info("Published outbox events purged: count={}", deleted);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.recipe.manager.kitchen;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class KitchenSchedule {
+
+    private final int makespanMinutes;
+    private final int criticalPathMinutes;
+    private final List<ScheduledStep> steps;
+}
@@ -0,0 +1,215 @@
+package com.recipe.manager.kitchen;
+
+import com.recipe.manager.exception.BusinessLogicException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * クリティカルパス優先のリストスケジューリング。
+ * 各工程の優先度は「その工程から最後までの最長経路の長さ」とし、空いている料理人（と必要ならステーション）に
+ * 優先度の高い実行可能工程から割り当てる。計算量は工程数 V・依存数 E に対して O((V + E) log V)。
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KitchenScheduler {
+
+    public static KitchenSchedule schedule(List<StepTask> tasks, int cooks, int stations) {
+        if (cooks < 1) {
+            throw new BusinessLogicException("料理人は1人以上で指定してください");
+        }
+        int n = tasks.size();
+        int[] duration = new int[n];
+        boolean[] usesStation = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            duration[i] = Math.max(tasks.get(i).getDurationMinutes(), 0);
+            usesStation[i] = tasks.get(i).isUsesStation();
+            if (usesStation[i] && stations < 1) {
+                throw new BusinessLogicException("温度管理が必要な工程があるため、ステーションを1つ以上指定してください");
+            }
+        }
+        Graph graph = buildGraph(tasks);
+        List<List<Integer>> successors = graph.successors();
+        int[] pendingPredecessors = graph.predecessorCounts();
+
+        int[] order = topologicalOrder(successors, pendingPredecessors.clone());
+        int[] rank = new int[n];
+        int criticalPath = 0;
+        for (int k = n - 1; k >= 0; k--) {
+            int i = order[k];
+            int longestTail = 0;
+            for (int s : successors.get(i)) {
+                longestTail = Math.max(longestTail, rank[s]);
+            }
+            rank[i] = duration[i] + longestTail;
+            criticalPath = Math.max(criticalPath, rank[i]);
+        }
+
+        Comparator<Integer> byPriority = Comparator.<Integer>comparingInt(i -> -rank[i])
+                .thenComparing(i -> tasks.get(i).getRecipeId())
+                .thenComparing(i -> tasks.get(i).getStepNumber());
+        PriorityQueue<Integer> ready = new PriorityQueue<>(byPriority);
+        for (int i = 0; i < n; i++) {
+            if (pendingPredecessors[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        int[] start = new int[n];
+        int[] end = new int[n];
+        int[] cookOf = new int[n];
+        int[] stationOf = new int[n];
+        Arrays.fill(stationOf, -1);
+        PriorityQueue<Integer> freeCooks = rangeQueue(cooks);
+        PriorityQueue<Integer> freeStations = rangeQueue(stations);
+        PriorityQueue<Integer> running = new PriorityQueue<>(
+                Comparator.<Integer>comparingInt(i -> end[i]).thenComparingInt(i -> i));
+
+        int now = 0;
+        int finished = 0;
+        List<Integer> deferred = new ArrayList<>();
+        while (finished < n) {
+            while (!ready.isEmpty() && !freeCooks.isEmpty()) {
+                int i = ready.poll();
+                if (usesStation[i] && freeStations.isEmpty()) {
+                    deferred.add(i);
+                    continue;
+                }
+                start[i] = now;
+                end[i] = now + duration[i];
+                cookOf[i] = freeCooks.poll();
+                if (usesStation[i]) {
+                    stationOf[i] = freeStations.poll();
+                }
+                running.add(i);
+            }
+            ready.addAll(deferred);
+            deferred.clear();
+
+            int done = running.poll();
+            now = end[done];
+            finished++;
+            release(done, cookOf, stationOf, freeCooks, freeStations);
+            List<Integer> completed = new ArrayList<>();
+            completed.add(done);
+            while (!running.isEmpty() && end[running.peek()] == now) {
+                int other = running.poll();
+                finished++;
+                release(other, cookOf, stationOf, freeCooks, freeStations);
+                completed.add(other);
+            }
+            for (int c : completed) {
+                for (int s : successors.get(c)) {
+                    if (--pendingPredecessors[s] == 0) {
+                        ready.add(s);
+                    }
+                }
+            }
+        }
+
+        List<ScheduledStep> scheduled = new ArrayList<>(n);
+        int makespan = 0;
+        for (int i = 0; i < n; i++) {
+            makespan = Math.max(makespan, end[i]);
+            scheduled.add(ScheduledStep.builder()
+                    .recipeId(tasks.get(i).getRecipeId())
+                    .stepNumber(tasks.get(i).getStepNumber())
+                    .startMinute(start[i])
+                    .endMinute(end[i])
+                    .cook(cookOf[i] + 1)
+                    .station(stationOf[i] >= 0 ? stationOf[i] + 1 : null)
+                    .build());
+        }
+        scheduled.sort(Comparator.comparingInt(ScheduledStep::getStartMinute)
+                .thenComparingInt(ScheduledStep::getCook));
+        return new KitchenSchedule(makespan, criticalPath, scheduled);
+    }
+
+    /**
+     * 依存先が存在すること、循環していないことを検証する。
+     */
+    public static void validateDependencies(List<StepTask> tasks) {
+        Graph graph = buildGraph(tasks);
+        topologicalOrder(graph.successors(), graph.predecessorCounts().clone());
+    }
+
+    private static Graph buildGraph(List<StepTask> tasks) {
+        int n = tasks.size();
+        int[] predecessorCounts = new int[n];
+        List<List<Integer>> successors = new ArrayList<>(n);
+        Map<String, Integer> indexByKey = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            successors.add(new ArrayList<>());
+            indexByKey.put(key(tasks.get(i).getRecipeId(), tasks.get(i).getStepNumber()), i);
+        }
+        for (int i = 0; i < n; i++) {
+            StepTask task = tasks.get(i);
+            for (Integer predecessor : task.getPredecessors()) {
+                Integer p = indexByKey.get(key(task.getRecipeId(), predecessor));
+                if (p == null) {
+                    throw new BusinessLogicException("存在しない工程に依存しています: 工程"
+                            + task.getStepNumber() + " → 工程" + predecessor);
+                }
+                successors.get(p).add(i);
+                predecessorCounts[i]++;
+            }
+        }
+        return new Graph(successors, predecessorCounts);
+    }
+
+    private static int[] topologicalOrder(List<List<Integer>> successors, int[] indegree) {
+        int n = indegree.length;
+        int[] order = new int[n];
+        int count = 0;
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            if (indegree[i] == 0) {
+                queue.add(i);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int i = queue.poll();
+            order[count++] = i;
+            for (int s : successors.get(i)) {
+                if (--indegree[s] == 0) {
+                    queue.add(s);
+                }
+            }
+        }
+        if (count < n) {
+            throw new BusinessLogicException("調理工程の依存関係が循環しています");
+        }
+        return order;
+    }
+
+    private static void release(int i, int[] cookOf, int[] stationOf,
+                                PriorityQueue<Integer> freeCooks, PriorityQueue<Integer> freeStations) {
+        freeCooks.add(cookOf[i]);
+        if (stationOf[i] >= 0) {
+            freeStations.add(stationOf[i]);
+        }
+    }
+
+    private static PriorityQueue<Integer> rangeQueue(int size) {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            queue.add(i);
+        }
+        return queue;
+    }
+
+    private static String key(Long recipeId, Integer stepNumber) {
+        return recipeId + ":" + stepNumber;
+    }
+
+    private record Graph(List<List<Integer>> successors, int[] predecessorCounts) {
+    }
+}
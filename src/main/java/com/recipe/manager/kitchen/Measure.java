@@ -0,0 +1,20 @@
+package com.recipe.manager.kitchen;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class Measure {
+
+    private final BigDecimal quantity;
+    private final String unit;
+    /** 換算表にない単位（個・本など）の場合は null */
+    private final UnitConverter.Dimension dimension;
+
+    public boolean isConvertible() {
+        return dimension != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.recipe.manager.kitchen;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ScheduledStep {
+
+    private final Long recipeId;
+    private final Integer stepNumber;
+    private final int startMinute;
+    private final int endMinute;
+    private final int cook;
+    private final Integer station;
+}
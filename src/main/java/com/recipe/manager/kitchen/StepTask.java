@@ -0,0 +1,52 @@
+package com.recipe.manager.kitchen;
+
+import com.recipe.manager.entity.CookingStep;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+@Getter
+@Builder
+public class StepTask {
+
+    private final Long recipeId;
+    private final Integer stepNumber;
+    private final int durationMinutes;
+    /** オーブンや温度管理が必要な工程はステーションを1つ占有する */
+    private final boolean usesStation;
+    /** 同じレシピ内で先に終わっている必要がある工程の step_number */
+    private final List<Integer> predecessors;
+
+    /**
+     * レシピの工程を変換する。依存関係が1件も登録されていないレシピは手順番号順の逐次実行とみなす。
+     */
+    public static List<StepTask> fromSteps(Long recipeId, Collection<CookingStep> steps) {
+        List<CookingStep> ordered = steps.stream()
+                .sorted(Comparator.comparing(CookingStep::getStepNumber))
+                .toList();
+        boolean sequential = ordered.stream().allMatch(step -> step.getDependsOnStepNumbers().isEmpty());
+
+        List<StepTask> tasks = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            CookingStep step = ordered.get(i);
+            List<Integer> predecessors;
+            if (sequential) {
+                predecessors = i == 0 ? List.of() : List.of(ordered.get(i - 1).getStepNumber());
+            } else {
+                predecessors = List.copyOf(step.getDependsOnStepNumbers());
+            }
+            tasks.add(StepTask.builder()
+                    .recipeId(recipeId)
+                    .stepNumber(step.getStepNumber())
+                    .durationMinutes(step.getDurationMinutes() != null ? step.getDurationMinutes() : 0)
+                    .usesStation(step.getTemperature() != null && !step.getTemperature().isBlank())
+                    .predecessors(predecessors)
+                    .build());
+        }
+        return tasks;
+    }
+}
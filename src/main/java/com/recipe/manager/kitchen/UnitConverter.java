@@ -0,0 +1,117 @@
+package com.recipe.manager.kitchen;
+
+import com.recipe.manager.search.TextNormalizer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 分量の単位換算。質量はg、体積はmlを基準単位とし、換算係数は起動時に表へ展開しておく。
+ * 計算はすべてBigDecimalで行い、丸めは表示単位に変換する最後の1回だけにする。
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UnitConverter {
+
+    public enum Dimension {
+        MASS("g", "kg"),
+        VOLUME("ml", "l");
+
+        private final String baseUnit;
+        private final String largeUnit;
+
+        Dimension(String baseUnit, String largeUnit) {
+            this.baseUnit = baseUnit;
+            this.largeUnit = largeUnit;
+        }
+
+        public String getBaseUnit() {
+            return baseUnit;
+        }
+    }
+
+    private static final BigDecimal LARGE_UNIT_THRESHOLD = BigDecimal.valueOf(1000);
+    private static final int BASE_UNIT_SCALE = 2;
+    private static final int LARGE_UNIT_SCALE = 3;
+    private static final int DIVISION_SCALE = 6;
+
+    private static final Map<String, UnitDefinition> UNITS = new HashMap<>();
+
+    static {
+        register(Dimension.MASS, "1", "g", "グラム", "gram");
+        register(Dimension.MASS, "1000", "kg", "キログラム", "キロ");
+        register(Dimension.MASS, "0.001", "mg", "ミリグラム");
+        register(Dimension.VOLUME, "1", "ml", "cc", "ミリリットル");
+        register(Dimension.VOLUME, "1000", "l", "リットル");
+        register(Dimension.VOLUME, "15", "大さじ", "大匙", "tbsp");
+        register(Dimension.VOLUME, "5", "小さじ", "小匙", "tsp");
+        register(Dimension.VOLUME, "200", "カップ", "cup");
+    }
+
+    private static void register(Dimension dimension, String factorToBase, String... aliases) {
+        UnitDefinition definition = new UnitDefinition(dimension, new BigDecimal(factorToBase));
+        for (String alias : aliases) {
+            UNITS.put(TextNormalizer.normalize(alias), definition);
+        }
+    }
+
+    public static Optional<Dimension> dimensionOf(String unit) {
+        return Optional.ofNullable(UNITS.get(TextNormalizer.normalize(unit))).map(UnitDefinition::dimension);
+    }
+
+    /**
+     * 基準単位（g / ml）に換算する。換算表にない単位はそのまま返す。
+     */
+    public static Measure toBase(BigDecimal quantity, String unit) {
+        UnitDefinition definition = UNITS.get(TextNormalizer.normalize(unit));
+        if (quantity == null || definition == null) {
+            return new Measure(quantity, unit, null);
+        }
+        return new Measure(quantity.multiply(definition.factorToBase()),
+                definition.dimension().baseUnit, definition.dimension());
+    }
+
+    /**
+     * 分量を numerator / denominator 倍し、読みやすい単位（1000以上ならkg / l）で返す。
+     */
+    public static Measure scale(BigDecimal quantity, String unit, long numerator, long denominator) {
+        Measure base = toBase(quantity, unit);
+        if (base.getQuantity() == null) {
+            return base;
+        }
+        BigDecimal scaled = base.getQuantity()
+                .multiply(BigDecimal.valueOf(numerator))
+                .divide(BigDecimal.valueOf(denominator), DIVISION_SCALE, RoundingMode.HALF_UP);
+        return toDisplay(new Measure(scaled, base.getUnit(), base.getDimension()));
+    }
+
+    /**
+     * 基準単位の分量を表示用に丸める。1000以上は大きい単位に繰り上げる。換算表にない単位は丸めだけ行う。
+     */
+    public static Measure toDisplay(Measure base) {
+        if (base.getQuantity() == null) {
+            return base;
+        }
+        if (!base.isConvertible()) {
+            return new Measure(tidy(base.getQuantity(), BASE_UNIT_SCALE), base.getUnit(), null);
+        }
+        Dimension dimension = base.getDimension();
+        if (base.getQuantity().compareTo(LARGE_UNIT_THRESHOLD) >= 0) {
+            return new Measure(tidy(base.getQuantity().movePointLeft(3), LARGE_UNIT_SCALE),
+                    dimension.largeUnit, dimension);
+        }
+        return new Measure(tidy(base.getQuantity(), BASE_UNIT_SCALE), dimension.baseUnit, dimension);
+    }
+
+    private static BigDecimal tidy(BigDecimal value, int scale) {
+        BigDecimal rounded = value.setScale(scale, RoundingMode.HALF_UP).stripTrailingZeros();
+        return rounded.scale() < 0 ? rounded.setScale(0) : rounded;
+    }
+
+    private record UnitDefinition(Dimension dimension, BigDecimal factorToBase) {
+    }
+}
@@ -0,0 +1,344 @@
+package com.recipe.manager.push;
+
+import com.recipe.manager.config.AsyncConfig;
+import com.recipe.manager.config.RecipePushProperties;
+import com.recipe.manager.dto.response.RecipeChangeNotification;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.RecipeChangedEvent;
+import com.recipe.manager.exception.BusinessLogicException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * キッチン端末向けのレシピ変更プッシュ（Server-Sent Events）。
+ * 購読はレシピIDとカテゴリの索引で引くため、1件の変更で全接続を走査しない。
+ * 変更イベントはレシピごとに保留し、flush 間隔内の連続編集を1件の通知にまとめてから送る。
+ * 接続と保留中の変更はノードごとに持ち、変更イベントはどのノードで書き込まれたものも同報で受け取る。
+ * イベントIDは「ノードの起動ごとのID:連番」で、再接続時の Last-Event-ID がこのノードの直近の送信分に収まれば
+ * そこから送り直す。別ノード・再起動前・古すぎる ID では取りこぼしを判定できないため resync イベントを送り、
+ * クライアントに購読中のレシピを取り直させる。送り直しと通常の送信が重なると同じ変更が2回届くことがある。
+ */
+@Slf4j
+@Component
+public class RecipeChangeHub {
+
+    static final String CHANGE_EVENT = "recipe-changed";
+    static final String RESYNC_EVENT = "resync";
+
+    private final RecipePushProperties properties;
+    private final Executor fanOutExecutor;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscription>> byRecipe = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscription>> byCategory = new ConcurrentHashMap<>();
+    private final Map<Long, PendingChange> pending = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    /** 送信済みの変更（連番の昇順）。Last-Event-ID での送り直しに使う。自身で同期する */
+    private final Deque<SentChange> recent = new ArrayDeque<>();
+
+    public RecipeChangeHub(RecipePushProperties properties,
+                           @Qualifier(AsyncConfig.FAN_OUT_EXECUTOR) Executor fanOutExecutor) {
+        this.properties = properties;
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    public SseEmitter subscribe(Collection<Long> recipeIds, Collection<String> categories, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getConnectionTimeoutMs());
+        register(emitter, recipeIds, categories, lastEventId);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter, Collection<Long> recipeIds, Collection<String> categories,
+                  String lastEventId) {
+        Set<Long> ids = recipeIds != null ? Set.copyOf(recipeIds) : Set.of();
+        Set<String> cats = categories != null ? Set.copyOf(categories) : Set.of();
+        if (ids.isEmpty() && cats.isEmpty()) {
+            throw new BusinessLogicException("購読するレシピIDまたはカテゴリを指定してください");
+        }
+        if (ids.size() + cats.size() > properties.getMaxSubscriptionsPerConnection()) {
+            throw new BusinessLogicException(
+                    "購読できるのは1接続あたり" + properties.getMaxSubscriptionsPerConnection() + "件までです");
+        }
+        if (subscriptions.size() >= properties.getMaxConnections()) {
+            throw new BusinessLogicException("接続数が上限に達しています。しばらくしてから再接続してください");
+        }
+
+        Subscription subscription = new Subscription(emitter, ids, cats);
+        subscriptions.add(subscription);
+        ids.forEach(id -> byRecipe.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(subscription));
+        cats.forEach(cat -> byCategory.computeIfAbsent(cat, k -> ConcurrentHashMap.newKeySet()).add(subscription));
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(e -> unregister(subscription));
+
+        // 登録後に連番を読むので、ここまでに送った分は送り直しに、以降の分は通常の送信に含まれる
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            resume(subscription, lastEventId, sequence.get());
+        }
+    }
+
+    public int getConnectionCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * 変更はアウトボックス経由でコミット後に届く。ここでは保留に積むだけで、送信は flush で行う。
+     */
+    @EventListener
+    public void onRecipeChanged(BroadcastEvent<RecipeChangedEvent> broadcast) {
+        RecipeChangedEvent event = broadcast.getEvent();
+        pending.compute(event.getRecipeId(), (id, change) -> {
+            PendingChange merged = change != null ? change : new PendingChange(id);
+            merged.add(event);
+            return merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.recipe-push.flush-interval-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (Long recipeId : List.copyOf(pending.keySet())) {
+            PendingChange change = pending.remove(recipeId);
+            if (change == null) {
+                continue;
+            }
+            SentChange sent = remember(change);
+            Set<Subscription> recipients = recipientsOf(change);
+            if (!recipients.isEmpty()) {
+                send(recipients, eventId(sent.sequence), CHANGE_EVENT, sent.notification);
+            }
+        }
+    }
+
+    /**
+     * 無通信の接続がプロキシに切られないようにし、切断済みの接続をここで検出して片付ける。
+     */
+    @Scheduled(fixedDelayString = "${app.recipe-push.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        if (!subscriptions.isEmpty()) {
+            send(Set.copyOf(subscriptions), null, null, null);
+        }
+    }
+
+    private SentChange remember(PendingChange change) {
+        synchronized (recent) {
+            SentChange sent = new SentChange(sequence.incrementAndGet(), change.recipeId,
+                    Set.copyOf(change.categories), change.toNotification());
+            recent.addLast(sent);
+            while (recent.size() > properties.getReplayBufferSize()) {
+                recent.removeFirst();
+            }
+            return sent;
+        }
+    }
+
+    private void resume(Subscription subscription, String lastEventId, long upTo) {
+        List<SentChange> missed = missedSince(lastEventId, upTo);
+        if (missed == null) {
+            sendAll(List.of(subscription), eventId(upTo), RESYNC_EVENT, Map.of("reason", "history-unavailable"));
+            return;
+        }
+        for (SentChange change : missed) {
+            if (!subscriptions.contains(subscription)) {
+                return;
+            }
+            if (subscription.recipeIds.contains(change.recipeId)
+                    || change.categories.stream().anyMatch(subscription.categories::contains)) {
+                sendAll(List.of(subscription), eventId(change.sequence), CHANGE_EVENT, change.notification);
+            }
+        }
+    }
+
+    /**
+     * lastEventId の後から upTo までに送った変更。このノードの保持範囲で判定できなければ null
+     */
+    private List<SentChange> missedSince(String lastEventId, long upTo) {
+        int colon = lastEventId.lastIndexOf(':');
+        if (colon < 0 || !instanceId.equals(lastEventId.substring(0, colon))) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(colon + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (last > upTo) {
+            return null;
+        }
+        if (last == upTo) {
+            return List.of();
+        }
+        synchronized (recent) {
+            if (recent.isEmpty() || recent.peekFirst().sequence > last + 1) {
+                return null;
+            }
+            List<SentChange> missed = new ArrayList<>();
+            for (SentChange change : recent) {
+                if (change.sequence > last && change.sequence <= upTo) {
+                    missed.add(change);
+                }
+            }
+            return missed;
+        }
+    }
+
+    private String eventId(long seq) {
+        return instanceId + ":" + seq;
+    }
+
+    private Set<Subscription> recipientsOf(PendingChange change) {
+        Set<Subscription> recipients = new LinkedHashSet<>(
+                byRecipe.getOrDefault(change.recipeId, Collections.emptySet()));
+        for (String category : change.categories) {
+            recipients.addAll(byCategory.getOrDefault(category, Collections.emptySet()));
+        }
+        return recipients;
+    }
+
+    private void send(Set<Subscription> recipients, String eventId, String eventName, Object data) {
+        List<Subscription> chunk = new ArrayList<>(properties.getSendChunkSize());
+        for (Subscription subscription : recipients) {
+            chunk.add(subscription);
+            if (chunk.size() == properties.getSendChunkSize()) {
+                List<Subscription> batch = List.copyOf(chunk);
+                fanOutExecutor.execute(() -> sendAll(batch, eventId, eventName, data));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            sendAll(chunk, eventId, eventName, data);
+        }
+    }
+
+    private void sendAll(List<Subscription> batch, String eventId, String eventName, Object data) {
+        for (Subscription subscription : batch) {
+            try {
+                if (eventName == null) {
+                    subscription.emitter.send(SseEmitter.event().comment("ping"));
+                } else {
+                    subscription.emitter.send(SseEmitter.event()
+                            .id(eventId)
+                            .name(eventName)
+                            .data(data, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Recipe push connection closed: {}", e.getMessage());
+                unregister(subscription);
+                subscription.emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void unregister(Subscription subscription) {
+        if (!subscriptions.remove(subscription)) {
+            return;
+        }
+        subscription.recipeIds.forEach(id -> removeFromIndex(byRecipe, id, subscription));
+        subscription.categories.forEach(cat -> removeFromIndex(byCategory, cat, subscription));
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<Subscription>> index, K key, Subscription subscription) {
+        index.computeIfPresent(key, (k, set) -> {
+            set.remove(subscription);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 同じ購読条件の接続が複数あり得るため、equals/hashCode は同一性のまま使う。
+     */
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Set<Long> recipeIds;
+        private final Set<String> categories;
+
+        private Subscription(SseEmitter emitter, Set<Long> recipeIds, Set<String> categories) {
+            this.emitter = emitter;
+            this.recipeIds = recipeIds;
+            this.categories = categories;
+        }
+    }
+
+    private record SentChange(long sequence, Long recipeId, Set<String> categories,
+                              RecipeChangeNotification notification) {
+    }
+
+    /**
+     * compute の中でのみ更新するため、レシピ単位で排他される。
+     */
+    private static final class PendingChange {
+
+        private final Long recipeId;
+        private final Set<String> categories = new LinkedHashSet<>();
+        private final Set<String> changeTypes = new LinkedHashSet<>();
+        private final Set<String> changedFields = new LinkedHashSet<>();
+        private String category;
+        private RecipeStatus status;
+        private int editCount;
+        private LocalDateTime lastChangedAt;
+
+        private PendingChange(Long recipeId) {
+            this.recipeId = recipeId;
+        }
+
+        private void add(RecipeChangedEvent event) {
+            // まとめた編集の途中でカテゴリが変わった場合は、どちらのカテゴリの購読者にも届ける
+            if (event.getCategory() != null) {
+                categories.add(event.getCategory());
+            }
+            category = event.getCategory();
+            status = event.getStatus();
+            if (event.getChangeType() != null) {
+                changeTypes.add(event.getChangeType());
+                if ("UPDATE".equals(event.getChangeType()) && event.getChangedFields() != null) {
+                    for (String field : event.getChangedFields().split(",")) {
+                        if (!field.isBlank()) {
+                            changedFields.add(field.strip());
+                        }
+                    }
+                }
+            }
+            editCount++;
+            lastChangedAt = LocalDateTime.now();
+        }
+
+        private RecipeChangeNotification toNotification() {
+            return RecipeChangeNotification.builder()
+                    .recipeId(recipeId)
+                    .category(category)
+                    .status(status)
+                    .changeTypes(List.copyOf(changeTypes))
+                    .changedFields(List.copyOf(changedFields))
+                    .editCount(editCount)
+                    .lastChangedAt(lastChangedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.recipe.manager.ratelimit;
+
+import com.recipe.manager.config.AiProperties;
+import com.recipe.manager.entity.Role;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.RoleChangedEvent;
+import com.recipe.manager.exception.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * AI相談の送信レート制限。ユーザーIDとロール（JWTの値）をキーに、ロールごとの設定でバケットを引く。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiRateLimiter {
+
+    private static final double SECONDS_PER_MINUTE = 60.0;
+
+    private final TokenBucketStore tokenBucketStore;
+    private final AiProperties properties;
+
+    public void acquire(Long userId, Role role) {
+        AiProperties.Limit limit = properties.limitFor(role);
+        RateLimitDecision decision = tokenBucketStore.tryConsume(
+                bucketKey(userId, role),
+                limit.getBurst(),
+                limit.getRequestsPerMinute() / SECONDS_PER_MINUTE);
+        if (!decision.allowed()) {
+            log.info("AI request throttled: userId={}, role={}, retryAfterMs={}",
+                    userId, role, decision.retryAfterMillis());
+            throw new TooManyRequestsException("AI相談の送信が多すぎます。しばらく待ってから再度お試しください",
+                    retryAfterSeconds(decision.retryAfterMillis()));
+        }
+    }
+
+    /**
+     * ロールが変わったユーザーのバケットを、変更前・変更後のロールとも捨てる。
+     * メモリ上のバケットはノードごとに持つため同報で受け取る
+     */
+    @EventListener
+    public void onRoleChanged(BroadcastEvent<RoleChangedEvent> broadcast) {
+        RoleChangedEvent event = broadcast.getEvent();
+        tokenBucketStore.remove(List.of(
+                bucketKey(event.getUserId(), event.getOldRole()),
+                bucketKey(event.getUserId(), event.getNewRole())));
+        log.debug("AI rate limit buckets reset: userId={}, {} -> {}",
+                event.getUserId(), event.getOldRole(), event.getNewRole());
+    }
+
+    /**
+     * ミリ秒を秒に切り上げる。補充のないバケットでは Long.MAX_VALUE が来るため、足してから割ると桁あふれする
+     */
+    private static long retryAfterSeconds(long retryAfterMillis) {
+        long seconds = retryAfterMillis / 1000 + (retryAfterMillis % 1000 > 0 ? 1 : 0);
+        return Math.max(1, seconds);
+    }
+
+    private static String bucketKey(Long userId, Role role) {
+        return "ai:" + role.name() + ":" + userId;
+    }
+}
@@ -0,0 +1,77 @@
+package com.recipe.manager.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * ノード内のトークンバケット。バケットの状態を不変オブジェクトにして CAS で差し替えるため、ロックを取らない。
+ */
+@Component
+@ConditionalOnProperty(name = "app.ai.rate-limit-backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenBucketStore implements TokenBucketStore {
+
+    private static final long IDLE_NANOS = 60L * 60 * 1_000_000_000L;
+
+    private final Map<String, AtomicReference<State>> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public InMemoryTokenBucketStore() {
+        this(System::nanoTime);
+    }
+
+    InMemoryTokenBucketStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, int capacity, double refillPerSecond) {
+        AtomicReference<State> bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicReference<>(new State(capacity, nanoClock.getAsLong())));
+        }
+        while (true) {
+            State current = bucket.get();
+            long now = nanoClock.getAsLong();
+            double available = TokenBuckets.refill(current.tokens, now - current.refilledAtNanos,
+                    capacity, refillPerSecond);
+            if (available < 1.0) {
+                return RateLimitDecision.deny(TokenBuckets.millisUntilNextToken(available, refillPerSecond));
+            }
+            if (bucket.compareAndSet(current, new State(available - 1.0, now))) {
+                return RateLimitDecision.allow();
+            }
+        }
+    }
+
+    @Override
+    public void remove(Collection<String> keys) {
+        keys.forEach(buckets::remove);
+    }
+
+    /**
+     * 1時間使われていないバケットは満杯まで補充済みで、新規作成と同じ状態なので捨てる。
+     * 削除と同時に消費したリクエストは古いバケットに記録されるため、最大1回分多く許可されることがある。
+     */
+    @Scheduled(fixedDelayString = "${app.ai.rate-limit-eviction-interval-ms:600000}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> {
+            State state = bucket.get();
+            return now - state.refilledAtNanos > IDLE_NANOS;
+        });
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private record State(double tokens, long refilledAtNanos) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.recipe.manager.ratelimit;
+
+import com.recipe.manager.entity.RateLimitBucket;
+import com.recipe.manager.repository.RateLimitBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 複数ノードで共有するトークンバケット。キーの行を排他ロックして補充・消費を1トランザクションで行う。
+ * ロックはユーザー単位なので、別ユーザー同士は待ち合わせない。
+ */
+@Component
+@ConditionalOnProperty(name = "app.ai.rate-limit-backend", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcTokenBucketStore implements TokenBucketStore {
+
+    private final RateLimitBucketRepository bucketRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public RateLimitDecision tryConsume(String key, int capacity, double refillPerSecond) {
+        LocalDateTime now = LocalDateTime.now();
+        bucketRepository.insertIfAbsent(key, capacity, now);
+        RateLimitBucket bucket = bucketRepository.findForUpdate(key)
+                .orElseThrow(() -> new IllegalStateException("Rate limit bucket not found: " + key));
+
+        long elapsedNanos = Duration.between(bucket.getRefilledAt(), now).toNanos();
+        double available = TokenBuckets.refill(bucket.getTokens(), elapsedNanos, capacity, refillPerSecond);
+        if (available < 1.0) {
+            return RateLimitDecision.deny(TokenBuckets.millisUntilNextToken(available, refillPerSecond));
+        }
+        bucket.setTokens(available - 1.0);
+        bucket.setRefilledAt(now);
+        return RateLimitDecision.allow();
+    }
+
+    @Override
+    @Transactional
+    public void remove(Collection<String> keys) {
+        bucketRepository.deleteByKeys(keys);
+    }
+}
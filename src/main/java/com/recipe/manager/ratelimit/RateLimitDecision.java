@@ -0,0 +1,17 @@
+package com.recipe.manager.ratelimit;
+
+/**
+ * トークンバケットの判定結果。拒否時の retryAfterMillis は次の1トークンが補充されるまでの時間
+ */
+public record RateLimitDecision(boolean allowed, long retryAfterMillis) {
+
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision deny(long retryAfterMillis) {
+        return new RateLimitDecision(false, retryAfterMillis);
+    }
+}
@@ -0,0 +1,22 @@
+package com.recipe.manager.ratelimit;
+
+import java.util.Collection;
+
+/**
+ * キーごとのトークンバケット。補充は時刻差から都度計算し（lazy refill）、バックグラウンドの補充処理は持たない。
+ */
+public interface TokenBucketStore {
+
+    /**
+     * トークンを1つ消費する。バケットが未作成なら満杯の状態から始める。
+     *
+     * @param capacity        バケットの容量（連続して許可する回数）
+     * @param refillPerSecond 1秒あたりの補充量
+     */
+    RateLimitDecision tryConsume(String key, int capacity, double refillPerSecond);
+
+    /**
+     * バケットを捨てる。次の消費は満杯の状態から始まる
+     */
+    void remove(Collection<String> keys);
+}
@@ -0,0 +1,24 @@
+package com.recipe.manager.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TokenBuckets {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    static double refill(double tokens, long elapsedNanos, int capacity, double refillPerSecond) {
+        if (elapsedNanos <= 0) {
+            return Math.min(capacity, tokens);
+        }
+        return Math.min(capacity, tokens + elapsedNanos / NANOS_PER_SECOND * refillPerSecond);
+    }
+
+    static long millisUntilNextToken(double tokens, double refillPerSecond) {
+        if (refillPerSecond <= 0) {
+            return Long.MAX_VALUE;
+        }
+        return (long) Math.ceil((1.0 - tokens) / refillPerSecond * 1000);
+    }
+}
@@ -0,0 +1,31 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.AiDailyUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface AiDailyUsageRepository extends JpaRepository<AiDailyUsage, AiDailyUsage.Key> {
+
+    @Query("SELECT u.tokenCost FROM AiDailyUsage u WHERE u.id.userId = :userId AND u.id.usageDate = :usageDate")
+    Optional<Long> findTokenCost(@Param("userId") Long userId, @Param("usageDate") LocalDate usageDate);
+
+    /**
+     * 同じユーザーの並行リクエストでも取りこぼさないよう、加算は1文のUPSERTで行う
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ai_daily_usages (user_id, usage_date, token_cost, request_count, updated_at) " +
+            "VALUES (:userId, :usageDate, :tokenCost, 1, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id, usage_date) DO UPDATE SET " +
+            "token_cost = ai_daily_usages.token_cost + EXCLUDED.token_cost, " +
+            "request_count = ai_daily_usages.request_count + 1, updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int addUsage(@Param("userId") Long userId, @Param("usageDate") LocalDate usageDate,
+                 @Param("tokenCost") long tokenCost);
+}
@@ -0,0 +1,86 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.AiUsageDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AiUsageDailySummaryRepository extends JpaRepository<AiUsageDailySummary, Long> {
+
+    String AGGREGATES = "SUM(s.request_count) AS requestCount, " +
+            "SUM(s.prompt_tokens) AS promptTokens, SUM(s.completion_tokens) AS completionTokens, " +
+            "SUM(s.prompt_tokens + s.completion_tokens) AS totalTokens, " +
+            "SUM(s.total_latency_ms) AS totalLatencyMs, MAX(s.max_latency_ms) AS maxLatencyMs, " +
+            "SUM(s.cache_hits) AS cacheHits ";
+
+    @Modifying
+    @Query(value = "INSERT INTO ai_usage_daily_summaries (usage_date, user_id, recipe_id, model, request_count, " +
+            "prompt_tokens, completion_tokens, total_latency_ms, max_latency_ms, cache_hits) " +
+            "VALUES (:usageDate, :userId, CAST(:recipeId AS BIGINT), :model, 1, :promptTokens, :completionTokens, " +
+            ":latencyMs, :latencyMs, :cacheHits) " +
+            "ON CONFLICT (usage_date, user_id, (COALESCE(recipe_id, 0)), model) DO UPDATE SET " +
+            "request_count = ai_usage_daily_summaries.request_count + 1, " +
+            "prompt_tokens = ai_usage_daily_summaries.prompt_tokens + EXCLUDED.prompt_tokens, " +
+            "completion_tokens = ai_usage_daily_summaries.completion_tokens + EXCLUDED.completion_tokens, " +
+            "total_latency_ms = ai_usage_daily_summaries.total_latency_ms + EXCLUDED.total_latency_ms, " +
+            "max_latency_ms = GREATEST(ai_usage_daily_summaries.max_latency_ms, EXCLUDED.max_latency_ms), " +
+            "cache_hits = ai_usage_daily_summaries.cache_hits + EXCLUDED.cache_hits",
+            nativeQuery = true)
+    int addUsage(@Param("usageDate") LocalDate usageDate,
+                 @Param("userId") Long userId,
+                 @Param("recipeId") Long recipeId,
+                 @Param("model") String model,
+                 @Param("promptTokens") long promptTokens,
+                 @Param("completionTokens") long completionTokens,
+                 @Param("latencyMs") int latencyMs,
+                 @Param("cacheHits") int cacheHits);
+
+    @Query(value = "SELECT s.user_id AS id, u.name AS name, " + AGGREGATES +
+            "FROM ai_usage_daily_summaries s JOIN users u ON u.id = s.user_id " +
+            "WHERE s.usage_date BETWEEN :from AND :to " +
+            "GROUP BY s.user_id, u.name ORDER BY totalTokens DESC, s.user_id",
+            nativeQuery = true)
+    List<UsageAggregateRef> aggregateByUser(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(value = "SELECT s.recipe_id AS id, r.title AS name, " + AGGREGATES +
+            "FROM ai_usage_daily_summaries s JOIN recipes r ON r.id = s.recipe_id " +
+            "WHERE s.usage_date BETWEEN :from AND :to " +
+            "GROUP BY s.recipe_id, r.title ORDER BY totalTokens DESC, s.recipe_id",
+            nativeQuery = true)
+    List<UsageAggregateRef> aggregateByRecipe(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(value = "SELECT s.usage_date AS usageDate, " + AGGREGATES +
+            "FROM ai_usage_daily_summaries s " +
+            "WHERE s.usage_date BETWEEN :from AND :to " +
+            "GROUP BY s.usage_date ORDER BY s.usage_date",
+            nativeQuery = true)
+    List<UsageAggregateRef> aggregateByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    interface UsageAggregateRef {
+        Long getId();
+
+        String getName();
+
+        LocalDate getUsageDate();
+
+        Long getRequestCount();
+
+        Long getPromptTokens();
+
+        Long getCompletionTokens();
+
+        Long getTotalTokens();
+
+        Long getTotalLatencyMs();
+
+        Integer getMaxLatencyMs();
+
+        Long getCacheHits();
+    }
+}
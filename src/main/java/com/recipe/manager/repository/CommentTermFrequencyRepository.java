@@ -0,0 +1,29 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.CommentTermFrequency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CommentTermFrequencyRepository extends JpaRepository<CommentTermFrequency, String> {
+
+    List<CommentTermFrequency> findByTermIn(Collection<String> terms);
+
+    /**
+     * 半角スペース区切りの語（1コメントにつき1回ずつ）を集計して加算する。
+     * 語順に並べて1文で更新するため、並行実行でも行ロックの取得順が揃う。
+     */
+    @Modifying
+    @Query(value = "INSERT INTO comment_term_frequencies (term, document_count) " +
+            "SELECT t, COUNT(*) FROM unnest(string_to_array(:terms, ' ')) AS t GROUP BY t ORDER BY t " +
+            "ON CONFLICT (term) DO UPDATE " +
+            "SET document_count = comment_term_frequencies.document_count + EXCLUDED.document_count",
+            nativeQuery = true)
+    int incrementDocumentCounts(@Param("terms") String terms);
+}
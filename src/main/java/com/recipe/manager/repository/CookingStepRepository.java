@@ -0,0 +1,21 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.CookingStep;
+import com.recipe.manager.entity.RecipeStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CookingStepRepository extends JpaRepository<CookingStep, Long> {
+
+    @Query("SELECT DISTINCT cs FROM CookingStep cs JOIN FETCH cs.recipe r " +
+            "LEFT JOIN FETCH cs.dependsOnStepNumbers " +
+            "WHERE r.id IN :recipeIds AND r.status <> :status")
+    List<CookingStep> findWithDependenciesByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds,
+                                                       @Param("status") RecipeStatus status);
+}
@@ -0,0 +1,25 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.FeedbackAlert;
+import com.recipe.manager.entity.FeedbackAlertStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FeedbackAlertRepository extends JpaRepository<FeedbackAlert, Long> {
+
+    @EntityGraph(attributePaths = {"recipe", "store"})
+    Page<FeedbackAlert> findByStatusOrderByCreatedAtDesc(FeedbackAlertStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"recipe", "store"})
+    Page<FeedbackAlert> findByRecipeIdAndStatusOrderByCreatedAtDesc(Long recipeId, FeedbackAlertStatus status,
+                                                                    Pageable pageable);
+
+    @EntityGraph(attributePaths = {"recipe", "store"})
+    Optional<FeedbackAlert> findWithRelationsById(Long id);
+}
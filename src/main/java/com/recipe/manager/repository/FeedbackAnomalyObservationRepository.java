@@ -0,0 +1,18 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.FeedbackAnomalyObservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface FeedbackAnomalyObservationRepository extends JpaRepository<FeedbackAnomalyObservation, Long> {
+
+    @Modifying
+    @Query("DELETE FROM FeedbackAnomalyObservation o WHERE o.feedbackCreatedAt < :before")
+    int deleteByFeedbackCreatedAtBefore(@Param("before") LocalDateTime before);
+}
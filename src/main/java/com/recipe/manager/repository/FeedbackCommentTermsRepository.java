@@ -0,0 +1,26 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.FeedbackCommentTerms;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FeedbackCommentTermsRepository extends JpaRepository<FeedbackCommentTerms, Long> {
+
+    List<FeedbackCommentTerms> findByFeedbackIdIn(Collection<Long> feedbackIds);
+
+    /**
+     * 並行する集計ジョブが同じコメントを解析した場合に備え、先に登録された方だけを残す。戻り値は登録件数（0 or 1）
+     */
+    @Modifying
+    @Query(value = "INSERT INTO feedback_comment_terms (feedback_id, terms, created_at) " +
+            "VALUES (:feedbackId, :terms, CURRENT_TIMESTAMP) ON CONFLICT (feedback_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("feedbackId") Long feedbackId, @Param("terms") String terms);
+}
@@ -0,0 +1,14 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.FeedbackStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FeedbackStatRepository extends JpaRepository<FeedbackStat, Long> {
+
+    List<FeedbackStat> findByRecipeIdIn(Collection<Long> recipeIds);
+}
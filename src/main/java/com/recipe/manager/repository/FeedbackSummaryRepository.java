@@ -1,11 +1,16 @@
 package com.recipe.manager.repository;
 
 import com.recipe.manager.entity.FeedbackSummary;
+import com.recipe.manager.entity.SummaryPeriodType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +23,13 @@ public interface FeedbackSummaryRepository extends JpaRepository<FeedbackSummary
             Long recipeId, java.time.LocalDate periodStart, java.time.LocalDate periodEnd);
 
     List<FeedbackSummary> findByRecipeIdOrderByPeriodStartAsc(Long recipeId);
+
+    List<FeedbackSummary> findTop6ByRecipeIdAndPeriodTypeOrderByPeriodStartDesc(Long recipeId,
+                                                                              SummaryPeriodType periodType);
+
+    @Query("SELECT s FROM FeedbackSummary s WHERE s.periodStart = :periodStart AND s.periodEnd = :periodEnd " +
+            "AND s.recipe.id IN :recipeIds")
+    List<FeedbackSummary> findByPeriodAndRecipeIdIn(@Param("periodStart") LocalDate periodStart,
+                                                    @Param("periodEnd") LocalDate periodEnd,
+                                                    @Param("recipeIds") Collection<Long> recipeIds);
 }
@@ -0,0 +1,15 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.IngredientSupplyStatusHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IngredientSupplyStatusHistoryRepository extends JpaRepository<IngredientSupplyStatusHistory, Long> {
+
+    @EntityGraph(attributePaths = {"store", "changedBy"})
+    Page<IngredientSupplyStatusHistory> findByIngredientIdOrderByChangedAtDesc(Long ingredientId, Pageable pageable);
+}
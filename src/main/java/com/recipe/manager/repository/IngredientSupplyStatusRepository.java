@@ -0,0 +1,18 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.IngredientSupplyStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IngredientSupplyStatusRepository extends JpaRepository<IngredientSupplyStatus, Long> {
+
+    Optional<IngredientSupplyStatus> findByIngredientIdAndStoreId(Long ingredientId, Long storeId);
+
+    @EntityGraph(attributePaths = {"store", "updatedBy"})
+    List<IngredientSupplyStatus> findByIngredientId(Long ingredientId);
+}
@@ -8,18 +8,49 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface KnowledgeArticleRepository extends JpaRepository<KnowledgeArticle, Long> {
 
     Page<KnowledgeArticle> findByCategoryId(Long categoryId, Pageable pageable);
 
+    Page<KnowledgeArticle> findByCategoryPathStartingWith(String path, Pageable pageable);
+
+    @Query("SELECT a.version FROM KnowledgeArticle a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
     Page<KnowledgeArticle> findByAuthorId(Long authorId, Pageable pageable);
 
-    @Query("SELECT a FROM KnowledgeArticle a WHERE a.title LIKE %:keyword% OR a.content LIKE %:keyword% OR a.tags LIKE %:keyword%")
-    List<KnowledgeArticle> searchByKeyword(@Param("keyword") String keyword);
+    /**
+     * タグは部分一致ではなく、正規化したキーワードと完全に一致するタグだけを対象にする
+     */
+    @Query("SELECT a FROM KnowledgeArticle a WHERE a.title LIKE %:keyword% OR a.content LIKE %:keyword% " +
+            "OR a.id IN (SELECT at.id.articleId FROM KnowledgeArticleTag at JOIN KnowledgeTag t ON t.id = at.id.tagId " +
+            "WHERE t.normalizedName = :normalizedKeyword)")
+    List<KnowledgeArticle> searchByKeyword(@Param("keyword") String keyword,
+                                           @Param("normalizedKeyword") String normalizedKeyword);
+
+    @Query(value = "SELECT a FROM KnowledgeArticle a WHERE a.id IN " +
+            "(SELECT at.id.articleId FROM KnowledgeArticleTag at WHERE at.id.tagId IN :tagIds)",
+            countQuery = "SELECT COUNT(DISTINCT at.id.articleId) FROM KnowledgeArticleTag at WHERE at.id.tagId IN :tagIds")
+    Page<KnowledgeArticle> findTaggedAny(@Param("tagIds") Collection<Long> tagIds, Pageable pageable);
+
+    @Query(value = "SELECT a FROM KnowledgeArticle a WHERE a.id IN " +
+            "(SELECT at.id.articleId FROM KnowledgeArticleTag at WHERE at.id.tagId IN :tagIds " +
+            "GROUP BY at.id.articleId HAVING COUNT(at) = :tagCount)",
+            countQuery = "SELECT COUNT(a) FROM KnowledgeArticle a WHERE a.id IN " +
+                    "(SELECT at.id.articleId FROM KnowledgeArticleTag at WHERE at.id.tagId IN :tagIds " +
+                    "GROUP BY at.id.articleId HAVING COUNT(at) = :tagCount)")
+    Page<KnowledgeArticle> findTaggedAll(@Param("tagIds") Collection<Long> tagIds,
+                                         @Param("tagCount") long tagCount,
+                                         Pageable pageable);
 
     @Query("SELECT a FROM KnowledgeArticle a JOIN a.relatedRecipes r WHERE r.id = :recipeId")
     List<KnowledgeArticle> findByRelatedRecipeId(@Param("recipeId") Long recipeId);
+
+    @Query("SELECT COUNT(a) FROM KnowledgeArticle a JOIN a.relatedRecipes r WHERE r.id = :recipeId")
+    long countByRelatedRecipeId(@Param("recipeId") Long recipeId);
 }
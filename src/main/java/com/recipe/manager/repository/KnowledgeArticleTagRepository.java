@@ -0,0 +1,28 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.KnowledgeArticleTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface KnowledgeArticleTagRepository extends JpaRepository<KnowledgeArticleTag, KnowledgeArticleTag.Key> {
+
+    @Query("SELECT at.id.tagId FROM KnowledgeArticleTag at WHERE at.id.articleId = :articleId")
+    List<Long> findTagIdsByArticleId(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query(value = "INSERT INTO knowledge_article_tags (article_id, tag_id) VALUES (:articleId, :tagId) " +
+            "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("articleId") Long articleId, @Param("tagId") Long tagId);
+
+    @Modifying
+    @Query("DELETE FROM KnowledgeArticleTag at WHERE at.id.articleId = :articleId AND at.id.tagId IN :tagIds")
+    int deleteByArticleIdAndTagIdIn(@Param("articleId") Long articleId, @Param("tagIds") Collection<Long> tagIds);
+}
@@ -1,9 +1,16 @@
 package com.recipe.manager.repository;
 
 import com.recipe.manager.entity.KnowledgeCategory;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +20,58 @@ public interface KnowledgeCategoryRepository extends JpaRepository<KnowledgeCate
     Optional<KnowledgeCategory> findByName(String name);
 
     List<KnowledgeCategory> findAllByOrderBySortOrderAsc();
+
+    /** 経路だけを読む。エンティティを読み込まないので、後からロック付きで読み直した値が古いまま残らない */
+    @Query("SELECT c.path FROM KnowledgeCategory c WHERE c.id IN :ids")
+    List<String> findPathsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM KnowledgeCategory c WHERE c.id IN :ids ORDER BY c.id")
+    List<KnowledgeCategory> findAllForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MAX(c.depth) FROM KnowledgeCategory c WHERE c.path LIKE CONCAT(:path, '%')")
+    Integer findMaxDepthInSubtree(@Param("path") String path);
+
+    /**
+     * カテゴリ直下の記事数と、そのカテゴリ自身を含む祖先すべての部分木記事数に delta を加える。
+     * 祖先は経路が前方一致するカテゴリとして同じ文の中で求めるので、カテゴリの移動と並行しても経路を読み違えない
+     */
+    @Modifying
+    @Query(value = "UPDATE knowledge_categories SET " +
+            "subtree_article_count = subtree_article_count + :delta, " +
+            "article_count = article_count + CASE WHEN id = :categoryId THEN :delta ELSE 0 END " +
+            "WHERE (SELECT c.path FROM knowledge_categories c WHERE c.id = :categoryId) LIKE path || '%'",
+            nativeQuery = true)
+    int adjustArticleCounts(@Param("categoryId") Long categoryId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE KnowledgeCategory c SET c.subtreeArticleCount = c.subtreeArticleCount + :delta WHERE c.id IN :ids")
+    int adjustSubtreeArticleCounts(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE KnowledgeCategory c SET c.parentId = :parentId WHERE c.id = :id")
+    int updateParent(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    /**
+     * 部分木の経路の先頭 oldPath を newPath に付け替え、深さを depthDelta だけずらす
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE knowledge_categories SET " +
+            "path = :newPath || SUBSTRING(path, LENGTH(:oldPath) + 1), depth = depth + :depthDelta " +
+            "WHERE path LIKE :oldPath || '%'",
+            nativeQuery = true)
+    int moveSubtree(@Param("oldPath") String oldPath, @Param("newPath") String newPath,
+                    @Param("depthDelta") int depthDelta);
+
+    /**
+     * 記事数を記事テーブルから数え直す。差分更新とカテゴリ移動が競合した場合のずれを起動時に解消する
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE knowledge_categories c SET " +
+            "article_count = (SELECT COUNT(*) FROM knowledge_articles a WHERE a.category_id = c.id), " +
+            "subtree_article_count = (SELECT COUNT(*) FROM knowledge_articles a " +
+            "JOIN knowledge_categories d ON d.id = a.category_id WHERE d.path LIKE c.path || '%')",
+            nativeQuery = true)
+    int recountArticles();
 }
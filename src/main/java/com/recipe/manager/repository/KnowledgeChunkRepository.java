@@ -0,0 +1,62 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.KnowledgeChunk;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface KnowledgeChunkRepository extends JpaRepository<KnowledgeChunk, Long> {
+
+    @Query("SELECT c.id FROM KnowledgeChunk c WHERE c.article.id = :articleId")
+    List<Long> findIdsByArticleId(@Param("articleId") Long articleId);
+
+    @Query("SELECT c.articleVersion FROM KnowledgeChunk c WHERE c.article.id = :articleId AND c.chunkIndex = 0")
+    List<Long> findArticleVersionsByArticleId(@Param("articleId") Long articleId);
+
+    @EntityGraph(attributePaths = {"article", "article.category"})
+    @Query("SELECT c FROM KnowledgeChunk c WHERE c.id IN :ids")
+    List<KnowledgeChunk> findWithArticleByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"article", "article.category"})
+    @Query("SELECT c FROM KnowledgeChunk c WHERE c.article.id IN :articleIds AND c.chunkIndex = 0")
+    List<KnowledgeChunk> findFirstChunksByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * キーワードを含むパッセージのIDを関連度の高い順に返す。記事タイトル・見出しに含むものを先にし、
+     * 次に本文中の出現回数（本文からキーワードを除いて減った文字数）の多い順にする。
+     * 候補はパッセージの本文・見出しと記事タイトルをそれぞれ trigram 索引で引き、UNION でまとめる
+     * （結合先の列を OR でつなぐと索引を使えない）
+     */
+    @Query(value = "SELECT c.id FROM knowledge_chunks c JOIN knowledge_articles a ON a.id = c.article_id " +
+            "WHERE c.id IN (" +
+            "SELECT k.id FROM knowledge_chunks k " +
+            "WHERE k.content LIKE CONCAT('%', :keyword, '%') OR k.heading LIKE CONCAT('%', :keyword, '%') " +
+            "UNION " +
+            "SELECT k.id FROM knowledge_chunks k JOIN knowledge_articles t ON t.id = k.article_id " +
+            "WHERE t.title LIKE CONCAT('%', :keyword, '%')) " +
+            "ORDER BY CASE WHEN a.title LIKE CONCAT('%', :keyword, '%') THEN 1 ELSE 0 END " +
+            "+ CASE WHEN c.heading LIKE CONCAT('%', :keyword, '%') THEN 1 ELSE 0 END DESC, " +
+            "LENGTH(c.content) - LENGTH(REPLACE(c.content, :keyword, '')) DESC, c.article_id, c.chunk_index " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchIdsByKeyword(@Param("keyword") String keyword, @Param("limit") int limit);
+
+    /** パッセージ未作成、または記事の更新後に作り直していない記事 */
+    @Query("SELECT a.id FROM KnowledgeArticle a WHERE a.id > :afterId AND NOT EXISTS " +
+            "(SELECT 1 FROM KnowledgeChunk c WHERE c.article = a AND c.articleVersion = a.version) ORDER BY a.id")
+    List<Long> findArticleIdsWithStaleChunks(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM KnowledgeChunk c WHERE c.article.id = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+}
@@ -0,0 +1,34 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.KnowledgeEmbedding;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface KnowledgeEmbeddingRepository extends JpaRepository<KnowledgeEmbedding, Long> {
+
+    @Query("SELECT e FROM KnowledgeEmbedding e WHERE e.model = :model AND e.chunkId > :afterId ORDER BY e.chunkId")
+    List<KnowledgeEmbedding> findByModelAfter(@Param("model") String model, @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    @Query("SELECT e FROM KnowledgeEmbedding e WHERE e.model = :model AND e.updatedAt >= :since")
+    List<KnowledgeEmbedding> findByModelUpdatedSince(@Param("model") String model,
+                                                     @Param("since") LocalDateTime since);
+
+    @Query("SELECT e.chunkId FROM KnowledgeEmbedding e WHERE e.model = :model")
+    List<Long> findChunkIdsByModel(@Param("model") String model);
+
+    long countByModel(String model);
+
+    /** 埋め込みが未作成、または別モデルで作られたパッセージ */
+    @Query("SELECT c.id FROM KnowledgeChunk c WHERE c.id > :afterId AND NOT EXISTS " +
+            "(SELECT 1 FROM KnowledgeEmbedding e WHERE e.chunkId = c.id AND e.model = :model) ORDER BY c.id")
+    List<Long> findChunkIdsWithoutEmbedding(@Param("model") String model, @Param("afterId") Long afterId,
+                                            Pageable pageable);
+}
@@ -0,0 +1,75 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.KnowledgeTag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface KnowledgeTagRepository extends JpaRepository<KnowledgeTag, Long> {
+
+    List<KnowledgeTag> findByNormalizedNameIn(Collection<String> normalizedNames);
+
+    /**
+     * 同じタグを並行して登録しても一意制約違反にしない。戻り値は登録件数（0 or 1）
+     */
+    @Modifying
+    @Query(value = "INSERT INTO knowledge_tags (name, normalized_name, created_at) " +
+            "VALUES (:name, :normalizedName, CURRENT_TIMESTAMP) ON CONFLICT (normalized_name) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("normalizedName") String normalizedName);
+
+    @Query("SELECT t.id AS tagId, t.name AS name, COUNT(at) AS articleCount " +
+            "FROM KnowledgeArticleTag at JOIN KnowledgeTag t ON t.id = at.id.tagId " +
+            "GROUP BY t.id, t.name ORDER BY COUNT(at) DESC, t.name")
+    List<TagCountRef> countArticles(Pageable pageable);
+
+    /**
+     * tagIds のいずれかが付いた記事に付いているタグごとの記事数
+     */
+    @Query("SELECT t.id AS tagId, t.name AS name, COUNT(at) AS articleCount " +
+            "FROM KnowledgeArticleTag at JOIN KnowledgeTag t ON t.id = at.id.tagId " +
+            "WHERE at.id.articleId IN (SELECT x.id.articleId FROM KnowledgeArticleTag x WHERE x.id.tagId IN :tagIds) " +
+            "GROUP BY t.id, t.name ORDER BY COUNT(at) DESC, t.name")
+    List<TagCountRef> countArticlesTaggedAny(@Param("tagIds") Collection<Long> tagIds, Pageable pageable);
+
+    /**
+     * tagIds がすべて付いた記事に付いているタグごとの記事数
+     */
+    @Query("SELECT t.id AS tagId, t.name AS name, COUNT(at) AS articleCount " +
+            "FROM KnowledgeArticleTag at JOIN KnowledgeTag t ON t.id = at.id.tagId " +
+            "WHERE at.id.articleId IN (SELECT x.id.articleId FROM KnowledgeArticleTag x WHERE x.id.tagId IN :tagIds " +
+            "GROUP BY x.id.articleId HAVING COUNT(x) = :tagCount) " +
+            "GROUP BY t.id, t.name ORDER BY COUNT(at) DESC, t.name")
+    List<TagCountRef> countArticlesTaggedAll(@Param("tagIds") Collection<Long> tagIds,
+                                             @Param("tagCount") long tagCount,
+                                             Pageable pageable);
+
+    /**
+     * キーワード検索（{@link KnowledgeArticleRepository#searchByKeyword}）に一致する記事に付いているタグごとの記事数
+     */
+    @Query("SELECT t.id AS tagId, t.name AS name, COUNT(at) AS articleCount " +
+            "FROM KnowledgeArticleTag at JOIN KnowledgeTag t ON t.id = at.id.tagId " +
+            "WHERE at.id.articleId IN (SELECT a.id FROM KnowledgeArticle a " +
+            "WHERE a.title LIKE %:keyword% OR a.content LIKE %:keyword% " +
+            "OR a.id IN (SELECT x.id.articleId FROM KnowledgeArticleTag x JOIN KnowledgeTag xt ON xt.id = x.id.tagId " +
+            "WHERE xt.normalizedName = :normalizedKeyword)) " +
+            "GROUP BY t.id, t.name ORDER BY COUNT(at) DESC, t.name")
+    List<TagCountRef> countArticlesMatchingKeyword(@Param("keyword") String keyword,
+                                                   @Param("normalizedKeyword") String normalizedKeyword,
+                                                   Pageable pageable);
+
+    interface TagCountRef {
+        Long getTagId();
+
+        String getName();
+
+        Long getArticleCount();
+    }
+}
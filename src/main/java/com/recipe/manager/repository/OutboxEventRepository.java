@@ -0,0 +1,67 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /** 未配信で、どのノードも配信権を持っていない（または期限切れの）イベントをID順に返す */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.createdAt < :createdBefore " +
+            "AND e.attempts < :maxAttempts AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.id")
+    List<OutboxEvent> findPending(@Param("createdBefore") LocalDateTime createdBefore,
+                                  @Param("maxAttempts") int maxAttempts,
+                                  @Param("now") LocalDateTime now,
+                                  Pageable pageable);
+
+    /** ノードごとの同報で、前回読んだ位置より後に書き込まれたイベントをID順に返す */
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @Query("SELECT MAX(e.id) FROM OutboxEvent e")
+    Optional<Long> findMaxId();
+
+    /**
+     * 配信権を取得する。取得できた場合だけ 1 を返す。
+     * 配信済み・他のノードが期限内の配信権を持つ・同じ集約に未配信の古いイベントが残っている（再送上限に達したものを除く）
+     * 場合は取得できない。更新で行ロックを取るため、同じイベントの配信権を複数のノードが同時に得ることはない。
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = :owner, e.claimedUntil = :claimedUntil " +
+            "WHERE e.id = :id AND e.publishedAt IS NULL " +
+            "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now OR e.claimedBy = :owner) " +
+            "AND NOT EXISTS (SELECT 1 FROM OutboxEvent o WHERE o.aggregateType = e.aggregateType " +
+            "AND o.aggregateId = e.aggregateId AND o.id < e.id AND o.publishedAt IS NULL " +
+            "AND o.attempts < :maxAttempts)")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("claimedUntil") LocalDateTime claimedUntil,
+              @Param("maxAttempts") int maxAttempts);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt, e.attempts = e.attempts + 1 WHERE e.id = :id")
+    int markPublished(@Param("id") Long id, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, " +
+            "e.claimedBy = NULL, e.claimedUntil = NULL WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
@@ -1,6 +1,7 @@
 package com.recipe.manager.repository;
 
 import com.recipe.manager.entity.ProductFeedback;
+import com.recipe.manager.entity.RecipeStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -43,4 +46,126 @@ public interface ProductFeedbackRepository extends JpaRepository<ProductFeedback
     Long countByRecipeIdAndPeriod(@Param("recipeId") Long recipeId,
                                   @Param("from") LocalDate from,
                                   @Param("to") LocalDate to);
+
+    /**
+     * ウォーターマーク（afterId）より後の行に加え、rescanFrom 以降に登録されたのに未反映の行も返す。
+     * ID は採番順でコミット順ではないため、ウォーターマークより小さい ID の行が後からコミットされることがある
+     */
+    @Query("SELECT f.id AS id, f.recipe.id AS recipeId, s.id AS storeId, f.satisfactionScore AS satisfactionScore, " +
+            "f.createdAt AS createdAt " +
+            "FROM ProductFeedback f LEFT JOIN f.store s " +
+            "WHERE f.createdAt <= :createdBefore AND (f.id > :afterId OR f.createdAt >= :rescanFrom) " +
+            "AND NOT EXISTS (SELECT 1 FROM FeedbackAnomalyObservation o WHERE o.feedbackId = f.id) " +
+            "ORDER BY f.id")
+    List<FeedbackScoreRef> findUnobservedScores(@Param("afterId") Long afterId,
+                                                @Param("rescanFrom") LocalDateTime rescanFrom,
+                                                @Param("createdBefore") LocalDateTime createdBefore,
+                                                Pageable pageable);
+
+    @Query("SELECT f.recipe.id AS recipeId, COUNT(f) AS feedbackCount, " +
+            "AVG(f.satisfactionScore) AS avgSatisfaction, AVG(f.emotionScore) AS avgEmotion, " +
+            "MAX(f.updatedAt) AS lastUpdatedAt " +
+            "FROM ProductFeedback f WHERE f.recipe.status <> :status " +
+            "AND f.periodStart >= :from AND f.periodEnd <= :to AND f.recipe.id > :afterRecipeId " +
+            "GROUP BY f.recipe.id ORDER BY f.recipe.id")
+    List<PeriodAggregateRef> aggregateByRecipeAfter(@Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to,
+                                                    @Param("afterRecipeId") Long afterRecipeId,
+                                                    @Param("status") RecipeStatus status,
+                                                    Pageable pageable);
+
+    @Query("SELECT f.id AS id, f.recipe.id AS recipeId, f.comment AS comment FROM ProductFeedback f " +
+            "WHERE f.recipe.id IN :recipeIds AND f.periodStart >= :from AND f.periodEnd <= :to " +
+            "AND f.comment IS NOT NULL ORDER BY f.id")
+    List<CommentRef> findCommentsByRecipeIdInAndPeriod(@Param("recipeIds") Collection<Long> recipeIds,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to);
+
+    @Query(value = "SELECT s.id AS id, s.name AS name, COUNT(*) AS feedbackCount, " +
+            "CAST(AVG(f.satisfaction_score) AS DOUBLE PRECISION) AS avgSatisfaction, " +
+            "RANK() OVER (ORDER BY AVG(f.satisfaction_score) DESC) AS ranking, " +
+            "PERCENT_RANK() OVER (ORDER BY AVG(f.satisfaction_score)) AS percentRank " +
+            "FROM product_feedbacks f JOIN stores s ON s.id = f.store_id " +
+            "WHERE f.recipe_id = :recipeId AND f.period_start >= :from AND f.period_end <= :to " +
+            "GROUP BY s.id, s.name HAVING COUNT(*) >= :minCount " +
+            "ORDER BY ranking, s.id",
+            nativeQuery = true)
+    List<RankingRef> rankStoresForRecipe(@Param("recipeId") Long recipeId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to,
+                                         @Param("minCount") int minCount);
+
+    @Query(value = "SELECT r.id AS id, r.title AS name, COUNT(*) AS feedbackCount, " +
+            "CAST(AVG(f.satisfaction_score) AS DOUBLE PRECISION) AS avgSatisfaction, " +
+            "RANK() OVER (ORDER BY AVG(f.satisfaction_score) DESC) AS ranking, " +
+            "PERCENT_RANK() OVER (ORDER BY AVG(f.satisfaction_score)) AS percentRank " +
+            "FROM product_feedbacks f JOIN recipes r ON r.id = f.recipe_id " +
+            "WHERE r.status <> 'DELETED' AND (CAST(:storeId AS BIGINT) IS NULL OR f.store_id = :storeId) " +
+            "AND f.period_start >= :from AND f.period_end <= :to " +
+            "GROUP BY r.id, r.title HAVING COUNT(*) >= :minCount " +
+            "ORDER BY ranking, r.id LIMIT :limit",
+            nativeQuery = true)
+    List<RankingRef> rankRecipes(@Param("storeId") Long storeId,
+                                 @Param("from") LocalDate from,
+                                 @Param("to") LocalDate to,
+                                 @Param("minCount") int minCount,
+                                 @Param("limit") int limit);
+
+    @Query("SELECT COUNT(f) AS feedbackCount, AVG(f.satisfactionScore) AS avgSatisfaction, " +
+            "MAX(f.createdAt) AS lastFeedbackAt FROM ProductFeedback f WHERE f.recipe.id = :recipeId")
+    FeedbackTotalsRef findTotalsByRecipeId(@Param("recipeId") Long recipeId);
+
+    interface FeedbackTotalsRef {
+        Long getFeedbackCount();
+
+        Double getAvgSatisfaction();
+
+        LocalDateTime getLastFeedbackAt();
+    }
+
+    interface RankingRef {
+        Long getId();
+
+        String getName();
+
+        Long getFeedbackCount();
+
+        Double getAvgSatisfaction();
+
+        Long getRanking();
+
+        Double getPercentRank();
+    }
+
+    interface PeriodAggregateRef {
+        Long getRecipeId();
+
+        Long getFeedbackCount();
+
+        Double getAvgSatisfaction();
+
+        Double getAvgEmotion();
+
+        LocalDateTime getLastUpdatedAt();
+    }
+
+    interface CommentRef {
+        Long getId();
+
+        Long getRecipeId();
+
+        String getComment();
+    }
+
+    interface FeedbackScoreRef {
+        Long getId();
+
+        Long getRecipeId();
+
+        Long getStoreId();
+
+        Integer getSatisfactionScore();
+
+        LocalDateTime getCreatedAt();
+    }
 }
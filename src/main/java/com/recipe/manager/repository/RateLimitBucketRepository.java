@@ -0,0 +1,33 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.RateLimitBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO ai_rate_limit_buckets (bucket_key, tokens, refilled_at) " +
+            "VALUES (:bucketKey, :tokens, :refilledAt) ON CONFLICT (bucket_key) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("bucketKey") String bucketKey, @Param("tokens") double tokens,
+                       @Param("refilledAt") LocalDateTime refilledAt);
+
+    @Modifying
+    @Query("DELETE FROM RateLimitBucket b WHERE b.bucketKey IN :bucketKeys")
+    int deleteByKeys(@Param("bucketKeys") Collection<String> bucketKeys);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RateLimitBucket b WHERE b.bucketKey = :bucketKey")
+    Optional<RateLimitBucket> findForUpdate(@Param("bucketKey") String bucketKey);
+}
@@ -0,0 +1,21 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Map;
+
+/**
+ * 検索条件ごとのファセット件数を GROUP BY で数える。戻り値は件数の多い順
+ */
+public interface RecipeFacetRepository {
+
+    Map<String, Long> countByCategory(Specification<Recipe> spec);
+
+    Map<RecipeStatus, Long> countByStatus(Specification<Recipe> spec);
+
+    Map<Long, Long> countByCreator(Specification<Recipe> spec);
+
+    Map<Long, Long> countByIngredient(Specification<Recipe> spec, int limit);
+}
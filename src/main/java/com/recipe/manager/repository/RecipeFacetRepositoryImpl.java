@@ -0,0 +1,70 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class RecipeFacetRepositoryImpl implements RecipeFacetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<String, Long> countByCategory(Specification<Recipe> spec) {
+        return countBy(spec, root -> root.get("category"), String.class, false, 0);
+    }
+
+    @Override
+    public Map<RecipeStatus, Long> countByStatus(Specification<Recipe> spec) {
+        return countBy(spec, root -> root.get("status"), RecipeStatus.class, false, 0);
+    }
+
+    @Override
+    public Map<Long, Long> countByCreator(Specification<Recipe> spec) {
+        return countBy(spec, root -> root.get("createdBy").get("id"), Long.class, false, 0);
+    }
+
+    @Override
+    public Map<Long, Long> countByIngredient(Specification<Recipe> spec, int limit) {
+        // 同じ食材が1つのレシピに複数行あっても1件と数える
+        return countBy(spec, root -> root.join("ingredients").get("ingredient").get("id"), Long.class, true, limit);
+    }
+
+    private <K> Map<K, Long> countBy(Specification<Recipe> spec, Function<Root<Recipe>, Expression<K>> keyOf,
+                                     Class<K> keyType, boolean distinct, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Recipe> root = query.from(Recipe.class);
+        Expression<K> key = keyOf.apply(root);
+        Expression<Long> count = distinct ? cb.countDistinct(root) : cb.count(root);
+        query.multiselect(key, count)
+                .where(spec.toPredicate(root, query, cb))
+                .groupBy(key)
+                .orderBy(cb.desc(count));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (limit > 0) {
+            typed.setMaxResults(limit);
+        }
+        Map<K, Long> counts = new LinkedHashMap<>();
+        for (Tuple row : typed.getResultList()) {
+            K value = row.get(0, keyType);
+            if (value != null) {
+                counts.put(value, row.get(1, Long.class));
+            }
+        }
+        return counts;
+    }
+}
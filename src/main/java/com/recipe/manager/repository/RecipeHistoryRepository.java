@@ -2,12 +2,27 @@ package com.recipe.manager.repository;
 
 import com.recipe.manager.entity.RecipeHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface RecipeHistoryRepository extends JpaRepository<RecipeHistory, Long> {
 
     List<RecipeHistory> findByRecipeIdOrderByChangedAtDesc(Long recipeId);
+
+    List<RecipeHistory> findByRecipeIdAndBaseVersionGreaterThanEqual(Long recipeId, Long baseVersion);
+
+    @Query("SELECT MAX(h.changedAt) AS lastChangedAt, COUNT(DISTINCT h.changedBy.id) AS editorCount " +
+            "FROM RecipeHistory h WHERE h.recipe.id = :recipeId")
+    EditStatsRef findEditStatsByRecipeId(@Param("recipeId") Long recipeId);
+
+    interface EditStatsRef {
+        LocalDateTime getLastChangedAt();
+
+        Long getEditorCount();
+    }
 }
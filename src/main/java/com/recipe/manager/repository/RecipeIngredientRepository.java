@@ -0,0 +1,68 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.RecipeIngredient;
+import com.recipe.manager.entity.RecipeStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredient, Long> {
+
+    @Query("SELECT ri.recipe.id AS recipeId, ri.ingredient.id AS ingredientId FROM RecipeIngredient ri " +
+            "WHERE ri.recipe.status <> :status")
+    List<IngredientRef> findIngredientRefsByRecipeStatusNot(@Param("status") RecipeStatus status);
+
+    @Query("SELECT ri.ingredient.id FROM RecipeIngredient ri WHERE ri.recipe.id = :recipeId")
+    List<Long> findIngredientIdsByRecipeId(@Param("recipeId") Long recipeId);
+
+    @Query("SELECT ri.recipe.id AS recipeId, ri.ingredient.id AS ingredientId FROM RecipeIngredient ri " +
+            "WHERE ri.recipe.id IN :recipeIds")
+    List<IngredientRef> findIngredientRefsByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
+    @Query("SELECT DISTINCT r.id AS recipeId, r.title AS title, r.createdBy.id AS ownerId " +
+            "FROM RecipeIngredient ri JOIN ri.recipe r " +
+            "WHERE ri.ingredient.id = :ingredientId AND r.status <> :status AND r.id > :afterRecipeId " +
+            "ORDER BY r.id")
+    List<ImpactedRecipeRef> findImpactedRecipesAfter(@Param("ingredientId") Long ingredientId,
+                                                     @Param("status") RecipeStatus status,
+                                                     @Param("afterRecipeId") Long afterRecipeId,
+                                                     Pageable pageable);
+
+    @Query("SELECT ri.recipe.id AS recipeId, i.id AS ingredientId, i.name AS ingredientName, " +
+            "ri.quantity AS quantity, ri.unit AS unit " +
+            "FROM RecipeIngredient ri JOIN ri.ingredient i WHERE ri.recipe.id IN :recipeIds")
+    List<PrepLine> findPrepLinesByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
+    interface IngredientRef {
+        Long getRecipeId();
+
+        Long getIngredientId();
+    }
+
+    interface ImpactedRecipeRef {
+        Long getRecipeId();
+
+        String getTitle();
+
+        Long getOwnerId();
+    }
+
+    interface PrepLine {
+        Long getRecipeId();
+
+        Long getIngredientId();
+
+        String getIngredientName();
+
+        BigDecimal getQuantity();
+
+        String getUnit();
+    }
+}
@@ -4,19 +4,128 @@ import com.recipe.manager.entity.Recipe;
 import com.recipe.manager.entity.RecipeStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecificationExecutor<Recipe>,
+        RecipeFacetRepository {
 
     Page<Recipe> findByStatusNot(RecipeStatus status, Pageable pageable);
 
     Page<Recipe> findByStatus(RecipeStatus status, Pageable pageable);
 
+    Page<Recipe> findByStatusAndCategory(RecipeStatus status, String category, Pageable pageable);
+
     Page<Recipe> findByStatusNotAndCategory(RecipeStatus status, String category, Pageable pageable);
 
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    Page<Recipe> findAll(Specification<Recipe> spec, Pageable pageable);
+
     Optional<Recipe> findByIdAndStatusNot(Long id, RecipeStatus status);
+
+    @Query("SELECT r.version FROM Recipe r WHERE r.id = :id AND r.status <> :status")
+    Optional<Long> findVersionByIdAndStatusNot(@Param("id") Long id, @Param("status") RecipeStatus status);
+
+    @EntityGraph(attributePaths = "createdBy")
+    List<Recipe> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT r.id AS id, r.version AS version FROM Recipe r WHERE r.id IN :ids AND r.status <> :status")
+    List<VersionRef> findVersionRefsByIdInAndStatusNot(@Param("ids") Collection<Long> ids,
+                                                       @Param("status") RecipeStatus status);
+
+    @EntityGraph(attributePaths = {"ingredients", "ingredients.ingredient"})
+    @Query("SELECT r FROM Recipe r WHERE r.id IN :ids")
+    List<Recipe> findWithIngredientsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT r.id AS id, r.title AS title, r.servings AS servings, " +
+            "COALESCE(SUM(cs.durationMinutes), 0) AS prepMinutes " +
+            "FROM Recipe r LEFT JOIN r.cookingSteps cs " +
+            "WHERE r.id IN :ids AND r.status <> :status GROUP BY r.id, r.title, r.servings")
+    List<PrepSummaryRef> findPrepSummariesByIdInAndStatusNot(@Param("ids") Collection<Long> ids,
+                                                             @Param("status") RecipeStatus status);
+
+    @Query("SELECT r.id AS id, r.status AS status FROM Recipe r WHERE r.status <> :status")
+    List<StatusRef> findStatusRefsByStatusNot(@Param("status") RecipeStatus status);
+
+    @Query("SELECT r.id AS id, r.status AS status, r.category AS category, r.createdBy.id AS creatorId, " +
+            "r.createdAt AS createdAt, r.updatedAt AS updatedAt FROM Recipe r WHERE r.status <> :status")
+    List<FacetRef> findFacetRefsByStatusNot(@Param("status") RecipeStatus status);
+
+    @Query("SELECT r.id AS id, r.status AS status, r.category AS category, r.createdBy.id AS creatorId, " +
+            "r.createdAt AS createdAt, r.updatedAt AS updatedAt FROM Recipe r WHERE r.id = :id")
+    Optional<FacetRef> findFacetRefById(@Param("id") Long id);
+
+    /** 削除済みも含めて since 以降に更新されたレシピ（ファセット索引の追従用） */
+    @Query("SELECT r.id AS id, r.status AS status, r.category AS category, r.createdBy.id AS creatorId, " +
+            "r.createdAt AS createdAt, r.updatedAt AS updatedAt FROM Recipe r WHERE r.updatedAt >= :since")
+    List<FacetRef> findFacetRefsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @EntityGraph(attributePaths = "createdBy")
+    @Query(value = "SELECT r FROM Recipe r WHERE r.status IN :statuses AND r.id IN " +
+            "(SELECT ri.recipe.id FROM RecipeIngredient ri WHERE ri.ingredient.id IN :ingredientIds)",
+            countQuery = "SELECT COUNT(r) FROM Recipe r WHERE r.status IN :statuses AND r.id IN " +
+                    "(SELECT ri.recipe.id FROM RecipeIngredient ri WHERE ri.ingredient.id IN :ingredientIds)")
+    Page<Recipe> findByAnyIngredient(@Param("ingredientIds") Collection<Long> ingredientIds,
+                                     @Param("statuses") Collection<RecipeStatus> statuses,
+                                     Pageable pageable);
+
+    @EntityGraph(attributePaths = "createdBy")
+    @Query(value = "SELECT r FROM Recipe r WHERE r.status IN :statuses AND r.id IN " +
+            "(SELECT ri.recipe.id FROM RecipeIngredient ri WHERE ri.ingredient.id IN :ingredientIds " +
+            "GROUP BY ri.recipe.id HAVING COUNT(DISTINCT ri.ingredient.id) = :ingredientCount)",
+            countQuery = "SELECT COUNT(r) FROM Recipe r WHERE r.status IN :statuses AND r.id IN " +
+                    "(SELECT ri.recipe.id FROM RecipeIngredient ri WHERE ri.ingredient.id IN :ingredientIds " +
+                    "GROUP BY ri.recipe.id HAVING COUNT(DISTINCT ri.ingredient.id) = :ingredientCount)")
+    Page<Recipe> findByAllIngredients(@Param("ingredientIds") Collection<Long> ingredientIds,
+                                      @Param("ingredientCount") long ingredientCount,
+                                      @Param("statuses") Collection<RecipeStatus> statuses,
+                                      Pageable pageable);
+
+    interface StatusRef {
+        Long getId();
+
+        RecipeStatus getStatus();
+    }
+
+    interface FacetRef {
+        Long getId();
+
+        RecipeStatus getStatus();
+
+        String getCategory();
+
+        Long getCreatorId();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface VersionRef {
+        Long getId();
+
+        Long getVersion();
+    }
+
+    interface PrepSummaryRef {
+        Long getId();
+
+        String getTitle();
+
+        Integer getServings();
+
+        Long getPrepMinutes();
+    }
 }
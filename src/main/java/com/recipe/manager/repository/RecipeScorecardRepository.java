@@ -0,0 +1,47 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.RecipeScorecard;
+import com.recipe.manager.entity.RecipeStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecipeScorecardRepository extends JpaRepository<RecipeScorecard, Long> {
+
+    /** 直近の満足度が高い順。集計がないレシピ（NULL）は PostgreSQL の降順既定で先頭に来るため、明示的に末尾に回す */
+    @Query(value = "SELECT s FROM RecipeScorecard s WHERE s.status = :status " +
+            "ORDER BY s.latestAvgSatisfaction DESC NULLS LAST, s.recipeId ASC",
+            countQuery = "SELECT COUNT(s) FROM RecipeScorecard s WHERE s.status = :status")
+    Page<RecipeScorecard> findRankedByStatus(@Param("status") RecipeStatus status, Pageable pageable);
+
+    /**
+     * 未作成なら、レシピの現在の値で行を作る。削除済み・存在しないレシピでは何もしない。
+     * 続けて findForUpdate で行ロックを取れるよう、集計の前に行を用意しておくために使う
+     */
+    @Modifying
+    @Query(value = "INSERT INTO recipe_scorecards (recipe_id, title, status) " +
+            "SELECT r.id, r.title, r.status FROM recipes r WHERE r.id = :recipeId AND r.status <> 'DELETED' " +
+            "ON CONFLICT (recipe_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("recipeId") Long recipeId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RecipeScorecard s WHERE s.recipeId = :recipeId")
+    Optional<RecipeScorecard> findForUpdate(@Param("recipeId") Long recipeId);
+
+    @Query("SELECT r.id FROM Recipe r WHERE r.status <> :status AND r.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM RecipeScorecard s WHERE s.recipeId = r.id) ORDER BY r.id")
+    List<Long> findRecipeIdsWithoutScorecard(@Param("status") RecipeStatus status,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+}
@@ -0,0 +1,86 @@
+package com.recipe.manager.repository;
+
+import com.recipe.manager.entity.Recipe;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * recipe_search_documents（レシピ全文検索の tsvector）への読み書き。tsvector は JPA で扱わないため、
+ * エンティティを持たずネイティブクエリだけで操作する（stereotype の @Repository とは名前が衝突するため付けない）。
+ */
+public interface RecipeSearchDocumentRepository extends Repository<Recipe, Long> {
+
+    /**
+     * ts_rank は一致した文書ごとに tsvector を展開して計算するため、一致が多い検索語ではそれだけで遅くなる。
+     * 一致したうちIDの大きい（新しい）:candidates 件だけを候補にしてから順位を付け、キーセットの絞り込みと LIMIT をかける。
+     * 候補はページをまたいで同じになるので、ページ送りで重複・欠落しない。
+     * 並びを recipe_id + 0 にするのは、主キー索引を逆順にたどって1行ずつ照合する計画を選ばせないため
+     * （一致が少ない検索語で全件近くを読むことになる）。
+     * ts_rank の正規化 1: 文書の長さの対数で割り、長いストーリーを持つレシピが有利になりすぎないようにする
+     */
+    String MATCHES = "SELECT c.recipe_id, ts_rank(c.document, CAST(:query AS tsquery), 1) AS score FROM (" +
+            "SELECT d.recipe_id, d.document FROM recipe_search_documents d JOIN recipes r ON r.id = d.recipe_id " +
+            "WHERE d.document @@ CAST(:query AS tsquery) AND r.status <> 'DELETED' " +
+            "ORDER BY d.recipe_id + 0 DESC LIMIT :candidates) c";
+
+    String SEARCH = "SELECT m.recipe_id AS recipeId, m.score AS score FROM (" + MATCHES + ") m " +
+            "ORDER BY m.score DESC, m.recipe_id DESC LIMIT :limit";
+
+    String SEARCH_AFTER = "SELECT m.recipe_id AS recipeId, m.score AS score FROM (" + MATCHES + ") m " +
+            "WHERE m.score < :afterScore OR (m.score = :afterScore AND m.recipe_id < :afterId) " +
+            "ORDER BY m.score DESC, m.recipe_id DESC LIMIT :limit";
+
+    String UPSERT = "INSERT INTO recipe_search_documents (recipe_id, document, source_updated_at, indexed_at) " +
+            "VALUES (:recipeId, CAST(:document AS tsvector), :sourceUpdatedAt, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (recipe_id) DO UPDATE SET document = EXCLUDED.document, " +
+            "source_updated_at = EXCLUDED.source_updated_at, indexed_at = EXCLUDED.indexed_at";
+
+    @Query(value = SEARCH, nativeQuery = true)
+    List<TextMatchRef> search(@Param("query") String query,
+                              @Param("candidates") int candidates,
+                              @Param("limit") int limit);
+
+    @Query(value = SEARCH_AFTER, nativeQuery = true)
+    List<TextMatchRef> searchAfter(@Param("query") String query,
+                                   @Param("afterScore") float afterScore,
+                                   @Param("afterId") long afterId,
+                                   @Param("candidates") int candidates,
+                                   @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = UPSERT, nativeQuery = true)
+    int upsert(@Param("recipeId") Long recipeId,
+               @Param("document") String document,
+               @Param("sourceUpdatedAt") LocalDateTime sourceUpdatedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM recipe_search_documents WHERE recipe_id = :recipeId", nativeQuery = true)
+    int deleteByRecipeId(@Param("recipeId") Long recipeId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM recipe_search_documents d USING recipes r " +
+            "WHERE r.id = d.recipe_id AND r.status = 'DELETED'",
+            nativeQuery = true)
+    int deleteForDeletedRecipes();
+
+    /** 文書がない、または元のレシピが文書を作った後に更新されたレシピのID（ID昇順） */
+    @Query(value = "SELECT r.id FROM recipes r LEFT JOIN recipe_search_documents d ON d.recipe_id = r.id " +
+            "WHERE r.status <> 'DELETED' AND r.id > :afterId " +
+            "AND (d.recipe_id IS NULL OR d.source_updated_at <> r.updated_at) " +
+            "ORDER BY r.id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findStaleRecipeIds(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    interface TextMatchRef {
+        Long getRecipeId();
+
+        Float getScore();
+    }
+}
@@ -0,0 +1,429 @@
+package com.recipe.manager.search;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 正規化済みベクトルの近似最近傍索引（HNSW）。距離は 1 - 内積（コサイン距離）で、結果のスコアは内積。
+ * 削除と同じキーの再登録は旧ノードを墓標にして扱い、墓標は探索経路としては使うが結果からは除く。
+ * 挿入は書き込みロック、検索は読み取りロックで行う。
+ */
+public class HnswIndex {
+
+    private static final int MAGIC = 0x484E5357;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 * 8 + 8;
+    private static final int[] NO_LINKS = new int[0];
+    private static final Comparator<Candidate> NEAREST_FIRST = Comparator.comparingDouble(Candidate::distance);
+
+    private final int dimensions;
+    private final int m;
+    private final int maxLinksLayer0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> nodeByKey = new HashMap<>();
+
+    private float[][] vectors = new float[16][];
+    private long[] keys = new long[16];
+    private int[][][] links = new int[16][][];
+    private boolean[] deleted = new boolean[16];
+    private int nodeCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswIndex(int dimensions, int m, int efConstruction) {
+        if (dimensions <= 0 || m < 2 || efConstruction < m) {
+            throw new IllegalArgumentException("Invalid HNSW parameters");
+        }
+        this.dimensions = dimensions;
+        this.m = m;
+        this.maxLinksLayer0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount - nodeByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> keys() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(nodeByKey.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(long key, float[] vector) {
+        float[] normalized = normalize(vector);
+        lock.writeLock().lock();
+        try {
+            Integer previous = nodeByKey.remove(key);
+            if (previous != null) {
+                deleted[previous] = true;
+            }
+            insert(key, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long key) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeByKey.remove(key);
+            if (node == null) {
+                return false;
+            }
+            deleted[node] = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 近い順に最大 k 件返す。ef は探索時の候補数で、大きいほど再現率が上がり遅くなる
+     */
+    public List<Neighbor> search(float[] query, int k, int ef) {
+        float[] normalized = normalize(query);
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+            List<Candidate> entries = List.of(new Candidate(entryPoint, distance(normalized, vectors[entryPoint])));
+            for (int level = maxLevel; level > 0; level--) {
+                entries = searchLayer(normalized, entries, 1, level);
+            }
+            List<Candidate> found = searchLayer(normalized, entries, Math.max(ef, k), 0);
+            List<Neighbor> results = new ArrayList<>(Math.min(k, found.size()));
+            for (Candidate candidate : found) {
+                if (deleted[candidate.node()]) {
+                    continue;
+                }
+                results.add(new Neighbor(keys[candidate.node()], 1 - candidate.distance()));
+                if (results.size() == k) {
+                    break;
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * メモリマップしたファイルへ書き出す。一時ファイルに書いてから置き換えるので、途中で落ちても前回分は残る
+     */
+    public void save(Path path, long savedAtEpochMillis) throws IOException {
+        lock.readLock().lock();
+        try {
+            long size = HEADER_BYTES;
+            for (int node = 0; node < nodeCount; node++) {
+                size += 8 + 1 + 4 + (long) dimensions * 4;
+                for (int[] levelLinks : links[node]) {
+                    size += 4 + (long) levelLinks.length * 4;
+                }
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("HNSW index too large to map: " + size + " bytes");
+            }
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(dimensions).putInt(m).putInt(efConstruction)
+                        .putInt(nodeCount).putInt(entryPoint).putInt(maxLevel).putLong(savedAtEpochMillis);
+                for (int node = 0; node < nodeCount; node++) {
+                    buffer.putLong(keys[node]).put((byte) (deleted[node] ? 1 : 0)).putInt(links[node].length);
+                    for (float value : vectors[node]) {
+                        buffer.putFloat(value);
+                    }
+                    for (int[] levelLinks : links[node]) {
+                        buffer.putInt(levelLinks.length);
+                        for (int neighbor : levelLinks) {
+                            buffer.putInt(neighbor);
+                        }
+                    }
+                }
+                buffer.force();
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static Snapshot load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not an HNSW index file: " + path);
+            }
+            HnswIndex index = new HnswIndex(buffer.getInt(), buffer.getInt(), buffer.getInt());
+            int count = buffer.getInt();
+            index.ensureCapacity(count);
+            index.nodeCount = count;
+            index.entryPoint = buffer.getInt();
+            index.maxLevel = buffer.getInt();
+            long savedAt = buffer.getLong();
+            for (int node = 0; node < count; node++) {
+                index.keys[node] = buffer.getLong();
+                index.deleted[node] = buffer.get() == 1;
+                int levels = buffer.getInt();
+                float[] vector = new float[index.dimensions];
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] = buffer.getFloat();
+                }
+                index.vectors[node] = vector;
+                index.links[node] = new int[levels][];
+                for (int level = 0; level < levels; level++) {
+                    int[] levelLinks = new int[buffer.getInt()];
+                    for (int i = 0; i < levelLinks.length; i++) {
+                        levelLinks[i] = buffer.getInt();
+                    }
+                    index.links[node][level] = levelLinks;
+                }
+                if (!index.deleted[node]) {
+                    index.nodeByKey.put(index.keys[node], node);
+                }
+            }
+            return new Snapshot(index, savedAt);
+        }
+    }
+
+    private void insert(long key, float[] vector) {
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        int node = nodeCount;
+        ensureCapacity(node + 1);
+        nodeCount++;
+        keys[node] = key;
+        vectors[node] = vector;
+        deleted[node] = false;
+        links[node] = new int[level + 1][];
+        Arrays.fill(links[node], NO_LINKS);
+        nodeByKey.put(key, node);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+        List<Candidate> entries = List.of(new Candidate(entryPoint, distance(vector, vectors[entryPoint])));
+        for (int lc = maxLevel; lc > level; lc--) {
+            entries = searchLayer(vector, entries, 1, lc);
+        }
+        for (int lc = Math.min(level, maxLevel); lc >= 0; lc--) {
+            List<Candidate> found = searchLayer(vector, entries, efConstruction, lc);
+            List<Candidate> selected = selectNeighbors(found, m);
+            int[] nodeLinks = new int[selected.size()];
+            for (int i = 0; i < nodeLinks.length; i++) {
+                nodeLinks[i] = selected.get(i).node();
+            }
+            links[node][lc] = nodeLinks;
+            for (Candidate neighbor : selected) {
+                connect(neighbor.node(), node, lc);
+            }
+            entries = found;
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    private List<Candidate> searchLayer(float[] query, List<Candidate> entries, int ef, int level) {
+        BitSet visited = new BitSet(nodeCount);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(NEAREST_FIRST);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(NEAREST_FIRST.reversed());
+        for (Candidate entry : entries) {
+            visited.set(entry.node());
+            candidates.add(entry);
+            results.add(entry);
+        }
+        while (results.size() > ef) {
+            results.poll();
+        }
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if (results.size() >= ef && current.distance() > results.peek().distance()) {
+                break;
+            }
+            for (int neighbor : linksAt(current.node(), level)) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double distance = distance(query, vectors[neighbor]);
+                if (results.size() < ef || distance < results.peek().distance()) {
+                    Candidate candidate = new Candidate(neighbor, distance);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(NEAREST_FIRST);
+        return sorted;
+    }
+
+    /**
+     * 近い順に見て、既に選んだ近傍より自分に近い候補だけを残す（HNSW論文のヒューリスティック）。
+     * 枠が余れば捨てた候補で埋め、疎な領域でも次数を確保する。
+     */
+    private List<Candidate> selectNeighbors(List<Candidate> sortedCandidates, int limit) {
+        List<Candidate> selected = new ArrayList<>(limit);
+        List<Candidate> skipped = new ArrayList<>();
+        for (Candidate candidate : sortedCandidates) {
+            if (selected.size() >= limit) {
+                break;
+            }
+            boolean diverse = true;
+            for (Candidate kept : selected) {
+                if (distance(vectors[candidate.node()], vectors[kept.node()]) < candidate.distance()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            (diverse ? selected : skipped).add(candidate);
+        }
+        for (int i = 0; i < skipped.size() && selected.size() < limit; i++) {
+            selected.add(skipped.get(i));
+        }
+        return selected;
+    }
+
+    private void connect(int target, int newNode, int level) {
+        int[] current = linksAt(target, level);
+        int limit = level == 0 ? maxLinksLayer0 : m;
+        if (current.length < limit) {
+            int[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = newNode;
+            links[target][level] = grown;
+            return;
+        }
+        List<Candidate> candidates = new ArrayList<>(current.length + 1);
+        for (int neighbor : current) {
+            candidates.add(new Candidate(neighbor, distance(vectors[target], vectors[neighbor])));
+        }
+        candidates.add(new Candidate(newNode, distance(vectors[target], vectors[newNode])));
+        candidates.sort(NEAREST_FIRST);
+        List<Candidate> selected = selectNeighbors(candidates, limit);
+        int[] pruned = new int[selected.size()];
+        for (int i = 0; i < pruned.length; i++) {
+            pruned[i] = selected.get(i).node();
+        }
+        links[target][level] = pruned;
+    }
+
+    private int[] linksAt(int node, int level) {
+        int[][] nodeLinks = links[node];
+        return level < nodeLinks.length ? nodeLinks[level] : NO_LINKS;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= keys.length) {
+            return;
+        }
+        int capacity = Math.max(required, keys.length * 2);
+        vectors = Arrays.copyOf(vectors, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        links = Arrays.copyOf(links, capacity);
+        deleted = Arrays.copyOf(deleted, capacity);
+    }
+
+    private float[] normalize(float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("Vector dimension mismatch: expected " + dimensions
+                    + " but was " + vector.length);
+        }
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        float[] normalized = new float[dimensions];
+        if (norm == 0) {
+            return normalized;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimensions; i++) {
+            normalized[i] = vector[i] * scale;
+        }
+        return normalized;
+    }
+
+    private static double distance(float[] a, float[] b) {
+        // 4本の部分和に分けて依存関係を切り、JITのベクトル化を効きやすくする
+        float s0 = 0;
+        float s1 = 0;
+        float s2 = 0;
+        float s3 = 0;
+        int i = 0;
+        for (int bound = a.length & ~3; i < bound; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < a.length; i++) {
+            s0 += a[i] * b[i];
+        }
+        return 1 - (double) (s0 + s1 + s2 + s3);
+    }
+
+    public record Neighbor(long key, double score) {
+    }
+
+    public record Snapshot(HnswIndex index, long savedAtEpochMillis) {
+    }
+
+    private record Candidate(int node, double distance) {
+    }
+}
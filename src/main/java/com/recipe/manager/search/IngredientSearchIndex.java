@@ -0,0 +1,235 @@
+package com.recipe.manager.search;
+
+import com.recipe.manager.entity.Ingredient;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 食材名のオートコンプリート用インメモリ索引。
+ * 正規化済みの食材名・読みをキーに、前方一致用のソート済みマップと
+ * 誤字許容用のbigram転置索引を保持する。
+ */
+@Component
+public class IngredientSearchIndex {
+
+    private static final double EXACT_MATCH_SCORE = 3.0;
+    private static final double PREFIX_MATCH_SCORE = 2.0;
+    private static final double CONTAINS_MATCH_SCORE = 1.5;
+    private static final double MIN_SIMILARITY = 0.3;
+    private static final int MAX_PREFIX_SCAN = 2000;
+
+    private static final Comparator<Map.Entry<Long, Double>> RANKING =
+            Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedIngredient> entries = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> keyIndex = new TreeMap<>();
+    private final Map<String, Set<String>> gramIndex = new HashMap<>();
+    private final Map<String, Integer> keyGramCounts = new HashMap<>();
+
+    public void rebuild(Collection<Ingredient> ingredients) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            keyIndex.clear();
+            gramIndex.clear();
+            keyGramCounts.clear();
+            for (Ingredient ingredient : ingredients) {
+                addInternal(ingredient);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Ingredient ingredient) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(ingredient.getId());
+            addInternal(ingredient);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long ingredientId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(ingredientId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<IngredientSuggestion> search(String query, int limit) {
+        String normalizedQuery = TextNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            collectPrefixMatches(normalizedQuery, scores);
+            collectSimilarMatches(normalizedQuery, scores);
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collectPrefixMatches(String query, Map<Long, Double> scores) {
+        NavigableMap<String, Set<Long>> range =
+                keyIndex.subMap(query, true, query + Character.MAX_VALUE, true);
+        int scanned = 0;
+        for (Map.Entry<String, Set<Long>> e : range.entrySet()) {
+            String key = e.getKey();
+            double score = key.equals(query)
+                    ? EXACT_MATCH_SCORE
+                    : PREFIX_MATCH_SCORE + (double) query.length() / key.length();
+            for (Long id : e.getValue()) {
+                scores.merge(id, score, Math::max);
+            }
+            if (++scanned >= MAX_PREFIX_SCAN) {
+                break;
+            }
+        }
+    }
+
+    private void collectSimilarMatches(String query, Map<Long, Double> scores) {
+        Set<String> queryGrams = TextNormalizer.bigrams(query);
+        Map<String, Integer> overlaps = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<String> keys = gramIndex.get(gram);
+            if (keys == null) {
+                continue;
+            }
+            for (String key : keys) {
+                overlaps.merge(key, 1, Integer::sum);
+            }
+        }
+
+        for (Map.Entry<String, Integer> e : overlaps.entrySet()) {
+            String key = e.getKey();
+            double score;
+            if (key.contains(query)) {
+                score = CONTAINS_MATCH_SCORE;
+            } else {
+                score = 2.0 * e.getValue() / (queryGrams.size() + keyGramCounts.get(key));
+                if (score < MIN_SIMILARITY) {
+                    continue;
+                }
+            }
+            for (Long id : keyIndex.get(key)) {
+                scores.merge(id, score, Math::max);
+            }
+        }
+    }
+
+    private List<IngredientSuggestion> topK(Map<Long, Double> scores, int limit) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(limit + 1, RANKING);
+        for (Map.Entry<Long, Double> e : scores.entrySet()) {
+            heap.offer(e);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(RANKING.reversed());
+
+        List<IngredientSuggestion> result = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, Double> e : ranked) {
+            IndexedIngredient entry = entries.get(e.getKey());
+            result.add(IngredientSuggestion.builder()
+                    .id(entry.id())
+                    .name(entry.name())
+                    .nameKana(entry.nameKana())
+                    .score(e.getValue())
+                    .build());
+        }
+        return result;
+    }
+
+    private void addInternal(Ingredient ingredient) {
+        Set<String> keys = new HashSet<>();
+        addKey(keys, ingredient.getName());
+        addKey(keys, ingredient.getNameKana());
+
+        IndexedIngredient entry = new IndexedIngredient(
+                ingredient.getId(), ingredient.getName(), ingredient.getNameKana(), keys);
+        entries.put(entry.id(), entry);
+
+        for (String key : keys) {
+            Set<Long> ids = keyIndex.computeIfAbsent(key, k -> new HashSet<>());
+            if (ids.isEmpty()) {
+                Set<String> grams = TextNormalizer.bigrams(key);
+                keyGramCounts.put(key, grams.size());
+                for (String gram : grams) {
+                    gramIndex.computeIfAbsent(gram, g -> new HashSet<>()).add(key);
+                }
+            }
+            ids.add(entry.id());
+        }
+    }
+
+    private void removeInternal(Long ingredientId) {
+        IndexedIngredient entry = entries.remove(ingredientId);
+        if (entry == null) {
+            return;
+        }
+        for (String key : entry.keys()) {
+            Set<Long> ids = keyIndex.get(key);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(ingredientId);
+            if (ids.isEmpty()) {
+                keyIndex.remove(key);
+                keyGramCounts.remove(key);
+                for (String gram : TextNormalizer.bigrams(key)) {
+                    Set<String> gramKeys = gramIndex.get(gram);
+                    if (gramKeys != null) {
+                        gramKeys.remove(key);
+                        if (gramKeys.isEmpty()) {
+                            gramIndex.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addKey(Set<String> keys, String text) {
+        String normalized = TextNormalizer.normalize(text);
+        if (!normalized.isEmpty()) {
+            keys.add(normalized);
+        }
+    }
+
+    private record IndexedIngredient(Long id, String name, String nameKana, Set<String> keys) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.recipe.manager.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class IngredientSuggestion {
+
+    private final Long id;
+    private final String name;
+    private final String nameKana;
+    private final double score;
+}
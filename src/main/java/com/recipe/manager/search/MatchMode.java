@@ -0,0 +1,6 @@
+package com.recipe.manager.search;
+
+public enum MatchMode {
+    ANY,
+    ALL
+}
@@ -0,0 +1,203 @@
+package com.recipe.manager.search;
+
+import com.recipe.manager.config.SearchProperties;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.repository.RecipeIngredientRepository;
+import com.recipe.manager.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * レシピIDをビット位置とするインメモリのビットマップ索引。
+ * 食材・ステータスごとのビットマップをAND/ORして複数条件の絞り込みを行う。
+ * レシピIDはBIGSERIALで密に採番されるため、圧縮ビットマップではなくBitSetで十分な密度が得られる。
+ * 構築前の更新は捨てる。構築中に変更されたレシピは、構築後に RecipeService が更新日時から読み直す。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeBitmapIndex {
+
+    private final SearchProperties searchProperties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, BitSet> recipesByIngredient = new HashMap<>();
+    private final Map<Long, List<Long>> ingredientsByRecipe = new HashMap<>();
+    private final Map<RecipeStatus, BitSet> recipesByStatus = new EnumMap<>(RecipeStatus.class);
+    private volatile boolean ready;
+
+    public boolean isEnabled() {
+        return searchProperties.isRecipeBitmapIndexEnabled();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild(List<RecipeRepository.StatusRef> recipes,
+                        List<RecipeIngredientRepository.IngredientRef> ingredientRefs) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (RecipeRepository.StatusRef recipe : recipes) {
+                if (!fitsInBitmap(recipe.getId())) {
+                    clear();
+                    return;
+                }
+                recipesByStatus.computeIfAbsent(recipe.getStatus(), s -> new BitSet())
+                        .set(recipe.getId().intValue());
+            }
+            for (RecipeIngredientRepository.IngredientRef ref : ingredientRefs) {
+                addIngredient(ref.getRecipeId(), ref.getIngredientId());
+            }
+            ready = true;
+            log.info("Recipe bitmap index built: recipes={}, ingredients={}",
+                    recipes.size(), recipesByIngredient.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putRecipe(Long recipeId, RecipeStatus status, Collection<Long> ingredientIds) {
+        if (!ready) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!fitsInBitmap(recipeId)) {
+                clear();
+                return;
+            }
+            removeInternal(recipeId);
+            recipesByStatus.computeIfAbsent(status, s -> new BitSet()).set(recipeId.intValue());
+            for (Long ingredientId : ingredientIds) {
+                addIngredient(recipeId, ingredientId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateStatus(Long recipeId, RecipeStatus status) {
+        if (!ready) {
+            return;
+        }
+        if (status == RecipeStatus.DELETED) {
+            removeRecipe(recipeId);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int bit = recipeId.intValue();
+            recipesByStatus.values().forEach(bits -> bits.clear(bit));
+            recipesByStatus.computeIfAbsent(status, s -> new BitSet()).set(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeRecipe(Long recipeId) {
+        if (!ready) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(recipeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public BitSet match(Collection<Long> ingredientIds, MatchMode matchMode, Collection<RecipeStatus> statuses) {
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            for (Long ingredientId : ingredientIds) {
+                BitSet bits = recipesByIngredient.getOrDefault(ingredientId, new BitSet());
+                if (result == null) {
+                    result = (BitSet) bits.clone();
+                } else if (matchMode == MatchMode.ALL) {
+                    result.and(bits);
+                } else {
+                    result.or(bits);
+                }
+            }
+            if (result == null) {
+                return new BitSet();
+            }
+
+            BitSet statusBits = new BitSet();
+            for (RecipeStatus status : statuses) {
+                BitSet bits = recipesByStatus.get(status);
+                if (bits != null) {
+                    statusBits.or(bits);
+                }
+            }
+            result.and(statusBits);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static List<Long> idsDescending(BitSet bits, long offset, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        long skipped = 0;
+        for (int i = bits.length() - 1; i >= 0 && ids.size() < limit; i = bits.previousSetBit(i - 1)) {
+            if (skipped++ < offset) {
+                continue;
+            }
+            ids.add((long) i);
+        }
+        return ids;
+    }
+
+    private void addIngredient(Long recipeId, Long ingredientId) {
+        recipesByIngredient.computeIfAbsent(ingredientId, id -> new BitSet()).set(recipeId.intValue());
+        ingredientsByRecipe.computeIfAbsent(recipeId, id -> new ArrayList<>()).add(ingredientId);
+    }
+
+    private void removeInternal(Long recipeId) {
+        int bit = recipeId.intValue();
+        recipesByStatus.values().forEach(bits -> bits.clear(bit));
+        List<Long> ingredientIds = ingredientsByRecipe.remove(recipeId);
+        if (ingredientIds == null) {
+            return;
+        }
+        for (Long ingredientId : ingredientIds) {
+            BitSet bits = recipesByIngredient.get(ingredientId);
+            if (bits != null) {
+                bits.clear(bit);
+                if (bits.isEmpty()) {
+                    recipesByIngredient.remove(ingredientId);
+                }
+            }
+        }
+    }
+
+    private boolean fitsInBitmap(Long recipeId) {
+        if (recipeId <= Integer.MAX_VALUE - 1) {
+            return true;
+        }
+        log.warn("Recipe id {} exceeds bitmap range; falling back to SQL lookups", recipeId);
+        return false;
+    }
+
+    private void clear() {
+        ready = false;
+        recipesByIngredient.clear();
+        ingredientsByRecipe.clear();
+        recipesByStatus.clear();
+    }
+}
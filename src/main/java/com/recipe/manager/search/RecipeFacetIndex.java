@@ -0,0 +1,413 @@
+package com.recipe.manager.search;
+
+import com.recipe.manager.config.SearchProperties;
+import com.recipe.manager.entity.RecipeStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * レシピ検索のファセット集計用インメモリ索引。削除済みを除くレシピごとに、レシピIDをビット位置として
+ * ステータス・カテゴリ・作成者・食材のビットマップと、属性の列（配列）を持つ。
+ * 絞り込みはビットマップのAND/OR、ファセット件数は候補ビットを1回なめて属性の列から数える。
+ * キーワード条件は扱わないため、キーワード付きの検索はDBで行う。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeFacetIndex {
+
+    private static final long[] NO_INGREDIENTS = new long[0];
+
+    private final SearchProperties searchProperties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BitSet live = new BitSet();
+    private final Map<RecipeStatus, BitSet> byStatus = new EnumMap<>(RecipeStatus.class);
+    private final Map<String, BitSet> byCategory = new HashMap<>();
+    private final Map<Long, BitSet> byCreator = new HashMap<>();
+    private final Map<Long, BitSet> byIngredient = new HashMap<>();
+    private RecipeStatus[] statusOf = new RecipeStatus[0];
+    private String[] categoryOf = new String[0];
+    private long[] creatorOf = new long[0];
+    private long[] createdAtOf = new long[0];
+    private long[] updatedAtOf = new long[0];
+    private long[][] ingredientsOf = new long[0][];
+    private volatile boolean ready;
+
+    public boolean isEnabled() {
+        return searchProperties.isRecipeFacetIndexEnabled();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild(List<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (Entry entry : entries) {
+                if (!fitsInBitmap(entry.recipeId())) {
+                    clear();
+                    return;
+                }
+                putInternal(entry);
+            }
+            ready = true;
+            log.info("Recipe facet index built: recipes={}, categories={}, creators={}, ingredients={}",
+                    live.cardinality(), byCategory.size(), byCreator.size(), byIngredient.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Entry entry) {
+        if (!ready) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!fitsInBitmap(entry.recipeId())) {
+                clear();
+                return;
+            }
+            removeInternal(entry.recipeId().intValue());
+            if (entry.status() != RecipeStatus.DELETED) {
+                putInternal(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long recipeId) {
+        if (!ready || !fitsInBitmap(recipeId)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(recipeId.intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 条件に合うレシピを更新日時の降順（同じ秒ならID降順）で offset から limit 件と、各軸のファセット件数を返す。
+     * カテゴリ・ステータス・作成者の件数はその軸の条件だけを外して数え、食材の件数は絞り込み結果の中で数える。
+     */
+    public Result search(RecipeSearchCriteria criteria, long offset, int limit, int ingredientFacetLimit) {
+        if (criteria.getKeyword() != null) {
+            throw new IllegalArgumentException("Keyword search is not supported by the facet index");
+        }
+        lock.readLock().lock();
+        try {
+            BitSet statuses = criteria.getStatuses().isEmpty() ? null : union(byStatus, criteria.getStatuses());
+            BitSet categories = criteria.getCategories().isEmpty() ? null : union(byCategory, criteria.getCategories());
+            BitSet creators = criteria.getCreatorIds().isEmpty() ? null : union(byCreator, criteria.getCreatorIds());
+            BitSet ingredients = ingredientBits(criteria);
+            BitSet dates = criteria.hasDateRange() ? dateBits(criteria) : null;
+
+            BitSet matched = intersect(statuses, categories, creators, ingredients, dates);
+            List<Long> pageIds = topByUpdatedAt(matched, offset, limit);
+
+            Map<RecipeStatus, Long> statusCounts = new EnumMap<>(RecipeStatus.class);
+            BitSet statusBase = intersect(null, categories, creators, ingredients, dates);
+            for (int bit = statusBase.nextSetBit(0); bit >= 0; bit = statusBase.nextSetBit(bit + 1)) {
+                statusCounts.merge(statusOf[bit], 1L, Long::sum);
+            }
+            Map<String, Long> categoryCounts = countCategories(intersect(statuses, null, creators, ingredients, dates));
+            Map<Long, Long> creatorCounts = countCreators(intersect(statuses, categories, null, ingredients, dates));
+            Map<Long, Long> ingredientCounts = countIngredients(matched, ingredientFacetLimit);
+
+            return new Result(pageIds, matched.cardinality(), sortByCount(categoryCounts, 0),
+                    sortByCount(statusCounts, 0), sortByCount(creatorCounts, 0), ingredientCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet intersect(BitSet... filters) {
+        BitSet result = (BitSet) live.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static <K> BitSet union(Map<K, BitSet> bitmaps, Collection<K> keys) {
+        BitSet result = new BitSet();
+        for (K key : keys) {
+            BitSet bits = bitmaps.get(key);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    private BitSet ingredientBits(RecipeSearchCriteria criteria) {
+        if (criteria.getIngredientIds().isEmpty()) {
+            return null;
+        }
+        if (criteria.getIngredientMatch() == MatchMode.ANY) {
+            return union(byIngredient, criteria.getIngredientIds());
+        }
+        BitSet result = null;
+        for (Long ingredientId : criteria.getIngredientIds()) {
+            BitSet bits = byIngredient.get(ingredientId);
+            if (bits == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) bits.clone();
+            } else {
+                result.and(bits);
+            }
+        }
+        return result;
+    }
+
+    private BitSet dateBits(RecipeSearchCriteria criteria) {
+        long createdFrom = lowerBound(criteria.getCreatedFrom());
+        long createdTo = upperBound(criteria.getCreatedTo());
+        long updatedFrom = lowerBound(criteria.getUpdatedFrom());
+        long updatedTo = upperBound(criteria.getUpdatedTo());
+        BitSet result = new BitSet();
+        for (int bit = live.nextSetBit(0); bit >= 0; bit = live.nextSetBit(bit + 1)) {
+            if (createdAtOf[bit] >= createdFrom && createdAtOf[bit] < createdTo
+                    && updatedAtOf[bit] >= updatedFrom && updatedAtOf[bit] < updatedTo) {
+                result.set(bit);
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Long> countCategories(BitSet base) {
+        Map<String, Long> counts = new HashMap<>();
+        for (int bit = base.nextSetBit(0); bit >= 0; bit = base.nextSetBit(bit + 1)) {
+            if (categoryOf[bit] != null) {
+                counts.merge(categoryOf[bit], 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private Map<Long, Long> countCreators(BitSet base) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (int bit = base.nextSetBit(0); bit >= 0; bit = base.nextSetBit(bit + 1)) {
+            counts.merge(creatorOf[bit], 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    private Map<Long, Long> countIngredients(BitSet matched, int limit) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (int bit = matched.nextSetBit(0); bit >= 0; bit = matched.nextSetBit(bit + 1)) {
+            for (long ingredientId : ingredientsOf[bit]) {
+                counts.merge(ingredientId, 1L, Long::sum);
+            }
+        }
+        return sortByCount(counts, limit);
+    }
+
+    private static <K> Map<K, Long> sortByCount(Map<K, Long> counts, int limit) {
+        Map<K, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<K, Long>comparingByValue().reversed())
+                .limit(limit > 0 ? limit : Long.MAX_VALUE)
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    /**
+     * 更新日時（秒）を上位、ビット位置を下位に詰めたキーで上位 offset + limit 件だけを最小ヒープに残す
+     */
+    private List<Long> topByUpdatedAt(BitSet matched, long offset, int limit) {
+        long wanted = Math.min(offset + limit, matched.cardinality());
+        if (wanted <= offset) {
+            return List.of();
+        }
+        long[] heap = new long[(int) wanted];
+        int size = 0;
+        for (int bit = matched.nextSetBit(0); bit >= 0; bit = matched.nextSetBit(bit + 1)) {
+            long key = (Math.max(0, updatedAtOf[bit]) << Integer.SIZE - 1) | bit;
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(heap, size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, size);
+            }
+        }
+        Arrays.sort(heap, 0, size);
+        List<Long> ids = new ArrayList<>(limit);
+        for (long i = size - 1 - offset; i >= 0 && ids.size() < limit; i--) {
+            ids.add(heap[(int) i] & Integer.MAX_VALUE);
+        }
+        return ids;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap[parent] <= heap[index]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && heap[left] < heap[smallest]) {
+                smallest = left;
+            }
+            if (right < size && heap[right] < heap[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, smallest, index);
+            index = smallest;
+        }
+    }
+
+    private static void swap(long[] heap, int i, int j) {
+        long tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    private void putInternal(Entry entry) {
+        int bit = entry.recipeId().intValue();
+        ensureCapacity(bit);
+        live.set(bit);
+        statusOf[bit] = entry.status();
+        byStatus.computeIfAbsent(entry.status(), s -> new BitSet()).set(bit);
+        categoryOf[bit] = entry.category();
+        if (entry.category() != null) {
+            byCategory.computeIfAbsent(entry.category(), c -> new BitSet()).set(bit);
+        }
+        creatorOf[bit] = entry.creatorId();
+        byCreator.computeIfAbsent(entry.creatorId(), c -> new BitSet()).set(bit);
+        createdAtOf[bit] = toEpochSecond(entry.createdAt());
+        updatedAtOf[bit] = toEpochSecond(entry.updatedAt());
+        long[] ingredients = entry.ingredientIds().stream().mapToLong(Long::longValue).distinct().toArray();
+        ingredientsOf[bit] = ingredients;
+        for (long ingredientId : ingredients) {
+            byIngredient.computeIfAbsent(ingredientId, i -> new BitSet()).set(bit);
+        }
+    }
+
+    private void removeInternal(int bit) {
+        if (!live.get(bit)) {
+            return;
+        }
+        live.clear(bit);
+        clearBit(byStatus, statusOf[bit], bit);
+        clearBit(byCategory, categoryOf[bit], bit);
+        clearBit(byCreator, creatorOf[bit], bit);
+        for (long ingredientId : ingredientsOf[bit]) {
+            clearBit(byIngredient, ingredientId, bit);
+        }
+        statusOf[bit] = null;
+        categoryOf[bit] = null;
+        ingredientsOf[bit] = NO_INGREDIENTS;
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> bitmaps, K key, int bit) {
+        if (key == null) {
+            return;
+        }
+        BitSet bits = bitmaps.get(key);
+        if (bits != null) {
+            bits.clear(bit);
+            if (bits.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private void ensureCapacity(int bit) {
+        if (bit < statusOf.length) {
+            return;
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(bit + 1L, statusOf.length * 3L / 2 + 16));
+        int previous = statusOf.length;
+        statusOf = Arrays.copyOf(statusOf, capacity);
+        categoryOf = Arrays.copyOf(categoryOf, capacity);
+        creatorOf = Arrays.copyOf(creatorOf, capacity);
+        createdAtOf = Arrays.copyOf(createdAtOf, capacity);
+        updatedAtOf = Arrays.copyOf(updatedAtOf, capacity);
+        ingredientsOf = Arrays.copyOf(ingredientsOf, capacity);
+        Arrays.fill(ingredientsOf, previous, capacity, NO_INGREDIENTS);
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : 0;
+    }
+
+    private static long lowerBound(LocalDate from) {
+        return from != null ? toEpochSecond(from.atStartOfDay()) : Long.MIN_VALUE;
+    }
+
+    private static long upperBound(LocalDate to) {
+        return to != null ? toEpochSecond(to.plusDays(1).atStartOfDay()) : Long.MAX_VALUE;
+    }
+
+    private boolean fitsInBitmap(Long recipeId) {
+        if (recipeId <= Integer.MAX_VALUE - 1) {
+            return true;
+        }
+        log.warn("Recipe id {} exceeds facet index range; falling back to SQL search", recipeId);
+        return false;
+    }
+
+    private void clear() {
+        ready = false;
+        live.clear();
+        byStatus.clear();
+        byCategory.clear();
+        byCreator.clear();
+        byIngredient.clear();
+        statusOf = new RecipeStatus[0];
+        categoryOf = new String[0];
+        creatorOf = new long[0];
+        createdAtOf = new long[0];
+        updatedAtOf = new long[0];
+        ingredientsOf = new long[0][];
+    }
+
+    public record Entry(Long recipeId, RecipeStatus status, String category, Long creatorId,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, List<Long> ingredientIds) {
+    }
+
+    public record Result(List<Long> recipeIds, long total, Map<String, Long> categories,
+                         Map<RecipeStatus, Long> statuses, Map<Long, Long> creators, Map<Long, Long> ingredients) {
+    }
+}
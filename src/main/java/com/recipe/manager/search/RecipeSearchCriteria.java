@@ -0,0 +1,58 @@
+package com.recipe.manager.search;
+
+import com.recipe.manager.entity.RecipeStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * レシピ検索の条件。同じ種類の条件は OR、種類どうしは AND で組み合わせる（食材だけは ingredientMatch で選べる）。
+ * 未指定の条件は空集合・null になる。
+ */
+@Getter
+public class RecipeSearchCriteria {
+
+    private final String keyword;
+    private final Set<String> categories;
+    private final Set<RecipeStatus> statuses;
+    private final Set<Long> ingredientIds;
+    private final MatchMode ingredientMatch;
+    private final Set<Long> creatorIds;
+    private final LocalDate createdFrom;
+    private final LocalDate createdTo;
+    private final LocalDate updatedFrom;
+    private final LocalDate updatedTo;
+
+    @Builder
+    private RecipeSearchCriteria(String keyword, Collection<String> categories, Collection<RecipeStatus> statuses,
+                                 Collection<Long> ingredientIds, MatchMode ingredientMatch,
+                                 Collection<Long> creatorIds, LocalDate createdFrom, LocalDate createdTo,
+                                 LocalDate updatedFrom, LocalDate updatedTo) {
+        this.keyword = keyword == null || keyword.isBlank() ? null : keyword.strip();
+        this.categories = categories != null ? Set.copyOf(categories) : Set.of();
+        this.statuses = statuses != null ? Set.copyOf(statuses) : Set.of();
+        this.ingredientIds = ingredientIds != null ? Set.copyOf(ingredientIds) : Set.of();
+        this.ingredientMatch = ingredientMatch != null ? ingredientMatch : MatchMode.ALL;
+        this.creatorIds = creatorIds != null ? Set.copyOf(creatorIds) : Set.of();
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+        this.updatedFrom = updatedFrom;
+        this.updatedTo = updatedTo;
+    }
+
+    public boolean hasDateRange() {
+        return createdFrom != null || createdTo != null || updatedFrom != null || updatedTo != null;
+    }
+
+    /**
+     * 複数選択で絞り込むファセットの軸。ある軸の件数は、その軸自身の条件だけを外して数える
+     */
+    public enum Facet {
+        CATEGORY,
+        STATUS,
+        CREATOR
+    }
+}
@@ -0,0 +1,97 @@
+package com.recipe.manager.search;
+
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeIngredient;
+import com.recipe.manager.entity.RecipeStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecipeSpecifications {
+
+    public static final List<RecipeStatus> ACTIVE_STATUSES = Arrays.stream(RecipeStatus.values())
+            .filter(status -> status != RecipeStatus.DELETED)
+            .toList();
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    public static Specification<Recipe> matching(RecipeSearchCriteria criteria) {
+        return matching(criteria, null);
+    }
+
+    /**
+     * 検索条件を述語にする。excluded の軸の条件はファセット集計のために外す。
+     * ステータス未指定でも削除済みは含めず、索引の先頭列で引けるよう IN で列挙する
+     */
+    public static Specification<Recipe> matching(RecipeSearchCriteria criteria, RecipeSearchCriteria.Facet excluded) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            boolean statusFiltered = excluded != RecipeSearchCriteria.Facet.STATUS && !criteria.getStatuses().isEmpty();
+            predicates.add(root.get("status").in(statusFiltered ? criteria.getStatuses() : ACTIVE_STATUSES));
+
+            if (excluded != RecipeSearchCriteria.Facet.CATEGORY && !criteria.getCategories().isEmpty()) {
+                predicates.add(root.get("category").in(criteria.getCategories()));
+            }
+            if (excluded != RecipeSearchCriteria.Facet.CREATOR && !criteria.getCreatorIds().isEmpty()) {
+                predicates.add(root.get("createdBy").get("id").in(criteria.getCreatorIds()));
+            }
+            if (!criteria.getIngredientIds().isEmpty()) {
+                Subquery<Long> recipeIds = query.subquery(Long.class);
+                Root<RecipeIngredient> ri = recipeIds.from(RecipeIngredient.class);
+                Path<Long> recipeId = ri.get("recipe").get("id");
+                recipeIds.select(recipeId).where(ri.get("ingredient").get("id").in(criteria.getIngredientIds()));
+                if (criteria.getIngredientMatch() == MatchMode.ALL) {
+                    recipeIds.groupBy(recipeId).having(cb.equal(
+                            cb.countDistinct(ri.get("ingredient").get("id")), (long) criteria.getIngredientIds().size()));
+                }
+                predicates.add(root.get("id").in(recipeIds));
+            }
+            addDateRange(predicates, cb, root.get("createdAt"), criteria.getCreatedFrom(), criteria.getCreatedTo());
+            addDateRange(predicates, cb, root.get("updatedAt"), criteria.getUpdatedFrom(), criteria.getUpdatedTo());
+
+            if (criteria.getKeyword() != null) {
+                String pattern = "%" + escapeLike(criteria.getKeyword().toLowerCase(Locale.ROOT)) + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                        cb.like(cb.lower(root.get("description")), pattern, LIKE_ESCAPE),
+                        cb.like(cb.lower(root.get("concept")), pattern, LIKE_ESCAPE)));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static void addDateRange(List<Predicate> predicates, CriteriaBuilder cb, Path<LocalDateTime> column,
+                                     LocalDate from, LocalDate to) {
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(column, from.atStartOfDay()));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(column, to.plusDays(1).atStartOfDay()));
+        }
+    }
+
+    static String escapeLike(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                sb.append(LIKE_ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,141 @@
+package com.recipe.manager.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * レシピ全文検索用に、本文を PostgreSQL の tsvector / tsquery のリテラルへ変換する。
+ * 日本語は単語の区切りがないため、TextNormalizer と同じ正規化をした上で文字の連続を bigram に分け、
+ * 英数字の連続は1語として扱う。位置を付けるので、検索語の bigram は隣接（&lt;-&gt;）で照合できる。
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecipeTextAnalyzer {
+
+    /** tsvector の位置の上限。これより後ろの本文は索引しない */
+    private static final int MAX_POSITION = 16383;
+    /** 1つの語に記録できる位置の上限 */
+    private static final int MAX_POSITIONS_PER_TERM = 256;
+    private static final int MAX_TERM_LENGTH = 100;
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}\\p{M}]+");
+
+    /**
+     * 重み A〜D の順にフィールドを受け取り、tsvector のリテラルを返す。
+     * フィールドの境目は位置を1つ空けるので、フィールドをまたいだ語句には一致しない
+     */
+    public static String document(String... fieldsByWeight) {
+        Map<String, StringJoiner> positions = new LinkedHashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        int position = 0;
+        for (int field = 0; field < fieldsByWeight.length && field < 4; field++) {
+            char weight = (char) ('A' + field);
+            for (List<String> phrase : phrases(fieldsByWeight[field])) {
+                for (String term : phrase) {
+                    if (++position > MAX_POSITION) {
+                        return toLiteral(positions);
+                    }
+                    if (counts.merge(term, 1, Integer::sum) <= MAX_POSITIONS_PER_TERM) {
+                        positions.computeIfAbsent(term, t -> new StringJoiner(","))
+                                .add(Integer.toString(position) + weight);
+                    }
+                }
+            }
+            position++;
+        }
+        return toLiteral(positions);
+    }
+
+    /**
+     * 検索語を tsquery のリテラルにする。空白で区切った語はすべて含む（AND）、語の中の bigram は隣接で照合する。
+     * 1文字だけの語は、その文字で始まる bigram への前方一致にする。語がなければ null
+     */
+    public static String query(String keyword) {
+        StringJoiner and = new StringJoiner(" & ");
+        for (List<String> phrase : phrases(keyword)) {
+            StringJoiner next = new StringJoiner(" <-> ", "(", ")");
+            for (String term : phrase) {
+                next.add(term.length() == 1 && !isWordChar(term.charAt(0)) ? quote(term) + ":*" : quote(term));
+            }
+            and.add(next.toString());
+        }
+        return and.length() > 0 ? and.toString() : null;
+    }
+
+    /**
+     * 空白・記号で区切った語ごとの正規化済み文字列。ハイライトで本文中の一致箇所を探すのに使う
+     */
+    public static List<String> normalizedWords(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String piece : WORD_SEPARATOR.split(text)) {
+            String word = TextNormalizer.normalize(piece);
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 語ごとに、索引する語の並びを返す。英数字の連続は1語、それ以外の文字の連続は bigram（1文字ならその文字）
+     */
+    static List<List<String>> phrases(String text) {
+        List<List<String>> phrases = new ArrayList<>();
+        for (String word : normalizedWords(text)) {
+            List<String> terms = new ArrayList<>();
+            int start = 0;
+            while (start < word.length()) {
+                boolean latin = isWordChar(word.charAt(start));
+                int end = start;
+                while (end < word.length() && isWordChar(word.charAt(end)) == latin) {
+                    end++;
+                }
+                String run = word.substring(start, end);
+                if (latin) {
+                    terms.add(run.length() > MAX_TERM_LENGTH ? run.substring(0, MAX_TERM_LENGTH) : run);
+                } else {
+                    addBigrams(terms, run);
+                }
+                start = end;
+            }
+            phrases.add(terms);
+        }
+        return phrases;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * 同じ bigram が繰り返し現れても位置ごとに残すため、TextNormalizer.bigrams（重複除去あり）は使わない
+     */
+    private static void addBigrams(List<String> terms, String run) {
+        if (run.length() == 1) {
+            terms.add(run);
+            return;
+        }
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            terms.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static String toLiteral(Map<String, StringJoiner> positions) {
+        StringJoiner literal = new StringJoiner(" ");
+        positions.forEach((term, at) -> literal.add(quote(term) + ":" + at));
+        return literal.toString();
+    }
+
+    private static String quote(String term) {
+        return "'" + term.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+}
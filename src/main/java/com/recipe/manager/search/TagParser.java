@@ -0,0 +1,33 @@
+package com.recipe.manager.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TagParser {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[,、，]");
+
+    /**
+     * カンマ区切りのタグ文字列を、正規化キー → 表示名（最初に現れた表記）の順序付きマップにする。
+     * 正規化キーが同じタグは1つにまとめ、空のタグは捨てる。
+     */
+    public static Map<String, String> parse(String tags) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        if (tags == null || tags.isBlank()) {
+            return parsed;
+        }
+        for (String token : SEPARATOR.split(tags)) {
+            String name = token.strip();
+            String normalized = TextNormalizer.normalize(name);
+            if (!normalized.isEmpty()) {
+                parsed.putIfAbsent(normalized, name);
+            }
+        }
+        return parsed;
+    }
+}
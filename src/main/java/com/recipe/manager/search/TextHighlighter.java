@@ -0,0 +1,171 @@
+package com.recipe.manager.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 検索語に一致した箇所を &lt;mark&gt; で囲む。照合は TextNormalizer で正規化した文字列どうしで行い、
+ * 囲むのは元の文字列の対応する範囲。それ以外の部分は HTML エスケープする。
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextHighlighter {
+
+    private static final String MARK_START = "<mark>";
+    private static final String MARK_END = "</mark>";
+    private static final String ELLIPSIS = "…";
+    /** RecipeTextAnalyzer が語の区切りとしない文字の並び */
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}\\p{M}]+");
+    private static final int HALFWIDTH_VOICED_MARK = 0xFF9E;
+    private static final int HALFWIDTH_SEMI_VOICED_MARK = 0xFF9F;
+
+    /**
+     * 全文をハイライトして返す。一致がなければ null
+     */
+    public static String highlight(String text, Collection<String> normalizedWords) {
+        return fragment(text, normalizedWords, 0);
+    }
+
+    /**
+     * 最初の一致箇所の前後を最大 maxLength 文字切り出してハイライトする。maxLength が 0 以下なら全文。一致がなければ null
+     */
+    public static String fragment(String text, Collection<String> normalizedWords, int maxLength) {
+        if (text == null || text.isEmpty() || normalizedWords.isEmpty()) {
+            return null;
+        }
+        List<int[]> ranges = matchRanges(text, normalizedWords);
+        if (ranges.isEmpty()) {
+            return null;
+        }
+        int from = 0;
+        int to = text.length();
+        if (maxLength > 0 && text.length() > maxLength) {
+            from = Math.max(0, ranges.get(0)[0] - maxLength / 4);
+            to = Math.min(text.length(), from + maxLength);
+            from = Math.max(0, to - maxLength);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if (from > 0) {
+            sb.append(ELLIPSIS);
+        }
+        int cursor = from;
+        for (int[] range : ranges) {
+            int start = Math.max(range[0], from);
+            int end = Math.min(range[1], to);
+            if (start >= end) {
+                continue;
+            }
+            appendEscaped(sb, text, cursor, start);
+            sb.append(MARK_START);
+            appendEscaped(sb, text, start, end);
+            sb.append(MARK_END);
+            cursor = end;
+        }
+        appendEscaped(sb, text, cursor, to);
+        if (to < text.length()) {
+            sb.append(ELLIPSIS);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 一致した範囲（元の文字列上の [start, end)）を開始位置の順に、重なりをまとめて返す。
+     * 照合は RecipeTextAnalyzer と同じく文字・数字の並び（語）の中だけで行い、語をまたいでは一致させない
+     */
+    static List<int[]> matchRanges(String text, Collection<String> normalizedWords) {
+        boolean[] marked = new boolean[text.length()];
+        Matcher piece = WORD.matcher(text);
+        while (piece.find()) {
+            markPiece(text, piece.start(), piece.end(), normalizedWords, marked);
+        }
+
+        List<int[]> ranges = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            if (marked[i]) {
+                int start = i;
+                while (i < text.length() && marked[i]) {
+                    i++;
+                }
+                ranges.add(new int[]{start, i});
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * 語全体を正規化して照合し、正規化後の各文字を元の範囲に対応づけて印を付ける
+     */
+    private static void markPiece(String text, int from, int to, Collection<String> normalizedWords,
+                                  boolean[] marked) {
+        String normalized = TextNormalizer.normalize(text.substring(from, to));
+        int[] starts = new int[normalized.length()];
+        int[] ends = new int[normalized.length()];
+        if (!mapSegments(text, from, to, normalized, starts, ends)) {
+            Arrays.fill(starts, from);
+            Arrays.fill(ends, to);
+        }
+        for (String word : normalizedWords) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            for (int at = normalized.indexOf(word); at >= 0; at = normalized.indexOf(word, at + 1)) {
+                for (int i = starts[at]; i < ends[at + word.length() - 1]; i++) {
+                    marked[i] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * 基底文字と後続の結合文字（半角の濁点・半濁点を含む）を1セグメントとして正規化し、語全体の正規化結果の
+     * 各文字がどのセグメントから来たかを埋める。セグメントごとの結果が語全体の結果と食い違えば false
+     */
+    private static boolean mapSegments(String text, int from, int to, String normalized, int[] starts, int[] ends) {
+        int out = 0;
+        for (int i = from; i < to; ) {
+            int end = i + Character.charCount(text.codePointAt(i));
+            while (end < to && isCombining(text.codePointAt(end))) {
+                end += Character.charCount(text.codePointAt(end));
+            }
+            String part = TextNormalizer.normalize(text.substring(i, end));
+            if (!normalized.startsWith(part, out)) {
+                return false;
+            }
+            for (int k = 0; k < part.length(); k++) {
+                starts[out + k] = i;
+                ends[out + k] = end;
+            }
+            out += part.length();
+            i = end;
+        }
+        return out == normalized.length();
+    }
+
+    private static boolean isCombining(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK
+                || codePoint == HALFWIDTH_VOICED_MARK || codePoint == HALFWIDTH_SEMI_VOICED_MARK;
+    }
+
+    private static void appendEscaped(StringBuilder sb, String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> sb.append("&amp;");
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.recipe.manager.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextNormalizer {
+
+    private static final char KATAKANA_START = 'ァ';
+    private static final char KATAKANA_END = 'ヶ';
+    private static final int KATAKANA_TO_HIRAGANA_OFFSET = 0x60;
+
+    /**
+     * 検索キー用に正規化する。全角英数・半角カナはNFKCで統一し、カタカナはひらがなに寄せ、空白は除去する。
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfkc.length());
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= KATAKANA_START && c <= KATAKANA_END) {
+                c = (char) (c - KATAKANA_TO_HIRAGANA_OFFSET);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    public static Set<String> bigrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.length() == 1) {
+            grams.add(normalized);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -1,8 +1,10 @@
 package com.recipe.manager.security;
 
+import com.recipe.manager.common.Constants;
 import com.recipe.manager.entity.Role;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +33,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = extractToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        if (token != null) {
             Long userId = jwtTokenProvider.getUserId(token);
             String email = jwtTokenProvider.getEmail(token);
             Role role = jwtTokenProvider.getRole(token);
@@ -50,10 +52,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Authorization ヘッダーの通常のトークンを使う。EventSource はヘッダーを付けられないため、
+     * 変更ストリームに限り、その用途に絞ったトークンを Cookie から受け付ける
+     */
     private String extractToken(HttpServletRequest request) {
         String header = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(header) && header.startsWith(BEARER_PREFIX)) {
-            return header.substring(BEARER_PREFIX.length());
+            String token = header.substring(BEARER_PREFIX.length());
+            if (jwtTokenProvider.validateToken(token) && jwtTokenProvider.getScope(token) == null) {
+                return token;
+            }
+        }
+        if (Constants.RECIPE_CHANGES_PATH.equals(request.getRequestURI()) && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (Constants.RECIPE_CHANGES_COOKIE.equals(cookie.getName())
+                        && jwtTokenProvider.validateToken(cookie.getValue())
+                        && Constants.RECIPE_CHANGES_SCOPE.equals(jwtTokenProvider.getScope(cookie.getValue()))) {
+                    return cookie.getValue();
+                }
+            }
         }
         return null;
     }
@@ -26,17 +26,15 @@ public class JwtTokenProvider {
     }
 
     public String createToken(Long userId, String email, Role role) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + expirationMs);
+        return buildToken(userId, email, role, null, expirationMs);
+    }
 
-        return Jwts.builder()
-                .subject(userId.toString())
-                .claim("email", email)
-                .claim("role", role.name())
-                .issuedAt(now)
-                .expiration(expiry)
-                .signWith(key)
-                .compact();
+    /**
+     * 用途を限定したトークンを作る。scope 付きのトークンは Authorization ヘッダーでは受け付けず、
+     * その用途のエンドポイントでだけ使える（JwtAuthenticationFilter）
+     */
+    public String createScopedToken(Long userId, String email, Role role, String scope, long ttlMs) {
+        return buildToken(userId, email, role, scope, ttlMs);
     }
 
     public Long getUserId(String token) {
@@ -54,6 +52,11 @@ public class JwtTokenProvider {
         return Role.valueOf(claims.get("role", String.class));
     }
 
+    public String getScope(String token) {
+        Claims claims = parseClaims(token);
+        return claims.get("scope", String.class);
+    }
+
     public boolean validateToken(String token) {
         try {
             parseClaims(token);
@@ -64,6 +67,21 @@ public class JwtTokenProvider {
         }
     }
 
+    private String buildToken(Long userId, String email, Role role, String scope, long ttlMs) {
+        Date now = new Date();
+        Date expiry = new Date(now.getTime() + ttlMs);
+
+        return Jwts.builder()
+                .subject(userId.toString())
+                .claim("email", email)
+                .claim("role", role.name())
+                .claim("scope", scope)
+                .issuedAt(now)
+                .expiration(expiry)
+                .signWith(key)
+                .compact();
+    }
+
     private Claims parseClaims(String token) {
         return Jwts.parser()
                 .verifyWith(key)
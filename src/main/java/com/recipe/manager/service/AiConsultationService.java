@@ -2,10 +2,11 @@ package com.recipe.manager.service;
 
 import com.recipe.manager.ai.LlmClient;
 import com.recipe.manager.ai.PromptBuilder;
+import com.recipe.manager.ai.LlmCompletion;
 import com.recipe.manager.dto.request.CreateAiThreadRequest;
 import com.recipe.manager.entity.AiConsultationMessage;
 import com.recipe.manager.entity.AiConsultationThread;
-import com.recipe.manager.entity.KnowledgeArticle;
+import com.recipe.manager.entity.KnowledgeChunk;
 import com.recipe.manager.entity.Recipe;
 import com.recipe.manager.entity.RecipeStatus;
 import com.recipe.manager.entity.SenderType;
@@ -14,7 +15,6 @@ import com.recipe.manager.exception.ForbiddenException;
 import com.recipe.manager.exception.ResourceNotFoundException;
 import com.recipe.manager.repository.AiConsultationMessageRepository;
 import com.recipe.manager.repository.AiConsultationThreadRepository;
-import com.recipe.manager.repository.KnowledgeArticleRepository;
 import com.recipe.manager.repository.RecipeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,12 +33,15 @@ public class AiConsultationService {
     private final AiConsultationThreadRepository threadRepository;
     private final AiConsultationMessageRepository messageRepository;
     private final RecipeRepository recipeRepository;
-    private final KnowledgeArticleRepository knowledgeArticleRepository;
     private final LlmClient llmClient;
     private final PromptBuilder promptBuilder;
+    private final AiUsageService aiUsageService;
+    private final KnowledgeChunkService knowledgeChunkService;
 
     @Transactional
     public AiConsultationThread createThread(CreateAiThreadRequest request, User currentUser) {
+        aiUsageService.checkDailyQuota(currentUser);
+
         AiConsultationThread thread = AiConsultationThread.builder()
                 .user(currentUser)
                 .theme(request.getTheme())
@@ -59,19 +62,14 @@ public class AiConsultationService {
                 .build();
         saved.getMessages().add(userMessage);
 
-        List<KnowledgeArticle> relatedArticles = findRelatedArticles(request.getTheme(), request.getRecipeId());
-        String systemPrompt = promptBuilder.buildSystemPrompt(saved, relatedArticles);
+        List<KnowledgeChunk> passages =
+                knowledgeChunkService.findRelevantPassages(request.getTheme(), request.getRecipeId());
+        String systemPrompt = promptBuilder.buildSystemPrompt(saved, passages);
         String conversationContext = promptBuilder.buildConversationContext(List.of(), request.getInitialMessage());
 
-        String aiResponse = llmClient.chat(systemPrompt, conversationContext);
-
-        AiConsultationMessage aiMessage = AiConsultationMessage.builder()
-                .thread(saved)
-                .senderType(SenderType.AI)
-                .content(aiResponse)
-                .referencedArticles(relatedArticles)
-                .build();
+        AiConsultationMessage aiMessage = callLlm(saved, systemPrompt, conversationContext, passages);
         saved.getMessages().add(aiMessage);
+        aiUsageService.recordUsage(saved, currentUser, aiMessage);
 
         threadRepository.save(saved);
 
@@ -103,6 +101,7 @@ public class AiConsultationService {
     @Transactional
     public AiConsultationMessage sendMessage(Long threadId, String userMessageContent, User currentUser) {
         AiConsultationThread thread = getThread(threadId, currentUser);
+        aiUsageService.checkDailyQuota(currentUser);
 
         AiConsultationMessage userMessage = AiConsultationMessage.builder()
                 .thread(thread)
@@ -114,47 +113,44 @@ public class AiConsultationService {
         List<AiConsultationMessage> previousMessages =
                 messageRepository.findByThreadIdOrderByCreatedAtAsc(threadId);
 
-        List<KnowledgeArticle> relatedArticles =
-                findRelatedArticles(userMessageContent, thread.getRecipe() != null ? thread.getRecipe().getId() : null);
+        List<KnowledgeChunk> passages = knowledgeChunkService.findRelevantPassages(
+                userMessageContent, thread.getRecipe() != null ? thread.getRecipe().getId() : null);
 
-        String systemPrompt = promptBuilder.buildSystemPrompt(thread, relatedArticles);
+        String systemPrompt = promptBuilder.buildSystemPrompt(thread, passages);
         String conversationContext = promptBuilder.buildConversationContext(previousMessages, userMessageContent);
 
-        String aiResponse = llmClient.chat(systemPrompt, conversationContext);
-
-        AiConsultationMessage aiMessage = AiConsultationMessage.builder()
-                .thread(thread)
-                .senderType(SenderType.AI)
-                .content(aiResponse)
-                .referencedArticles(relatedArticles)
-                .build();
+        AiConsultationMessage aiMessage = callLlm(thread, systemPrompt, conversationContext, passages);
         AiConsultationMessage savedAiMessage = messageRepository.save(aiMessage);
+        aiUsageService.recordUsage(thread, currentUser, savedAiMessage);
 
         log.info("AI message sent: threadId={}, by={}", threadId, currentUser.getEmail());
 
         return savedAiMessage;
     }
 
+    private AiConsultationMessage callLlm(AiConsultationThread thread, String systemPrompt,
+                                          String conversationContext, List<KnowledgeChunk> passages) {
+        long startedAt = System.nanoTime();
+        LlmCompletion completion = llmClient.complete(systemPrompt, conversationContext);
+        long latencyMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        return AiConsultationMessage.builder()
+                .thread(thread)
+                .senderType(SenderType.AI)
+                .content(completion.getContent())
+                .referencedArticles(KnowledgeChunkService.articlesOf(passages))
+                .promptTokens(completion.getPromptTokens())
+                .completionTokens(completion.getCompletionTokens())
+                .latencyMs((int) Math.min(latencyMs, Integer.MAX_VALUE))
+                .cacheHit(completion.isCacheHit())
+                .model(completion.getModel())
+                .build();
+    }
+
     private void validateThreadAccess(AiConsultationThread thread, User currentUser) {
         if (!thread.getUser().getId().equals(currentUser.getId())
                 && currentUser.getRole() != com.recipe.manager.entity.Role.PRODUCER) {
             throw new ForbiddenException("他のユーザーの相談スレッドにアクセスする権限がありません");
         }
     }
-
-    private List<KnowledgeArticle> findRelatedArticles(String keyword, Long recipeId) {
-        List<KnowledgeArticle> articles = knowledgeArticleRepository.searchByKeyword(keyword);
-
-        if (recipeId != null) {
-            List<KnowledgeArticle> recipeArticles =
-                    knowledgeArticleRepository.findByRelatedRecipeId(recipeId);
-            for (KnowledgeArticle a : recipeArticles) {
-                if (articles.stream().noneMatch(existing -> existing.getId().equals(a.getId()))) {
-                    articles.add(a);
-                }
-            }
-        }
-
-        return articles;
-    }
 }
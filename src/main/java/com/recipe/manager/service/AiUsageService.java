@@ -0,0 +1,107 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.config.AiProperties;
+import com.recipe.manager.dto.response.AiUsageSummaryResponse;
+import com.recipe.manager.entity.AiConsultationMessage;
+import com.recipe.manager.entity.AiConsultationThread;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.TooManyRequestsException;
+import com.recipe.manager.repository.AiDailyUsageRepository;
+import com.recipe.manager.repository.AiUsageDailySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AI相談の利用量の記録と日次クォータ。消費量は応答後に加算するため、上限直前のリクエストは1回分だけ上限を超え得る。
+ * コスト・レイテンシの集計は日次サマリ表だけを読み、メッセージ表は走査しない。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiUsageService {
+
+    private static final String UNKNOWN_MODEL = "unknown";
+
+    private final AiDailyUsageRepository dailyUsageRepository;
+    private final AiUsageDailySummaryRepository summaryRepository;
+    private final AiProperties properties;
+
+    @Transactional(readOnly = true)
+    public void checkDailyQuota(User user) {
+        long quota = properties.limitFor(user.getRole()).getDailyTokenQuota();
+        if (quota <= 0) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        long used = dailyUsageRepository.findTokenCost(user.getId(), today).orElse(0L);
+        if (used >= quota) {
+            log.info("AI daily quota exceeded: userId={}, used={}, quota={}", user.getId(), used, quota);
+            throw new TooManyRequestsException("本日のAI相談の利用上限に達しました。明日以降に再度お試しください",
+                    secondsUntilTomorrow(LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * AI応答1件分の利用量を、スレッド累計・日次クォータ・集計用サマリに加算する
+     */
+    @Transactional
+    public void recordUsage(AiConsultationThread thread, User user, AiConsultationMessage aiMessage) {
+        int promptTokens = valueOrZero(aiMessage.getPromptTokens());
+        int completionTokens = valueOrZero(aiMessage.getCompletionTokens());
+        long tokenCost = (long) promptTokens + completionTokens;
+        LocalDate today = LocalDate.now();
+
+        thread.setTokenCost(thread.getTokenCost() + tokenCost);
+        dailyUsageRepository.addUsage(user.getId(), today, tokenCost);
+        summaryRepository.addUsage(today, user.getId(),
+                thread.getRecipe() != null ? thread.getRecipe().getId() : null,
+                aiMessage.getModel() != null ? aiMessage.getModel() : UNKNOWN_MODEL,
+                promptTokens, completionTokens, valueOrZero(aiMessage.getLatencyMs()),
+                Boolean.TRUE.equals(aiMessage.getCacheHit()) ? 1 : 0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AiUsageSummaryResponse> summarizeByUser(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        return summaryRepository.aggregateByUser(from, to).stream().map(AiUsageSummaryResponse::from).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AiUsageSummaryResponse> summarizeByRecipe(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        return summaryRepository.aggregateByRecipe(from, to).stream().map(AiUsageSummaryResponse::from).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AiUsageSummaryResponse> summarizeByDay(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        return summaryRepository.aggregateByDay(from, to).stream().map(AiUsageSummaryResponse::from).toList();
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessLogicException("集計期間の開始日は終了日より前でなければなりません");
+        }
+        if (from.plusDays(Constants.MAX_USAGE_SUMMARY_DAYS).isBefore(to)) {
+            throw new BusinessLogicException("集計期間は" + Constants.MAX_USAGE_SUMMARY_DAYS + "日以内で指定してください");
+        }
+    }
+
+    static long secondsUntilTomorrow(LocalDateTime now) {
+        LocalDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay();
+        return Math.max(1, Duration.between(now, midnight).toSeconds());
+    }
+}
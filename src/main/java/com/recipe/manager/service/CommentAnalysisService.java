@@ -0,0 +1,224 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.analytics.CommentClusterer;
+import com.recipe.manager.analytics.CommentDocument;
+import com.recipe.manager.analytics.CommentTokenizer;
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.entity.CommentTermFrequency;
+import com.recipe.manager.entity.FeedbackCommentTerms;
+import com.recipe.manager.repository.CommentTermFrequencyRepository;
+import com.recipe.manager.repository.FeedbackCommentTermsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 集計のコメント傾向（mainCommentTrend）を作る。
+ * 形態素解析の結果はフィードバックごとに保存し、2回目以降の集計では保存済みの語を使う。
+ * IDF 用の語ごとのコメント数は新規に解析したコメント分だけ加算する（削除時は減算しない近似値）。
+ * 全コメント数も同じく近似でよいため、件数の取得は一定間隔にとどめ、その間は自ノードの登録分を加算して使う。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentAnalysisService {
+
+    private static final int CLUSTER_ITERATIONS = 10;
+    private static final long DOCUMENT_COUNT_REFRESH_MILLIS = 10 * 60 * 1000L;
+
+    private final CommentTokenizer tokenizer;
+    private final FeedbackCommentTermsRepository termsRepository;
+    private final CommentTermFrequencyRepository frequencyRepository;
+
+    /** 解析済みコメント数の手元の値。未取得の間は -1 */
+    private final AtomicLong documentCount = new AtomicLong(-1);
+    private volatile long documentCountLoadedAt;
+
+    @Transactional
+    public String summarize(List<CommentDocument> comments) {
+        return summarizeAll(Map.of(0L, comments)).get(0L);
+    }
+
+    /**
+     * グループ（レシピ）ごとのコメントからコメント傾向を作る。コメントのないグループは結果に含めない。
+     */
+    @Transactional
+    public Map<Long, String> summarizeAll(Map<Long, List<CommentDocument>> commentsByGroup) {
+        Map<Long, List<CommentDocument>> groups = new LinkedHashMap<>();
+        commentsByGroup.forEach((groupId, comments) -> {
+            List<CommentDocument> nonBlank = comments.stream()
+                    .filter(c -> c.text() != null && !c.text().isBlank())
+                    .toList();
+            if (!nonBlank.isEmpty()) {
+                groups.put(groupId, nonBlank);
+            }
+        });
+        if (groups.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<String>> termsByFeedback = loadOrTokenize(groups.values().stream()
+                .flatMap(comments -> analyzedWindow(comments).stream())
+                .toList());
+        Set<String> vocabulary = termsByFeedback.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        Map<String, Double> idf = inverseDocumentFrequencies(vocabulary);
+
+        Map<Long, String> trends = new HashMap<>();
+        groups.forEach((groupId, comments) -> trends.put(groupId, formatTrend(comments, termsByFeedback, idf)));
+        return trends;
+    }
+
+    private Map<Long, List<String>> loadOrTokenize(List<CommentDocument> comments) {
+        Map<Long, List<String>> termsByFeedback = new HashMap<>();
+        for (FeedbackCommentTerms stored : termsRepository.findByFeedbackIdIn(
+                comments.stream().map(CommentDocument::feedbackId).toList())) {
+            termsByFeedback.put(stored.getFeedbackId(), splitTerms(stored.getTerms()));
+        }
+
+        Map<Long, List<String>> tokenized = new TreeMap<>();
+        for (CommentDocument comment : comments) {
+            if (!termsByFeedback.containsKey(comment.feedbackId())) {
+                tokenized.computeIfAbsent(comment.feedbackId(), id -> tokenizer.tokenize(comment.text()));
+            }
+        }
+        termsByFeedback.putAll(tokenized);
+
+        // 週次・月次のパーティションが並行して同じコメントを登録しても行ロックの取得順が揃うよう、ID 順に登録する
+        StringJoiner newDocumentTerms = new StringJoiner(" ");
+        int inserted = 0;
+        for (Map.Entry<Long, List<String>> entry : tokenized.entrySet()) {
+            if (termsRepository.insertIfAbsent(entry.getKey(), String.join(" ", entry.getValue())) > 0) {
+                new TreeSet<>(entry.getValue()).forEach(newDocumentTerms::add);
+                inserted++;
+            }
+        }
+        if (newDocumentTerms.length() > 0) {
+            frequencyRepository.incrementDocumentCounts(newDocumentTerms.toString());
+        }
+        if (inserted > 0) {
+            long added = inserted;
+            documentCount.updateAndGet(count -> count < 0 ? count : count + added);
+        }
+        if (!tokenized.isEmpty()) {
+            log.debug("Comments tokenized: count={}, inserted={}", tokenized.size(), inserted);
+        }
+        return termsByFeedback;
+    }
+
+    private Map<String, Double> inverseDocumentFrequencies(Set<String> vocabulary) {
+        Map<String, Double> idf = new HashMap<>();
+        if (vocabulary.isEmpty()) {
+            return idf;
+        }
+        double documents = Math.max(documentCount(), 1);
+        for (CommentTermFrequency frequency : frequencyRepository.findByTermIn(vocabulary)) {
+            idf.put(frequency.getTerm(), Math.log((documents + 1) / (frequency.getDocumentCount() + 1)) + 1);
+        }
+        double unseen = Math.log(documents + 1) + 1;
+        vocabulary.forEach(term -> idf.putIfAbsent(term, unseen));
+        return idf;
+    }
+
+    /**
+     * 他ノードの登録分を取り込むため、一定間隔でだけ実件数を読み直す
+     */
+    private long documentCount() {
+        long now = System.currentTimeMillis();
+        if (documentCount.get() < 0 || now - documentCountLoadedAt > DOCUMENT_COUNT_REFRESH_MILLIS) {
+            documentCount.set(termsRepository.count());
+            documentCountLoadedAt = now;
+        }
+        return documentCount.get();
+    }
+
+    private String formatTrend(List<CommentDocument> comments, Map<Long, List<String>> termsByFeedback,
+                               Map<String, Double> idf) {
+        List<CommentDocument> window = analyzedWindow(comments);
+        List<Map<String, Double>> vectors = new ArrayList<>(window.size());
+        Map<String, Double> keywordScores = new HashMap<>();
+        Map<String, Integer> mentionCounts = new HashMap<>();
+        for (CommentDocument comment : window) {
+            Map<String, Integer> counts = new HashMap<>();
+            termsByFeedback.getOrDefault(comment.feedbackId(), List.of())
+                    .forEach(term -> counts.merge(term, 1, Integer::sum));
+            Map<String, Double> vector = new HashMap<>();
+            counts.forEach((term, count) -> {
+                double weight = (1 + Math.log(count)) * idf.getOrDefault(term, 1.0);
+                vector.put(term, weight);
+                keywordScores.merge(term, weight, Double::sum);
+                mentionCounts.merge(term, 1, Integer::sum);
+            });
+            vectors.add(vector);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("コメント件数: ").append(comments.size()).append("件\n");
+
+        List<String> keywords = keywordScores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(Constants.COMMENT_TREND_KEYWORDS)
+                .map(e -> e.getKey() + "(" + mentionCounts.get(e.getKey()) + ")")
+                .toList();
+        if (!keywords.isEmpty()) {
+            sb.append("キーワード: ").append(String.join(", ", keywords)).append("\n");
+        }
+
+        sb.append("代表的なコメント:\n");
+        List<CommentClusterer.Cluster> clusters = CommentClusterer.cluster(
+                vectors, Constants.COMMENT_TREND_REPRESENTATIVES, CLUSTER_ITERATIONS);
+        if (clusters.isEmpty()) {
+            window.stream().limit(Constants.COMMENT_TREND_REPRESENTATIVES)
+                    .forEach(c -> sb.append("- ").append(truncate(c.text())).append("\n"));
+        } else {
+            for (CommentClusterer.Cluster cluster : clusters) {
+                sb.append("- ").append(truncate(window.get(cluster.getRepresentative()).text()));
+                if (cluster.getSize() > 1) {
+                    sb.append("（類似 ").append(cluster.getSize()).append("件）");
+                }
+                sb.append("\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 件数が多い場合は新しいコメントから一定件数だけを解析対象にする
+     */
+    private static List<CommentDocument> analyzedWindow(List<CommentDocument> comments) {
+        if (comments.size() <= Constants.MAX_ANALYZED_COMMENTS) {
+            return comments;
+        }
+        return comments.stream()
+                .sorted(Comparator.comparing(CommentDocument::feedbackId).reversed())
+                .limit(Constants.MAX_ANALYZED_COMMENTS)
+                .toList();
+    }
+
+    private static List<String> splitTerms(String terms) {
+        return terms.isEmpty() ? List.of() : Arrays.asList(terms.split(" "));
+    }
+
+    private static String truncate(String comment) {
+        String trimmed = comment.strip();
+        return trimmed.length() > Constants.COMMENT_TREND_MAX_LENGTH
+                ? trimmed.substring(0, Constants.COMMENT_TREND_MAX_LENGTH) + "..."
+                : trimmed;
+    }
+}
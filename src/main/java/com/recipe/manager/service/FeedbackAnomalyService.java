@@ -0,0 +1,159 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.analytics.EwmaDriftDetector;
+import com.recipe.manager.config.FeedbackAnomalyProperties;
+import com.recipe.manager.entity.FeedbackAlert;
+import com.recipe.manager.entity.FeedbackAlertStatus;
+import com.recipe.manager.entity.FeedbackAnomalyObservation;
+import com.recipe.manager.entity.FeedbackStat;
+import com.recipe.manager.entity.JobWatermark;
+import com.recipe.manager.entity.Role;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ForbiddenException;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.repository.FeedbackAlertRepository;
+import com.recipe.manager.repository.FeedbackAnomalyObservationRepository;
+import com.recipe.manager.repository.FeedbackStatRepository;
+import com.recipe.manager.repository.JobWatermarkRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository.FeedbackScoreRef;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedbackAnomalyService {
+
+    static final String JOB_NAME = "feedback-anomaly";
+
+    private final ProductFeedbackRepository feedbackRepository;
+    private final FeedbackStatRepository statRepository;
+    private final FeedbackAlertRepository alertRepository;
+    private final FeedbackAnomalyObservationRepository observationRepository;
+    private final JobWatermarkRepository watermarkRepository;
+    private final RecipeRepository recipeRepository;
+    private final StoreRepository storeRepository;
+    private final FeedbackAnomalyProperties properties;
+
+    /**
+     * ウォーターマーク以降のフィードバックを1バッチ分処理し、処理件数を返す。
+     * ウォーターマーク行を行ロックするため、複数インスタンスで同時に実行しても同じ行を二重に数えない。
+     * 遅れてコミットされた行はウォーターマークの手前を rescanOverlapSeconds 分読み直して拾い、
+     * 反映済みの行は feedback_anomaly_observations で除く。
+     */
+    @Transactional
+    public int processNextBatch() {
+        JobWatermark watermark = watermarkRepository.findForUpdate(JOB_NAME)
+                .orElseGet(() -> watermarkRepository.save(JobWatermark.builder().jobName(JOB_NAME).build()));
+
+        LocalDateTime createdBefore = LocalDateTime.now().minusSeconds(properties.getCommitLagSeconds());
+        LocalDateTime rescanFrom = createdBefore.minusSeconds(properties.getRescanOverlapSeconds());
+        // 読み直し範囲より古い行はもう対象にならないので、反映済みの記録も要らない
+        observationRepository.deleteByFeedbackCreatedAtBefore(rescanFrom);
+        List<FeedbackScoreRef> scores = feedbackRepository.findUnobservedScores(
+                watermark.getLastProcessedId(), rescanFrom, createdBefore, PageRequest.of(0, properties.getBatchSize()));
+        if (scores.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> recipeIds = scores.stream().map(FeedbackScoreRef::getRecipeId).collect(Collectors.toSet());
+        Map<String, FeedbackStat> stats = new HashMap<>();
+        for (FeedbackStat stat : statRepository.findByRecipeIdIn(recipeIds)) {
+            stats.put(key(stat.getRecipeId(), stat.getStoreId()), stat);
+        }
+
+        Map<String, FeedbackStat> touched = new LinkedHashMap<>();
+        List<FeedbackAlert> alerts = new ArrayList<>();
+        List<FeedbackAnomalyObservation> observations = new ArrayList<>(scores.size());
+        for (FeedbackScoreRef score : scores) {
+            String key = key(score.getRecipeId(), score.getStoreId());
+            FeedbackStat stat = stats.computeIfAbsent(key, k -> FeedbackStat.builder()
+                    .recipeId(score.getRecipeId())
+                    .storeId(score.getStoreId())
+                    .build());
+            EwmaDriftDetector.observe(stat, score.getSatisfactionScore(), properties)
+                    .ifPresent(drift -> alerts.add(FeedbackAlert.builder()
+                            .recipe(recipeRepository.getReferenceById(score.getRecipeId()))
+                            .store(score.getStoreId() != null ? storeRepository.getReferenceById(score.getStoreId()) : null)
+                            .feedbackId(score.getId())
+                            .baselineScore(round(drift.getBaseline()))
+                            .recentScore(round(drift.getRecent()))
+                            .zScore(round(drift.getZScore()))
+                            .build()));
+            stat.setLastFeedbackId(Math.max(score.getId(), Objects.requireNonNullElse(stat.getLastFeedbackId(), 0L)));
+            touched.put(key, stat);
+            observations.add(FeedbackAnomalyObservation.builder()
+                    .feedbackId(score.getId())
+                    .feedbackCreatedAt(score.getCreatedAt())
+                    .build());
+        }
+
+        statRepository.saveAll(touched.values());
+        alertRepository.saveAll(alerts);
+        observationRepository.saveAll(observations);
+        // 読み直しで拾った行はウォーターマークより小さい ID なので、ウォーターマークは戻さない
+        long previousId = watermark.getLastProcessedId();
+        long late = scores.stream().filter(score -> score.getId() <= previousId).count();
+        watermark.setLastProcessedId(Math.max(previousId, scores.get(scores.size() - 1).getId()));
+        watermarkRepository.save(watermark);
+
+        log.info("Feedback anomaly batch processed: rows={}, late={}, stats={}, alerts={}, watermark={}",
+                scores.size(), late, touched.size(), alerts.size(), watermark.getLastProcessedId());
+        return scores.size();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<FeedbackAlert> listAlerts(Long recipeId, FeedbackAlertStatus status, Pageable pageable) {
+        FeedbackAlertStatus targetStatus = status != null ? status : FeedbackAlertStatus.OPEN;
+        if (recipeId != null) {
+            return alertRepository.findByRecipeIdAndStatusOrderByCreatedAtDesc(recipeId, targetStatus, pageable);
+        }
+        return alertRepository.findByStatusOrderByCreatedAtDesc(targetStatus, pageable);
+    }
+
+    @Transactional
+    public FeedbackAlert acknowledgeAlert(Long id, User currentUser) {
+        if (currentUser.getRole() == Role.PURCHASER) {
+            throw new ForbiddenException("食材調達ロールではアラートを確認済みにできません");
+        }
+        FeedbackAlert alert = alertRepository.findWithRelationsById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("FeedbackAlert", id));
+        if (alert.getStatus() == FeedbackAlertStatus.ACKNOWLEDGED) {
+            throw new BusinessLogicException("このアラートは既に確認済みです");
+        }
+        alert.setStatus(FeedbackAlertStatus.ACKNOWLEDGED);
+        alert.setAcknowledgedBy(currentUser);
+        alert.setAcknowledgedAt(LocalDateTime.now());
+        log.info("Feedback alert acknowledged: id={}, by={}", id, currentUser.getEmail());
+        return alertRepository.save(alert);
+    }
+
+    private static String key(Long recipeId, Long storeId) {
+        return recipeId + ":" + Objects.requireNonNullElse(storeId, 0L);
+    }
+
+    private static BigDecimal round(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
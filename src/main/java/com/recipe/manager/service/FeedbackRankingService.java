@@ -0,0 +1,134 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.config.CacheConfig;
+import com.recipe.manager.dto.response.FeedbackRankingResponse;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.FeedbackChangedEvent;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.repository.ProductFeedbackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 店舗間・レシピ間の満足度ランキング。順位とパーセンタイルはウィンドウ関数でDB側に計算させ、
+ * 期間ごとの結果をキャッシュする。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedbackRankingService {
+
+    private static final String ALL_STORES = "all";
+
+    private final ProductFeedbackRepository feedbackRepository;
+    private final CacheManager cacheManager;
+    /** 破棄のたびに進める。読み込み中に破棄があった結果は古いかもしれないのでキャッシュしない */
+    private final AtomicLong generation = new AtomicLong();
+    /** 世代の確認と書き込み、世代の更新と破棄をそれぞれひとまとまりにする */
+    private final Object evictLock = new Object();
+
+    @Transactional(readOnly = true)
+    public FeedbackRankingResponse rankStoresForRecipe(Long recipeId, LocalDate from, LocalDate to, int minCount) {
+        validatePeriod(from, to);
+        String key = storeRankingPrefix(recipeId) + from + ":" + to + ":" + minCount;
+        return cached(key, () -> FeedbackRankingResponse.from(from, to,
+                feedbackRepository.rankStoresForRecipe(recipeId, from, to, minCount)));
+    }
+
+    @Transactional(readOnly = true)
+    public FeedbackRankingResponse rankRecipes(Long storeId, LocalDate from, LocalDate to, int minCount, int limit) {
+        validatePeriod(from, to);
+        String key = recipeRankingPrefix(storeId) + from + ":" + to + ":" + minCount + ":" + limit;
+        return cached(key, () -> FeedbackRankingResponse.from(from, to,
+                feedbackRepository.rankRecipes(storeId, from, to, minCount, limit)));
+    }
+
+    /**
+     * フィードバックの増減が配信されたら、そのレシピの店舗ランキングと、
+     * 当該店舗・全店舗のレシピランキングを全期間分破棄する。キャッシュはノードごとに持つため同報で受け取る。
+     */
+    @EventListener
+    public void onFeedbackChanged(BroadcastEvent<FeedbackChangedEvent> broadcast) {
+        FeedbackChangedEvent event = broadcast.getEvent();
+        evict(event.getRecipeId(), event.getStoreId());
+    }
+
+    public void evict(Long recipeId, Long storeId) {
+        Cache cache = cacheManager.getCache(CacheConfig.FEEDBACK_RANKINGS);
+        if (cache == null) {
+            return;
+        }
+        String storePrefix = storeRankingPrefix(recipeId);
+        String recipePrefix = recipeRankingPrefix(storeId);
+        String allStoresPrefix = recipeRankingPrefix(null);
+        synchronized (evictLock) {
+            generation.incrementAndGet();
+            Map<Object, Object> entries = nativeMap(cache);
+            if (entries == null) {
+                cache.clear();
+                return;
+            }
+            entries.keySet().removeIf(key -> {
+                String k = key.toString();
+                return k.startsWith(storePrefix) || k.startsWith(recipePrefix) || k.startsWith(allStoresPrefix);
+            });
+        }
+        log.debug("Feedback rankings evicted: recipeId={}, storeId={}", recipeId, storeId);
+    }
+
+    private FeedbackRankingResponse cached(String key, Supplier<FeedbackRankingResponse> loader) {
+        Cache cache = cacheManager.getCache(CacheConfig.FEEDBACK_RANKINGS);
+        if (cache == null) {
+            return loader.get();
+        }
+        FeedbackRankingResponse hit = cache.get(key, FeedbackRankingResponse.class);
+        if (hit != null) {
+            return hit;
+        }
+        long loadedGeneration = generation.get();
+        FeedbackRankingResponse loaded = loader.get();
+        synchronized (evictLock) {
+            if (generation.get() == loadedGeneration) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> nativeMap(Cache cache) {
+        Object nativeCache = cache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return (Map<Object, Object>) caffeine.asMap();
+        }
+        if (nativeCache instanceof ConcurrentMap<?, ?> map) {
+            return (Map<Object, Object>) map;
+        }
+        return null;
+    }
+
+    private static String storeRankingPrefix(Long recipeId) {
+        return "stores:" + recipeId + ":";
+    }
+
+    private static String recipeRankingPrefix(Long storeId) {
+        return "recipes:" + (storeId != null ? storeId : ALL_STORES) + ":";
+    }
+
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessLogicException("評価期間の開始日は終了日より前でなければなりません");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.recipe.manager.service;
 
+import com.recipe.manager.analytics.CommentDocument;
 import com.recipe.manager.dto.request.CreateProductFeedbackRequest;
 import com.recipe.manager.entity.FeedbackSummary;
 import com.recipe.manager.entity.ProductFeedback;
@@ -8,6 +9,9 @@ import com.recipe.manager.entity.RecipeStatus;
 import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.Store;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.event.DomainEventPublisher;
+import com.recipe.manager.event.FeedbackChangedEvent;
+import com.recipe.manager.event.FeedbackSummaryChangedEvent;
 import com.recipe.manager.exception.BusinessLogicException;
 import com.recipe.manager.exception.ForbiddenException;
 import com.recipe.manager.exception.ResourceNotFoundException;
@@ -39,6 +43,8 @@ public class FeedbackService {
     private final FeedbackSummaryRepository summaryRepository;
     private final RecipeRepository recipeRepository;
     private final StoreRepository storeRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final CommentAnalysisService commentAnalysisService;
 
     @Transactional
     public ProductFeedback createFeedback(CreateProductFeedbackRequest request, User currentUser) {
@@ -67,6 +73,7 @@ public class FeedbackService {
                 .build();
 
         ProductFeedback saved = feedbackRepository.save(feedback);
+        eventPublisher.publish(new FeedbackChangedEvent(recipe.getId(), store != null ? store.getId() : null));
         log.info("Product feedback created: id={}, recipeId={}, by={}",
                 saved.getId(), recipe.getId(), currentUser.getEmail());
         return saved;
@@ -96,7 +103,10 @@ public class FeedbackService {
     public void deleteFeedback(Long id, User currentUser) {
         ProductFeedback feedback = getFeedbackById(id);
         validateFeedbackDeletePermission(feedback, currentUser);
+        Long recipeId = feedback.getRecipe().getId();
+        Long storeId = feedback.getStore() != null ? feedback.getStore().getId() : null;
         feedbackRepository.delete(feedback);
+        eventPublisher.publish(new FeedbackChangedEvent(recipeId, storeId));
         log.info("Product feedback deleted: id={}, by={}", id, currentUser.getEmail());
     }
 
@@ -116,7 +126,9 @@ public class FeedbackService {
         Double avgEmotion = feedbackRepository.calculateAvgEmotion(recipeId, periodStart, periodEnd);
 
         List<ProductFeedback> feedbacks = feedbackRepository.findByRecipeIdAndPeriod(recipeId, periodStart, periodEnd);
-        String commentTrend = buildCommentTrend(feedbacks);
+        String commentTrend = commentAnalysisService.summarize(feedbacks.stream()
+                .map(f -> new CommentDocument(f.getId(), f.getComment()))
+                .toList());
 
         FeedbackSummary summary = summaryRepository
                 .findByRecipeIdAndPeriodStartAndPeriodEnd(recipeId, periodStart, periodEnd)
@@ -134,6 +146,7 @@ public class FeedbackService {
         summary.setMainCommentTrend(commentTrend);
 
         FeedbackSummary saved = summaryRepository.save(summary);
+        eventPublisher.publish(new FeedbackSummaryChangedEvent(recipeId));
         log.info("Feedback summary generated: id={}, recipeId={}, period={}-{}, count={}",
                 saved.getId(), recipeId, periodStart, periodEnd, count);
         return saved;
@@ -177,28 +190,4 @@ public class FeedbackService {
             throw new BusinessLogicException("評価期間の開始日は終了日より前でなければなりません");
         }
     }
-
-    private String buildCommentTrend(List<ProductFeedback> feedbacks) {
-        List<String> comments = feedbacks.stream()
-                .filter(f -> f.getComment() != null && !f.getComment().isBlank())
-                .map(ProductFeedback::getComment)
-                .toList();
-
-        if (comments.isEmpty()) {
-            return null;
-        }
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("コメント件数: ").append(comments.size()).append("件\n");
-        sb.append("主なコメント:\n");
-        int limit = Math.min(comments.size(), 5);
-        for (int i = 0; i < limit; i++) {
-            String comment = comments.get(i);
-            if (comment.length() > 100) {
-                comment = comment.substring(0, 100) + "...";
-            }
-            sb.append("- ").append(comment).append("\n");
-        }
-        return sb.toString();
-    }
 }
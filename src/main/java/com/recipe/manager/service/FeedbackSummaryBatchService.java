@@ -0,0 +1,140 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.analytics.CommentDocument;
+import com.recipe.manager.config.FeedbackSummaryProperties;
+import com.recipe.manager.entity.FeedbackSummary;
+import com.recipe.manager.entity.JobWatermark;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.event.DomainEventPublisher;
+import com.recipe.manager.event.FeedbackSummaryChangedEvent;
+import com.recipe.manager.repository.FeedbackSummaryRepository;
+import com.recipe.manager.repository.JobWatermarkRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository.CommentRef;
+import com.recipe.manager.repository.ProductFeedbackRepository.PeriodAggregateRef;
+import com.recipe.manager.repository.RecipeRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedbackSummaryBatchService {
+
+    private final ProductFeedbackRepository feedbackRepository;
+    private final FeedbackSummaryRepository summaryRepository;
+    private final RecipeRepository recipeRepository;
+    private final JobWatermarkRepository watermarkRepository;
+    private final CommentAnalysisService commentAnalysisService;
+    private final DomainEventPublisher eventPublisher;
+    private final FeedbackSummaryProperties properties;
+
+    @Getter
+    @AllArgsConstructor
+    public static class BatchResult {
+        private final int scanned;
+        private final int generated;
+        private final boolean finished;
+    }
+
+    /**
+     * 期間パーティション内の次のレシピバッチを集計する。
+     * 進捗（処理済みの最大レシピID）はバッチと同じトランザクションで保存するため、
+     * 途中で落ちても次回は未処理のレシピから再開し、パーティション完了時に進捗を消す。
+     * 既存の集計と件数・集計元の最終更新日時がともに一致する場合は書き換えない。
+     */
+    @Transactional
+    public BatchResult summarizeNextBatch(SummaryPeriod period) {
+        String partitionKey = period.partitionKey();
+        JobWatermark watermark = watermarkRepository.findForUpdate(partitionKey)
+                .orElseGet(() -> watermarkRepository.save(JobWatermark.builder().jobName(partitionKey).build()));
+
+        List<PeriodAggregateRef> aggregates = feedbackRepository.aggregateByRecipeAfter(
+                period.getStart(), period.getEnd(), watermark.getLastProcessedId(), RecipeStatus.DELETED,
+                PageRequest.of(0, properties.getBatchSize()));
+
+        List<Long> recipeIds = aggregates.stream().map(PeriodAggregateRef::getRecipeId).toList();
+        Map<Long, FeedbackSummary> existing = recipeIds.isEmpty() ? Map.of()
+                : summaryRepository.findByPeriodAndRecipeIdIn(period.getStart(), period.getEnd(), recipeIds).stream()
+                .collect(Collectors.toMap(s -> s.getRecipe().getId(), Function.identity()));
+
+        List<PeriodAggregateRef> stale = aggregates.stream()
+                .filter(a -> isStale(existing.get(a.getRecipeId()), a))
+                .toList();
+
+        if (!stale.isEmpty()) {
+            Map<Long, String> trends = commentAnalysisService.summarizeAll(loadComments(stale, period));
+            List<FeedbackSummary> summaries = new ArrayList<>(stale.size());
+            for (PeriodAggregateRef aggregate : stale) {
+                FeedbackSummary summary = existing.get(aggregate.getRecipeId());
+                if (summary == null) {
+                    summary = FeedbackSummary.builder()
+                            .recipe(recipeRepository.getReferenceById(aggregate.getRecipeId()))
+                            .periodStart(period.getStart())
+                            .periodEnd(period.getEnd())
+                            .build();
+                }
+                summary.setAvgSatisfaction(round(aggregate.getAvgSatisfaction()));
+                summary.setAvgEmotion(aggregate.getAvgEmotion() != null ? round(aggregate.getAvgEmotion()) : null);
+                summary.setFeedbackCount(aggregate.getFeedbackCount().intValue());
+                summary.setMainCommentTrend(trends.get(aggregate.getRecipeId()));
+                summary.setSourceUpdatedAt(aggregate.getLastUpdatedAt());
+                summaries.add(summary);
+            }
+            summaryRepository.saveAll(summaries);
+            stale.forEach(aggregate -> eventPublisher.publish(
+                    new FeedbackSummaryChangedEvent(aggregate.getRecipeId())));
+        }
+
+        boolean finished = aggregates.size() < properties.getBatchSize();
+        if (finished) {
+            watermarkRepository.delete(watermark);
+        } else {
+            watermark.setLastProcessedId(recipeIds.get(recipeIds.size() - 1));
+            watermarkRepository.save(watermark);
+        }
+
+        log.debug("Feedback summary batch processed: partition={}, scanned={}, generated={}, finished={}",
+                partitionKey, aggregates.size(), stale.size(), finished);
+        return new BatchResult(aggregates.size(), stale.size(), finished);
+    }
+
+    private boolean isStale(FeedbackSummary summary, PeriodAggregateRef aggregate) {
+        if (summary == null) {
+            return true;
+        }
+        // 件数の不一致で削除を、集計元の最終更新日時の不一致で追加と編集を検知する。
+        // 集計自体の updated_at は手動の編集でも変わるため比較に使わない
+        return summary.getFeedbackCount() != aggregate.getFeedbackCount().intValue()
+                || !aggregate.getLastUpdatedAt().equals(summary.getSourceUpdatedAt());
+    }
+
+    private Map<Long, List<CommentDocument>> loadComments(List<PeriodAggregateRef> aggregates, SummaryPeriod period) {
+        List<Long> recipeIds = aggregates.stream().map(PeriodAggregateRef::getRecipeId).toList();
+        Map<Long, List<CommentDocument>> comments = new HashMap<>();
+        for (CommentRef ref : feedbackRepository.findCommentsByRecipeIdInAndPeriod(
+                recipeIds, period.getStart(), period.getEnd())) {
+            comments.computeIfAbsent(ref.getRecipeId(), id -> new ArrayList<>())
+                    .add(new CommentDocument(ref.getId(), ref.getComment()));
+        }
+        return comments;
+    }
+
+    private static BigDecimal round(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,103 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.common.TransactionCallbacks;
+import com.recipe.manager.dto.request.CreateIngredientRequest;
+import com.recipe.manager.dto.request.UpdateIngredientRequest;
+import com.recipe.manager.entity.Ingredient;
+import com.recipe.manager.entity.Role;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ForbiddenException;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.repository.IngredientRepository;
+import com.recipe.manager.search.IngredientSearchIndex;
+import com.recipe.manager.search.IngredientSuggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngredientService {
+
+    private final IngredientRepository ingredientRepository;
+    private final IngredientSearchIndex searchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadSearchIndex() {
+        List<Ingredient> ingredients = ingredientRepository.findAll();
+        searchIndex.rebuild(ingredients);
+        log.info("Ingredient search index loaded: size={}", ingredients.size());
+    }
+
+    public List<IngredientSuggestion> suggest(String query, int limit) {
+        int boundedLimit = Math.min(Math.max(limit, 1), Constants.MAX_SUGGESTION_LIMIT);
+        return searchIndex.search(query, boundedLimit);
+    }
+
+    @Transactional(readOnly = true)
+    public Ingredient getIngredientById(Long id) {
+        return ingredientRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ingredient", id));
+    }
+
+    @Transactional
+    public Ingredient createIngredient(CreateIngredientRequest request, User currentUser) {
+        validateIngredientEditPermission(currentUser);
+        validateNameNotDuplicated(request.getName(), null);
+
+        Ingredient ingredient = Ingredient.builder()
+                .name(request.getName())
+                .nameKana(request.getNameKana())
+                .build();
+
+        Ingredient saved = ingredientRepository.save(ingredient);
+        TransactionCallbacks.afterCommit(() -> searchIndex.upsert(saved));
+
+        log.info("Ingredient created: id={}, name={}, by={}",
+                saved.getId(), saved.getName(), currentUser.getEmail());
+        return saved;
+    }
+
+    @Transactional
+    public Ingredient updateIngredient(Long id, UpdateIngredientRequest request, User currentUser) {
+        validateIngredientEditPermission(currentUser);
+
+        Ingredient ingredient = getIngredientById(id);
+        if (request.getName() != null) {
+            validateNameNotDuplicated(request.getName(), id);
+            ingredient.setName(request.getName());
+        }
+        if (request.getNameKana() != null) {
+            ingredient.setNameKana(request.getNameKana());
+        }
+
+        Ingredient saved = ingredientRepository.save(ingredient);
+        TransactionCallbacks.afterCommit(() -> searchIndex.upsert(saved));
+
+        log.info("Ingredient updated: id={}, by={}", id, currentUser.getEmail());
+        return saved;
+    }
+
+    private void validateIngredientEditPermission(User user) {
+        if (user.getRole() == Role.SERVICE) {
+            throw new ForbiddenException("食材マスタの編集権限がありません");
+        }
+    }
+
+    private void validateNameNotDuplicated(String name, Long selfId) {
+        ingredientRepository.findByName(name)
+                .filter(existing -> !existing.getId().equals(selfId))
+                .ifPresent(existing -> {
+                    throw new BusinessLogicException("同じ名前の食材が既に登録されています: " + name);
+                });
+    }
+}
@@ -0,0 +1,87 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.dto.request.KitchenScheduleRequest;
+import com.recipe.manager.dto.response.KitchenScheduleResponse;
+import com.recipe.manager.entity.CookingStep;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.kitchen.KitchenSchedule;
+import com.recipe.manager.kitchen.KitchenScheduler;
+import com.recipe.manager.kitchen.ScheduledStep;
+import com.recipe.manager.kitchen.StepTask;
+import com.recipe.manager.repository.CookingStepRepository;
+import com.recipe.manager.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KitchenScheduleService {
+
+    private final RecipeRepository recipeRepository;
+    private final CookingStepRepository cookingStepRepository;
+
+    @Transactional(readOnly = true)
+    public KitchenScheduleResponse schedule(KitchenScheduleRequest request) {
+        Set<Long> recipeIds = new LinkedHashSet<>(request.getRecipeIds());
+        Set<Long> existingIds = recipeRepository.findVersionRefsByIdInAndStatusNot(recipeIds, RecipeStatus.DELETED)
+                .stream()
+                .map(RecipeRepository.VersionRef::getId)
+                .collect(Collectors.toSet());
+        for (Long recipeId : recipeIds) {
+            if (!existingIds.contains(recipeId)) {
+                throw new ResourceNotFoundException("Recipe", recipeId);
+            }
+        }
+
+        Map<Long, List<CookingStep>> stepsByRecipe = cookingStepRepository
+                .findWithDependenciesByRecipeIdIn(recipeIds, RecipeStatus.DELETED).stream()
+                .collect(Collectors.groupingBy(step -> step.getRecipe().getId()));
+        List<StepTask> tasks = new ArrayList<>();
+        Map<String, CookingStep> stepsByKey = new HashMap<>();
+        stepsByRecipe.forEach((recipeId, steps) -> {
+            tasks.addAll(StepTask.fromSteps(recipeId, steps));
+            steps.forEach(step -> stepsByKey.put(recipeId + ":" + step.getStepNumber(), step));
+        });
+
+        long startedAt = System.nanoTime();
+        KitchenSchedule schedule = KitchenScheduler.schedule(tasks, request.getCooks(), request.getStations());
+        log.debug("Kitchen schedule computed: recipes={}, steps={}, elapsedMs={}",
+                recipeIds.size(), tasks.size(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        List<KitchenScheduleResponse.StepSlot> slots = schedule.getSteps().stream()
+                .map(slot -> toStepSlot(slot, stepsByKey.get(slot.getRecipeId() + ":" + slot.getStepNumber())))
+                .toList();
+        return KitchenScheduleResponse.builder()
+                .cooks(request.getCooks())
+                .stations(request.getStations())
+                .makespanMinutes(schedule.getMakespanMinutes())
+                .criticalPathMinutes(schedule.getCriticalPathMinutes())
+                .steps(slots)
+                .build();
+    }
+
+    private KitchenScheduleResponse.StepSlot toStepSlot(ScheduledStep slot, CookingStep step) {
+        return KitchenScheduleResponse.StepSlot.builder()
+                .recipeId(slot.getRecipeId())
+                .recipeTitle(step.getRecipe().getTitle())
+                .stepNumber(slot.getStepNumber())
+                .description(step.getDescription())
+                .startMinute(slot.getStartMinute())
+                .endMinute(slot.getEndMinute())
+                .cook(slot.getCook())
+                .station(slot.getStation())
+                .build();
+    }
+}
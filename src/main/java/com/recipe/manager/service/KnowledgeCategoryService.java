@@ -0,0 +1,247 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.common.TransactionCallbacks;
+import com.recipe.manager.config.AsyncConfig;
+import com.recipe.manager.dto.request.CreateKnowledgeCategoryRequest;
+import com.recipe.manager.dto.response.KnowledgeCategoryTreeResponse;
+import com.recipe.manager.entity.KnowledgeCategory;
+import com.recipe.manager.event.ArticleChangedEvent;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ConflictException;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.repository.KnowledgeCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ナレッジカテゴリの階層。各カテゴリは祖先からのIDを並べた経路（例: /1/4/）を持ち、
+ * 部分木の記事数は記事の作成・移動・削除のたびにDB上で差分更新する。
+ * ツリーはインメモリのスナップショットから返し、変更があれば次の読み出しで作り直す。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KnowledgeCategoryService {
+
+    static final String ROOT_PATH = "/";
+    /** カテゴリの作成・移動はイベントにしていないため、他のインスタンスで行われた分はスナップショットを一定時間で作り直して拾う */
+    private static final Duration SNAPSHOT_MAX_AGE = Duration.ofMinutes(1);
+
+    private final KnowledgeCategoryRepository categoryRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public List<KnowledgeCategoryTreeResponse> getTree() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current.roots();
+        }
+        return rebuild();
+    }
+
+    @Transactional
+    public KnowledgeCategory createCategory(CreateKnowledgeCategoryRequest request) {
+        if (categoryRepository.findByName(request.getName()).isPresent()) {
+            throw new BusinessLogicException("同じ名前のカテゴリが既に存在します");
+        }
+        KnowledgeCategory parent = null;
+        if (request.getParentId() != null) {
+            // 親の移動と並行すると古い経路の下に作ってしまうため、親の行をロックしてから経路を読む
+            parent = categoryRepository.findAllForUpdate(Set.of(request.getParentId())).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("KnowledgeCategory", request.getParentId()));
+        }
+        int depth = parent != null ? parent.getDepth() + 1 : 0;
+        validateDepth(depth);
+
+        // 経路には自身のIDが入るため、採番後に確定させる
+        KnowledgeCategory saved = categoryRepository.save(KnowledgeCategory.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .sortOrder(request.getSortOrder() != null ? request.getSortOrder() : 0)
+                .parentId(request.getParentId())
+                .path(parent != null ? parent.getPath() : ROOT_PATH)
+                .depth(depth)
+                .build());
+        saved.setPath(saved.getPath() + saved.getId() + "/");
+
+        TransactionCallbacks.afterCommit(this::invalidate);
+        log.info("Knowledge category created: id={}, name={}, parentId={}",
+                saved.getId(), saved.getName(), saved.getParentId());
+        return saved;
+    }
+
+    /**
+     * カテゴリを部分木ごと別の親の下へ移す。移動元と移動先の祖先の部分木記事数は、移した部分木の記事数だけ増減させる
+     */
+    @Transactional
+    public KnowledgeCategory moveCategory(Long id, Long newParentId) {
+        Set<Long> lockIds = new TreeSet<>();
+        lockIds.add(id);
+        if (newParentId != null) {
+            lockIds.add(newParentId);
+        }
+        // 同時に行われた移動で循環が生じないよう、移動するカテゴリと移動先それぞれの祖先をすべてID順にロックしてから
+        // 最新の経路を読む。循環を作り得る2つの移動は互いの祖先を含むため、ここで必ず待ち合わせる
+        categoryRepository.findPathsByIdIn(List.copyOf(lockIds)).forEach(path -> lockIds.addAll(ancestorIds(path)));
+        Map<Long, KnowledgeCategory> locked = new HashMap<>();
+        categoryRepository.findAllForUpdate(lockIds).forEach(c -> locked.put(c.getId(), c));
+        KnowledgeCategory category = locked.get(id);
+        if (category == null) {
+            throw new ResourceNotFoundException("KnowledgeCategory", id);
+        }
+        KnowledgeCategory newParent = null;
+        if (newParentId != null) {
+            newParent = locked.get(newParentId);
+            if (newParent == null) {
+                throw new ResourceNotFoundException("KnowledgeCategory", newParentId);
+            }
+            if (newParent.getPath().startsWith(category.getPath())) {
+                throw new BusinessLogicException("カテゴリを自身または配下のカテゴリの下へ移動することはできません");
+            }
+        }
+        // ロックを待つ間に祖先が移動していると、ロックしていない祖先の下にいることがある
+        Set<Long> ancestors = new HashSet<>(ancestorIds(category.getPath()));
+        if (newParent != null) {
+            ancestors.addAll(ancestorIds(newParent.getPath()));
+        }
+        if (!lockIds.containsAll(ancestors)) {
+            throw new ConflictException("カテゴリが同時に移動されました。もう一度お試しください", null);
+        }
+        if (Objects.equals(category.getParentId(), newParentId)) {
+            return category;
+        }
+
+        String oldPath = category.getPath();
+        String newPath = (newParent != null ? newParent.getPath() : ROOT_PATH) + id + "/";
+        int depthDelta = (newParent != null ? newParent.getDepth() + 1 : 0) - category.getDepth();
+        Integer maxDepth = categoryRepository.findMaxDepthInSubtree(oldPath);
+        validateDepth((maxDepth != null ? maxDepth : category.getDepth()) + depthDelta);
+
+        int moved = category.getSubtreeArticleCount();
+        if (moved != 0) {
+            Set<Long> oldAncestors = new LinkedHashSet<>(ancestorIds(oldPath));
+            oldAncestors.remove(id);
+            Set<Long> newAncestors = new LinkedHashSet<>(newParent != null ? ancestorIds(newParent.getPath()) : List.of());
+            Set<Long> common = new LinkedHashSet<>(oldAncestors);
+            common.retainAll(newAncestors);
+            oldAncestors.removeAll(common);
+            newAncestors.removeAll(common);
+            if (!oldAncestors.isEmpty()) {
+                categoryRepository.adjustSubtreeArticleCounts(oldAncestors, -moved);
+            }
+            if (!newAncestors.isEmpty()) {
+                categoryRepository.adjustSubtreeArticleCounts(newAncestors, moved);
+            }
+        }
+        categoryRepository.updateParent(id, newParentId);
+        categoryRepository.moveSubtree(oldPath, newPath, depthDelta);
+
+        TransactionCallbacks.afterCommit(this::invalidate);
+        log.info("Knowledge category moved: id={}, from={}, to={}", id, oldPath, newPath);
+        return categoryRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("KnowledgeCategory", id));
+    }
+
+    /**
+     * 記事の増減・移動でカテゴリの記事数が変わるため、スナップショットを破棄する。
+     * スナップショットはノードごとに持つため同報で受け取る。
+     */
+    @EventListener
+    public void onArticleChanged(BroadcastEvent<ArticleChangedEvent> broadcast) {
+        invalidate();
+    }
+
+    @Async(AsyncConfig.FAN_OUT_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recountArticles() {
+        int updated = categoryRepository.recountArticles();
+        invalidate();
+        log.info("Knowledge category article counts reconciled: categories={}", updated);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private synchronized List<KnowledgeCategoryTreeResponse> rebuild() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current.roots();
+        }
+        // 読み込み中に破棄された場合は世代が進むので、次の読み出しでもう一度作り直される
+        long builtGeneration = generation.get();
+        List<KnowledgeCategoryTreeResponse> roots = buildTree(categoryRepository.findAllByOrderBySortOrderAsc());
+        snapshot = new Snapshot(builtGeneration, System.nanoTime(), roots);
+        return roots;
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null
+                && current.generation() == generation.get()
+                && System.nanoTime() - current.builtAtNanos() < SNAPSHOT_MAX_AGE.toNanos();
+    }
+
+    static List<KnowledgeCategoryTreeResponse> buildTree(List<KnowledgeCategory> categories) {
+        Map<Long, List<KnowledgeCategory>> childrenByParent = new HashMap<>();
+        List<KnowledgeCategory> roots = new ArrayList<>();
+        for (KnowledgeCategory category : categories) {
+            if (category.getParentId() == null) {
+                roots.add(category);
+            } else {
+                childrenByParent.computeIfAbsent(category.getParentId(), k -> new ArrayList<>()).add(category);
+            }
+        }
+        return toNodes(roots, childrenByParent);
+    }
+
+    private static List<KnowledgeCategoryTreeResponse> toNodes(List<KnowledgeCategory> categories,
+                                                               Map<Long, List<KnowledgeCategory>> childrenByParent) {
+        List<KnowledgeCategoryTreeResponse> nodes = new ArrayList<>(categories.size());
+        for (KnowledgeCategory category : categories) {
+            List<KnowledgeCategory> children = childrenByParent.getOrDefault(category.getId(), List.of());
+            nodes.add(KnowledgeCategoryTreeResponse.from(category, toNodes(children, childrenByParent)));
+        }
+        return List.copyOf(nodes);
+    }
+
+    static List<Long> ancestorIds(String path) {
+        List<Long> ids = new ArrayList<>();
+        for (String part : path.split("/")) {
+            if (!part.isEmpty()) {
+                ids.add(Long.valueOf(part));
+            }
+        }
+        return ids;
+    }
+
+    private void validateDepth(int depth) {
+        if (depth > Constants.MAX_KNOWLEDGE_CATEGORY_DEPTH) {
+            throw new BusinessLogicException(
+                    "カテゴリの階層は" + (Constants.MAX_KNOWLEDGE_CATEGORY_DEPTH + 1) + "段までです");
+        }
+    }
+
+    private record Snapshot(long generation, long builtAtNanos, List<KnowledgeCategoryTreeResponse> roots) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.ai.ArticleChunker;
+import com.recipe.manager.entity.KnowledgeArticle;
+import com.recipe.manager.entity.KnowledgeChunk;
+import com.recipe.manager.repository.KnowledgeArticleRepository;
+import com.recipe.manager.repository.KnowledgeChunkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 記事のパッセージを現在の記事から作り直す。古いパッセージの削除と新しいパッセージの保存は1トランザクションで行い、
+ * 分割元のバージョンが同じなら何もしないので、重複して呼ばれても結果は変わらない。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KnowledgeChunkIndexer {
+
+    private final ArticleChunker chunker;
+    private final KnowledgeArticleRepository articleRepository;
+    private final KnowledgeChunkRepository chunkRepository;
+    private final KnowledgeEmbeddingService embeddingService;
+
+    @Transactional
+    public void rechunk(Long articleId) {
+        KnowledgeArticle article = articleRepository.findById(articleId).orElse(null);
+        if (article == null) {
+            return;
+        }
+        if (chunkRepository.findArticleVersionsByArticleId(articleId).contains(article.getVersion())) {
+            return;
+        }
+        List<Long> oldChunkIds = chunkRepository.findIdsByArticleId(articleId);
+        chunkRepository.deleteByArticleId(articleId);
+
+        List<ArticleChunker.Passage> passages = chunker.split(article.getContent());
+        if (passages.isEmpty()) {
+            passages = List.of(new ArticleChunker.Passage(null, article.getTitle()));
+        }
+        List<KnowledgeChunk> chunks = new ArrayList<>(passages.size());
+        for (int i = 0; i < passages.size(); i++) {
+            ArticleChunker.Passage passage = passages.get(i);
+            chunks.add(KnowledgeChunk.builder()
+                    .article(article)
+                    .chunkIndex(i)
+                    .heading(truncate(passage.heading()))
+                    .content(passage.content())
+                    .articleVersion(article.getVersion())
+                    .build());
+        }
+        List<KnowledgeChunk> saved = chunkRepository.saveAll(chunks);
+        embeddingService.removeChunks(oldChunkIds);
+        embeddingService.embedChunks(saved);
+        log.debug("Knowledge article chunked: articleId={}, version={}, chunks={}",
+                articleId, article.getVersion(), saved.size());
+    }
+
+    @Transactional
+    public void remove(Long articleId) {
+        List<Long> chunkIds = chunkRepository.findIdsByArticleId(articleId);
+        chunkRepository.deleteByArticleId(articleId);
+        embeddingService.removeChunks(chunkIds);
+    }
+
+    private static String truncate(String heading) {
+        if (heading == null || heading.length() <= 500) {
+            return heading;
+        }
+        return heading.substring(0, 500);
+    }
+}
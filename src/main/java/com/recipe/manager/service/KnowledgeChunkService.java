@@ -0,0 +1,154 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.config.AsyncConfig;
+import com.recipe.manager.config.KnowledgeChunkProperties;
+import com.recipe.manager.entity.KnowledgeArticle;
+import com.recipe.manager.entity.KnowledgeChunk;
+import com.recipe.manager.event.ArticleChangedEvent;
+import com.recipe.manager.repository.KnowledgeArticleRepository;
+import com.recipe.manager.repository.KnowledgeChunkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ナレッジ記事をパッセージに分けて knowledge_chunks に保存し、検索とプロンプトへの引用をパッセージ単位で行う。
+ * 分割は記事の変更イベント（コミット後にアウトボックスから非同期で配信される）で行うため、記事の保存は待たせない。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KnowledgeChunkService {
+
+    private static final int BACKFILL_BATCH_SIZE = 200;
+
+    private final KnowledgeChunkProperties properties;
+    private final KnowledgeChunkIndexer indexer;
+    private final KnowledgeArticleRepository articleRepository;
+    private final KnowledgeChunkRepository chunkRepository;
+    private final KnowledgeEmbeddingService embeddingService;
+
+    /*
+     * パッセージは記事の現在値から作り直し、分割元のバージョンが同じなら何もしないので、重複配信されても結果は同じ
+     */
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.isDeleted()) {
+            indexer.remove(event.getArticleId());
+            return;
+        }
+        indexer.rechunk(event.getArticleId());
+    }
+
+    @Async(AsyncConfig.FAN_OUT_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillStaleChunks() {
+        long afterId = 0;
+        int rechunked = 0;
+        List<Long> articleIds;
+        do {
+            articleIds = chunkRepository.findArticleIdsWithStaleChunks(afterId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            for (Long articleId : articleIds) {
+                try {
+                    indexer.rechunk(articleId);
+                    rechunked++;
+                } catch (RuntimeException e) {
+                    log.warn("Knowledge article chunking failed: articleId={}", articleId, e);
+                }
+                afterId = articleId;
+            }
+        } while (articleIds.size() == BACKFILL_BATCH_SIZE);
+        if (rechunked > 0) {
+            log.info("Knowledge chunks backfilled: articles={}", rechunked);
+        }
+    }
+
+    /**
+     * キーワード一致とベクトル検索で関連するパッセージを選び、件数と合計文字数の上限に収める。
+     * レシピに紐付く記事は、検索で選ばれなかった場合も冒頭のパッセージを加える。
+     */
+    @Transactional(readOnly = true)
+    public List<KnowledgeChunk> findRelevantPassages(String query, Long recipeId) {
+        List<KnowledgeChunk> candidates = new ArrayList<>();
+        if (query != null && !query.isBlank()) {
+            List<KnowledgeChunk> keywordHits = searchByKeyword(query);
+            candidates.addAll(embeddingService.rankHybrid(query, keywordHits, properties.getMaxPassagesPerPrompt()));
+        }
+        if (recipeId != null) {
+            Set<Long> coveredArticleIds = candidates.stream()
+                    .map(chunk -> chunk.getArticle().getId())
+                    .collect(Collectors.toSet());
+            List<Long> linkedArticleIds = articleRepository.findByRelatedRecipeId(recipeId).stream()
+                    .map(KnowledgeArticle::getId)
+                    .filter(id -> !coveredArticleIds.contains(id))
+                    .toList();
+            if (!linkedArticleIds.isEmpty()) {
+                candidates.addAll(chunkRepository.findFirstChunksByArticleIdIn(linkedArticleIds));
+            }
+        }
+        return withinBudget(candidates);
+    }
+
+    /**
+     * キーワード検索はIDだけを関連度順に引き、記事とカテゴリを付けて読み直してから順序を戻す
+     */
+    private List<KnowledgeChunk> searchByKeyword(String query) {
+        List<Long> ids = chunkRepository.searchIdsByKeyword(query, properties.getKeywordCandidates());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, KnowledgeChunk> chunks = new HashMap<>();
+        chunkRepository.findWithArticleByIdIn(ids).forEach(chunk -> chunks.put(chunk.getId(), chunk));
+        return ids.stream().map(chunks::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * パッセージが属する記事を重複なく、パッセージの順に返す（AIメッセージの参照記事として保存する）
+     */
+    public static List<KnowledgeArticle> articlesOf(Collection<KnowledgeChunk> passages) {
+        Map<Long, KnowledgeArticle> articles = new LinkedHashMap<>();
+        passages.forEach(chunk -> articles.putIfAbsent(chunk.getArticle().getId(), chunk.getArticle()));
+        return new ArrayList<>(articles.values());
+    }
+
+    /**
+     * 候補の順に、件数・合計文字数・1記事あたりの件数の上限に収まるものを選ぶ。
+     * 1つの長い記事のパッセージだけでプロンプトが埋まらないよう、記事ごとの件数を抑える
+     */
+    private List<KnowledgeChunk> withinBudget(List<KnowledgeChunk> candidates) {
+        List<KnowledgeChunk> selected = new ArrayList<>();
+        Map<Long, Integer> perArticle = new HashMap<>();
+        int totalChars = 0;
+        for (KnowledgeChunk chunk : candidates) {
+            if (selected.size() >= properties.getMaxPassagesPerPrompt()) {
+                break;
+            }
+            if (totalChars + chunk.getContent().length() > properties.getMaxPromptChars() && !selected.isEmpty()) {
+                continue;
+            }
+            Long articleId = chunk.getArticle().getId();
+            if (perArticle.getOrDefault(articleId, 0) >= properties.getMaxPassagesPerArticle()) {
+                continue;
+            }
+            selected.add(chunk);
+            perArticle.merge(articleId, 1, Integer::sum);
+            totalChars += chunk.getContent().length();
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,353 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.ai.EmbeddingModel;
+import com.recipe.manager.common.TransactionCallbacks;
+import com.recipe.manager.config.AsyncConfig;
+import com.recipe.manager.config.EmbeddingProperties;
+import com.recipe.manager.entity.KnowledgeChunk;
+import com.recipe.manager.entity.KnowledgeEmbedding;
+import com.recipe.manager.repository.KnowledgeChunkRepository;
+import com.recipe.manager.repository.KnowledgeEmbeddingRepository;
+import com.recipe.manager.search.HnswIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * ナレッジ記事のパッセージごとの埋め込みベクトルを knowledge_embeddings に保存し、アプリ内のHNSW索引で近傍検索する。
+ * 索引は定期的にファイルへスナップショットし、起動時はスナップショット以降の差分だけをDBから反映する。
+ * 索引はノードごとに持つので、自ノードの変更はコミット後に反映し、他ノードの変更は定期的な追従でDBから取り込む。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KnowledgeEmbeddingService {
+
+    private static final int BATCH_SIZE = 500;
+    /** サーバー間の時計のずれと書き込み中のトランザクションを見込み、差分は少し前から読み直す */
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+    /** Reciprocal Rank Fusion の定数。大きいほど下位の結果の寄与が相対的に増える */
+    private static final double RRF_K = 60;
+
+    private final EmbeddingProperties properties;
+    private final EmbeddingModel embeddingModel;
+    private final KnowledgeEmbeddingRepository embeddingRepository;
+    private final KnowledgeChunkRepository chunkRepository;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile HnswIndex index;
+    private volatile boolean ready;
+    /** この時点までに更新された埋め込みは索引に反映済み */
+    private volatile LocalDateTime caughtUpAt;
+    /** パッセージごとに、索引に入れたベクトルの更新日時。追従で同じ版を入れ直さないために使う */
+    private final Map<Long, LocalDateTime> indexedVersions = new ConcurrentHashMap<>();
+
+    public boolean isReady() {
+        return properties.isEnabled() && ready;
+    }
+
+    @Async(AsyncConfig.FAN_OUT_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        HnswIndex.Snapshot snapshot = readSnapshot();
+        if (snapshot != null) {
+            index = snapshot.index();
+            LocalDateTime savedAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(snapshot.savedAtEpochMillis()), ZoneId.systemDefault());
+            applyRows(embeddingRepository.findByModelUpdatedSince(embeddingModel.name(),
+                    savedAt.minus(CATCH_UP_MARGIN)));
+            pruneRemoved(index);
+        } else {
+            index = buildFromDatabase();
+        }
+        // 読み込み中に届いた更新イベントとの競合で古いベクトルが残らないよう、開始時点以降をもう一度反映する
+        applyRows(embeddingRepository.findByModelUpdatedSince(embeddingModel.name(),
+                startedAt.minus(CATCH_UP_MARGIN)));
+        caughtUpAt = startedAt;
+        ready = true;
+        int embedded = backfillMissingEmbeddings();
+        log.info("Knowledge vector index loaded: vectors={}, fromSnapshot={}, backfilled={}",
+                index.size(), snapshot != null, embedded);
+    }
+
+    /**
+     * パッセージの作り直し時に KnowledgeChunkService から呼ばれる。chunks は記事を読み込み済みであること。
+     * ロールバックされた行が索引に残らないよう、索引への反映はコミット後に行う
+     */
+    public void embedChunks(List<KnowledgeChunk> chunks) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<KnowledgeEmbedding> rows = new ArrayList<>(chunks.size());
+        for (KnowledgeChunk chunk : chunks) {
+            float[] vector = embeddingModel.embed(embeddingInput(chunk));
+            rows.add(embeddingRepository.save(KnowledgeEmbedding.builder()
+                    .chunkId(chunk.getId())
+                    .model(embeddingModel.name())
+                    .dimensions(vector.length)
+                    .vector(toBytes(vector))
+                    .updatedAt(LocalDateTime.now())
+                    .build()));
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            HnswIndex current = index;
+            if (current != null) {
+                rows.forEach(row -> put(current, row));
+            }
+        });
+    }
+
+    /**
+     * 行はパッセージの削除に連動して消えるので、コミット後に索引からだけ外す
+     */
+    public void removeChunks(Collection<Long> chunkIds) {
+        List<Long> removed = List.copyOf(chunkIds);
+        TransactionCallbacks.afterCommit(() -> {
+            HnswIndex current = index;
+            if (current == null) {
+                return;
+            }
+            for (Long chunkId : removed) {
+                indexedVersions.remove(chunkId);
+                if (current.remove(chunkId)) {
+                    dirty.set(true);
+                }
+            }
+        });
+    }
+
+    /**
+     * 他ノードが書いた埋め込みを取り込む。更新は前回の追従時点以降の行を読み直し、索引に入れた版より新しいものだけ入れ直す。
+     * 削除は行数と索引の件数がずれたときだけ ID を突き合わせて外す
+     */
+    @Scheduled(fixedDelayString = "${app.embedding.catch-up-interval-ms:60000}")
+    public void catchUp() {
+        HnswIndex current = index;
+        if (!isReady() || current == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        embeddingRepository.findByModelUpdatedSince(embeddingModel.name(), caughtUpAt.minus(CATCH_UP_MARGIN)).stream()
+                .filter(this::isNewerThanIndexed)
+                .forEach(row -> put(current, row));
+        if (current.size() != embeddingRepository.countByModel(embeddingModel.name())) {
+            pruneRemoved(current);
+        }
+        caughtUpAt = startedAt;
+    }
+
+    public List<HnswIndex.Neighbor> searchSimilar(String query, int limit) {
+        HnswIndex current = index;
+        if (!isReady() || current == null || query == null || query.isBlank()) {
+            return List.of();
+        }
+        return current.search(embeddingModel.embed(query), limit, properties.getHnswEfSearch()).stream()
+                .filter(neighbor -> neighbor.score() >= properties.getMinScore())
+                .toList();
+    }
+
+    /**
+     * キーワード一致とベクトル検索の順位を Reciprocal Rank Fusion で統合し、上位 limit 件のパッセージを返す。
+     * ベクトル検索が使えない・該当がない場合はキーワード一致の結果をそのまま返す。
+     */
+    public List<KnowledgeChunk> rankHybrid(String query, List<KnowledgeChunk> keywordHits, int limit) {
+        List<HnswIndex.Neighbor> similar = searchSimilar(query, limit * 2);
+        if (similar.isEmpty()) {
+            return keywordHits;
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, KnowledgeChunk> chunks = new HashMap<>();
+        for (int rank = 0; rank < keywordHits.size(); rank++) {
+            KnowledgeChunk chunk = keywordHits.get(rank);
+            chunks.putIfAbsent(chunk.getId(), chunk);
+            scores.merge(chunk.getId(), 1 / (RRF_K + rank + 1), Double::sum);
+        }
+        for (int rank = 0; rank < similar.size(); rank++) {
+            scores.merge(similar.get(rank).key(), 1 / (RRF_K + rank + 1), Double::sum);
+        }
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+        List<Long> missing = ranked.stream().filter(id -> !chunks.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            chunkRepository.findWithArticleByIdIn(missing).forEach(chunk -> chunks.put(chunk.getId(), chunk));
+        }
+        return ranked.stream()
+                .map(chunks::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Scheduled(fixedDelayString = "${app.embedding.snapshot-interval-ms:600000}")
+    public void saveSnapshot() {
+        HnswIndex current = index;
+        if (!isReady() || current == null || !dirty.getAndSet(false)) {
+            return;
+        }
+        // 墓標が生きているノードより多くなったらDBから作り直して詰める
+        if (current.deletedCount() > Math.max(BATCH_SIZE, current.size())) {
+            LocalDateTime startedAt = LocalDateTime.now();
+            current = buildFromDatabase();
+            index = current;
+            applyRows(embeddingRepository.findByModelUpdatedSince(embeddingModel.name(),
+                    startedAt.minus(CATCH_UP_MARGIN)));
+            // 作り直し中の削除は古い索引にしか反映されていないので、DBにない行をここで外す
+            pruneRemoved(current);
+        }
+        long savedAt = System.currentTimeMillis();
+        try {
+            current.save(Path.of(properties.getIndexPath()), savedAt);
+            log.debug("Knowledge vector index saved: vectors={}", current.size());
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Knowledge vector index snapshot failed: path={}", properties.getIndexPath(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveSnapshot();
+    }
+
+    private HnswIndex.Snapshot readSnapshot() {
+        Path path = Path.of(properties.getIndexPath());
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            HnswIndex.Snapshot snapshot = HnswIndex.load(path);
+            if (snapshot.index().dimensions() != embeddingModel.dimensions()) {
+                log.info("Knowledge vector index snapshot ignored: dimensions changed");
+                return null;
+            }
+            return snapshot;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Knowledge vector index snapshot unreadable, rebuilding: path={}", path, e);
+            return null;
+        }
+    }
+
+    private HnswIndex buildFromDatabase() {
+        HnswIndex built = newIndex();
+        long afterId = 0;
+        List<KnowledgeEmbedding> rows;
+        do {
+            rows = embeddingRepository.findByModelAfter(embeddingModel.name(), afterId,
+                    PageRequest.of(0, BATCH_SIZE));
+            for (KnowledgeEmbedding row : rows) {
+                put(built, row);
+                afterId = row.getChunkId();
+            }
+        } while (rows.size() == BATCH_SIZE);
+        dirty.set(true);
+        return built;
+    }
+
+    private int backfillMissingEmbeddings() {
+        long afterId = 0;
+        int embedded = 0;
+        List<Long> chunkIds;
+        do {
+            chunkIds = embeddingRepository.findChunkIdsWithoutEmbedding(embeddingModel.name(), afterId,
+                    PageRequest.of(0, BATCH_SIZE));
+            if (chunkIds.isEmpty()) {
+                break;
+            }
+            try {
+                embedChunks(chunkRepository.findWithArticleByIdIn(chunkIds));
+                embedded += chunkIds.size();
+            } catch (RuntimeException e) {
+                log.warn("Knowledge embedding backfill failed: fromChunkId={}", chunkIds.get(0), e);
+            }
+            afterId = chunkIds.get(chunkIds.size() - 1);
+        } while (chunkIds.size() == BATCH_SIZE);
+        return embedded;
+    }
+
+    private String embeddingInput(KnowledgeChunk chunk) {
+        StringBuilder sb = new StringBuilder(chunk.getArticle().getTitle()).append('\n');
+        if (chunk.getHeading() != null) {
+            sb.append(chunk.getHeading()).append('\n');
+        }
+        String content = chunk.getContent();
+        sb.append(content, 0, Math.min(content.length(), properties.getMaxInputChars()));
+        return sb.toString();
+    }
+
+    private void applyRows(List<KnowledgeEmbedding> rows) {
+        HnswIndex current = index;
+        rows.forEach(row -> put(current, row));
+    }
+
+    private void pruneRemoved(HnswIndex target) {
+        Set<Long> removed = target.keys();
+        removed.removeAll(embeddingRepository.findChunkIdsByModel(embeddingModel.name()));
+        removed.forEach(chunkId -> {
+            indexedVersions.remove(chunkId);
+            if (target.remove(chunkId)) {
+                dirty.set(true);
+            }
+        });
+    }
+
+    private void put(HnswIndex target, KnowledgeEmbedding row) {
+        if (row.getDimensions() != target.dimensions()) {
+            return;
+        }
+        target.put(row.getChunkId(), fromBytes(row.getVector()));
+        indexedVersions.put(row.getChunkId(), row.getUpdatedAt());
+        dirty.set(true);
+    }
+
+    private boolean isNewerThanIndexed(KnowledgeEmbedding row) {
+        LocalDateTime indexed = indexedVersions.get(row.getChunkId());
+        return indexed == null || row.getUpdatedAt().isAfter(indexed);
+    }
+
+    private HnswIndex newIndex() {
+        return new HnswIndex(embeddingModel.dimensions(), properties.getHnswM(), properties.getHnswEfConstruction());
+    }
+
+    static byte[] toBytes(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    static float[] fromBytes(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
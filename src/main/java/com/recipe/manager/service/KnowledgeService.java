@@ -2,17 +2,22 @@ package com.recipe.manager.service;
 
 import com.recipe.manager.dto.request.CreateKnowledgeArticleRequest;
 import com.recipe.manager.dto.request.UpdateKnowledgeArticleRequest;
+import com.recipe.manager.dto.response.KnowledgeSearchResponse;
 import com.recipe.manager.entity.KnowledgeArticle;
 import com.recipe.manager.entity.KnowledgeCategory;
 import com.recipe.manager.entity.Recipe;
 import com.recipe.manager.entity.RecipeStatus;
 import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.event.ArticleChangedEvent;
+import com.recipe.manager.event.DomainEventPublisher;
+import com.recipe.manager.exception.ConflictException;
 import com.recipe.manager.exception.ForbiddenException;
 import com.recipe.manager.exception.ResourceNotFoundException;
 import com.recipe.manager.repository.KnowledgeArticleRepository;
 import com.recipe.manager.repository.KnowledgeCategoryRepository;
 import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.search.TextNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,8 +25,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Slf4j
 @Service
@@ -31,6 +39,8 @@ public class KnowledgeService {
     private final KnowledgeCategoryRepository categoryRepository;
     private final KnowledgeArticleRepository articleRepository;
     private final RecipeRepository recipeRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final KnowledgeTagService knowledgeTagService;
 
     @Transactional(readOnly = true)
     public List<KnowledgeCategory> getAllCategories() {
@@ -56,6 +66,11 @@ public class KnowledgeService {
         }
 
         KnowledgeArticle saved = articleRepository.save(article);
+        categoryRepository.adjustArticleCounts(category.getId(), 1);
+        if (saved.getTags() != null) {
+            knowledgeTagService.syncTags(saved.getId(), saved.getTags());
+        }
+        publishArticleChanged(saved.getId(), false, List.of(), saved.getRelatedRecipes());
         log.info("Knowledge article created: id={}, title={}, by={}",
                 saved.getId(), saved.getTitle(), currentUser.getEmail());
         return saved;
@@ -68,22 +83,43 @@ public class KnowledgeService {
     }
 
     @Transactional(readOnly = true)
-    public Page<KnowledgeArticle> listArticles(Long categoryId, Pageable pageable) {
+    public Long getArticleVersion(Long id) {
+        return articleRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("KnowledgeArticle", id));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<KnowledgeArticle> listArticles(Long categoryId, boolean includeDescendants, Pageable pageable) {
+        if (categoryId != null && includeDescendants) {
+            KnowledgeCategory category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new ResourceNotFoundException("KnowledgeCategory", categoryId));
+            return articleRepository.findByCategoryPathStartingWith(category.getPath(), pageable);
+        }
         if (categoryId != null) {
             return articleRepository.findByCategoryId(categoryId, pageable);
         }
         return articleRepository.findAll(pageable);
     }
 
+    /**
+     * キーワードに一致する記事と、それらの記事のタグごとの記事数を同じスナップショットで返す
+     */
     @Transactional(readOnly = true)
-    public List<KnowledgeArticle> searchArticles(String keyword) {
-        return articleRepository.searchByKeyword(keyword);
+    public KnowledgeSearchResponse searchArticles(String keyword) {
+        List<KnowledgeArticle> articles = articleRepository.searchByKeyword(keyword, TextNormalizer.normalize(keyword));
+        if (articles.isEmpty()) {
+            return KnowledgeSearchResponse.from(articles, List.of());
+        }
+        return KnowledgeSearchResponse.from(articles, knowledgeTagService.getKeywordFacets(keyword));
     }
 
     @Transactional
     public KnowledgeArticle updateArticle(Long id, UpdateKnowledgeArticleRequest request, User currentUser) {
         KnowledgeArticle article = getArticleById(id);
         validateArticleEditPermission(article, currentUser);
+        if (request.getVersion() != null && !request.getVersion().equals(article.getVersion())) {
+            throw new ConflictException("ナレッジ記事は他のユーザーによって更新されています", article.getVersion());
+        }
 
         if (request.getTitle() != null) {
             article.setTitle(request.getTitle());
@@ -91,20 +127,28 @@ public class KnowledgeService {
         if (request.getContent() != null) {
             article.setContent(request.getContent());
         }
-        if (request.getCategoryId() != null) {
+        if (request.getCategoryId() != null && !request.getCategoryId().equals(article.getCategory().getId())) {
             KnowledgeCategory category = categoryRepository.findById(request.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("KnowledgeCategory", request.getCategoryId()));
+            categoryRepository.adjustArticleCounts(article.getCategory().getId(), -1);
+            categoryRepository.adjustArticleCounts(category.getId(), 1);
             article.setCategory(category);
         }
         if (request.getTags() != null) {
             article.setTags(request.getTags());
         }
+        List<Recipe> previous = new ArrayList<>(article.getRelatedRecipes());
         if (request.getRelatedRecipeIds() != null) {
             List<Recipe> recipes = resolveRecipes(request.getRelatedRecipeIds());
             article.setRelatedRecipes(recipes);
+            article.setUpdatedAt(LocalDateTime.now());
         }
 
         KnowledgeArticle saved = articleRepository.save(article);
+        if (request.getTags() != null) {
+            knowledgeTagService.syncTags(id, saved.getTags());
+        }
+        publishArticleChanged(id, false, previous, saved.getRelatedRecipes());
         log.info("Knowledge article updated: id={}, by={}", id, currentUser.getEmail());
         return saved;
     }
@@ -113,10 +157,20 @@ public class KnowledgeService {
     public void deleteArticle(Long id, User currentUser) {
         KnowledgeArticle article = getArticleById(id);
         validateArticleEditPermission(article, currentUser);
+        List<Recipe> previous = new ArrayList<>(article.getRelatedRecipes());
         articleRepository.delete(article);
+        categoryRepository.adjustArticleCounts(article.getCategory().getId(), -1);
+        publishArticleChanged(id, true, previous, List.of());
         log.info("Knowledge article deleted: id={}, by={}", id, currentUser.getEmail());
     }
 
+    private void publishArticleChanged(Long articleId, boolean deleted, List<Recipe> before, List<Recipe> after) {
+        Set<Long> recipeIds = new TreeSet<>();
+        before.forEach(recipe -> recipeIds.add(recipe.getId()));
+        after.forEach(recipe -> recipeIds.add(recipe.getId()));
+        eventPublisher.publish(new ArticleChangedEvent(articleId, deleted, recipeIds));
+    }
+
     private void validateArticleEditPermission(KnowledgeArticle article, User currentUser) {
         if (currentUser.getRole() == Role.PRODUCER) {
             return;
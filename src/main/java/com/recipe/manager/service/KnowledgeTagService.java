@@ -0,0 +1,136 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.dto.response.TagFacetResponse;
+import com.recipe.manager.dto.response.TaggedArticlesResponse;
+import com.recipe.manager.entity.KnowledgeArticle;
+import com.recipe.manager.entity.KnowledgeTag;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.repository.KnowledgeArticleRepository;
+import com.recipe.manager.repository.KnowledgeArticleTagRepository;
+import com.recipe.manager.repository.KnowledgeTagRepository;
+import com.recipe.manager.search.MatchMode;
+import com.recipe.manager.search.TagParser;
+import com.recipe.manager.search.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ナレッジ記事のタグ。記事の tags 文字列は入力どおりに残し、正規化したタグと記事の対応を
+ * knowledge_article_tags に持つ。絞り込みとファセット集計は (tag_id, article_id) の索引だけで行う。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KnowledgeTagService {
+
+    private final KnowledgeTagRepository tagRepository;
+    private final KnowledgeArticleTagRepository articleTagRepository;
+    private final KnowledgeArticleRepository articleRepository;
+
+    /**
+     * 記事のタグ対応を tags 文字列に合わせる。増えたタグだけ登録し、外れたタグだけ削除する
+     */
+    @Transactional
+    public void syncTags(Long articleId, String tags) {
+        Map<String, String> parsed = TagParser.parse(tags);
+        Set<Long> desired = new HashSet<>();
+        for (KnowledgeTag tag : resolveOrCreate(parsed)) {
+            desired.add(tag.getId());
+        }
+        Set<Long> current = new HashSet<>(articleTagRepository.findTagIdsByArticleId(articleId));
+
+        List<Long> removed = current.stream().filter(id -> !desired.contains(id)).toList();
+        if (!removed.isEmpty()) {
+            articleTagRepository.deleteByArticleIdAndTagIdIn(articleId, removed);
+        }
+        for (Long tagId : desired) {
+            if (!current.contains(tagId)) {
+                articleTagRepository.insertIfAbsent(articleId, tagId);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public TaggedArticlesResponse findByTags(List<String> tagNames, MatchMode match, Pageable pageable) {
+        Set<String> normalized = new HashSet<>();
+        for (String name : tagNames) {
+            normalized.addAll(TagParser.parse(name).keySet());
+        }
+        if (normalized.isEmpty()) {
+            throw new BusinessLogicException("タグを1つ以上指定してください");
+        }
+        if (normalized.size() > Constants.MAX_FILTER_TAGS) {
+            throw new BusinessLogicException("タグは" + Constants.MAX_FILTER_TAGS + "個以内で指定してください");
+        }
+        List<Long> tagIds = tagRepository.findByNormalizedNameIn(normalized).stream()
+                .map(KnowledgeTag::getId)
+                .toList();
+        // ALL で未登録のタグが含まれる場合は、該当する記事がない
+        if (tagIds.isEmpty() || (match == MatchMode.ALL && tagIds.size() < normalized.size())) {
+            return TaggedArticlesResponse.from(Page.empty(pageable), List.of());
+        }
+
+        Pageable facetLimit = PageRequest.of(0, Constants.DEFAULT_TAG_FACET_LIMIT);
+        Page<KnowledgeArticle> articles;
+        List<KnowledgeTagRepository.TagCountRef> facets;
+        if (match == MatchMode.ALL) {
+            articles = articleRepository.findTaggedAll(tagIds, tagIds.size(), pageable);
+            facets = tagRepository.countArticlesTaggedAll(tagIds, tagIds.size(), facetLimit);
+        } else {
+            articles = articleRepository.findTaggedAny(tagIds, pageable);
+            facets = tagRepository.countArticlesTaggedAny(tagIds, facetLimit);
+        }
+        return TaggedArticlesResponse.from(articles, facets.stream().map(TagFacetResponse::from).toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<TagFacetResponse> getTagFacets(int limit) {
+        int size = Math.max(1, Math.min(limit, Constants.MAX_TAG_FACET_LIMIT));
+        return tagRepository.countArticles(PageRequest.of(0, size)).stream()
+                .map(TagFacetResponse::from)
+                .toList();
+    }
+
+    /**
+     * キーワード検索に一致する記事のタグごとの記事数
+     */
+    @Transactional(readOnly = true)
+    public List<TagFacetResponse> getKeywordFacets(String keyword) {
+        return tagRepository.countArticlesMatchingKeyword(keyword, TextNormalizer.normalize(keyword),
+                        PageRequest.of(0, Constants.DEFAULT_TAG_FACET_LIMIT)).stream()
+                .map(TagFacetResponse::from)
+                .toList();
+    }
+
+    private List<KnowledgeTag> resolveOrCreate(Map<String, String> parsed) {
+        if (parsed.isEmpty()) {
+            return List.of();
+        }
+        List<KnowledgeTag> tags = new ArrayList<>(tagRepository.findByNormalizedNameIn(parsed.keySet()));
+        if (tags.size() == parsed.size()) {
+            return tags;
+        }
+        Set<String> known = new HashSet<>();
+        tags.forEach(tag -> known.add(tag.getNormalizedName()));
+        // 同じタグを含む記事が並行して保存されてもデッドロックしないよう、一意索引のロックを名前順に取る
+        List<String> missing = parsed.keySet().stream().filter(key -> !known.contains(key)).sorted().toList();
+        for (String key : missing) {
+            tagRepository.insertIfAbsent(parsed.get(key), key);
+        }
+        tags.addAll(tagRepository.findByNormalizedNameIn(missing));
+        log.debug("Knowledge tags registered: {}", missing);
+        return tags;
+    }
+}
@@ -0,0 +1,54 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.entity.Notification;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+
+    @Transactional(readOnly = true)
+    public Page<Notification> listNotifications(User currentUser, boolean unreadOnly, Pageable pageable) {
+        if (unreadOnly) {
+            return notificationRepository.findByRecipientIdAndReadFalseOrderByCreatedAtDesc(
+                    currentUser.getId(), pageable);
+        }
+        return notificationRepository.findByRecipientIdOrderByCreatedAtDesc(currentUser.getId(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnread(User currentUser) {
+        return notificationRepository.countByRecipientIdAndReadFalse(currentUser.getId());
+    }
+
+    @Transactional
+    public Notification markAsRead(Long id, User currentUser) {
+        Notification notification = notificationRepository.findByIdAndRecipientId(id, currentUser.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Notification", id));
+        notification.setRead(true);
+        return notificationRepository.save(notification);
+    }
+
+    @Transactional
+    public int markAllAsRead(User currentUser) {
+        return notificationRepository.markAllAsRead(currentUser.getId());
+    }
+
+    @Transactional
+    public void createAll(List<Notification> notifications) {
+        notificationRepository.saveAll(notifications);
+    }
+}
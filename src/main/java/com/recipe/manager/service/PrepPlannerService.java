@@ -0,0 +1,137 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.dto.request.PrepPlanRequest;
+import com.recipe.manager.dto.response.PrepPlanResponse;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.kitchen.Measure;
+import com.recipe.manager.kitchen.UnitConverter;
+import com.recipe.manager.repository.RecipeIngredientRepository;
+import com.recipe.manager.repository.RecipeIngredientRepository.PrepLine;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.RecipeRepository.PrepSummaryRef;
+import com.recipe.manager.search.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * メニュー全体の仕込み量を集計する。レシピ数に関わらず、レシピ概要（調理時間の合計を含む）と
+ * 食材行をそれぞれ1回のクエリで取得し、食材ごとの合計は基準単位（g / ml）で積み上げる。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrepPlannerService {
+
+    private static final int DIVISION_SCALE = 6;
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+
+    @Transactional(readOnly = true)
+    public PrepPlanResponse plan(List<PrepPlanRequest.Item> items) {
+        Map<Long, Integer> coversByRecipe = new LinkedHashMap<>();
+        for (PrepPlanRequest.Item item : items) {
+            coversByRecipe.merge(item.getRecipeId(), item.getCovers(), Integer::sum);
+        }
+
+        Map<Long, PrepSummaryRef> summaries = recipeRepository
+                .findPrepSummariesByIdInAndStatusNot(coversByRecipe.keySet(), RecipeStatus.DELETED).stream()
+                .collect(Collectors.toMap(PrepSummaryRef::getId, Function.identity()));
+        List<PrepPlanResponse.RecipeLine> recipeLines = new ArrayList<>(coversByRecipe.size());
+        long totalPrepMinutes = 0;
+        for (Map.Entry<Long, Integer> entry : coversByRecipe.entrySet()) {
+            PrepSummaryRef summary = summaries.get(entry.getKey());
+            if (summary == null) {
+                throw new ResourceNotFoundException("Recipe", entry.getKey());
+            }
+            if (summary.getServings() == null || summary.getServings() <= 0) {
+                throw new BusinessLogicException(
+                        "レシピの基準人数が設定されていないため集計できません: " + summary.getTitle());
+            }
+            totalPrepMinutes += summary.getPrepMinutes();
+            recipeLines.add(PrepPlanResponse.RecipeLine.builder()
+                    .recipeId(summary.getId())
+                    .title(summary.getTitle())
+                    .baseServings(summary.getServings())
+                    .covers(entry.getValue())
+                    .prepMinutes(summary.getPrepMinutes())
+                    .build());
+        }
+
+        Map<String, IngredientAccumulator> totals = new LinkedHashMap<>();
+        for (PrepLine line : recipeIngredientRepository.findPrepLinesByRecipeIdIn(coversByRecipe.keySet())) {
+            Measure base = UnitConverter.toBase(line.getQuantity(), line.getUnit());
+            String key = line.getIngredientId() + "|" + (base.isConvertible()
+                    ? base.getDimension().name()
+                    : TextNormalizer.normalize(line.getUnit()));
+            IngredientAccumulator accumulator = totals.computeIfAbsent(key,
+                    k -> new IngredientAccumulator(line.getIngredientId(), line.getIngredientName(), base));
+            BigDecimal scaled = base.getQuantity() == null ? null : base.getQuantity()
+                    .multiply(BigDecimal.valueOf(coversByRecipe.get(line.getRecipeId())))
+                    .divide(BigDecimal.valueOf(summaries.get(line.getRecipeId()).getServings()),
+                            DIVISION_SCALE, RoundingMode.HALF_UP);
+            accumulator.add(line.getRecipeId(), scaled);
+        }
+
+        List<PrepPlanResponse.IngredientTotal> ingredientTotals = totals.values().stream()
+                .map(IngredientAccumulator::toTotal)
+                .toList();
+
+        log.debug("Prep plan computed: recipes={}, ingredientLines={}", recipeLines.size(), ingredientTotals.size());
+        return PrepPlanResponse.builder()
+                .totalCovers(coversByRecipe.values().stream().mapToInt(Integer::intValue).sum())
+                .totalPrepMinutes(totalPrepMinutes)
+                .recipes(recipeLines)
+                .ingredients(ingredientTotals)
+                .build();
+    }
+
+    private static class IngredientAccumulator {
+        private final Long ingredientId;
+        private final String ingredientName;
+        private final String unit;
+        private final UnitConverter.Dimension dimension;
+        private final Set<Long> recipeIds = new HashSet<>();
+        private BigDecimal quantity;
+
+        IngredientAccumulator(Long ingredientId, String ingredientName, Measure base) {
+            this.ingredientId = ingredientId;
+            this.ingredientName = ingredientName;
+            this.unit = base.getUnit();
+            this.dimension = base.getDimension();
+        }
+
+        void add(Long recipeId, BigDecimal scaled) {
+            recipeIds.add(recipeId);
+            if (scaled != null) {
+                quantity = quantity == null ? scaled : quantity.add(scaled);
+            }
+        }
+
+        PrepPlanResponse.IngredientTotal toTotal() {
+            Measure display = UnitConverter.toDisplay(new Measure(quantity, unit, dimension));
+            return PrepPlanResponse.IngredientTotal.builder()
+                    .ingredientId(ingredientId)
+                    .ingredientName(ingredientName)
+                    .quantity(display.getQuantity())
+                    .unit(display.getUnit())
+                    .recipeCount(recipeIds.size())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.config.CacheConfig;
+import com.recipe.manager.dto.request.ScaleRecipesRequest;
+import com.recipe.manager.dto.response.ScaledRecipeResponse;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeIngredient;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.kitchen.Measure;
+import com.recipe.manager.kitchen.UnitConverter;
+import com.recipe.manager.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeScalingService {
+
+    private final RecipeRepository recipeRepository;
+    private final CacheManager cacheManager;
+
+    @Transactional(readOnly = true)
+    public ScaledRecipeResponse scaleRecipe(Long recipeId, int servings) {
+        return scaleRecipes(List.of(new ScaleRecipesRequest.Item(recipeId, servings))).get(0);
+    }
+
+    /**
+     * バージョン確認は1クエリでまとめて行い、キャッシュにない組み合わせのレシピだけを食材ごと一括で読み込む。
+     */
+    @Transactional(readOnly = true)
+    public List<ScaledRecipeResponse> scaleRecipes(List<ScaleRecipesRequest.Item> items) {
+        items.forEach(item -> validateServings(item.getServings()));
+
+        Set<Long> recipeIds = items.stream()
+                .map(ScaleRecipesRequest.Item::getRecipeId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Long> versions = recipeRepository.findVersionRefsByIdInAndStatusNot(recipeIds, RecipeStatus.DELETED)
+                .stream()
+                .collect(Collectors.toMap(RecipeRepository.VersionRef::getId, RecipeRepository.VersionRef::getVersion));
+        for (Long recipeId : recipeIds) {
+            if (!versions.containsKey(recipeId)) {
+                throw new ResourceNotFoundException("Recipe", recipeId);
+            }
+        }
+
+        Cache cache = cacheManager.getCache(CacheConfig.SCALED_RECIPES);
+        List<ScaledRecipeResponse> results = new ArrayList<>(items.size());
+        Map<Integer, ScaleRecipesRequest.Item> misses = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            ScaleRecipesRequest.Item item = items.get(i);
+            ScaledRecipeResponse cached = cache == null ? null
+                    : cache.get(cacheKey(item.getRecipeId(), versions.get(item.getRecipeId()), item.getServings()),
+                            ScaledRecipeResponse.class);
+            results.add(cached);
+            if (cached == null) {
+                misses.put(i, item);
+            }
+        }
+        if (misses.isEmpty()) {
+            return results;
+        }
+
+        Set<Long> missingIds = misses.values().stream()
+                .map(ScaleRecipesRequest.Item::getRecipeId)
+                .collect(Collectors.toSet());
+        Map<Long, Recipe> recipes = recipeRepository.findWithIngredientsByIdIn(missingIds).stream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+
+        misses.forEach((index, item) -> {
+            Recipe recipe = recipes.get(item.getRecipeId());
+            ScaledRecipeResponse scaled = scale(recipe, item.getServings());
+            if (cache != null) {
+                cache.put(cacheKey(recipe.getId(), recipe.getVersion(), item.getServings()), scaled);
+            }
+            results.set(index, scaled);
+        });
+        log.debug("Recipes scaled: requested={}, computed={}", items.size(), misses.size());
+        return results;
+    }
+
+    private ScaledRecipeResponse scale(Recipe recipe, int servings) {
+        Integer baseServings = recipe.getServings();
+        if (baseServings == null || baseServings <= 0) {
+            throw new BusinessLogicException("レシピの基準人数が設定されていないため換算できません: " + recipe.getTitle());
+        }
+
+        List<ScaledRecipeResponse.ScaledIngredient> ingredients = recipe.getIngredients().stream()
+                .map(ri -> scaleIngredient(ri, servings, baseServings))
+                .toList();
+
+        return ScaledRecipeResponse.builder()
+                .recipeId(recipe.getId())
+                .title(recipe.getTitle())
+                .version(recipe.getVersion())
+                .baseServings(baseServings)
+                .servings(servings)
+                .ingredients(ingredients)
+                .build();
+    }
+
+    private ScaledRecipeResponse.ScaledIngredient scaleIngredient(RecipeIngredient ri, int servings, int baseServings) {
+        Measure scaled = UnitConverter.scale(ri.getQuantity(), ri.getUnit(), servings, baseServings);
+        return ScaledRecipeResponse.ScaledIngredient.builder()
+                .ingredientId(ri.getIngredient().getId())
+                .ingredientName(ri.getIngredient().getName())
+                .originalQuantity(ri.getQuantity())
+                .originalUnit(ri.getUnit())
+                .quantity(scaled.getQuantity())
+                .unit(scaled.getUnit())
+                .preparationNote(ri.getPreparationNote())
+                .build();
+    }
+
+    private void validateServings(Integer servings) {
+        if (servings == null || servings < 1 || servings > Constants.MAX_SCALED_SERVINGS) {
+            throw new BusinessLogicException("人数は1以上" + Constants.MAX_SCALED_SERVINGS + "以下で指定してください");
+        }
+    }
+
+    private static String cacheKey(Long recipeId, Long version, int servings) {
+        return recipeId + ":" + Objects.requireNonNullElse(version, 0L) + ":" + servings;
+    }
+}
@@ -0,0 +1,123 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.entity.FeedbackSummary;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeScorecard;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.entity.SummaryPeriodType;
+import com.recipe.manager.repository.FeedbackSummaryRepository;
+import com.recipe.manager.repository.KnowledgeArticleRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository.FeedbackTotalsRef;
+import com.recipe.manager.repository.RecipeHistoryRepository;
+import com.recipe.manager.repository.RecipeHistoryRepository.EditStatsRef;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.RecipeScorecardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * レシピのスコアカードを元データから作り直す。
+ * 差分を積み上げず毎回集計し直すため、同じイベントを重複して処理しても結果は変わらない。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeScorecardProjector {
+
+    private static final int SLOPE_DAYS = 30;
+
+    private final RecipeRepository recipeRepository;
+    private final ProductFeedbackRepository feedbackRepository;
+    private final FeedbackSummaryRepository summaryRepository;
+    private final RecipeHistoryRepository recipeHistoryRepository;
+    private final KnowledgeArticleRepository articleRepository;
+    private final RecipeScorecardRepository scorecardRepository;
+
+    /**
+     * 呼び出し元のトランザクションはコミット済み（イベントのAFTER_COMMIT）のことがあるため、常に新しいトランザクションで書き込む。
+     * 削除済み・存在しないレシピはスコアカードを消して空を返す。
+     * レシピとナレッジ記事のイベントは別のストライプで並行して届くため、集計を読む前にスコアカードの行をロックし、
+     * 後からロックを取った方が先の書き込みを含む最新の集計で上書きするようにする。
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<RecipeScorecard> refresh(Long recipeId) {
+        scorecardRepository.insertIfAbsent(recipeId);
+        Optional<RecipeScorecard> locked = scorecardRepository.findForUpdate(recipeId);
+        Optional<Recipe> found = recipeRepository.findByIdAndStatusNot(recipeId, RecipeStatus.DELETED);
+        if (found.isEmpty()) {
+            locked.ifPresent(scorecardRepository::delete);
+            return Optional.empty();
+        }
+        Recipe recipe = found.get();
+
+        RecipeScorecard scorecard = locked.orElseGet(() -> RecipeScorecard.builder().recipeId(recipeId).build());
+        scorecard.setTitle(recipe.getTitle());
+        scorecard.setStatus(recipe.getStatus());
+
+        FeedbackTotalsRef totals = feedbackRepository.findTotalsByRecipeId(recipeId);
+        scorecard.setFeedbackCount(totals.getFeedbackCount());
+        scorecard.setAvgSatisfaction(round(totals.getAvgSatisfaction(), 2));
+        scorecard.setLastFeedbackAt(totals.getLastFeedbackAt());
+
+        // 週次・月次・任意期間が混ざると長さの違う期間どうしで傾きを取ってしまうため、週次の集計だけを使う
+        List<FeedbackSummary> summaries = summaryRepository.findTop6ByRecipeIdAndPeriodTypeOrderByPeriodStartDesc(
+                recipeId, SummaryPeriodType.WEEKLY);
+        FeedbackSummary latest = summaries.isEmpty() ? null : summaries.get(0);
+        scorecard.setLatestAvgSatisfaction(latest != null ? latest.getAvgSatisfaction() : null);
+        scorecard.setLatestAvgEmotion(latest != null ? latest.getAvgEmotion() : null);
+        scorecard.setLatestPeriodStart(latest != null ? latest.getPeriodStart() : null);
+        scorecard.setLatestPeriodEnd(latest != null ? latest.getPeriodEnd() : null);
+        scorecard.setTrendSlope(round(trendSlope(summaries), 3));
+
+        EditStatsRef editStats = recipeHistoryRepository.findEditStatsByRecipeId(recipeId);
+        scorecard.setLastEditedAt(editStats.getLastChangedAt() != null
+                ? editStats.getLastChangedAt() : recipe.getUpdatedAt());
+        scorecard.setEditorCount(editStats.getEditorCount().intValue());
+        scorecard.setLinkedArticleCount((int) articleRepository.countByRelatedRecipeId(recipeId));
+
+        RecipeScorecard saved = scorecardRepository.save(scorecard);
+        log.debug("Recipe scorecard refreshed: recipeId={}", recipeId);
+        return Optional.of(saved);
+    }
+
+    /**
+     * 集計期間の中央日をx、平均満足度をyとした最小二乗の傾きを30日あたりに換算する。2期間未満ならnull
+     */
+    static Double trendSlope(List<FeedbackSummary> summaries) {
+        if (summaries.size() < 2) {
+            return null;
+        }
+        int n = summaries.size();
+        double meanX = 0;
+        double meanY = 0;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            FeedbackSummary summary = summaries.get(i);
+            xs[i] = (summary.getPeriodStart().toEpochDay() + summary.getPeriodEnd().toEpochDay()) / 2.0;
+            ys[i] = summary.getAvgSatisfaction().doubleValue();
+            meanX += xs[i] / n;
+            meanY += ys[i] / n;
+        }
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < n; i++) {
+            covariance += (xs[i] - meanX) * (ys[i] - meanY);
+            variance += (xs[i] - meanX) * (xs[i] - meanX);
+        }
+        return variance == 0 ? null : covariance / variance * SLOPE_DAYS;
+    }
+
+    private static BigDecimal round(Double value, int scale) {
+        return value != null ? BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP) : null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.config.AsyncConfig;
+import com.recipe.manager.entity.RecipeScorecard;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.event.ArticleChangedEvent;
+import com.recipe.manager.event.FeedbackChangedEvent;
+import com.recipe.manager.event.FeedbackSummaryChangedEvent;
+import com.recipe.manager.event.RecipeChangedEvent;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.repository.RecipeScorecardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeScorecardService {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final RecipeScorecardRepository scorecardRepository;
+    private final RecipeScorecardProjector projector;
+
+    /**
+     * 読み取りはスコアカード1行の主キー参照のみ。未作成（起動直後のバックフィル前など）の場合だけその場で作る。
+     */
+    public RecipeScorecard getScorecard(Long recipeId) {
+        return scorecardRepository.findById(recipeId)
+                .filter(scorecard -> scorecard.getStatus() != RecipeStatus.DELETED)
+                .or(() -> projector.refresh(recipeId))
+                .orElseThrow(() -> new ResourceNotFoundException("Recipe", recipeId));
+    }
+
+    public Page<RecipeScorecard> listScorecards(RecipeStatus status, Pageable pageable) {
+        return scorecardRepository.findRankedByStatus(status != null ? status : RecipeStatus.PUBLISHED, pageable);
+    }
+
+    /*
+     * ドメインイベントはアウトボックスから配信されるため、失敗時は例外をそのまま返して再送させる。
+     * スコアカードは毎回元データから作り直すので、同じイベントを重複して受け取っても結果は変わらない。
+     */
+    @EventListener
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        refresh(event.getRecipeId());
+    }
+
+    @EventListener
+    public void onFeedbackChanged(FeedbackChangedEvent event) {
+        refresh(event.getRecipeId());
+    }
+
+    @EventListener
+    public void onFeedbackSummaryChanged(FeedbackSummaryChangedEvent event) {
+        refresh(event.getRecipeId());
+    }
+
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        event.getRelatedRecipeIds().forEach(this::refresh);
+    }
+
+    @Async(AsyncConfig.FAN_OUT_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingScorecards() {
+        long afterId = 0;
+        int created = 0;
+        List<Long> recipeIds;
+        do {
+            recipeIds = scorecardRepository.findRecipeIdsWithoutScorecard(
+                    RecipeStatus.DELETED, afterId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            for (Long recipeId : recipeIds) {
+                refreshQuietly(recipeId);
+                afterId = recipeId;
+                created++;
+            }
+        } while (recipeIds.size() == BACKFILL_BATCH_SIZE);
+        if (created > 0) {
+            log.info("Recipe scorecards backfilled: count={}", created);
+        }
+    }
+
+    /**
+     * 同じレシピのスコアカードを同時に新規作成した場合だけ一意制約違反になるので、1回だけやり直す。
+     */
+    private void refresh(Long recipeId) {
+        try {
+            projector.refresh(recipeId);
+        } catch (DataIntegrityViolationException e) {
+            projector.refresh(recipeId);
+        }
+    }
+
+    private void refreshQuietly(Long recipeId) {
+        try {
+            refresh(recipeId);
+        } catch (RuntimeException e) {
+            log.warn("Recipe scorecard refresh failed: recipeId={}", recipeId, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.RecipeSearchDocumentRepository;
+import com.recipe.manager.search.RecipeTextAnalyzer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * レシピの全文検索用文書を現在の行から作り直す。毎回作り直すため、同じイベントを重複して処理しても結果は変わらない。
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeSearchDocumentIndexer {
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeSearchDocumentRepository documentRepository;
+
+    /**
+     * 削除済み・存在しないレシピは文書を消して false を返す
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean reindex(Long recipeId) {
+        Optional<Recipe> found = recipeRepository.findByIdAndStatusNot(recipeId, RecipeStatus.DELETED);
+        if (found.isEmpty()) {
+            documentRepository.deleteByRecipeId(recipeId);
+            return false;
+        }
+        Recipe recipe = found.get();
+        String document = RecipeTextAnalyzer.document(
+                recipe.getTitle(), recipe.getDescription(), recipe.getConcept(), recipe.getStory());
+        documentRepository.upsert(recipeId, document, recipe.getUpdatedAt());
+        return true;
+    }
+}
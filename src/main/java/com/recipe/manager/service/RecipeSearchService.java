@@ -0,0 +1,237 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.dto.response.RecipeListResponse;
+import com.recipe.manager.dto.response.RecipeSearchResponse;
+import com.recipe.manager.dto.response.RecipeSearchResponse.FacetEntry;
+import com.recipe.manager.entity.Ingredient;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.RecipeChangedEvent;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.repository.IngredientRepository;
+import com.recipe.manager.repository.RecipeIngredientRepository;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.UserRepository;
+import com.recipe.manager.search.RecipeFacetIndex;
+import com.recipe.manager.search.RecipeSearchCriteria;
+import com.recipe.manager.search.RecipeSearchCriteria.Facet;
+import com.recipe.manager.search.RecipeSpecifications;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 複数条件を組み合わせたレシピ検索と、同じ条件でのファセット件数。
+ * インメモリのファセット索引が使えるときはそちらで絞り込みと集計を行い、キーワード検索や索引の無効時はDBで行う。
+ * 索引はノードごとに持つため、変更イベントを同報で受け取るのに加えて、更新日時を基準に定期的にDBから追従する。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeSearchService {
+
+    /** サーバー間の時計のずれと書き込み中のトランザクションを見込み、変更は少し前から読み直す */
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final IngredientRepository ingredientRepository;
+    private final UserRepository userRepository;
+    private final RecipeFacetIndex recipeFacetIndex;
+
+    /** この時点までに更新されたレシピは索引に反映済み */
+    private volatile LocalDateTime caughtUpAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRecipeFacetIndex() {
+        if (!recipeFacetIndex.isEnabled()) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        Map<Long, List<Long>> ingredientsByRecipe = new HashMap<>();
+        for (RecipeIngredientRepository.IngredientRef ref
+                : recipeIngredientRepository.findIngredientRefsByRecipeStatusNot(RecipeStatus.DELETED)) {
+            ingredientsByRecipe.computeIfAbsent(ref.getRecipeId(), id -> new ArrayList<>()).add(ref.getIngredientId());
+        }
+        recipeFacetIndex.rebuild(recipeRepository.findFacetRefsByStatusNot(RecipeStatus.DELETED).stream()
+                .map(ref -> toEntry(ref, ingredientsByRecipe.getOrDefault(ref.getId(), List.of())))
+                .toList());
+        // 読み込み中に届いた変更イベントは索引の準備前で捨てられるので、読み込み開始以降の変更を読み直す
+        if (recipeFacetIndex.isReady()) {
+            applyChangesSince(startedAt);
+        }
+    }
+
+    /**
+     * 同報を取りこぼした変更（待ちきれなかった長いトランザクションなど）を拾うため、前回の追従以降に更新された行を反映する
+     */
+    @Scheduled(fixedDelayString = "${app.search.recipe-facet-catch-up-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void catchUpRecipeFacetIndex() {
+        if (!recipeFacetIndex.isReady() || caughtUpAt == null) {
+            return;
+        }
+        applyChangesSince(caughtUpAt);
+    }
+
+    /*
+     * 索引はノードごとに持つため、変更イベントは同報で受け取る。イベントの内容ではなく現在の行を読み直して
+     * 索引に反映するので、重複や順序の入れ替わりがあっても最後は同じ状態になる。
+     */
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onRecipeChanged(BroadcastEvent<RecipeChangedEvent> broadcast) {
+        if (!recipeFacetIndex.isReady()) {
+            return;
+        }
+        Long recipeId = broadcast.getEvent().getRecipeId();
+        recipeRepository.findFacetRefById(recipeId)
+                .filter(ref -> ref.getStatus() != RecipeStatus.DELETED)
+                .ifPresentOrElse(
+                        ref -> recipeFacetIndex.put(
+                                toEntry(ref, recipeIngredientRepository.findIngredientIdsByRecipeId(recipeId))),
+                        () -> recipeFacetIndex.remove(recipeId));
+    }
+
+    /**
+     * 検索結果は更新日時の降順（同じならID降順）。pageable のソート指定は使わない
+     */
+    @Transactional(readOnly = true)
+    public RecipeSearchResponse search(RecipeSearchCriteria criteria, Pageable pageable) {
+        validate(criteria);
+        if (recipeFacetIndex.isReady() && criteria.getKeyword() == null) {
+            return searchInMemory(criteria, pageable);
+        }
+        return searchInDatabase(criteria, pageable);
+    }
+
+    private RecipeSearchResponse searchInMemory(RecipeSearchCriteria criteria, Pageable pageable) {
+        RecipeFacetIndex.Result result = recipeFacetIndex.search(
+                criteria, pageable.getOffset(), pageable.getPageSize(), Constants.RECIPE_INGREDIENT_FACET_LIMIT);
+        Map<Long, Recipe> recipesById = recipeRepository.findByIdIn(result.recipeIds()).stream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+        List<Recipe> content = result.recipeIds().stream()
+                .map(recipesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return toResponse(new PageImpl<>(content, pageable, result.total()), result.categories(),
+                result.statuses(), result.creators(), result.ingredients());
+    }
+
+    private RecipeSearchResponse searchInDatabase(RecipeSearchCriteria criteria, Pageable pageable) {
+        Page<Recipe> recipes = recipeRepository.findAll(RecipeSpecifications.matching(criteria), pageable);
+        return toResponse(recipes,
+                recipeRepository.countByCategory(RecipeSpecifications.matching(criteria, Facet.CATEGORY)),
+                recipeRepository.countByStatus(RecipeSpecifications.matching(criteria, Facet.STATUS)),
+                recipeRepository.countByCreator(RecipeSpecifications.matching(criteria, Facet.CREATOR)),
+                recipeRepository.countByIngredient(RecipeSpecifications.matching(criteria),
+                        Constants.RECIPE_INGREDIENT_FACET_LIMIT));
+    }
+
+    private RecipeSearchResponse toResponse(Page<Recipe> recipes, Map<String, Long> categories,
+                                            Map<RecipeStatus, Long> statuses, Map<Long, Long> creators,
+                                            Map<Long, Long> ingredients) {
+        Map<Long, String> creatorNames = userRepository.findAllById(creators.keySet()).stream()
+                .collect(Collectors.toMap(User::getId, User::getName));
+        Map<Long, String> ingredientNames = ingredientRepository.findAllById(ingredients.keySet()).stream()
+                .collect(Collectors.toMap(Ingredient::getId, Ingredient::getName));
+        return RecipeSearchResponse.builder()
+                .recipes(recipes.getContent().stream().map(RecipeListResponse::from).toList())
+                .totalElements(recipes.getTotalElements())
+                .totalPages(recipes.getTotalPages())
+                .page(recipes.getNumber())
+                .size(recipes.getSize())
+                .facets(RecipeSearchResponse.Facets.builder()
+                        .categories(toEntries(categories, key -> key))
+                        .statuses(toEntries(statuses, RecipeStatus::name))
+                        .creators(toEntries(creators, creatorNames::get))
+                        .ingredients(toEntries(ingredients, ingredientNames::get))
+                        .build())
+                .build();
+    }
+
+    private static <K> List<FacetEntry> toEntries(Map<K, Long> counts, Function<K, String> labelOf) {
+        return counts.entrySet().stream()
+                .map(e -> FacetEntry.builder()
+                        .key(String.valueOf(e.getKey()))
+                        .label(labelOf.apply(e.getKey()))
+                        .count(e.getValue())
+                        .build())
+                .toList();
+    }
+
+    private static void validate(RecipeSearchCriteria criteria) {
+        if (criteria.getStatuses().contains(RecipeStatus.DELETED)) {
+            throw new BusinessLogicException("削除済みレシピは検索できません");
+        }
+        checkSize(criteria.getCategories(), "カテゴリ");
+        checkSize(criteria.getStatuses(), "ステータス");
+        checkSize(criteria.getIngredientIds(), "食材");
+        checkSize(criteria.getCreatorIds(), "作成者");
+        checkRange(criteria.getCreatedFrom(), criteria.getCreatedTo(), "作成日");
+        checkRange(criteria.getUpdatedFrom(), criteria.getUpdatedTo(), "更新日");
+    }
+
+    private static void checkSize(Collection<?> values, String label) {
+        if (values.size() > Constants.MAX_RECIPE_SEARCH_FILTER_VALUES) {
+            throw new BusinessLogicException(
+                    label + "は" + Constants.MAX_RECIPE_SEARCH_FILTER_VALUES + "個以内で指定してください");
+        }
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to, String label) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BusinessLogicException(label + "の開始日は終了日以前を指定してください");
+        }
+    }
+
+    private void applyChangesSince(LocalDateTime since) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<RecipeRepository.FacetRef> changed = recipeRepository.findFacetRefsUpdatedSince(
+                since.minus(CATCH_UP_MARGIN));
+        if (!changed.isEmpty()) {
+            Map<Long, List<Long>> ingredientsByRecipe = new HashMap<>();
+            for (RecipeIngredientRepository.IngredientRef ref : recipeIngredientRepository
+                    .findIngredientRefsByRecipeIdIn(changed.stream().map(RecipeRepository.FacetRef::getId).toList())) {
+                ingredientsByRecipe.computeIfAbsent(ref.getRecipeId(), id -> new ArrayList<>())
+                        .add(ref.getIngredientId());
+            }
+            for (RecipeRepository.FacetRef ref : changed) {
+                if (ref.getStatus() == RecipeStatus.DELETED) {
+                    recipeFacetIndex.remove(ref.getId());
+                } else {
+                    recipeFacetIndex.put(toEntry(ref, ingredientsByRecipe.getOrDefault(ref.getId(), List.of())));
+                }
+            }
+        }
+        caughtUpAt = startedAt;
+    }
+
+    private static RecipeFacetIndex.Entry toEntry(RecipeRepository.FacetRef ref, List<Long> ingredientIds) {
+        return new RecipeFacetIndex.Entry(ref.getId(), ref.getStatus(), ref.getCategory(), ref.getCreatorId(),
+                ref.getCreatedAt(), ref.getUpdatedAt(), ingredientIds);
+    }
+}
@@ -15,30 +15,134 @@ import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.ServiceDesign;
 import com.recipe.manager.entity.User;
 import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ConflictException;
 import com.recipe.manager.exception.ForbiddenException;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.DomainEventPublisher;
+import com.recipe.manager.event.RecipeChangedEvent;
 import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.kitchen.KitchenScheduler;
+import com.recipe.manager.kitchen.StepTask;
 import com.recipe.manager.repository.IngredientRepository;
 import com.recipe.manager.repository.RecipeHistoryRepository;
+import com.recipe.manager.repository.RecipeIngredientRepository;
 import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.search.MatchMode;
+import com.recipe.manager.search.RecipeBitmapIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.StringJoiner;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RecipeService {
 
+    private static final List<RecipeStatus> ACTIVE_STATUSES =
+            List.of(RecipeStatus.DRAFT, RecipeStatus.PUBLISHED, RecipeStatus.ARCHIVED);
+    /** サーバー間の時計のずれと書き込み中のトランザクションを見込み、変更は少し前から読み直す */
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
     private final RecipeRepository recipeRepository;
     private final IngredientRepository ingredientRepository;
     private final RecipeHistoryRepository recipeHistoryRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RecipeBitmapIndex recipeBitmapIndex;
+    private final DomainEventPublisher eventPublisher;
+
+    /** この時点までに更新されたレシピはビットマップ索引に反映済み */
+    private volatile LocalDateTime bitmapCaughtUpAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRecipeBitmapIndex() {
+        if (!recipeBitmapIndex.isEnabled()) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        recipeBitmapIndex.rebuild(
+                recipeRepository.findStatusRefsByStatusNot(RecipeStatus.DELETED),
+                recipeIngredientRepository.findIngredientRefsByRecipeStatusNot(RecipeStatus.DELETED));
+        // 読み込み中に届いた変更イベントは索引の準備前で捨てられるので、読み込み開始以降の変更を読み直す
+        if (recipeBitmapIndex.isReady()) {
+            applyBitmapChangesSince(startedAt);
+        }
+    }
+
+    /**
+     * 同報を取りこぼした変更を拾うため、前回の追従以降に更新された行をビットマップ索引に反映する
+     */
+    @Scheduled(fixedDelayString = "${app.search.recipe-bitmap-catch-up-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void catchUpRecipeBitmapIndex() {
+        if (!recipeBitmapIndex.isReady() || bitmapCaughtUpAt == null) {
+            return;
+        }
+        applyBitmapChangesSince(bitmapCaughtUpAt);
+    }
+
+    /*
+     * ビットマップ索引はノードごとに持つため、どのノードで行われた変更も同報で受け取る。
+     * 現在の行を読み直して反映するので、重複や順序の入れ替わりがあっても最後は同じ状態になる。
+     */
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onRecipeChanged(BroadcastEvent<RecipeChangedEvent> broadcast) {
+        if (!recipeBitmapIndex.isReady()) {
+            return;
+        }
+        Long recipeId = broadcast.getEvent().getRecipeId();
+        recipeRepository.findFacetRefById(recipeId)
+                .filter(ref -> ref.getStatus() != RecipeStatus.DELETED)
+                .ifPresentOrElse(
+                        ref -> recipeBitmapIndex.putRecipe(recipeId, ref.getStatus(),
+                                recipeIngredientRepository.findIngredientIdsByRecipeId(recipeId)),
+                        () -> recipeBitmapIndex.removeRecipe(recipeId));
+    }
+
+    private void applyBitmapChangesSince(LocalDateTime since) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<RecipeRepository.FacetRef> changed = recipeRepository.findFacetRefsUpdatedSince(
+                since.minus(CATCH_UP_MARGIN));
+        if (!changed.isEmpty()) {
+            Map<Long, List<Long>> ingredientsByRecipe = new HashMap<>();
+            for (RecipeIngredientRepository.IngredientRef ref : recipeIngredientRepository
+                    .findIngredientRefsByRecipeIdIn(changed.stream().map(RecipeRepository.FacetRef::getId).toList())) {
+                ingredientsByRecipe.computeIfAbsent(ref.getRecipeId(), id -> new ArrayList<>())
+                        .add(ref.getIngredientId());
+            }
+            for (RecipeRepository.FacetRef ref : changed) {
+                if (ref.getStatus() == RecipeStatus.DELETED) {
+                    recipeBitmapIndex.removeRecipe(ref.getId());
+                } else {
+                    recipeBitmapIndex.putRecipe(ref.getId(), ref.getStatus(),
+                            ingredientsByRecipe.getOrDefault(ref.getId(), List.of()));
+                }
+            }
+        }
+        bitmapCaughtUpAt = startedAt;
+    }
 
     @Transactional
     public Recipe createRecipe(CreateRecipeRequest request, User currentUser) {
@@ -64,8 +168,12 @@ public class RecipeService {
                         .temperature(stepInput.getTemperature())
                         .tips(stepInput.getTips())
                         .build();
+                if (stepInput.getDependsOn() != null) {
+                    step.getDependsOnStepNumbers().addAll(stepInput.getDependsOn());
+                }
                 recipe.getCookingSteps().add(step);
             }
+            validateStepDependencies(recipe.getCookingSteps());
         }
 
         if (request.getIngredients() != null) {
@@ -89,7 +197,7 @@ public class RecipeService {
         }
 
         Recipe saved = recipeRepository.save(recipe);
-        recordHistory(saved, currentUser, "CREATE", "レシピ新規作成");
+        recordHistory(saved, currentUser, "CREATE", "レシピ新規作成", null);
 
         log.info("Recipe created: id={}, title={}, by={}",
                 saved.getId(), saved.getTitle(), currentUser.getEmail());
@@ -103,12 +211,40 @@ public class RecipeService {
                 .orElseThrow(() -> new ResourceNotFoundException("Recipe", id));
     }
 
+    /**
+     * 指定したレシピがすべて参照できる（削除されていない）ことを確かめる。変更ストリームの購読前に使う
+     */
+    @Transactional(readOnly = true)
+    public void requireVisibleRecipes(Collection<Long> recipeIds) {
+        if (recipeIds == null || recipeIds.isEmpty()) {
+            return;
+        }
+        Set<Long> visibleIds = recipeRepository.findVersionRefsByIdInAndStatusNot(recipeIds, RecipeStatus.DELETED)
+                .stream()
+                .map(RecipeRepository.VersionRef::getId)
+                .collect(Collectors.toSet());
+        for (Long recipeId : new LinkedHashSet<>(recipeIds)) {
+            if (!visibleIds.contains(recipeId)) {
+                throw new ResourceNotFoundException("Recipe", recipeId);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Long getRecipeVersion(Long id) {
+        return recipeRepository.findVersionByIdAndStatusNot(id, RecipeStatus.DELETED)
+                .orElseThrow(() -> new ResourceNotFoundException("Recipe", id));
+    }
+
     @Transactional(readOnly = true)
     public Page<Recipe> listRecipes(String category, RecipeStatus status, Pageable pageable) {
         if (status != null) {
             if (status == RecipeStatus.DELETED) {
                 throw new BusinessLogicException("削除済みレシピは一覧で取得できません");
             }
+            if (category != null) {
+                return recipeRepository.findByStatusAndCategory(status, category, pageable);
+            }
             return recipeRepository.findByStatus(status, pageable);
         }
         if (category != null) {
@@ -118,40 +254,75 @@ public class RecipeService {
         return recipeRepository.findByStatusNot(RecipeStatus.DELETED, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Page<Recipe> findRecipesByIngredients(List<Long> ingredientIds, MatchMode matchMode,
+                                                 RecipeStatus status, Pageable pageable) {
+        if (ingredientIds == null || ingredientIds.isEmpty()) {
+            throw new BusinessLogicException("食材IDを1つ以上指定してください");
+        }
+        if (status == RecipeStatus.DELETED) {
+            throw new BusinessLogicException("削除済みレシピは検索できません");
+        }
+
+        Set<Long> distinctIngredientIds = new LinkedHashSet<>(ingredientIds);
+        List<RecipeStatus> statuses = status != null ? List.of(status) : ACTIVE_STATUSES;
+
+        if (recipeBitmapIndex.isReady()) {
+            BitSet matched = recipeBitmapIndex.match(distinctIngredientIds, matchMode, statuses);
+            List<Long> pageIds = RecipeBitmapIndex.idsDescending(
+                    matched, pageable.getOffset(), pageable.getPageSize());
+            Map<Long, Recipe> recipesById = recipeRepository.findByIdIn(pageIds).stream()
+                    .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+            List<Recipe> content = pageIds.stream()
+                    .map(recipesById::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return new PageImpl<>(content, pageable, matched.cardinality());
+        }
+
+        if (matchMode == MatchMode.ALL) {
+            return recipeRepository.findByAllIngredients(
+                    distinctIngredientIds, distinctIngredientIds.size(), statuses, pageable);
+        }
+        return recipeRepository.findByAnyIngredient(distinctIngredientIds, statuses, pageable);
+    }
+
     @Transactional
     public Recipe updateRecipe(Long id, UpdateRecipeRequest request, User currentUser) {
         validateRecipeEditPermission(currentUser);
 
         Recipe recipe = getRecipeById(id);
-        StringJoiner changedFields = new StringJoiner(", ");
+        Long baseVersion = recipe.getVersion();
+        List<String> requestedFields = requestedFields(request);
+
+        if (request.getVersion() != null && !request.getVersion().equals(baseVersion)) {
+            validateMergeable(recipe, request.getVersion(), requestedFields);
+            log.info("Recipe update merged onto newer version: id={}, clientVersion={}, currentVersion={}",
+                    id, request.getVersion(), baseVersion);
+        }
 
         if (request.getTitle() != null) {
-            changedFields.add("title");
             recipe.setTitle(request.getTitle());
         }
         if (request.getDescription() != null) {
-            changedFields.add("description");
             recipe.setDescription(request.getDescription());
         }
         if (request.getCategory() != null) {
-            changedFields.add("category");
             recipe.setCategory(request.getCategory());
         }
         if (request.getServings() != null) {
-            changedFields.add("servings");
             recipe.setServings(request.getServings());
         }
         if (request.getConcept() != null) {
-            changedFields.add("concept");
             recipe.setConcept(request.getConcept());
         }
         if (request.getStory() != null) {
-            changedFields.add("story");
             recipe.setStory(request.getStory());
         }
 
+        String changedFields = String.join(", ", requestedFields);
         Recipe saved = recipeRepository.save(recipe);
-        recordHistory(saved, currentUser, "UPDATE", changedFields.toString());
+        recordHistory(saved, currentUser, "UPDATE", changedFields, baseVersion);
 
         log.info("Recipe updated: id={}, fields={}, by={}",
                 id, changedFields, currentUser.getEmail());
@@ -164,8 +335,11 @@ public class RecipeService {
         validateServiceDesignPermission(currentUser);
 
         Recipe recipe = getRecipeById(id);
+        Long baseVersion = recipe.getVersion();
 
         ServiceDesign serviceDesign = recipe.getServiceDesign();
+        validateChildVersion(request.getVersion(), serviceDesign == null ? null : serviceDesign.getVersion(),
+                "サービス設計");
         if (serviceDesign == null) {
             serviceDesign = ServiceDesign.builder()
                     .recipe(recipe)
@@ -179,9 +353,10 @@ public class RecipeService {
         serviceDesign.setStagingMethod(request.getStagingMethod());
         serviceDesign.setTiming(request.getTiming());
         serviceDesign.setStorytelling(request.getStorytelling());
+        recipe.setUpdatedAt(LocalDateTime.now());
 
         Recipe saved = recipeRepository.save(recipe);
-        recordHistory(saved, currentUser, "UPDATE_SERVICE_DESIGN", "serviceDesign");
+        recordHistory(saved, currentUser, "UPDATE_SERVICE_DESIGN", "serviceDesign", baseVersion);
 
         log.info("ServiceDesign updated: recipeId={}, by={}",
                 id, currentUser.getEmail());
@@ -194,8 +369,11 @@ public class RecipeService {
         validateServiceDesignPermission(currentUser);
 
         Recipe recipe = getRecipeById(id);
+        Long baseVersion = recipe.getVersion();
 
         ExperienceDesign experienceDesign = recipe.getExperienceDesign();
+        validateChildVersion(request.getVersion(),
+                experienceDesign == null ? null : experienceDesign.getVersion(), "体験設計");
         if (experienceDesign == null) {
             experienceDesign = ExperienceDesign.builder()
                     .recipe(recipe)
@@ -208,9 +386,10 @@ public class RecipeService {
         experienceDesign.setSpecialOccasionSupport(request.getSpecialOccasionSupport());
         experienceDesign.setSeasonalPresentation(request.getSeasonalPresentation());
         experienceDesign.setSensoryAppeal(request.getSensoryAppeal());
+        recipe.setUpdatedAt(LocalDateTime.now());
 
         Recipe saved = recipeRepository.save(recipe);
-        recordHistory(saved, currentUser, "UPDATE_EXPERIENCE_DESIGN", "experienceDesign");
+        recordHistory(saved, currentUser, "UPDATE_EXPERIENCE_DESIGN", "experienceDesign", baseVersion);
 
         log.info("ExperienceDesign updated: recipeId={}, by={}",
                 id, currentUser.getEmail());
@@ -223,6 +402,7 @@ public class RecipeService {
         validateRecipeEditPermission(currentUser);
 
         Recipe recipe = getRecipeById(id);
+        Long baseVersion = recipe.getVersion();
         RecipeStatus oldStatus = recipe.getStatus();
 
         validateStatusTransition(oldStatus, newStatus);
@@ -231,7 +411,7 @@ public class RecipeService {
         Recipe saved = recipeRepository.save(recipe);
 
         recordHistory(saved, currentUser, "STATUS_CHANGE",
-                oldStatus.name() + " -> " + newStatus.name());
+                oldStatus.name() + " -> " + newStatus.name(), baseVersion);
 
         log.info("Recipe status changed: id={}, {} -> {}, by={}",
                 id, oldStatus, newStatus, currentUser.getEmail());
@@ -244,10 +424,11 @@ public class RecipeService {
         validateRecipeEditPermission(currentUser);
 
         Recipe recipe = getRecipeById(id);
+        Long baseVersion = recipe.getVersion();
         recipe.setStatus(RecipeStatus.DELETED);
         recipeRepository.save(recipe);
 
-        recordHistory(recipe, currentUser, "DELETE", "論理削除");
+        recordHistory(recipe, currentUser, "DELETE", "論理削除", baseVersion);
 
         log.info("Recipe deleted (logical): id={}, by={}",
                 id, currentUser.getEmail());
@@ -259,6 +440,21 @@ public class RecipeService {
         return recipeHistoryRepository.findByRecipeIdOrderByChangedAtDesc(recipeId);
     }
 
+    private void validateStepDependencies(List<CookingStep> steps) {
+        if (steps.stream().allMatch(step -> step.getDependsOnStepNumbers().isEmpty())) {
+            return;
+        }
+        for (CookingStep step : steps) {
+            if (step.getStepNumber() == null) {
+                throw new BusinessLogicException("工程の依存関係を指定する場合は全工程に手順番号が必要です");
+            }
+            if (step.getDependsOnStepNumbers().contains(step.getStepNumber())) {
+                throw new BusinessLogicException("工程は自分自身に依存できません: 工程" + step.getStepNumber());
+            }
+        }
+        KitchenScheduler.validateDependencies(StepTask.fromSteps(null, steps));
+    }
+
     private void validateRecipeCreatePermission(User user) {
         Role role = user.getRole();
         if (role != Role.CHEF && role != Role.PRODUCER) {
@@ -298,13 +494,70 @@ public class RecipeService {
         }
     }
 
-    private void recordHistory(Recipe recipe, User user, String changeType, String changedFields) {
+    private List<String> requestedFields(UpdateRecipeRequest request) {
+        List<String> fields = new ArrayList<>();
+        if (request.getTitle() != null) {
+            fields.add("title");
+        }
+        if (request.getDescription() != null) {
+            fields.add("description");
+        }
+        if (request.getCategory() != null) {
+            fields.add("category");
+        }
+        if (request.getServings() != null) {
+            fields.add("servings");
+        }
+        if (request.getConcept() != null) {
+            fields.add("concept");
+        }
+        if (request.getStory() != null) {
+            fields.add("story");
+        }
+        return fields;
+    }
+
+    private void validateMergeable(Recipe recipe, Long clientVersion, List<String> requestedFields) {
+        if (clientVersion > recipe.getVersion()) {
+            throw new ConflictException("指定されたバージョンのレシピは存在しません", recipe.getVersion());
+        }
+
+        List<RecipeHistory> concurrentChanges =
+                recipeHistoryRepository.findByRecipeIdAndBaseVersionGreaterThanEqual(recipe.getId(), clientVersion);
+        for (RecipeHistory change : concurrentChanges) {
+            if (!"UPDATE".equals(change.getChangeType()) || change.getChangedFields() == null) {
+                continue;
+            }
+            for (String field : change.getChangedFields().split(",\\s*")) {
+                if (requestedFields.contains(field)) {
+                    throw new ConflictException(
+                            String.format("レシピの%sは他のユーザーによって更新されています", field),
+                            recipe.getVersion());
+                }
+            }
+        }
+    }
+
+    private void validateChildVersion(Long requestedVersion, Long currentVersion, String targetName) {
+        if (requestedVersion == null || currentVersion == null) {
+            return;
+        }
+        if (!requestedVersion.equals(currentVersion)) {
+            throw new ConflictException(targetName + "は他のユーザーによって更新されています", currentVersion);
+        }
+    }
+
+    private void recordHistory(Recipe recipe, User user, String changeType, String changedFields,
+                               Long baseVersion) {
         RecipeHistory history = RecipeHistory.builder()
                 .recipe(recipe)
                 .changedBy(user)
                 .changeType(changeType)
                 .changedFields(changedFields)
+                .baseVersion(baseVersion)
                 .build();
         recipeHistoryRepository.save(history);
+        eventPublisher.publish(new RecipeChangedEvent(recipe.getId(), recipe.getCategory(), recipe.getStatus(),
+                changeType, changedFields));
     }
 }
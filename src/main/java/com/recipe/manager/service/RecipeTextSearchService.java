@@ -0,0 +1,176 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.config.AsyncConfig;
+import com.recipe.manager.dto.response.RecipeListResponse;
+import com.recipe.manager.dto.response.RecipeTextSearchResponse;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.event.RecipeChangedEvent;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.RecipeSearchDocumentRepository;
+import com.recipe.manager.repository.RecipeSearchDocumentRepository.TextMatchRef;
+import com.recipe.manager.search.RecipeTextAnalyzer;
+import com.recipe.manager.search.TextHighlighter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * タイトル・説明・コンセプト・ストーリーを対象にしたレシピの全文検索。
+ * 並びはスコアの降順（同点はID降順）で、ページは前ページ最後の (スコア, ID) を渡すキーセット方式。
+ * 一致が多い検索語では、新しい {@link Constants#TEXT_SEARCH_RANK_CANDIDATES} 件の中で順位を付ける。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeTextSearchService {
+
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    private final RecipeSearchDocumentRepository documentRepository;
+    private final RecipeSearchDocumentIndexer indexer;
+    private final RecipeRepository recipeRepository;
+
+    @Transactional(readOnly = true)
+    public RecipeTextSearchResponse search(String keyword, String cursor, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new BusinessLogicException("検索語を指定してください");
+        }
+        if (keyword.length() > Constants.MAX_TEXT_SEARCH_KEYWORD_LENGTH) {
+            throw new BusinessLogicException(
+                    "検索語は" + Constants.MAX_TEXT_SEARCH_KEYWORD_LENGTH + "文字以内で指定してください");
+        }
+        String query = RecipeTextAnalyzer.query(keyword);
+        if (query == null) {
+            throw new BusinessLogicException("検索語に文字または数字を含めてください");
+        }
+
+        // 1件多く取得して次のページの有無を判定する
+        List<TextMatchRef> matches;
+        if (cursor == null || cursor.isBlank()) {
+            matches = documentRepository.search(query, Constants.TEXT_SEARCH_RANK_CANDIDATES, size + 1);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            matches = documentRepository.searchAfter(query, after.score(), after.recipeId(),
+                    Constants.TEXT_SEARCH_RANK_CANDIDATES, size + 1);
+        }
+        boolean hasNext = matches.size() > size;
+        if (hasNext) {
+            matches = matches.subList(0, size);
+        }
+
+        List<Long> ids = matches.stream().map(TextMatchRef::getRecipeId).toList();
+        Map<Long, Recipe> recipesById = recipeRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+        List<String> words = RecipeTextAnalyzer.normalizedWords(keyword);
+        List<RecipeTextSearchResponse.Hit> hits = new ArrayList<>(matches.size());
+        for (TextMatchRef match : matches) {
+            Recipe recipe = recipesById.get(match.getRecipeId());
+            if (recipe != null) {
+                hits.add(toHit(recipe, match.getScore(), words));
+            }
+        }
+
+        TextMatchRef last = hasNext ? matches.get(matches.size() - 1) : null;
+        return RecipeTextSearchResponse.builder()
+                .hits(hits)
+                .nextCursor(last != null ? new Cursor(last.getScore(), last.getRecipeId()).encode() : null)
+                .build();
+    }
+
+    /*
+     * ドメインイベントはコミット後にアウトボックスから配信される。文書は現在の行から作り直すので、
+     * 重複や順序の入れ替わりがあっても最後は同じ状態になる。失敗時は例外を返して再送させる。
+     */
+    @EventListener
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        indexer.reindex(event.getRecipeId());
+    }
+
+    /**
+     * 起動時に、文書がないレシピ・文書を作った後に更新されたレシピの文書を作り直す。
+     * 移行直後の既存レシピと、イベントを取りこぼした場合のずれはここで解消される。
+     */
+    @Async(AsyncConfig.FAN_OUT_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncSearchDocuments() {
+        int removed = documentRepository.deleteForDeletedRecipes();
+        long afterId = 0;
+        int indexed = 0;
+        List<Long> recipeIds;
+        do {
+            recipeIds = documentRepository.findStaleRecipeIds(afterId, SYNC_BATCH_SIZE);
+            for (Long recipeId : recipeIds) {
+                try {
+                    if (indexer.reindex(recipeId)) {
+                        indexed++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Recipe search document refresh failed: recipeId={}", recipeId, e);
+                }
+                afterId = recipeId;
+            }
+        } while (recipeIds.size() == SYNC_BATCH_SIZE);
+        if (indexed > 0 || removed > 0) {
+            log.info("Recipe search documents synced: indexed={}, removed={}", indexed, removed);
+        }
+    }
+
+    private static RecipeTextSearchResponse.Hit toHit(Recipe recipe, float score, List<String> words) {
+        String snippetField = null;
+        String snippet = null;
+        Map<String, String> bodies = new LinkedHashMap<>();
+        bodies.put("description", recipe.getDescription());
+        bodies.put("concept", recipe.getConcept());
+        bodies.put("story", recipe.getStory());
+        for (Map.Entry<String, String> body : bodies.entrySet()) {
+            snippet = TextHighlighter.fragment(body.getValue(), words, Constants.TEXT_SEARCH_SNIPPET_LENGTH);
+            if (snippet != null) {
+                snippetField = body.getKey();
+                break;
+            }
+        }
+        return RecipeTextSearchResponse.Hit.builder()
+                .recipe(RecipeListResponse.from(recipe))
+                .score(score)
+                .titleHighlight(TextHighlighter.highlight(recipe.getTitle(), words))
+                .snippetField(snippetField)
+                .snippet(snippet)
+                .build();
+    }
+
+    /**
+     * キーセットの位置。ts_rank は real なので float のまま文字列にし、次のリクエストで同じ値に戻す
+     */
+    record Cursor(float score, long recipeId) {
+
+        String encode() {
+            String raw = score + ":" + recipeId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int colon = raw.indexOf(':');
+                return new Cursor(Float.parseFloat(raw.substring(0, colon)), Long.parseLong(raw.substring(colon + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new BusinessLogicException("カーソルの形式が正しくありません");
+            }
+        }
+    }
+}
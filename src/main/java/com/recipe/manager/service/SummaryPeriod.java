@@ -0,0 +1,63 @@
+package com.recipe.manager.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 自動集計の対象期間。週次は月曜〜日曜、月次は月初〜月末。
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SummaryPeriod {
+
+    public enum Type {
+        WEEKLY,
+        MONTHLY
+    }
+
+    private final Type type;
+    private final LocalDate start;
+    private final LocalDate end;
+
+    public static SummaryPeriod weekOf(LocalDate date) {
+        LocalDate start = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return new SummaryPeriod(Type.WEEKLY, start, start.plusDays(6));
+    }
+
+    public static SummaryPeriod monthOf(LocalDate date) {
+        LocalDate start = date.withDayOfMonth(1);
+        return new SummaryPeriod(Type.MONTHLY, start, start.with(TemporalAdjusters.lastDayOfMonth()));
+    }
+
+    /**
+     * 基準日を含む期間から遡って、直近の週次・月次期間を列挙する。
+     */
+    public static List<SummaryPeriod> recent(LocalDate today, int weeks, int months) {
+        List<SummaryPeriod> periods = new ArrayList<>(weeks + months);
+        for (int i = 0; i < weeks; i++) {
+            periods.add(weekOf(today.minusWeeks(i)));
+        }
+        for (int i = 0; i < months; i++) {
+            periods.add(monthOf(today.minusMonths(i)));
+        }
+        return periods;
+    }
+
+    /**
+     * job_watermarks 上で途中経過を記録するキー
+     */
+    public String partitionKey() {
+        return "feedback-summary:" + type + ":" + start;
+    }
+}
@@ -0,0 +1,128 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.config.AsyncConfig;
+import com.recipe.manager.entity.Notification;
+import com.recipe.manager.entity.NotificationType;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.repository.RecipeIngredientRepository;
+import com.recipe.manager.repository.RecipeIngredientRepository.ImpactedRecipeRef;
+import com.recipe.manager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 供給状況の変更に影響するレシピを走査し、レシピ作成者ごとに1件の通知を作成する。
+ * 呼び出し元のリクエストをブロックしないよう、専用スレッドプールで非同期に実行する。
+ * プールの待ち行列が溢れた場合は通知を作らず、警告ログだけを残す。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SupplyImpactNotifier {
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+
+    @Async(AsyncConfig.FAN_OUT_EXECUTOR)
+    public void notifyRecipeOwners(SupplyStatusChange change) {
+        Map<Long, OwnerImpact> impactsByOwner = collectImpacts(change.getIngredientId());
+        if (impactsByOwner.isEmpty()) {
+            return;
+        }
+
+        List<Notification> batch = new ArrayList<>();
+        for (Map.Entry<Long, OwnerImpact> entry : impactsByOwner.entrySet()) {
+            batch.add(buildNotification(entry.getKey(), entry.getValue(), change));
+            if (batch.size() >= Constants.SUPPLY_IMPACT_BATCH_SIZE) {
+                notificationService.createAll(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            notificationService.createAll(batch);
+        }
+
+        log.info("Supply impact notified: ingredientId={}, storeId={}, owners={}",
+                change.getIngredientId(), change.getStoreId(), impactsByOwner.size());
+    }
+
+    private Map<Long, OwnerImpact> collectImpacts(Long ingredientId) {
+        Map<Long, OwnerImpact> impactsByOwner = new LinkedHashMap<>();
+        PageRequest firstPage = PageRequest.of(0, Constants.SUPPLY_IMPACT_BATCH_SIZE);
+        long afterRecipeId = 0L;
+        List<ImpactedRecipeRef> refs;
+        do {
+            refs = recipeIngredientRepository.findImpactedRecipesAfter(
+                    ingredientId, RecipeStatus.DELETED, afterRecipeId, firstPage);
+            for (ImpactedRecipeRef ref : refs) {
+                impactsByOwner.computeIfAbsent(ref.getOwnerId(), id -> new OwnerImpact()).add(ref.getTitle());
+            }
+            if (!refs.isEmpty()) {
+                afterRecipeId = refs.get(refs.size() - 1).getRecipeId();
+            }
+        } while (refs.size() == Constants.SUPPLY_IMPACT_BATCH_SIZE);
+        return impactsByOwner;
+    }
+
+    private Notification buildNotification(Long ownerId, OwnerImpact impact, SupplyStatusChange change) {
+        String target = change.getStoreName() != null
+                ? change.getIngredientName() + "（" + change.getStoreName() + "）"
+                : change.getIngredientName();
+        String previous = change.getPreviousStatus() != null ? change.getPreviousStatus().name() : "未設定";
+
+        StringBuilder message = new StringBuilder()
+                .append(target).append("の供給状況が ")
+                .append(previous).append(" から ").append(change.getNewStatus().name())
+                .append(" に変更されました。影響するレシピ: ").append(impact.count).append("件（")
+                .append(String.join("、", impact.sampleTitles));
+        if (impact.count > impact.sampleTitles.size()) {
+            message.append(" ほか");
+        }
+        message.append("）");
+
+        return Notification.builder()
+                .recipient(userRepository.getReferenceById(ownerId))
+                .type(NotificationType.SUPPLY_STATUS_CHANGED)
+                .title(truncateTitle("食材の供給状況が変更されました: " + change.getIngredientName()))
+                .message(message.toString())
+                .ingredientId(change.getIngredientId())
+                .storeId(change.getStoreId())
+                .build();
+    }
+
+    /**
+     * 食材名は最大255文字あり、タイトルの列長を超え得るため末尾を省略する
+     */
+    private static String truncateTitle(String title) {
+        if (title.length() <= Constants.NOTIFICATION_TITLE_MAX_LENGTH) {
+            return title;
+        }
+        int end = Constants.NOTIFICATION_TITLE_MAX_LENGTH - 3;
+        if (Character.isHighSurrogate(title.charAt(end - 1))) {
+            end--;
+        }
+        return title.substring(0, end) + "...";
+    }
+
+    private static class OwnerImpact {
+        private int count;
+        private final List<String> sampleTitles = new ArrayList<>();
+
+        void add(String title) {
+            count++;
+            if (sampleTitles.size() < Constants.SUPPLY_IMPACT_SAMPLE_TITLES) {
+                sampleTitles.add(title);
+            }
+        }
+    }
+}
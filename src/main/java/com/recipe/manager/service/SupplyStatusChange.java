@@ -0,0 +1,17 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.entity.SupplyStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SupplyStatusChange {
+
+    private final Long ingredientId;
+    private final String ingredientName;
+    private final Long storeId;
+    private final String storeName;
+    private final SupplyStatus previousStatus;
+    private final SupplyStatus newStatus;
+}
@@ -0,0 +1,119 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.TransactionCallbacks;
+import com.recipe.manager.dto.request.UpdateSupplyStatusRequest;
+import com.recipe.manager.entity.Ingredient;
+import com.recipe.manager.entity.IngredientSupplyStatus;
+import com.recipe.manager.entity.IngredientSupplyStatusHistory;
+import com.recipe.manager.entity.Role;
+import com.recipe.manager.entity.Store;
+import com.recipe.manager.entity.SupplyStatus;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.ForbiddenException;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.repository.IngredientRepository;
+import com.recipe.manager.repository.IngredientSupplyStatusHistoryRepository;
+import com.recipe.manager.repository.IngredientSupplyStatusRepository;
+import com.recipe.manager.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SupplyStatusService {
+
+    private final IngredientRepository ingredientRepository;
+    private final StoreRepository storeRepository;
+    private final IngredientSupplyStatusRepository supplyStatusRepository;
+    private final IngredientSupplyStatusHistoryRepository supplyStatusHistoryRepository;
+    private final SupplyImpactNotifier supplyImpactNotifier;
+
+    @Transactional(readOnly = true)
+    public List<IngredientSupplyStatus> getSupplyStatuses(Long ingredientId) {
+        validateIngredientExists(ingredientId);
+        return supplyStatusRepository.findByIngredientId(ingredientId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<IngredientSupplyStatusHistory> getSupplyStatusHistory(Long ingredientId, Pageable pageable) {
+        validateIngredientExists(ingredientId);
+        return supplyStatusHistoryRepository.findByIngredientIdOrderByChangedAtDesc(ingredientId, pageable);
+    }
+
+    @Transactional
+    public IngredientSupplyStatus updateSupplyStatus(Long ingredientId, UpdateSupplyStatusRequest request,
+                                                     User currentUser) {
+        validateSupplyEditPermission(currentUser);
+
+        Ingredient ingredient = ingredientRepository.findById(ingredientId)
+                .orElseThrow(() -> new ResourceNotFoundException("Ingredient", ingredientId));
+        Store store = request.getStoreId() != null
+                ? storeRepository.findById(request.getStoreId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Store", request.getStoreId()))
+                : null;
+
+        IngredientSupplyStatus supplyStatus = supplyStatusRepository
+                .findByIngredientIdAndStoreId(ingredientId, request.getStoreId())
+                .orElseGet(() -> IngredientSupplyStatus.builder()
+                        .ingredient(ingredient)
+                        .store(store)
+                        .build());
+        SupplyStatus previousStatus = supplyStatus.getStatus();
+
+        supplyStatus.setStatus(request.getStatus());
+        supplyStatus.setNote(request.getNote());
+        supplyStatus.setUpdatedBy(currentUser);
+        IngredientSupplyStatus saved = supplyStatusRepository.save(supplyStatus);
+
+        supplyStatusHistoryRepository.save(IngredientSupplyStatusHistory.builder()
+                .ingredient(ingredient)
+                .store(store)
+                .previousStatus(previousStatus)
+                .newStatus(request.getStatus())
+                .note(request.getNote())
+                .changedBy(currentUser)
+                .build());
+
+        if (isNotifiable(previousStatus, request.getStatus())) {
+            SupplyStatusChange change = SupplyStatusChange.builder()
+                    .ingredientId(ingredientId)
+                    .ingredientName(ingredient.getName())
+                    .storeId(store != null ? store.getId() : null)
+                    .storeName(store != null ? store.getName() : null)
+                    .previousStatus(previousStatus)
+                    .newStatus(request.getStatus())
+                    .build();
+            TransactionCallbacks.afterCommit(() -> supplyImpactNotifier.notifyRecipeOwners(change));
+        }
+
+        log.info("Supply status updated: ingredientId={}, storeId={}, {} -> {}, by={}",
+                ingredientId, request.getStoreId(), previousStatus, request.getStatus(), currentUser.getEmail());
+        return saved;
+    }
+
+    private boolean isNotifiable(SupplyStatus previousStatus, SupplyStatus newStatus) {
+        if (previousStatus == null) {
+            return newStatus != SupplyStatus.AVAILABLE;
+        }
+        return previousStatus != newStatus;
+    }
+
+    private void validateIngredientExists(Long ingredientId) {
+        if (!ingredientRepository.existsById(ingredientId)) {
+            throw new ResourceNotFoundException("Ingredient", ingredientId);
+        }
+    }
+
+    private void validateSupplyEditPermission(User user) {
+        if (user.getRole() != Role.PURCHASER && user.getRole() != Role.PRODUCER) {
+            throw new ForbiddenException("食材の供給状況を更新する権限がありません");
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.recipe.manager.service;
 
 import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.event.DomainEventPublisher;
+import com.recipe.manager.event.RoleChangedEvent;
 import com.recipe.manager.exception.BusinessLogicException;
 import com.recipe.manager.exception.ResourceNotFoundException;
 import com.recipe.manager.repository.UserRepository;
@@ -18,6 +20,7 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final DomainEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<User> getAllUsers() {
@@ -46,6 +49,9 @@ public class UserService {
         Role oldRole = user.getRole();
         user.setRole(newRole);
         User saved = userRepository.save(user);
+        if (oldRole != newRole) {
+            eventPublisher.publish(new RoleChangedEvent(userId, oldRole, newRole));
+        }
 
         log.info("User role updated: {} ({} -> {}), changed by userId: {}",
                 user.getEmail(), oldRole, newRole, currentUserId);
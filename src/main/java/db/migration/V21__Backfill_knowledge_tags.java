@@ -0,0 +1,125 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 既存記事のカンマ区切りタグを knowledge_tags / knowledge_article_tags へ移す。
+ * 正規化はSQLでは書けないため、Javaで記事IDの昇順にバッチ処理する。
+ * <p>
+ * 正規化と分割は、このマイグレーションを書いた時点の TagParser / TextNormalizer の写しを持つ。
+ * アプリ側の正規化を後で変えても、適用済みの環境と新規の環境で結果が変わらないよう、ここは変更しないこと。
+ */
+public class V21__Backfill_knowledge_tags extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final Pattern SEPARATOR = Pattern.compile("[,、，]");
+    private static final char KATAKANA_START = 'ァ';
+    private static final char KATAKANA_END = 'ヶ';
+    private static final int KATAKANA_TO_HIRAGANA_OFFSET = 0x60;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        long afterId = 0;
+        int articles;
+        do {
+            Map<Long, Map<String, String>> batch = readBatch(connection, afterId);
+            articles = batch.size();
+            if (articles == 0) {
+                break;
+            }
+            insertTags(connection, batch);
+            afterId = batch.keySet().stream().mapToLong(Long::longValue).max().orElse(afterId);
+        } while (articles == BATCH_SIZE);
+    }
+
+    private Map<Long, Map<String, String>> readBatch(Connection connection, long afterId) throws SQLException {
+        Map<Long, Map<String, String>> batch = new LinkedHashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, tags FROM knowledge_articles WHERE id > ? AND tags IS NOT NULL ORDER BY id LIMIT ?")) {
+            select.setLong(1, afterId);
+            select.setInt(2, BATCH_SIZE);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    batch.put(rs.getLong("id"), parse(rs.getString("tags")));
+                }
+            }
+        }
+        return batch;
+    }
+
+    private void insertTags(Connection connection, Map<Long, Map<String, String>> batch) throws SQLException {
+        try (PreparedStatement tag = connection.prepareStatement(
+                "INSERT INTO knowledge_tags (name, normalized_name) VALUES (?, ?) " +
+                        "ON CONFLICT (normalized_name) DO NOTHING");
+             PreparedStatement link = connection.prepareStatement(
+                     "INSERT INTO knowledge_article_tags (article_id, tag_id) " +
+                             "SELECT ?, id FROM knowledge_tags WHERE normalized_name = ? " +
+                             "ON CONFLICT DO NOTHING")) {
+            for (Map<String, String> tags : batch.values()) {
+                for (Map.Entry<String, String> entry : tags.entrySet()) {
+                    tag.setString(1, entry.getValue());
+                    tag.setString(2, entry.getKey());
+                    tag.addBatch();
+                }
+            }
+            tag.executeBatch();
+            for (Map.Entry<Long, Map<String, String>> article : batch.entrySet()) {
+                for (String normalized : article.getValue().keySet()) {
+                    link.setLong(1, article.getKey());
+                    link.setString(2, normalized);
+                    link.addBatch();
+                }
+            }
+            link.executeBatch();
+        }
+    }
+
+    /**
+     * 正規化キー → 表示名（最初に現れた表記）。V21 時点の TagParser.parse と同じ
+     */
+    static Map<String, String> parse(String tags) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        if (tags == null || tags.isBlank()) {
+            return parsed;
+        }
+        for (String token : SEPARATOR.split(tags)) {
+            String name = token.strip();
+            String normalized = normalize(name);
+            if (!normalized.isEmpty()) {
+                parsed.putIfAbsent(normalized, name);
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * V21 時点の TextNormalizer.normalize と同じ
+     */
+    static String normalize(String text) {
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfkc.length());
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= KATAKANA_START && c <= KATAKANA_END) {
+                c = (char) (c - KATAKANA_TO_HIRAGANA_OFFSET);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
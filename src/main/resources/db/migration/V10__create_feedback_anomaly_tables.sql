@@ -0,0 +1,46 @@
+-- バッチ処理の進捗（処理済みの最大ID）
+CREATE TABLE job_watermarks (
+    job_name VARCHAR(100) PRIMARY KEY,
+    last_processed_id BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- レシピ×店舗ごとの満足度の指数加重統計（store_id が NULL の行は店舗未指定のフィードバック）
+CREATE TABLE feedback_stats (
+    id BIGSERIAL PRIMARY KEY,
+    recipe_id BIGINT NOT NULL REFERENCES recipes(id),
+    store_id BIGINT REFERENCES stores(id),
+    observation_count BIGINT NOT NULL DEFAULT 0,
+    baseline_mean DOUBLE PRECISION NOT NULL DEFAULT 0,
+    baseline_variance DOUBLE PRECISION NOT NULL DEFAULT 0,
+    recent_mean DOUBLE PRECISION NOT NULL DEFAULT 0,
+    in_alert BOOLEAN NOT NULL DEFAULT FALSE,
+    last_feedback_id BIGINT,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX uq_feedback_stats_recipe_store
+    ON feedback_stats (recipe_id, store_id) WHERE store_id IS NOT NULL;
+CREATE UNIQUE INDEX uq_feedback_stats_recipe_no_store
+    ON feedback_stats (recipe_id) WHERE store_id IS NULL;
+
+-- 満足度の有意な低下アラート
+CREATE TABLE feedback_alerts (
+    id BIGSERIAL PRIMARY KEY,
+    recipe_id BIGINT NOT NULL REFERENCES recipes(id),
+    store_id BIGINT REFERENCES stores(id),
+    feedback_id BIGINT NOT NULL,
+    baseline_score DECIMAL(4,2) NOT NULL,
+    recent_score DECIMAL(4,2) NOT NULL,
+    z_score DECIMAL(6,2) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'OPEN',
+    acknowledged_by BIGINT REFERENCES users(id),
+    acknowledged_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_feedback_alerts_status ON feedback_alerts (status, created_at DESC);
+CREATE INDEX idx_feedback_alerts_recipe ON feedback_alerts (recipe_id, created_at DESC);
+
+-- ウォーターマーク以降のフィードバックをID順に読むため（主キーで足りるが作成日時の遅延条件も併用する）
+CREATE INDEX idx_product_feedbacks_created ON product_feedbacks (created_at);
@@ -0,0 +1,7 @@
+-- 自動集計の冪等な再実行のため、レシピ・期間ごとに集計を1件に限定する
+CREATE UNIQUE INDEX uq_feedback_summaries_recipe_period
+    ON feedback_summaries (recipe_id, period_start, period_end);
+
+-- 期間で絞り込んでレシピ単位に集計する GROUP BY 用
+CREATE INDEX idx_product_feedbacks_period_recipe
+    ON product_feedbacks (period_start, period_end, recipe_id);
@@ -0,0 +1,12 @@
+-- コメントの形態素解析結果。1フィードバック1行で、再集計時に再解析しないためのキャッシュ
+CREATE TABLE feedback_comment_terms (
+    feedback_id BIGINT PRIMARY KEY REFERENCES product_feedbacks(id) ON DELETE CASCADE,
+    terms TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- TF-IDF の IDF 算出用に、語ごとの出現コメント数を解析のたびに加算する
+CREATE TABLE comment_term_frequencies (
+    term VARCHAR(100) PRIMARY KEY,
+    document_count BIGINT NOT NULL DEFAULT 0
+);
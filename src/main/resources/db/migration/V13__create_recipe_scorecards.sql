@@ -0,0 +1,21 @@
+-- レシピダッシュボード用の読み取りモデル。各サービスのドメインイベントで再計算する
+CREATE TABLE recipe_scorecards (
+    recipe_id BIGINT PRIMARY KEY REFERENCES recipes(id),
+    title VARCHAR(200) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    feedback_count BIGINT NOT NULL DEFAULT 0,
+    avg_satisfaction DECIMAL(4,2),
+    last_feedback_at TIMESTAMP,
+    latest_avg_satisfaction DECIMAL(4,2),
+    latest_avg_emotion DECIMAL(4,2),
+    latest_period_start DATE,
+    latest_period_end DATE,
+    -- 直近の集計から求めた満足度の傾き（30日あたり）
+    trend_slope DECIMAL(6,3),
+    last_edited_at TIMESTAMP,
+    editor_count INTEGER NOT NULL DEFAULT 0,
+    linked_article_count INTEGER NOT NULL DEFAULT 0,
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_recipe_scorecards_status_score ON recipe_scorecards (status, latest_avg_satisfaction DESC);
@@ -0,0 +1,16 @@
+-- ドメインイベントのアウトボックス。業務データと同じトランザクションで書き込み、配信後に published_at を埋める
+CREATE TABLE domain_event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(200) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP
+);
+
+-- 未配信イベントの再送用。配信済みの行は索引に含めない
+CREATE INDEX idx_domain_event_outbox_unpublished ON domain_event_outbox (id) WHERE published_at IS NULL;
+CREATE INDEX idx_domain_event_outbox_published_at ON domain_event_outbox (published_at);
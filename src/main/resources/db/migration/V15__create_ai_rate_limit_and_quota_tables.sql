@@ -0,0 +1,19 @@
+-- AI相談のトークン消費量（推定値）をスレッド単位で累計する
+ALTER TABLE ai_consultation_threads ADD COLUMN token_cost BIGINT NOT NULL DEFAULT 0;
+
+-- ユーザーごとの日次消費量。日次クォータの判定はこの1行の参照で済ませる
+CREATE TABLE ai_daily_usages (
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    usage_date DATE NOT NULL,
+    token_cost BIGINT NOT NULL DEFAULT 0,
+    request_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, usage_date)
+);
+
+-- 複数ノード構成で共有するレート制限のトークンバケット（app.ai.rate-limit-backend=jdbc のときのみ使用）
+CREATE TABLE ai_rate_limit_buckets (
+    bucket_key VARCHAR(100) PRIMARY KEY,
+    tokens DOUBLE PRECISION NOT NULL,
+    refilled_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,29 @@
+-- AI応答ごとのトークン数・レイテンシ・モデル（ユーザーのメッセージでは NULL）
+ALTER TABLE ai_consultation_messages
+    ADD COLUMN prompt_tokens INTEGER,
+    ADD COLUMN completion_tokens INTEGER,
+    ADD COLUMN latency_ms INTEGER,
+    ADD COLUMN cache_hit BOOLEAN,
+    ADD COLUMN model VARCHAR(100);
+
+-- 日×ユーザー×レシピ×モデルの利用量サマリ。コストとレイテンシの集計はこの表だけを読む
+CREATE TABLE ai_usage_daily_summaries (
+    id BIGSERIAL PRIMARY KEY,
+    usage_date DATE NOT NULL,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    recipe_id BIGINT REFERENCES recipes(id),
+    model VARCHAR(100) NOT NULL,
+    request_count INTEGER NOT NULL DEFAULT 0,
+    prompt_tokens BIGINT NOT NULL DEFAULT 0,
+    completion_tokens BIGINT NOT NULL DEFAULT 0,
+    total_latency_ms BIGINT NOT NULL DEFAULT 0,
+    max_latency_ms INTEGER NOT NULL DEFAULT 0,
+    cache_hits INTEGER NOT NULL DEFAULT 0
+);
+
+-- レシピ未指定のスレッドも1行にまとめるため、recipe_id は 0 に寄せて一意にする
+CREATE UNIQUE INDEX uq_ai_usage_daily_summaries
+    ON ai_usage_daily_summaries (usage_date, user_id, (COALESCE(recipe_id, 0)), model);
+CREATE INDEX idx_ai_usage_summaries_user ON ai_usage_daily_summaries (user_id, usage_date);
+CREATE INDEX idx_ai_usage_summaries_recipe ON ai_usage_daily_summaries (recipe_id, usage_date)
+    WHERE recipe_id IS NOT NULL;
@@ -0,0 +1,12 @@
+-- ナレッジ記事の埋め込みベクトル。アプリ内の近似最近傍索引はこの表から再構築できる
+CREATE TABLE knowledge_embeddings (
+    article_id BIGINT PRIMARY KEY REFERENCES knowledge_articles(id) ON DELETE CASCADE,
+    model VARCHAR(100) NOT NULL,
+    dimensions INTEGER NOT NULL,
+    vector BYTEA NOT NULL,
+    article_version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 起動時にスナップショット以降の差分だけを読むため
+CREATE INDEX idx_knowledge_embeddings_model_updated ON knowledge_embeddings (model, updated_at);
@@ -0,0 +1,24 @@
+-- ナレッジ記事を見出し単位に分けたパッセージ。検索とプロンプトへの引用はこの単位で行う
+CREATE TABLE knowledge_chunks (
+    id BIGSERIAL PRIMARY KEY,
+    article_id BIGINT NOT NULL REFERENCES knowledge_articles(id) ON DELETE CASCADE,
+    chunk_index INTEGER NOT NULL,
+    heading VARCHAR(500),
+    content TEXT NOT NULL,
+    article_version BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_knowledge_chunks_article_index UNIQUE (article_id, chunk_index)
+);
+
+-- 埋め込みは記事単位からパッセージ単位に変える。ベクトルは起動時のバックフィルで作り直せるため移行しない
+DROP TABLE knowledge_embeddings;
+
+CREATE TABLE knowledge_embeddings (
+    chunk_id BIGINT PRIMARY KEY REFERENCES knowledge_chunks(id) ON DELETE CASCADE,
+    model VARCHAR(100) NOT NULL,
+    dimensions INTEGER NOT NULL,
+    vector BYTEA NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_knowledge_embeddings_model_updated ON knowledge_embeddings (model, updated_at);
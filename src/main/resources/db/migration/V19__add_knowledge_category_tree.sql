@@ -0,0 +1,20 @@
+-- ナレッジカテゴリの階層化。path は祖先からのIDを並べた経路（例: /1/4/）で、部分木は前方一致で引ける
+ALTER TABLE knowledge_categories ADD COLUMN parent_id BIGINT REFERENCES knowledge_categories(id);
+ALTER TABLE knowledge_categories ADD COLUMN path VARCHAR(1000);
+ALTER TABLE knowledge_categories ADD COLUMN depth INTEGER NOT NULL DEFAULT 0;
+
+-- 記事数は直下の件数と部分木全体の件数を記事の作成・移動・削除のたびに差分で更新する
+ALTER TABLE knowledge_categories ADD COLUMN article_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE knowledge_categories ADD COLUMN subtree_article_count INTEGER NOT NULL DEFAULT 0;
+
+-- 既存カテゴリはすべて最上位
+UPDATE knowledge_categories SET path = '/' || id || '/';
+
+UPDATE knowledge_categories c SET
+    article_count = (SELECT COUNT(*) FROM knowledge_articles a WHERE a.category_id = c.id),
+    subtree_article_count = (SELECT COUNT(*) FROM knowledge_articles a WHERE a.category_id = c.id);
+
+ALTER TABLE knowledge_categories ALTER COLUMN path SET NOT NULL;
+
+CREATE INDEX idx_knowledge_categories_parent ON knowledge_categories (parent_id);
+CREATE INDEX idx_knowledge_categories_path ON knowledge_categories (path varchar_pattern_ops);
@@ -0,0 +1,16 @@
+-- ナレッジ記事のタグを正規化して持つ。normalized_name は TextNormalizer で揃えた照合キー
+CREATE TABLE knowledge_tags (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(500) NOT NULL,
+    normalized_name VARCHAR(500) NOT NULL UNIQUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE knowledge_article_tags (
+    article_id BIGINT NOT NULL REFERENCES knowledge_articles(id) ON DELETE CASCADE,
+    tag_id BIGINT NOT NULL REFERENCES knowledge_tags(id) ON DELETE CASCADE,
+    PRIMARY KEY (article_id, tag_id)
+);
+
+-- タグ絞り込み（AND/OR）とファセット集計はタグ側から記事IDを引くため、索引だけで完結させる
+CREATE INDEX idx_knowledge_article_tags_tag_article ON knowledge_article_tags (tag_id, article_id);
@@ -0,0 +1,9 @@
+-- 検索の絞り込み（ステータス・カテゴリ・作成者・作成日）と既定の並び（更新日時の降順）を複合索引で解決する
+CREATE INDEX idx_recipes_status_updated ON recipes (status, updated_at DESC, id DESC);
+CREATE INDEX idx_recipes_status_category_updated ON recipes (status, category, updated_at DESC);
+CREATE INDEX idx_recipes_created_by_status_updated ON recipes (created_by, status, updated_at DESC);
+CREATE INDEX idx_recipes_status_created ON recipes (status, created_at);
+
+-- 先頭列が同じ複合索引で代替できる
+DROP INDEX idx_recipes_status;
+DROP INDEX idx_recipes_created_by;
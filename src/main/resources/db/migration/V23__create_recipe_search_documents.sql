@@ -0,0 +1,10 @@
+-- レシピ全文検索用の tsvector。日本語は標準の解析器で分かち書きできないため、アプリで bigram に分けた語と位置・重みを保存する
+-- （タイトル A、説明 B、コンセプト C、ストーリー D）。既存レシピの文書は起動時の同期で作られる
+CREATE TABLE recipe_search_documents (
+    recipe_id BIGINT PRIMARY KEY REFERENCES recipes(id) ON DELETE CASCADE,
+    document TSVECTOR NOT NULL,
+    source_updated_at TIMESTAMP NOT NULL,
+    indexed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_recipe_search_documents_document ON recipe_search_documents USING GIN (document);
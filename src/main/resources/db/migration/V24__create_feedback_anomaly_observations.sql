@@ -0,0 +1,9 @@
+-- 異常検知バッチで反映済みのフィードバック。遅れてコミットされた行をウォーターマークの手前まで読み直すときの重複除け。
+-- 読み直し範囲より古い行は不要になるので、バッチのたびに作成日時で削除する
+CREATE TABLE feedback_anomaly_observations (
+    feedback_id BIGINT PRIMARY KEY,
+    feedback_created_at TIMESTAMP NOT NULL,
+    observed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_feedback_anomaly_observations_created ON feedback_anomaly_observations (feedback_created_at);
@@ -0,0 +1,3 @@
+-- 集計元フィードバックの updated_at の最大値。件数が同じでも編集があれば集計し直すために使う。
+-- 既存の集計は NULL のままにし、次回のバッチで一度だけ作り直す
+ALTER TABLE feedback_summaries ADD COLUMN source_updated_at TIMESTAMP;
@@ -0,0 +1,13 @@
+-- 集計期間の種類（WEEKLY: 月曜〜日曜 / MONTHLY: 月初〜月末 / CUSTOM: それ以外）。
+-- スコアカードの傾きは週次の集計だけで求めるため、種類で絞り込めるようにする
+ALTER TABLE feedback_summaries ADD COLUMN period_type VARCHAR(20) NOT NULL DEFAULT 'CUSTOM';
+
+UPDATE feedback_summaries SET period_type = 'WEEKLY'
+WHERE EXTRACT(ISODOW FROM period_start) = 1 AND period_end = period_start + 6;
+
+UPDATE feedback_summaries SET period_type = 'MONTHLY'
+WHERE EXTRACT(DAY FROM period_start) = 1
+  AND period_end = CAST(period_start + INTERVAL '1 month' - INTERVAL '1 day' AS DATE);
+
+CREATE INDEX idx_feedback_summaries_recipe_type_period
+    ON feedback_summaries (recipe_id, period_type, period_start DESC);
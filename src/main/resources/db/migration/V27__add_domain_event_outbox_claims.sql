@@ -0,0 +1,7 @@
+-- 配信権。配信の直前に取り、期限内は他のノードが同じイベントを配信しない
+ALTER TABLE domain_event_outbox ADD COLUMN claimed_by VARCHAR(64);
+ALTER TABLE domain_event_outbox ADD COLUMN claimed_until TIMESTAMP;
+
+-- 配信権の取得時に、同じ集約に未配信の古いイベントが残っていないかを調べるため
+CREATE INDEX idx_domain_event_outbox_aggregate_unpublished
+    ON domain_event_outbox (aggregate_type, aggregate_id, id) WHERE published_at IS NULL;
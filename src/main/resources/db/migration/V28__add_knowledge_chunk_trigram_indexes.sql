@@ -0,0 +1,7 @@
+-- パッセージのキーワード検索（部分一致）を全件走査にしないよう、本文・見出し・記事タイトルに trigram の GIN 索引を張る。
+-- pg_trgm は前方・中間一致の LIKE に使える。3文字未満のキーワードは trigram を作れないため索引全体を読むことになる
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_knowledge_chunks_content_trgm ON knowledge_chunks USING GIN (content gin_trgm_ops);
+CREATE INDEX idx_knowledge_chunks_heading_trgm ON knowledge_chunks USING GIN (heading gin_trgm_ops);
+CREATE INDEX idx_knowledge_articles_title_trgm ON knowledge_articles USING GIN (title gin_trgm_ops);
@@ -0,0 +1,10 @@
+-- 楽観的ロック用バージョン列
+ALTER TABLE recipes ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE service_designs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE experience_designs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE knowledge_articles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- 変更履歴に変更前のレシピバージョンを記録（同時編集の差分マージ判定に使用）
+ALTER TABLE recipe_histories ADD COLUMN base_version BIGINT;
+
+CREATE INDEX idx_recipe_histories_recipe_base_version ON recipe_histories (recipe_id, base_version);
@@ -0,0 +1,2 @@
+-- 食材名の読み（漢字表記の食材をかな入力で検索するため）
+ALTER TABLE ingredients ADD COLUMN name_kana VARCHAR(255);
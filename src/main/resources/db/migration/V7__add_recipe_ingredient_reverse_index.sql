@@ -0,0 +1,2 @@
+-- 食材からレシピを逆引きするための複合インデックス
+CREATE INDEX idx_recipe_ingredients_ingredient_recipe ON recipe_ingredients (ingredient_id, recipe_id);
@@ -0,0 +1,46 @@
+-- 食材の供給状況（store_id が NULL の行は全店舗共通の状況）
+CREATE TABLE ingredient_supply_statuses (
+    id BIGSERIAL PRIMARY KEY,
+    ingredient_id BIGINT NOT NULL REFERENCES ingredients(id),
+    store_id BIGINT REFERENCES stores(id),
+    status VARCHAR(20) NOT NULL,
+    note TEXT,
+    updated_by BIGINT NOT NULL REFERENCES users(id),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX uq_ingredient_supply_statuses_store
+    ON ingredient_supply_statuses (ingredient_id, store_id) WHERE store_id IS NOT NULL;
+CREATE UNIQUE INDEX uq_ingredient_supply_statuses_all_stores
+    ON ingredient_supply_statuses (ingredient_id) WHERE store_id IS NULL;
+
+-- 供給状況の変更履歴
+CREATE TABLE ingredient_supply_status_histories (
+    id BIGSERIAL PRIMARY KEY,
+    ingredient_id BIGINT NOT NULL REFERENCES ingredients(id),
+    store_id BIGINT REFERENCES stores(id),
+    previous_status VARCHAR(20),
+    new_status VARCHAR(20) NOT NULL,
+    note TEXT,
+    changed_by BIGINT NOT NULL REFERENCES users(id),
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_supply_status_histories_ingredient
+    ON ingredient_supply_status_histories (ingredient_id, changed_at DESC);
+
+-- ユーザー通知
+CREATE TABLE notifications (
+    id BIGSERIAL PRIMARY KEY,
+    recipient_id BIGINT NOT NULL REFERENCES users(id),
+    type VARCHAR(50) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    message TEXT NOT NULL,
+    ingredient_id BIGINT REFERENCES ingredients(id),
+    store_id BIGINT REFERENCES stores(id),
+    is_read BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_notifications_recipient ON notifications (recipient_id, is_read, created_at DESC);
@@ -0,0 +1,7 @@
+-- 調理工程の依存関係（先行する工程の step_number）
+-- 依存関係の行が1件もないレシピは、従来どおり手順番号順の逐次実行とみなす
+CREATE TABLE cooking_step_dependencies (
+    cooking_step_id BIGINT NOT NULL REFERENCES cooking_steps(id) ON DELETE CASCADE,
+    depends_on_step_number INTEGER NOT NULL,
+    PRIMARY KEY (cooking_step_id, depends_on_step_number)
+);
@@ -0,0 +1,84 @@
+package com.recipe.manager.ai;
+
+import com.recipe.manager.config.KnowledgeChunkProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticleChunkerTest {
+
+    private KnowledgeChunkProperties properties;
+    private ArticleChunker chunker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KnowledgeChunkProperties();
+        properties.setTargetChars(100);
+        properties.setMaxChars(200);
+        properties.setOverlapChars(20);
+        chunker = new ArticleChunker(properties);
+    }
+
+    @Test
+    void 分割_正常系_見出しごとに経路付きで分かれる() {
+        String markdown = "導入文です。\n\n# 歴史\n" + "あ".repeat(90) + "\n## 江戸時代\n" + "い".repeat(90);
+
+        List<ArticleChunker.Passage> passages = chunker.split(markdown);
+
+        assertEquals(3, passages.size());
+        assertNull(passages.get(0).heading());
+        assertEquals("導入文です。", passages.get(0).content());
+        assertEquals("歴史", passages.get(1).heading());
+        assertTrue(passages.get(1).content().startsWith("# 歴史\n"));
+        assertEquals("歴史 > 江戸時代", passages.get(2).heading());
+    }
+
+    @Test
+    void 分割_正常系_短い節は目安の長さまでまとめる() {
+        String markdown = "# 包丁\n研ぐ。\n# まな板\n拭く。\n# 鍋\n" + "う".repeat(120);
+
+        List<ArticleChunker.Passage> passages = chunker.split(markdown);
+
+        assertEquals(2, passages.size());
+        assertEquals("包丁", passages.get(0).heading());
+        assertEquals("# 包丁\n研ぐ。\n\n# まな板\n拭く。", passages.get(0).content());
+        assertEquals("鍋", passages.get(1).heading());
+    }
+
+    @Test
+    void 分割_正常系_長い節は文の境界で分け末尾を重ねる() {
+        String sentence = "出汁は昆布を水に浸してから弱火で温める。";
+        String markdown = "# 出汁\n" + sentence.repeat(20);
+
+        List<ArticleChunker.Passage> passages = chunker.split(markdown);
+
+        assertTrue(passages.size() > 1);
+        for (ArticleChunker.Passage passage : passages) {
+            assertEquals("出汁", passage.heading());
+            assertTrue(passage.content().length() <= properties.getMaxChars());
+        }
+        // 2つ目以降は前のパッセージの最後の文から始まる
+        assertTrue(passages.get(1).content().startsWith(sentence));
+    }
+
+    @Test
+    void 分割_正常系_コードブロック内の見出し記号は無視する() {
+        String markdown = "# 手順\n```\n# コメント\n```\n説明";
+
+        List<ArticleChunker.Passage> passages = chunker.split(markdown);
+
+        assertEquals(1, passages.size());
+        assertEquals("手順", passages.get(0).heading());
+    }
+
+    @Test
+    void 分割_正常系_空の本文はパッセージなし() {
+        assertTrue(chunker.split("  \n\n ").isEmpty());
+        assertTrue(chunker.split(null).isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+package com.recipe.manager.ai;
+
+import com.recipe.manager.config.CacheConfig;
+import com.recipe.manager.entity.AiConsultationThread;
+import com.recipe.manager.entity.KnowledgeArticle;
+import com.recipe.manager.entity.KnowledgeCategory;
+import com.recipe.manager.entity.KnowledgeChunk;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.RecipeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PromptBuilderTest {
+
+    private PromptFragmentCache fragmentCache;
+    private PromptBuilder promptBuilder;
+    private KnowledgeArticle article;
+
+    @BeforeEach
+    void setUp() {
+        fragmentCache = new PromptFragmentCache(new ConcurrentMapCacheManager(CacheConfig.PROMPT_FRAGMENTS));
+        promptBuilder = new PromptBuilder(fragmentCache);
+        KnowledgeCategory category = KnowledgeCategory.builder().id(1L).name("調理技法").build();
+        article = KnowledgeArticle.builder().id(1L).title("低温調理").content("全文").category(category).build();
+    }
+
+    @Test
+    void システムプロンプト_正常系_レシピとパッセージを含む() {
+        Recipe recipe = Recipe.builder().id(1L).title("鴨のロースト").description("皮目を香ばしく")
+                .status(RecipeStatus.PUBLISHED).version(3L).build();
+        AiConsultationThread thread = AiConsultationThread.builder().theme("火入れ").recipe(recipe).build();
+
+        String prompt = promptBuilder.buildSystemPrompt(thread, List.of(passage(10L, "温度帯", "58度で", 0L)));
+
+        assertTrue(prompt.contains("\n## 相談テーマ\n火入れ\n"));
+        assertTrue(prompt.contains("\n## 関連レシピ\n- タイトル: 鴨のロースト\n- 説明: 皮目を香ばしく\n"));
+        assertFalse(prompt.contains("コンセプト"));
+        assertTrue(prompt.contains("\n## 参考ナレッジ\n### 低温調理（温度帯）\nカテゴリ: 調理技法\n58度で\n\n"));
+        assertFalse(prompt.contains("全文"));
+    }
+
+    @Test
+    void システムプロンプト_正常系_同じ版のパッセージはキャッシュした断片を使う() {
+        AiConsultationThread thread = AiConsultationThread.builder().theme("火入れ").build();
+        promptBuilder.buildSystemPrompt(thread, List.of(passage(10L, null, "本文", 0L)));
+
+        // 版が同じなら描画し直さない（エンティティ側の差分は反映されない）
+        String cached = promptBuilder.buildSystemPrompt(thread, List.of(passage(10L, null, "書き換え", 0L)));
+        assertTrue(cached.contains("本文"));
+
+        String updated = promptBuilder.buildSystemPrompt(thread, List.of(passage(10L, null, "改訂", 1L)));
+        assertTrue(updated.contains("改訂"));
+    }
+
+    @Test
+    void システムプロンプト_正常系_カテゴリ名が変わればパッセージを描画し直す() {
+        AiConsultationThread thread = AiConsultationThread.builder().theme("火入れ").build();
+        promptBuilder.buildSystemPrompt(thread, List.of(passage(10L, null, "本文", 0L)));
+
+        article.getCategory().setName("加熱技法");
+
+        String prompt = promptBuilder.buildSystemPrompt(thread, List.of(passage(10L, null, "本文", 0L)));
+        assertTrue(prompt.contains("カテゴリ: 加熱技法\n"));
+    }
+
+    @Test
+    void システムプロンプト_正常系_レシピの変更イベントで断片が破棄される() {
+        Recipe recipe = Recipe.builder().id(1L).title("鴨のロースト").status(RecipeStatus.PUBLISHED).version(3L).build();
+        AiConsultationThread thread = AiConsultationThread.builder().theme("火入れ").recipe(recipe).build();
+        promptBuilder.buildSystemPrompt(thread, List.of());
+
+        fragmentCache.onRecipeChanged(
+                new BroadcastEvent<>(new RecipeChangedEvent(1L, null, RecipeStatus.PUBLISHED, "UPDATE", "title")));
+        recipe.setTitle("鴨のロースト 柚子胡椒");
+
+        String prompt = promptBuilder.buildSystemPrompt(thread, List.of());
+        assertTrue(prompt.contains("- タイトル: 鴨のロースト 柚子胡椒\n"));
+    }
+
+    @Test
+    void システムプロンプト_正常系_パッセージがなければ参考ナレッジを含まない() {
+        AiConsultationThread thread = AiConsultationThread.builder().theme("盛り付け").build();
+
+        String prompt = promptBuilder.buildSystemPrompt(thread, List.of());
+
+        assertFalse(prompt.contains("参考ナレッジ"));
+        assertTrue(prompt.endsWith("\n## 相談テーマ\n盛り付け\n"));
+    }
+
+    private KnowledgeChunk passage(Long id, String heading, String content, Long articleVersion) {
+        return KnowledgeChunk.builder().id(id).article(article).chunkIndex(0).heading(heading).content(content)
+                .articleVersion(articleVersion).build();
+    }
+}
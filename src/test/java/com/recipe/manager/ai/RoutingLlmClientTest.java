@@ -0,0 +1,139 @@
+package com.recipe.manager.ai;
+
+import com.recipe.manager.config.AiProperties;
+import com.recipe.manager.exception.ApplicationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoutingLlmClientTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private AiProperties.Routing settings;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+        settings = new AiProperties.Routing();
+        settings.setExploreRatio(0);
+        settings.setInitialLatencyMs(0);
+        settings.setHedgingEnabled(false);
+        settings.setTimeoutMs(5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 振り分け_正常系_計測後は速いプロバイダが選ばれる() {
+        RoutingLlmClient router = router(
+                new RoutingLlmClient.Route("slow", 1.0, new SimulatedLlmClient("slow", 150, 0)),
+                new RoutingLlmClient.Route("fast", 1.0, new SimulatedLlmClient("fast", 10, 0)));
+
+        // 未計測のプロバイダを一巡させる
+        router.chat("system", "warmup");
+        router.chat("system", "warmup");
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(router.chat("system", "質問").startsWith("【fast】"));
+        }
+        Map<String, LlmProviderStats> stats = statsByName(router);
+        assertEquals(1, stats.get("slow").getRequests());
+        assertEquals(6, stats.get("fast").getRequests());
+        assertTrue(stats.get("fast").getEwmaLatencyMs() < stats.get("slow").getEwmaLatencyMs());
+    }
+
+    @Test
+    void 振り分け_正常系_重みが大きいプロバイダが優先される() {
+        settings.setInitialLatencyMs(100);
+        RoutingLlmClient router = router(
+                new RoutingLlmClient.Route("light", 1.0, new SimulatedLlmClient("light", 0, 0)),
+                new RoutingLlmClient.Route("heavy", 3.0, new SimulatedLlmClient("heavy", 0, 0)));
+
+        assertTrue(router.chat("system", "質問").startsWith("【heavy】"));
+    }
+
+    @Test
+    void 振り分け_正常系_失敗したら次のプロバイダへフェイルオーバーする() {
+        RoutingLlmClient router = router(
+                new RoutingLlmClient.Route("broken", 1.0, new SimulatedLlmClient("broken", 0, 1.0)),
+                new RoutingLlmClient.Route("healthy", 1.0, new SimulatedLlmClient("healthy", 0, 0)));
+
+        String content = router.chat("system", "質問");
+
+        assertTrue(content.startsWith("【healthy】"));
+        Map<String, LlmProviderStats> stats = statsByName(router);
+        assertEquals(1, stats.get("broken").getFailures());
+        assertTrue(stats.get("broken").getEwmaErrorRate() > 0);
+        assertEquals(0, stats.get("healthy").getFailures());
+    }
+
+    @Test
+    void 振り分け_正常系_一次プロバイダが遅いとヘッジ要求が先に返る() {
+        settings.setHedgingEnabled(true);
+        settings.setInitialLatencyMs(10);
+        settings.setHedgeMinDelayMs(50);
+        RoutingLlmClient router = router(
+                new RoutingLlmClient.Route("primary", 10.0, new SimulatedLlmClient("primary", 1_000, 0)),
+                new RoutingLlmClient.Route("backup", 1.0, new SimulatedLlmClient("backup", 10, 0)));
+
+        long startedAt = System.nanoTime();
+        String content = router.chat("system", "質問");
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertTrue(content.startsWith("【backup】"));
+        assertTrue(elapsedMs < 1_000);
+        assertEquals(1, statsByName(router).get("backup").getHedgesWon());
+        // 負けた一次要求は取り消され、失敗として数えない
+        assertEquals(0, statsByName(router).get("primary").getFailures());
+    }
+
+    @Test
+    void 振り分け_異常系_全プロバイダが失敗したら例外() {
+        RoutingLlmClient router = router(
+                new RoutingLlmClient.Route("a", 1.0, new SimulatedLlmClient("a", 0, 1.0)),
+                new RoutingLlmClient.Route("b", 1.0, new SimulatedLlmClient("b", 0, 1.0)));
+
+        ApplicationException ex = assertThrows(ApplicationException.class, () -> router.chat("system", "質問"));
+
+        assertEquals("AIの応答を取得できませんでした", ex.getMessage());
+        Map<String, LlmProviderStats> stats = statsByName(router);
+        assertEquals(1, stats.get("a").getFailures());
+        assertEquals(1, stats.get("b").getFailures());
+    }
+
+    @Test
+    void 振り分け_異常系_タイムアウト() {
+        settings.setTimeoutMs(50);
+        RoutingLlmClient router = router(
+                new RoutingLlmClient.Route("stuck", 1.0, new SimulatedLlmClient("stuck", 2_000, 0)));
+
+        ApplicationException ex = assertThrows(ApplicationException.class, () -> router.chat("system", "質問"));
+
+        assertEquals("AIの応答がタイムアウトしました", ex.getMessage());
+        assertEquals(1, statsByName(router).get("stuck").getFailures());
+    }
+
+    private RoutingLlmClient router(RoutingLlmClient.Route... routes) {
+        return new RoutingLlmClient(List.of(routes), settings, executor);
+    }
+
+    private static Map<String, LlmProviderStats> statsByName(RoutingLlmClient router) {
+        return router.getProviderStats().stream()
+                .collect(Collectors.toMap(LlmProviderStats::getName, Function.identity()));
+    }
+}
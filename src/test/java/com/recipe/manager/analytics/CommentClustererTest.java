@@ -0,0 +1,40 @@
+package com.recipe.manager.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentClustererTest {
+
+    @Test
+    void クラスタリング_正常系_話題ごとにまとまり大きい順に代表を返す() {
+        List<Map<String, Double>> vectors = List.of(
+                Map.of("塩味", 1.0, "強い", 1.0),
+                Map.of("量", 1.0, "少ない", 1.0),
+                Map.of("塩味", 1.0, "強い", 0.8, "辛い", 0.2),
+                Map.of("塩味", 0.9, "強い", 1.0),
+                Map.of("量", 1.0, "少ない", 0.7));
+
+        List<CommentClusterer.Cluster> clusters = CommentClusterer.cluster(vectors, 3, 10);
+
+        assertEquals(2, clusters.size());
+        assertEquals(3, clusters.get(0).getSize());
+        assertTrue(List.of(0, 2, 3).contains(clusters.get(0).getRepresentative()));
+        assertEquals(2, clusters.get(1).getSize());
+        assertTrue(List.of(1, 4).contains(clusters.get(1).getRepresentative()));
+    }
+
+    @Test
+    void クラスタリング_正常系_語のないコメントは除外する() {
+        List<Map<String, Double>> vectors = List.of(Map.of(), Map.of("美味しい", 1.0));
+
+        List<CommentClusterer.Cluster> clusters = CommentClusterer.cluster(vectors, 3, 10);
+
+        assertEquals(1, clusters.size());
+        assertEquals(1, clusters.get(0).getRepresentative());
+    }
+}
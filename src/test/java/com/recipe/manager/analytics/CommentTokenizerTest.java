@@ -0,0 +1,29 @@
+package com.recipe.manager.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentTokenizerTest {
+
+    private final CommentTokenizer tokenizer = new CommentTokenizer();
+
+    @Test
+    void 形態素解析_正常系_内容語を原形で取り出し助詞を除く() {
+        List<String> terms = tokenizer.tokenize("スープの料理が美味しかった");
+
+        assertTrue(terms.contains("スープ"));
+        assertTrue(terms.contains("料理"));
+        assertTrue(terms.contains("美味しい"));
+        assertFalse(terms.contains("の"));
+        assertFalse(terms.contains("が"));
+    }
+
+    @Test
+    void 形態素解析_正常系_空のコメントは語なし() {
+        assertTrue(tokenizer.tokenize("  ").isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package com.recipe.manager.analytics;
+
+import com.recipe.manager.config.FeedbackAnomalyProperties;
+import com.recipe.manager.entity.FeedbackStat;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EwmaDriftDetectorTest {
+
+    private final FeedbackAnomalyProperties properties = new FeedbackAnomalyProperties();
+
+    private FeedbackStat stableStat(int observations) {
+        FeedbackStat stat = FeedbackStat.builder().recipeId(1L).build();
+        for (int i = 0; i < observations; i++) {
+            assertTrue(EwmaDriftDetector.observe(stat, i % 2 == 0 ? 4 : 5, properties).isEmpty());
+        }
+        return stat;
+    }
+
+    @Test
+    void 検知_正常系_初回観測でベースラインを初期化する() {
+        FeedbackStat stat = FeedbackStat.builder().recipeId(1L).build();
+
+        EwmaDriftDetector.observe(stat, 4, properties);
+
+        assertEquals(1L, stat.getObservationCount());
+        assertEquals(4.0, stat.getBaselineMean());
+        assertEquals(4.0, stat.getRecentMean());
+    }
+
+    @Test
+    void 検知_正常系_急落でアラートを1回だけ出す() {
+        FeedbackStat stat = stableStat(40);
+
+        Optional<EwmaDriftDetector.Drift> first = EwmaDriftDetector.observe(stat, 1, properties);
+        Optional<EwmaDriftDetector.Drift> second = EwmaDriftDetector.observe(stat, 1, properties);
+
+        assertTrue(first.isPresent());
+        assertTrue(first.get().getZScore() <= -properties.getThreshold());
+        assertTrue(first.get().getBaseline() > 4.0);
+        assertTrue(second.isEmpty());
+        assertTrue(stat.getInAlert());
+    }
+
+    @Test
+    void 検知_正常系_回復するとアラート状態を解除する() {
+        FeedbackStat stat = stableStat(40);
+        EwmaDriftDetector.observe(stat, 1, properties);
+
+        for (int i = 0; i < 10; i++) {
+            EwmaDriftDetector.observe(stat, 5, properties);
+        }
+
+        assertFalse(stat.getInAlert());
+    }
+
+    @Test
+    void 検知_正常系_観測数が少ない間はアラートを出さない() {
+        FeedbackStat stat = stableStat(5);
+
+        assertTrue(EwmaDriftDetector.observe(stat, 1, properties).isEmpty());
+        assertFalse(stat.getInAlert());
+    }
+}
@@ -1,19 +1,33 @@
 package com.recipe.manager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.common.EntityTags;
+import com.recipe.manager.config.RecipePushProperties;
 import com.recipe.manager.config.TestSecurityConfig;
 import com.recipe.manager.dto.request.CreateRecipeRequest;
 import com.recipe.manager.dto.request.UpdateRecipeRequest;
 import com.recipe.manager.dto.request.UpdateServiceDesignRequest;
 import com.recipe.manager.dto.request.UpdateStatusRequest;
+import com.recipe.manager.dto.response.RecipeSearchResponse;
+import com.recipe.manager.dto.response.ScaledRecipeResponse;
 import com.recipe.manager.entity.Recipe;
 import com.recipe.manager.entity.RecipeHistory;
 import com.recipe.manager.entity.RecipeStatus;
 import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.push.RecipeChangeHub;
+import com.recipe.manager.search.MatchMode;
+import com.recipe.manager.search.RecipeSearchCriteria;
+import com.recipe.manager.security.JwtTokenProvider;
+import com.recipe.manager.service.RecipeScalingService;
+import com.recipe.manager.service.RecipeSearchService;
 import com.recipe.manager.service.RecipeService;
+import com.recipe.manager.service.RecipeTextSearchService;
 import com.recipe.manager.service.UserService;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -25,11 +39,21 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
@@ -37,6 +61,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,9 +78,27 @@ class RecipeControllerTest {
     @MockitoBean
     private RecipeService recipeService;
 
+    @MockitoBean
+    private RecipeScalingService recipeScalingService;
+
+    @MockitoBean
+    private RecipeSearchService recipeSearchService;
+
+    @MockitoBean
+    private RecipeTextSearchService recipeTextSearchService;
+
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private RecipeChangeHub recipeChangeHub;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private RecipePushProperties recipePushProperties;
+
     private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
 
     private static UsernamePasswordAuthenticationToken chefAuth() {
@@ -131,16 +174,49 @@ class RecipeControllerTest {
         User user = createChefUser();
         Recipe recipe = createTestRecipe(user);
 
+        when(recipeService.getRecipeVersion(1L)).thenReturn(0L);
         when(recipeService.getRecipeById(1L)).thenReturn(recipe);
 
         mockMvc.perform(get("/api/recipes/1")
                         .with(authentication(chefAuth())))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", EntityTags.of("recipe", 1L, 0L)))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("テストレシピ"))
                 .andExpect(jsonPath("$.createdBy.name").value("Chef"));
     }
 
+    @Test
+    void レシピ取得_正常系_ETag一致で304が返り本体を読み込まない() throws Exception {
+        when(recipeService.getRecipeVersion(1L)).thenReturn(0L);
+
+        mockMvc.perform(get("/api/recipes/1")
+                        .with(authentication(chefAuth()))
+                        .header("If-None-Match", EntityTags.of("recipe", 1L, 0L)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", EntityTags.of("recipe", 1L, 0L)));
+
+        verify(recipeService, never()).getRecipeById(any());
+    }
+
+    @Test
+    void レシピ取得_正常系_ETag不一致で最新が返る() throws Exception {
+        User user = createChefUser();
+        Recipe recipe = createTestRecipe(user);
+        recipe.setVersion(3L);
+
+        when(recipeService.getRecipeVersion(1L)).thenReturn(3L);
+        when(recipeService.getRecipeById(1L)).thenReturn(recipe);
+
+        mockMvc.perform(get("/api/recipes/1")
+                        .with(authentication(chefAuth()))
+                        .header("If-None-Match", EntityTags.of("recipe", 1L, 2L)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", EntityTags.of("recipe", 1L, 3L)))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
     @Test
     void レシピ取得_異常系_未認証で401() throws Exception {
         mockMvc.perform(get("/api/recipes/1"))
@@ -164,6 +240,78 @@ class RecipeControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value("テストレシピ"));
     }
 
+    @Test
+    void 人数換算_正常系_換算後の分量が返る() throws Exception {
+        ScaledRecipeResponse scaled = ScaledRecipeResponse.builder()
+                .recipeId(1L).title("テストレシピ").version(0L).baseServings(4).servings(240)
+                .ingredients(List.of(ScaledRecipeResponse.ScaledIngredient.builder()
+                        .ingredientId(10L).ingredientName("トマト")
+                        .originalQuantity(new BigDecimal("200")).originalUnit("g")
+                        .quantity(new BigDecimal("12")).unit("kg").build()))
+                .build();
+        when(recipeScalingService.scaleRecipe(1L, 240)).thenReturn(scaled);
+
+        mockMvc.perform(get("/api/recipes/1/scaled")
+                        .with(authentication(chefAuth()))
+                        .param("servings", "240"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.servings").value(240))
+                .andExpect(jsonPath("$.ingredients[0].quantity").value(12))
+                .andExpect(jsonPath("$.ingredients[0].unit").value("kg"));
+    }
+
+    @Test
+    void 食材逆引き_正常系_ALL指定で一致したレシピが返る() throws Exception {
+        User user = createChefUser();
+        Recipe recipe = createTestRecipe(user);
+
+        when(recipeService.findRecipesByIngredients(eq(List.of(10L, 20L)), eq(MatchMode.ALL), eq(null), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(recipe)));
+
+        mockMvc.perform(get("/api/recipes/by-ingredients")
+                        .with(authentication(chefAuth()))
+                        .param("ingredientIds", "10", "20")
+                        .param("match", "ALL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("テストレシピ"));
+    }
+
+    @Test
+    void レシピ検索_正常系_条件を組み合わせて結果とファセットが返る() throws Exception {
+        RecipeSearchResponse response = RecipeSearchResponse.builder()
+                .recipes(List.of())
+                .totalElements(0)
+                .totalPages(0)
+                .page(0)
+                .size(20)
+                .facets(RecipeSearchResponse.Facets.builder()
+                        .categories(List.of(RecipeSearchResponse.FacetEntry.builder()
+                                .key("和食").label("和食").count(3).build()))
+                        .statuses(List.of())
+                        .creators(List.of())
+                        .ingredients(List.of())
+                        .build())
+                .build();
+        ArgumentCaptor<RecipeSearchCriteria> captor = ArgumentCaptor.forClass(RecipeSearchCriteria.class);
+        when(recipeSearchService.search(captor.capture(), any(Pageable.class))).thenReturn(response);
+
+        mockMvc.perform(get("/api/recipes/search")
+                        .with(authentication(chefAuth()))
+                        .param("categories", "和食", "洋食")
+                        .param("statuses", "PUBLISHED")
+                        .param("ingredientIds", "10")
+                        .param("createdFrom", "2026-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facets.categories[0].count").value(3));
+
+        RecipeSearchCriteria criteria = captor.getValue();
+        assertEquals(Set.of("和食", "洋食"), criteria.getCategories());
+        assertEquals(Set.of(RecipeStatus.PUBLISHED), criteria.getStatuses());
+        assertEquals(MatchMode.ALL, criteria.getIngredientMatch());
+        assertEquals(LocalDate.of(2026, 1, 1), criteria.getCreatedFrom());
+    }
+
     @Test
     void レシピ更新_正常系_200が返る() throws Exception {
         User user = createChefUser();
@@ -255,4 +403,33 @@ class RecipeControllerTest {
                 .andExpect(jsonPath("$[0].changeType").value("CREATE"))
                 .andExpect(jsonPath("$[0].changedByName").value("Chef"));
     }
+
+    @Test
+    void 変更ストリーム_正常系_専用トークンをCookieで発行する() throws Exception {
+        User user = createChefUser();
+        when(userService.getUserById(1L)).thenReturn(user);
+        when(recipePushProperties.getStreamTokenTtlMs()).thenReturn(3_600_000L);
+        when(jwtTokenProvider.createScopedToken(1L, "chef@example.com", Role.CHEF,
+                Constants.RECIPE_CHANGES_SCOPE, 3_600_000L)).thenReturn("stream-token");
+
+        mockMvc.perform(post("/api/recipes/changes/session")
+                        .with(authentication(chefAuth())))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Set-Cookie", allOf(
+                        startsWith("recipe_changes_token=stream-token; Path=/api/recipes/changes; Max-Age=3600;"),
+                        containsString("; Secure; HttpOnly; SameSite=Strict"))));
+    }
+
+    @Test
+    void 変更ストリーム_異常系_参照できないレシピは購読できない() throws Exception {
+        doThrow(new ResourceNotFoundException("Recipe", 9L))
+                .when(recipeService).requireVisibleRecipes(List.of(9L));
+
+        mockMvc.perform(get("/api/recipes/changes")
+                        .param("recipeIds", "9")
+                        .with(authentication(chefAuth())))
+                .andExpect(status().isNotFound());
+
+        verifyNoInteractions(recipeChangeHub);
+    }
 }
@@ -0,0 +1,110 @@
+package com.recipe.manager.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.manager.config.EventProperties;
+import com.recipe.manager.entity.OutboxEvent;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DomainEventBroadcasterTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DomainEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new DomainEventBroadcaster(outboxEventRepository, applicationEventPublisher, objectMapper,
+                new EventProperties());
+    }
+
+    @Test
+    void 同報_正常系_他のノードが書き込んだイベントを読み取りで届ける() throws Exception {
+        when(outboxEventRepository.findMaxId()).thenReturn(Optional.of(5L));
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(5L), any()))
+                .thenReturn(List.of(outbox(6L, changed(1L))));
+
+        broadcaster.tail();
+        broadcaster.tail();
+        broadcaster.shutdown();
+
+        assertEquals(List.of(1L), broadcastRecipeIds(1));
+    }
+
+    @Test
+    void 同報_正常系_コミット直後に届けたイベントは読み取りで重複させない() throws Exception {
+        when(outboxEventRepository.findMaxId()).thenReturn(Optional.of(5L));
+        OutboxEvent written = outbox(6L, changed(1L));
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(5L), any())).thenReturn(List.of(written));
+
+        broadcaster.tail();
+        broadcaster.broadcast(written);
+        broadcaster.tail();
+        broadcaster.shutdown();
+
+        assertEquals(List.of(1L), broadcastRecipeIds(1));
+    }
+
+    @Test
+    void 同報_正常系_読み飛ばしたIDは後からコミットされれば届ける() throws Exception {
+        when(outboxEventRepository.findMaxId()).thenReturn(Optional.of(5L));
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(5L), any()))
+                .thenReturn(List.of(outbox(7L, changed(2L))));
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(7L), any())).thenReturn(List.of());
+        when(outboxEventRepository.findAllById(List.of(6L))).thenReturn(List.of(outbox(6L, changed(1L))));
+
+        broadcaster.tail();
+        broadcaster.tail();
+        broadcaster.tail();
+        broadcaster.shutdown();
+
+        assertEquals(List.of(2L, 1L), broadcastRecipeIds(2));
+    }
+
+    private List<Long> broadcastRecipeIds(int count) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher, times(count)).publishEvent(captor.capture());
+        return captor.getAllValues().stream()
+                .map(event -> assertInstanceOf(BroadcastEvent.class, event).getEvent())
+                .map(event -> assertInstanceOf(RecipeChangedEvent.class, event).getRecipeId())
+                .toList();
+    }
+
+    private static RecipeChangedEvent changed(Long recipeId) {
+        return new RecipeChangedEvent(recipeId, "主菜", RecipeStatus.PUBLISHED, "UPDATE", "title");
+    }
+
+    private OutboxEvent outbox(Long id, DomainEvent event) throws Exception {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .eventType(event.getClass().getName())
+                .payload(objectMapper.writeValueAsString(event))
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.recipe.manager.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.manager.config.EventProperties;
+import com.recipe.manager.entity.OutboxEvent;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DomainEventDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DomainEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        EventProperties properties = new EventProperties();
+        properties.setStripes(4);
+        dispatcher = new DomainEventDispatcher(outboxEventRepository, applicationEventPublisher, objectMapper, properties);
+    }
+
+    @Test
+    void 配信_正常系_同じ集約のイベントは発行順に配信される() throws Exception {
+        claimSucceeds();
+        for (long i = 1; i <= 20; i++) {
+            assertTrue(dispatcher.dispatch(outbox(i, new FeedbackChangedEvent(7L, i))));
+        }
+        dispatcher.shutdown();
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher, times(20)).publishEvent(captor.capture());
+        List<Long> storeIds = captor.getAllValues().stream()
+                .map(event -> ((FeedbackChangedEvent) event).getStoreId())
+                .toList();
+        assertEquals(LongStream.rangeClosed(1, 20).boxed().toList(), storeIds);
+        verify(outboxEventRepository, times(20)).markPublished(any(), any());
+    }
+
+    @Test
+    void 配信_正常系_ペイロードから元のイベントを復元する() throws Exception {
+        claimSucceeds();
+
+        dispatcher.dispatch(outbox(1L, new RecipeChangedEvent(5L, "主菜", RecipeStatus.PUBLISHED, "UPDATE", "title,story")));
+        dispatcher.shutdown();
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        RecipeChangedEvent event = assertInstanceOf(RecipeChangedEvent.class, captor.getValue());
+        assertEquals(5L, event.getRecipeId());
+        assertEquals(RecipeStatus.PUBLISHED, event.getStatus());
+        assertEquals("title,story", event.getChangedFields());
+        verify(outboxEventRepository).markPublished(eq(1L), any());
+    }
+
+    @Test
+    void 配信_正常系_配信権を取れなければ配信せず未配信のまま残す() throws Exception {
+        when(outboxEventRepository.claim(eq(2L), anyString(), any(), any(), anyInt())).thenReturn(0);
+
+        assertTrue(dispatcher.dispatch(outbox(2L, new FeedbackChangedEvent(7L, 1L))));
+        dispatcher.shutdown();
+
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+        verify(outboxEventRepository, never()).recordFailure(any(), anyString());
+        assertFalse(dispatcher.isInFlight(2L));
+    }
+
+    @Test
+    void 配信_異常系_購読側が失敗したら未配信のまま失敗を記録する() throws Exception {
+        claimSucceeds();
+        doThrow(new IllegalStateException("boom")).when(applicationEventPublisher).publishEvent(any(Object.class));
+
+        dispatcher.dispatch(outbox(1L, new RecipeChangedEvent(5L, "主菜", RecipeStatus.DRAFT, "UPDATE", "title")));
+        dispatcher.shutdown();
+
+        verify(outboxEventRepository).recordFailure(eq(1L), anyString());
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+        assertFalse(dispatcher.isInFlight(1L));
+    }
+
+    @Test
+    void 配信_異常系_ドメインイベント以外の型は配信しない() throws Exception {
+        claimSucceeds();
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .id(1L).aggregateType(AggregateTypes.RECIPE).aggregateId(5L)
+                .eventType(String.class.getName()).payload("\"x\"").build();
+
+        dispatcher.dispatch(outboxEvent);
+        dispatcher.shutdown();
+
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+        verify(outboxEventRepository).recordFailure(eq(1L), anyString());
+    }
+
+    private void claimSucceeds() {
+        when(outboxEventRepository.claim(any(), anyString(), any(), any(), anyInt())).thenReturn(1);
+    }
+
+    private OutboxEvent outbox(Long id, DomainEvent event) throws Exception {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .eventType(event.getClass().getName())
+                .payload(objectMapper.writeValueAsString(event))
+                .build();
+    }
+}
@@ -41,6 +41,11 @@ class GlobalExceptionHandlerTest {
         public ResponseEntity<Void> throwForbidden() {
             throw new ForbiddenException("Access denied");
         }
+
+        @GetMapping("/api/test/conflict")
+        public ResponseEntity<Void> throwConflict() {
+            throw new ConflictException("Version conflict", 3L);
+        }
     }
 
     @Test
@@ -66,4 +71,13 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.status").value(403))
                 .andExpect(jsonPath("$.message").value("Access denied"));
     }
+
+    @Test
+    void ConflictException_409と現在のバージョンが返る() throws Exception {
+        mockMvc.perform(get("/api/test/conflict"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("Version conflict"))
+                .andExpect(jsonPath("$.currentVersion").value(3));
+    }
 }
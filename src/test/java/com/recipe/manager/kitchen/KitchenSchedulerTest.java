@@ -0,0 +1,132 @@
+package com.recipe.manager.kitchen;
+
+import com.recipe.manager.entity.CookingStep;
+import com.recipe.manager.exception.BusinessLogicException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KitchenSchedulerTest {
+
+    private static StepTask task(long recipeId, int stepNumber, int minutes, boolean station, Integer... predecessors) {
+        return StepTask.builder()
+                .recipeId(recipeId)
+                .stepNumber(stepNumber)
+                .durationMinutes(minutes)
+                .usesStation(station)
+                .predecessors(List.of(predecessors))
+                .build();
+    }
+
+    private static ScheduledStep find(KitchenSchedule schedule, long recipeId, int stepNumber) {
+        return schedule.getSteps().stream()
+                .filter(s -> s.getRecipeId() == recipeId && s.getStepNumber() == stepNumber)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void 並列実行_独立した工程は料理人の数だけ同時に進む() {
+        List<StepTask> tasks = List.of(
+                task(1L, 1, 10, false),
+                task(1L, 2, 20, false),
+                task(1L, 3, 5, false, 1, 2));
+
+        KitchenSchedule schedule = KitchenScheduler.schedule(tasks, 2, 0);
+
+        assertEquals(25, schedule.getMakespanMinutes());
+        assertEquals(25, schedule.getCriticalPathMinutes());
+        assertEquals(20, find(schedule, 1L, 3).getStartMinute());
+    }
+
+    @Test
+    void 資源制約_ステーションが1つなら温度工程は順番に実行される() {
+        List<StepTask> tasks = List.of(
+                task(1L, 1, 30, true),
+                task(2L, 1, 30, true));
+
+        KitchenSchedule schedule = KitchenScheduler.schedule(tasks, 2, 1);
+
+        assertEquals(60, schedule.getMakespanMinutes());
+        assertEquals(30, schedule.getCriticalPathMinutes());
+    }
+
+    @Test
+    void 優先度_クリティカルパス上の工程が先に割り当てられる() {
+        List<StepTask> tasks = List.of(
+                task(1L, 1, 5, false),
+                task(2L, 1, 5, false),
+                task(2L, 2, 30, false, 1));
+
+        KitchenSchedule schedule = KitchenScheduler.schedule(tasks, 1, 0);
+
+        assertEquals(0, find(schedule, 2L, 1).getStartMinute());
+        assertEquals(40, schedule.getMakespanMinutes());
+    }
+
+    @Test
+    void 逐次扱い_依存関係のないレシピは手順番号順に並ぶ() {
+        CookingStep first = CookingStep.builder().stepNumber(1).description("切る").durationMinutes(5).build();
+        CookingStep second = CookingStep.builder().stepNumber(2).description("焼く").durationMinutes(10)
+                .temperature("180℃").build();
+
+        List<StepTask> tasks = StepTask.fromSteps(1L, List.of(second, first));
+
+        assertEquals(List.of(), tasks.get(0).getPredecessors());
+        assertEquals(List.of(1), tasks.get(1).getPredecessors());
+        assertTrue(tasks.get(1).isUsesStation());
+    }
+
+    @Test
+    void 明示的な依存関係_指定がない工程は先頭から開始できる() {
+        CookingStep first = CookingStep.builder().stepNumber(1).description("下茹で").durationMinutes(5).build();
+        CookingStep second = CookingStep.builder().stepNumber(2).description("ソース").durationMinutes(10).build();
+        CookingStep third = CookingStep.builder().stepNumber(3).description("和える").durationMinutes(2)
+                .dependsOnStepNumbers(Set.of(1, 2)).build();
+
+        KitchenSchedule schedule = KitchenScheduler.schedule(
+                StepTask.fromSteps(1L, List.of(first, second, third)), 2, 0);
+
+        assertEquals(12, schedule.getMakespanMinutes());
+    }
+
+    @Test
+    void 異常系_循環依存() {
+        List<StepTask> tasks = List.of(
+                task(1L, 1, 5, false, 2),
+                task(1L, 2, 5, false, 1));
+
+        assertThrows(BusinessLogicException.class, () -> KitchenScheduler.schedule(tasks, 1, 0));
+    }
+
+    @Test
+    void 異常系_存在しない工程への依存() {
+        assertThrows(BusinessLogicException.class,
+                () -> KitchenScheduler.validateDependencies(List.of(task(1L, 1, 5, false, 9))));
+    }
+
+    @Test
+    void 性能_50レシピ500工程を1秒以内に計画できる() {
+        List<StepTask> tasks = new ArrayList<>();
+        for (long recipeId = 1; recipeId <= 50; recipeId++) {
+            for (int step = 1; step <= 10; step++) {
+                Integer[] predecessors = step <= 2 ? new Integer[0] : new Integer[]{step - 1, step - 2};
+                tasks.add(task(recipeId, step, (int) (recipeId + step) % 15 + 1, step % 3 == 0, predecessors));
+            }
+        }
+
+        KitchenSchedule schedule = assertTimeout(Duration.ofSeconds(1),
+                () -> KitchenScheduler.schedule(tasks, 6, 3));
+
+        assertEquals(500, schedule.getSteps().size());
+        assertTrue(schedule.getMakespanMinutes() >= schedule.getCriticalPathMinutes());
+    }
+}
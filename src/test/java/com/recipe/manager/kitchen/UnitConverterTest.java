@@ -0,0 +1,66 @@
+package com.recipe.manager.kitchen;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UnitConverterTest {
+
+    @Test
+    void 基準単位換算_大さじはmlに換算される() {
+        Measure result = UnitConverter.toBase(new BigDecimal("2"), "大さじ");
+
+        assertEquals(0, new BigDecimal("30").compareTo(result.getQuantity()));
+        assertEquals("ml", result.getUnit());
+    }
+
+    @Test
+    void 人数換算_1000g以上はkgに繰り上がる() {
+        Measure result = UnitConverter.scale(new BigDecimal("200"), "g", 240, 4);
+
+        assertEquals(new BigDecimal("12"), result.getQuantity());
+        assertEquals("kg", result.getUnit());
+    }
+
+    @Test
+    void 人数換算_カップと小さじも体積として換算される() {
+        assertEquals(new BigDecimal("1.5"), UnitConverter.scale(new BigDecimal("1.5"), "カップ", 5, 1).getQuantity());
+        assertEquals("l", UnitConverter.scale(new BigDecimal("1.5"), "カップ", 5, 1).getUnit());
+        assertEquals(new BigDecimal("7.5"), UnitConverter.scale(new BigDecimal("1"), "小さじ", 3, 2).getQuantity());
+    }
+
+    @Test
+    void 人数換算_割り切れない倍率は最後に丸める() {
+        Measure result = UnitConverter.scale(new BigDecimal("100"), "g", 1, 3);
+
+        assertEquals(new BigDecimal("33.33"), result.getQuantity());
+        assertEquals("g", result.getUnit());
+    }
+
+    @Test
+    void 人数換算_表にない単位は単位を保ったまま倍率だけ掛ける() {
+        Measure result = UnitConverter.scale(new BigDecimal("2"), "個", 10, 4);
+
+        assertEquals(new BigDecimal("5"), result.getQuantity());
+        assertEquals("個", result.getUnit());
+        assertFalse(result.isConvertible());
+    }
+
+    @Test
+    void 人数換算_分量未設定はそのまま返す() {
+        Measure result = UnitConverter.scale(null, "適量", 10, 4);
+
+        assertNull(result.getQuantity());
+        assertEquals("適量", result.getUnit());
+    }
+
+    @Test
+    void 単位表記ゆれ_全角や大文字も同じ単位として扱う() {
+        assertEquals(UnitConverter.Dimension.VOLUME, UnitConverter.dimensionOf("ＭＬ").orElseThrow());
+        assertEquals(UnitConverter.Dimension.MASS, UnitConverter.dimensionOf("KG").orElseThrow());
+    }
+}
@@ -0,0 +1,221 @@
+package com.recipe.manager.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.manager.config.EventProperties;
+import com.recipe.manager.config.RecipePushProperties;
+import com.recipe.manager.entity.OutboxEvent;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.DomainEventBroadcaster;
+import com.recipe.manager.event.RecipeChangedEvent;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecipeChangeHubTest {
+
+    private RecipePushProperties properties;
+    private RecipeChangeHub hub;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RecipePushProperties();
+        hub = new RecipeChangeHub(properties, Runnable::run);
+    }
+
+    @Test
+    void 通知_正常系_連続した編集は1件にまとめて送る() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.register(emitter, List.of(1L), null, null);
+
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "title, description"));
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "servings"));
+        hub.onRecipeChanged(changed(1L, "主菜", "STATUS_CHANGE", "DRAFT -> REVIEW"));
+        hub.flush();
+
+        assertEquals(1, emitter.sent.size());
+        hub.flush();
+        assertEquals(1, emitter.sent.size());
+    }
+
+    @Test
+    void 通知_正常系_レシピIDとカテゴリの購読者だけに届く() {
+        RecordingEmitter byId = new RecordingEmitter();
+        RecordingEmitter byCategory = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        hub.register(byId, List.of(1L), null, null);
+        hub.register(byCategory, null, List.of("主菜"), null);
+        hub.register(other, List.of(2L), List.of("デザート"), null);
+
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "title"));
+        hub.flush();
+
+        assertEquals(1, byId.sent.size());
+        assertEquals(1, byCategory.sent.size());
+        assertTrue(other.sent.isEmpty());
+    }
+
+    @Test
+    void 通知_正常系_他のノードで配信されたレシピ変更も購読者に届く() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.register(emitter, List.of(1L), null, null);
+        // 配信権は書き込んだノードが取るため、このノードにはアウトボックスの読み取りからだけ届く
+        ObjectMapper objectMapper = new ObjectMapper();
+        RecipeChangedEvent event = new RecipeChangedEvent(1L, "主菜", RecipeStatus.PUBLISHED, "UPDATE", "title");
+        OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+        when(outboxEventRepository.findMaxId()).thenReturn(Optional.of(5L));
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(5L), any())).thenReturn(List.of(
+                OutboxEvent.builder()
+                        .id(6L)
+                        .aggregateType(event.getAggregateType())
+                        .aggregateId(event.getAggregateId())
+                        .eventType(event.getClass().getName())
+                        .payload(objectMapper.writeValueAsString(event))
+                        .build()));
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(RecipeChangeHub.class, () -> hub);
+            context.refresh();
+            DomainEventBroadcaster broadcaster = new DomainEventBroadcaster(
+                    outboxEventRepository, context, objectMapper, new EventProperties());
+            broadcaster.tail();
+            broadcaster.tail();
+            broadcaster.shutdown();
+        }
+        hub.flush();
+
+        assertEquals(1, emitter.sent.size());
+        assertTrue(emitter.text(0).contains("event:" + RecipeChangeHub.CHANGE_EVENT));
+    }
+
+    @Test
+    void 通知_正常系_IDとカテゴリの両方に一致しても1回だけ送る() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.register(emitter, List.of(1L), List.of("主菜"), null);
+
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "title"));
+        hub.flush();
+
+        assertEquals(1, emitter.sent.size());
+    }
+
+    @Test
+    void 通知_異常系_送信に失敗した接続は購読から外す() {
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failing = true;
+        hub.register(broken, List.of(1L), null, null);
+
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "title"));
+        hub.flush();
+
+        assertEquals(0, hub.getConnectionCount());
+    }
+
+    @Test
+    void 再接続_正常系_Last_Event_ID以降の購読対象の変更を送り直す() {
+        RecordingEmitter first = new RecordingEmitter();
+        hub.register(first, List.of(1L), null, null);
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "title"));
+        hub.flush();
+        String lastEventId = first.eventId(0);
+
+        hub.onRecipeChanged(changed(2L, "デザート", "UPDATE", "title"));
+        hub.flush();
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "servings"));
+        hub.flush();
+
+        RecordingEmitter reconnected = new RecordingEmitter();
+        hub.register(reconnected, List.of(1L), null, lastEventId);
+
+        assertEquals(1, reconnected.sent.size());
+        assertEquals(first.eventId(1), reconnected.eventId(0));
+        assertTrue(reconnected.text(0).contains("event:" + RecipeChangeHub.CHANGE_EVENT));
+    }
+
+    @Test
+    void 再接続_正常系_送り直せないIDにはresyncを送る() {
+        properties.setReplayBufferSize(1);
+        RecordingEmitter first = new RecordingEmitter();
+        hub.register(first, List.of(1L), null, null);
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "title"));
+        hub.flush();
+        String lastEventId = first.eventId(0);
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "servings"));
+        hub.flush();
+        hub.onRecipeChanged(changed(1L, "主菜", "UPDATE", "description"));
+        hub.flush();
+
+        RecordingEmitter tooOld = new RecordingEmitter();
+        hub.register(tooOld, List.of(1L), null, lastEventId);
+        RecordingEmitter otherNode = new RecordingEmitter();
+        hub.register(otherNode, List.of(1L), null, "other-node:1");
+
+        assertEquals(1, tooOld.sent.size());
+        assertTrue(tooOld.text(0).contains("event:" + RecipeChangeHub.RESYNC_EVENT));
+        assertEquals(first.eventId(2), tooOld.eventId(0));
+        assertTrue(otherNode.text(0).contains("event:" + RecipeChangeHub.RESYNC_EVENT));
+    }
+
+    @Test
+    void 購読_異常系_条件なしは登録できない() {
+        assertThrows(BusinessLogicException.class,
+                () -> hub.register(new RecordingEmitter(), List.of(), null, null));
+    }
+
+    @Test
+    void 購読_異常系_接続数の上限を超えると登録できない() {
+        properties.setMaxConnections(1);
+        hub.register(new RecordingEmitter(), List.of(1L), null, null);
+
+        assertThrows(BusinessLogicException.class,
+                () -> hub.register(new RecordingEmitter(), List.of(2L), null, null));
+    }
+
+    private static BroadcastEvent<RecipeChangedEvent> changed(Long recipeId, String category, String changeType,
+                                                              String fields) {
+        return new BroadcastEvent<>(new RecipeChangedEvent(recipeId, category, RecipeStatus.DRAFT, changeType, fields));
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            sent.add(builder.build());
+        }
+
+        private String text(int index) {
+            StringBuilder sb = new StringBuilder();
+            sent.get(index).forEach(part -> sb.append(part.getData()));
+            return sb.toString();
+        }
+
+        private String eventId(int index) {
+            String text = text(index);
+            int start = text.indexOf("id:") + "id:".length();
+            return text.substring(start, text.indexOf('\n', start));
+        }
+    }
+}
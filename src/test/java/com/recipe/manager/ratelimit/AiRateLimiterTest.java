@@ -0,0 +1,66 @@
+package com.recipe.manager.ratelimit;
+
+import com.recipe.manager.config.AiProperties;
+import com.recipe.manager.entity.Role;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.RoleChangedEvent;
+import com.recipe.manager.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AiRateLimiterTest {
+
+    @Mock
+    private TokenBucketStore tokenBucketStore;
+
+    private final AiProperties properties = new AiProperties();
+    private AiRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new AiRateLimiter(tokenBucketStore, properties);
+    }
+
+    @Test
+    void 送信制限_異常系_待ち時間を秒に切り上げる() {
+        when(tokenBucketStore.tryConsume(eq("ai:CHEF:3"), anyInt(), anyDouble()))
+                .thenReturn(RateLimitDecision.deny(1500));
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire(3L, Role.CHEF));
+
+        assertEquals(2, e.getRetryAfterSeconds());
+    }
+
+    @Test
+    void 送信制限_異常系_補充されないバケットでも待ち時間が桁あふれしない() {
+        when(tokenBucketStore.tryConsume(eq("ai:CHEF:3"), anyInt(), anyDouble()))
+                .thenReturn(RateLimitDecision.deny(Long.MAX_VALUE));
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire(3L, Role.CHEF));
+
+        assertEquals(Long.MAX_VALUE / 1000 + 1, e.getRetryAfterSeconds());
+    }
+
+    @Test
+    void ロール変更_正常系_変更前後のロールのバケットを捨てる() {
+        rateLimiter.onRoleChanged(new BroadcastEvent<>(new RoleChangedEvent(3L, Role.CHEF, Role.SERVICE)));
+
+        verify(tokenBucketStore).remove(List.of("ai:CHEF:3", "ai:SERVICE:3"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.recipe.manager.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryTokenBucketStoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong(0);
+    private final InMemoryTokenBucketStore store = new InMemoryTokenBucketStore(now::get);
+
+    @Test
+    void 消費_正常系_容量までは連続して許可される() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(store.tryConsume("ai:CHEF:1", 3, 1.0).allowed());
+        }
+
+        RateLimitDecision denied = store.tryConsume("ai:CHEF:1", 3, 1.0);
+
+        assertFalse(denied.allowed());
+        assertEquals(1000, denied.retryAfterMillis());
+    }
+
+    @Test
+    void 消費_正常系_経過時間に応じて補充される() {
+        store.tryConsume("ai:CHEF:1", 1, 0.5);
+        assertFalse(store.tryConsume("ai:CHEF:1", 1, 0.5).allowed());
+
+        now.addAndGet(SECOND);
+        RateLimitDecision halfway = store.tryConsume("ai:CHEF:1", 1, 0.5);
+        assertFalse(halfway.allowed());
+        assertEquals(1000, halfway.retryAfterMillis());
+
+        now.addAndGet(SECOND);
+        assertTrue(store.tryConsume("ai:CHEF:1", 1, 0.5).allowed());
+    }
+
+    @Test
+    void 消費_正常系_補充は容量を超えない() {
+        store.tryConsume("ai:CHEF:1", 2, 1.0);
+        now.addAndGet(60 * SECOND);
+
+        assertTrue(store.tryConsume("ai:CHEF:1", 2, 1.0).allowed());
+        assertTrue(store.tryConsume("ai:CHEF:1", 2, 1.0).allowed());
+        assertFalse(store.tryConsume("ai:CHEF:1", 2, 1.0).allowed());
+    }
+
+    @Test
+    void 削除_正常系_捨てたバケットは満杯から始まる() {
+        store.tryConsume("ai:CHEF:1", 1, 1.0);
+
+        store.remove(List.of("ai:CHEF:1"));
+
+        assertTrue(store.tryConsume("ai:CHEF:1", 1, 1.0).allowed());
+    }
+
+    @Test
+    void 消費_正常系_キーごとに独立している() {
+        store.tryConsume("ai:CHEF:1", 1, 1.0);
+
+        assertTrue(store.tryConsume("ai:CHEF:2", 1, 1.0).allowed());
+        assertFalse(store.tryConsume("ai:CHEF:1", 1, 1.0).allowed());
+    }
+
+    @Test
+    void 掃除_正常系_長時間使われていないバケットを捨てる() {
+        store.tryConsume("ai:CHEF:1", 1, 1.0);
+        now.addAndGet(2 * 60 * 60 * SECOND);
+        store.tryConsume("ai:CHEF:2", 1, 1.0);
+
+        store.evictIdleBuckets();
+
+        assertEquals(1, store.size());
+    }
+}
@@ -0,0 +1,152 @@
+package com.recipe.manager.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTest {
+
+    private static final int DIMENSIONS = 32;
+
+    private final Random random = new Random(7);
+
+    @Test
+    void 検索_正常系_全件比較とほぼ同じ近傍が返る() {
+        HnswIndex index = new HnswIndex(DIMENSIONS, 16, 100);
+        float[][] vectors = new float[2_000][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomVector();
+            index.put(i, vectors[i]);
+        }
+
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector();
+            Set<Long> expected = bruteForce(vectors, query, 10);
+            Set<Long> actual = index.search(query, 10, 64).stream()
+                    .map(HnswIndex.Neighbor::key)
+                    .collect(Collectors.toSet());
+            actual.retainAll(expected);
+            hits += actual.size();
+        }
+
+        assertTrue(hits >= queries * 10 * 0.9, "recall@10 = " + hits / (queries * 10.0));
+    }
+
+    @Test
+    void 検索_正常系_同じベクトルはスコア1で先頭に来る() {
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 32);
+        float[] target = randomVector();
+        index.put(1L, target);
+        for (long key = 2; key < 100; key++) {
+            index.put(key, randomVector());
+        }
+
+        HnswIndex.Neighbor top = index.search(target, 1, 32).get(0);
+
+        assertEquals(1L, top.key());
+        assertEquals(1.0, top.score(), 1e-5);
+    }
+
+    @Test
+    void 削除_正常系_削除したキーは結果に含まれない() {
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 32);
+        float[] target = randomVector();
+        index.put(1L, target);
+        for (long key = 2; key < 100; key++) {
+            index.put(key, randomVector());
+        }
+
+        assertTrue(index.remove(1L));
+        assertFalse(index.remove(1L));
+
+        List<HnswIndex.Neighbor> results = index.search(target, 10, 32);
+        assertTrue(results.stream().noneMatch(neighbor -> neighbor.key() == 1L));
+        assertEquals(98, index.size());
+        assertEquals(1, index.deletedCount());
+    }
+
+    @Test
+    void 登録_正常系_同じキーの再登録は新しいベクトルで置き換わる() {
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 32);
+        float[] before = randomVector();
+        float[] after = randomVector();
+        index.put(1L, before);
+        index.put(2L, randomVector());
+
+        index.put(1L, after);
+
+        assertEquals(2, index.size());
+        HnswIndex.Neighbor top = index.search(after, 1, 32).get(0);
+        assertEquals(1L, top.key());
+        assertEquals(1.0, top.score(), 1e-5);
+    }
+
+    @Test
+    void 登録_異常系_次元が違うベクトルは拒否する() {
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 32);
+
+        assertThrows(IllegalArgumentException.class, () -> index.put(1L, new float[DIMENSIONS + 1]));
+    }
+
+    @Test
+    void 保存_正常系_スナップショットから同じ結果を復元できる(@TempDir Path dir) throws Exception {
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 32);
+        for (long key = 0; key < 300; key++) {
+            index.put(key, randomVector());
+        }
+        index.remove(5L);
+        Path path = dir.resolve("index.hnsw");
+
+        index.save(path, 1234L);
+        HnswIndex.Snapshot snapshot = HnswIndex.load(path);
+
+        assertEquals(1234L, snapshot.savedAtEpochMillis());
+        assertEquals(index.size(), snapshot.index().size());
+        assertEquals(index.keys(), snapshot.index().keys());
+        float[] query = randomVector();
+        assertEquals(index.search(query, 10, 32), snapshot.index().search(query, 10, 32));
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static Set<Long> bruteForce(float[][] vectors, float[] query, int k) {
+        return IntStream.range(0, vectors.length).boxed()
+                .sorted(Comparator.comparingDouble(i -> -cosine(vectors[i], query)))
+                .limit(k)
+                .map(Integer::longValue)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+}
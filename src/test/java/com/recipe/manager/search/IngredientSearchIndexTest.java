@@ -0,0 +1,86 @@
+package com.recipe.manager.search;
+
+import com.recipe.manager.entity.Ingredient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IngredientSearchIndexTest {
+
+    private IngredientSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new IngredientSearchIndex();
+        index.rebuild(List.of(
+                Ingredient.builder().id(1L).name("トマト").nameKana("トマト").build(),
+                Ingredient.builder().id(2L).name("ミニトマト").nameKana("ミニトマト").build(),
+                Ingredient.builder().id(3L).name("玉ねぎ").nameKana("タマネギ").build(),
+                Ingredient.builder().id(4L).name("モッツァレラ").build(),
+                Ingredient.builder().id(5L).name("Olive Oil").build()
+        ));
+    }
+
+    @Test
+    void 前方一致_完全一致が先頭に来る() {
+        List<IngredientSuggestion> result = index.search("トマト", 10);
+
+        assertEquals(1L, result.get(0).getId());
+        assertTrue(result.stream().anyMatch(s -> s.getId().equals(2L)));
+    }
+
+    @Test
+    void 読み検索_ひらがなで漢字表記の食材が見つかる() {
+        List<IngredientSuggestion> result = index.search("たまね", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("玉ねぎ", result.get(0).getName());
+    }
+
+    @Test
+    void 誤字許容_小書き文字の違いでも候補に含まれる() {
+        List<IngredientSuggestion> result = index.search("モッツアレラ", 10);
+
+        assertEquals(4L, result.get(0).getId());
+    }
+
+    @Test
+    void 正規化_全角英字と大文字小文字を区別しない() {
+        List<IngredientSuggestion> result = index.search("ｏｌｉｖｅ", 10);
+
+        assertEquals(5L, result.get(0).getId());
+    }
+
+    @Test
+    void 件数上限_limit件に絞られる() {
+        List<Ingredient> many = new ArrayList<>();
+        for (long i = 1; i <= 100; i++) {
+            many.add(Ingredient.builder().id(i).name("トマト" + i).build());
+        }
+        index.rebuild(many);
+
+        assertEquals(5, index.search("トマト", 5).size());
+    }
+
+    @Test
+    void 差分更新_名前変更と削除が反映される() {
+        index.upsert(Ingredient.builder().id(1L).name("完熟トマト").build());
+        index.remove(2L);
+
+        List<IngredientSuggestion> result = index.search("トマト", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("完熟トマト", result.get(0).getName());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void 空文字_結果は空() {
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+}
@@ -0,0 +1,104 @@
+package com.recipe.manager.search;
+
+import com.recipe.manager.config.SearchProperties;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.repository.RecipeIngredientRepository;
+import com.recipe.manager.repository.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecipeBitmapIndexTest {
+
+    private static final List<RecipeStatus> ACTIVE =
+            List.of(RecipeStatus.DRAFT, RecipeStatus.PUBLISHED, RecipeStatus.ARCHIVED);
+
+    private RecipeBitmapIndex index;
+
+    private record StatusRow(Long id, RecipeStatus status) implements RecipeRepository.StatusRef {
+        public Long getId() { return id; }
+        public RecipeStatus getStatus() { return status; }
+    }
+
+    private record IngredientRow(Long recipeId, Long ingredientId) implements RecipeIngredientRepository.IngredientRef {
+        public Long getRecipeId() { return recipeId; }
+        public Long getIngredientId() { return ingredientId; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new RecipeBitmapIndex(new SearchProperties());
+        index.rebuild(
+                List.of(new StatusRow(1L, RecipeStatus.PUBLISHED),
+                        new StatusRow(2L, RecipeStatus.DRAFT),
+                        new StatusRow(3L, RecipeStatus.PUBLISHED)),
+                List.of(new IngredientRow(1L, 10L), new IngredientRow(1L, 20L),
+                        new IngredientRow(2L, 10L),
+                        new IngredientRow(3L, 20L), new IngredientRow(3L, 30L)));
+    }
+
+    @Test
+    void ANY_いずれかの食材を含むレシピが返る() {
+        BitSet result = index.match(List.of(10L, 30L), MatchMode.ANY, ACTIVE);
+
+        assertEquals(List.of(3L, 2L, 1L), RecipeBitmapIndex.idsDescending(result, 0, 10));
+    }
+
+    @Test
+    void ALL_全ての食材を含むレシピだけが返る() {
+        BitSet result = index.match(List.of(10L, 20L), MatchMode.ALL, ACTIVE);
+
+        assertEquals(List.of(1L), RecipeBitmapIndex.idsDescending(result, 0, 10));
+    }
+
+    @Test
+    void ステータスで絞り込める() {
+        BitSet result = index.match(List.of(10L), MatchMode.ANY, List.of(RecipeStatus.PUBLISHED));
+
+        assertEquals(List.of(1L), RecipeBitmapIndex.idsDescending(result, 0, 10));
+    }
+
+    @Test
+    void 差分更新_追加と削除が反映される() {
+        index.putRecipe(4L, RecipeStatus.DRAFT, List.of(30L));
+        index.removeRecipe(3L);
+
+        BitSet result = index.match(List.of(30L), MatchMode.ANY, ACTIVE);
+
+        assertEquals(List.of(4L), RecipeBitmapIndex.idsDescending(result, 0, 10));
+    }
+
+    @Test
+    void ステータス変更_削除済みは検索対象から外れる() {
+        index.updateStatus(1L, RecipeStatus.DELETED);
+
+        BitSet result = index.match(List.of(20L), MatchMode.ANY, ACTIVE);
+
+        assertEquals(List.of(3L), RecipeBitmapIndex.idsDescending(result, 0, 10));
+    }
+
+    @Test
+    void ページング_オフセットと件数で切り出せる() {
+        BitSet bits = new BitSet();
+        bits.set(1);
+        bits.set(5);
+        bits.set(7);
+        bits.set(9);
+
+        assertEquals(List.of(7L, 5L), RecipeBitmapIndex.idsDescending(bits, 1, 2));
+        assertTrue(RecipeBitmapIndex.idsDescending(bits, 4, 2).isEmpty());
+    }
+
+    @Test
+    void 範囲外のIDがあるとインデックスを無効化する() {
+        index.rebuild(List.of(new StatusRow((long) Integer.MAX_VALUE + 1, RecipeStatus.DRAFT)), List.of());
+
+        assertFalse(index.isReady());
+    }
+}
@@ -0,0 +1,109 @@
+package com.recipe.manager.search;
+
+import com.recipe.manager.config.SearchProperties;
+import com.recipe.manager.entity.RecipeStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecipeFacetIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private RecipeFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RecipeFacetIndex(new SearchProperties());
+        index.rebuild(List.of(
+                entry(1L, RecipeStatus.PUBLISHED, "和食", 100L, 1, List.of(10L, 20L)),
+                entry(2L, RecipeStatus.DRAFT, "和食", 101L, 3, List.of(10L)),
+                entry(3L, RecipeStatus.PUBLISHED, "洋食", 100L, 2, List.of(20L, 30L)),
+                entry(4L, RecipeStatus.ARCHIVED, "洋食", 101L, 5, List.of(10L, 30L))));
+    }
+
+    @Test
+    void 検索_正常系_条件なしは更新日時の降順で全件を返す() {
+        RecipeFacetIndex.Result result = index.search(RecipeSearchCriteria.builder().build(), 0, 10, 10);
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(4L, 2L, 3L, 1L), result.recipeIds());
+        assertEquals(4, result.total());
+        assertEquals(Map.of("和食", 2L, "洋食", 2L), result.categories());
+    }
+
+    @Test
+    void 検索_正常系_各軸のファセットはその軸の条件を外して数える() {
+        RecipeSearchCriteria criteria = RecipeSearchCriteria.builder()
+                .categories(List.of("和食"))
+                .statuses(List.of(RecipeStatus.PUBLISHED))
+                .build();
+
+        RecipeFacetIndex.Result result = index.search(criteria, 0, 10, 10);
+
+        assertEquals(List.of(1L), result.recipeIds());
+        assertEquals(Map.of("和食", 1L, "洋食", 1L), result.categories());
+        assertEquals(Map.of(RecipeStatus.PUBLISHED, 1L, RecipeStatus.DRAFT, 1L), result.statuses());
+        assertEquals(Map.of(100L, 1L), result.creators());
+        assertEquals(Map.of(10L, 1L, 20L, 1L), result.ingredients());
+    }
+
+    @Test
+    void 検索_正常系_食材ALLと日付範囲を組み合わせる() {
+        RecipeSearchCriteria criteria = RecipeSearchCriteria.builder()
+                .ingredientIds(List.of(10L, 30L))
+                .ingredientMatch(MatchMode.ALL)
+                .build();
+        assertEquals(List.of(4L), index.search(criteria, 0, 10, 10).recipeIds());
+
+        RecipeSearchCriteria ranged = RecipeSearchCriteria.builder()
+                .ingredientIds(List.of(10L, 30L))
+                .ingredientMatch(MatchMode.ANY)
+                .updatedFrom(LocalDate.of(2026, 1, 2))
+                .updatedTo(LocalDate.of(2026, 1, 3))
+                .build();
+        assertEquals(List.of(3L, 1L), index.search(ranged, 0, 10, 10).recipeIds());
+    }
+
+    @Test
+    void 検索_正常系_offsetとlimitでページを切り出す() {
+        RecipeFacetIndex.Result result = index.search(RecipeSearchCriteria.builder().build(), 2, 1, 10);
+
+        assertEquals(List.of(3L), result.recipeIds());
+        assertEquals(4, result.total());
+    }
+
+    @Test
+    void 更新_正常系_カテゴリ変更と削除が反映される() {
+        index.put(entry(1L, RecipeStatus.PUBLISHED, "中華", 100L, 6, List.of(20L)));
+        index.put(entry(2L, RecipeStatus.DELETED, "和食", 101L, 7, List.of(10L)));
+        index.remove(3L);
+
+        RecipeFacetIndex.Result result = index.search(RecipeSearchCriteria.builder().build(), 0, 10, 10);
+
+        assertEquals(List.of(1L, 4L), result.recipeIds());
+        assertEquals(Map.of("中華", 1L, "洋食", 1L), result.categories());
+        assertEquals(Map.of(10L, 1L, 20L, 1L, 30L, 1L), result.ingredients());
+    }
+
+    @Test
+    void 構築_異常系_範囲外のIDがあれば索引を使わない() {
+        index.rebuild(List.of(entry((long) Integer.MAX_VALUE + 1, RecipeStatus.PUBLISHED, "和食", 100L, 1, List.of())));
+
+        assertFalse(index.isReady());
+    }
+
+    private static RecipeFacetIndex.Entry entry(Long id, RecipeStatus status, String category, Long creatorId,
+                                                int updatedDays, List<Long> ingredientIds) {
+        return new RecipeFacetIndex.Entry(id, status, category, creatorId, BASE,
+                BASE.plusDays(updatedDays), ingredientIds);
+    }
+}
@@ -0,0 +1,47 @@
+package com.recipe.manager.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecipeTextAnalyzerTest {
+
+    @Test
+    void 文書_正常系_bigramに位置と重みを付けフィールドの境目を空ける() {
+        String document = RecipeTextAnalyzer.document("鶏もも", "モモ", null, "IPA辞書");
+
+        assertEquals("'鶏も':1A 'もも':2A,4B 'ipa':7D '辞書':8D", document);
+    }
+
+    @Test
+    void 文書_正常系_繰り返す語は位置ごとに残す() {
+        assertEquals("'もも':1A,2A", RecipeTextAnalyzer.document("ももも"));
+    }
+
+    @Test
+    void 検索語_正常系_語はAND語の中のbigramは隣接で照合する() {
+        assertEquals("('鶏も' <-> 'もも' <-> 'も肉') & ('照り' <-> 'り焼' <-> '焼き')",
+                RecipeTextAnalyzer.query("鶏もも肉　照り焼き"));
+    }
+
+    @Test
+    void 検索語_正常系_1文字の語は前方一致にし英数字は1語として扱う() {
+        assertEquals("('鶏':*) & ('ipa' <-> '辞書')", RecipeTextAnalyzer.query("鶏 ＩＰＡ辞書"));
+    }
+
+    @Test
+    void 検索語_境界値_文字や数字がなければnull() {
+        assertNull(RecipeTextAnalyzer.query(" 、！ "));
+        assertNull(RecipeTextAnalyzer.query(null));
+    }
+
+    @Test
+    void 語分割_正常系_記号と空白で区切り正規化する() {
+        assertEquals(List.of("とまと", "sns"), RecipeTextAnalyzer.normalizedWords("トマト・ＳＮＳ"));
+        assertTrue(RecipeTextAnalyzer.normalizedWords("").isEmpty());
+    }
+}
@@ -0,0 +1,242 @@
+package com.recipe.manager.search;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.repository.RecipeSearchDocumentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * レシピ全文検索の遅延を PostgreSQL で計測する。既定では実行せず、接続先を環境変数で渡したときだけ動く。
+ * <pre>
+ * RECIPE_SEARCH_BENCHMARK_URL=jdbc:postgresql://localhost:5432/recipe \
+ * RECIPE_SEARCH_BENCHMARK_USER=recipe RECIPE_SEARCH_BENCHMARK_PASSWORD=recipe \
+ * ./gradlew test --tests '*RecipeTextSearchBenchmarkTest' -i
+ * </pre>
+ * 専用スキーマに合成レシピ（既定 10 万件、RECIPE_SEARCH_BENCHMARK_ROWS で変更）を作り、
+ * アプリと同じ SQL（RecipeSearchDocumentRepository の SEARCH / SEARCH_AFTER）の p50 / p95 / p99 を出力して、スキーマを消す。
+ */
+@EnabledIfEnvironmentVariable(named = "RECIPE_SEARCH_BENCHMARK_URL", matches = ".+")
+class RecipeTextSearchBenchmarkTest {
+
+    private static final String SCHEMA = "recipe_search_benchmark";
+    private static final int PAGE_SIZE = 20;
+    private static final int CANDIDATES = Constants.TEXT_SEARCH_RANK_CANDIDATES;
+    private static final int DEEP_PAGE = 10;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 100;
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":([a-zA-Z]+)");
+
+    private static final String[] DISHES = {
+            "照り焼き", "唐揚げ", "南蛮漬け", "炊き込みご飯", "茶碗蒸し", "西京焼き", "煮付け", "天ぷら", "ポワレ", "コンフィ",
+            "リゾット", "カルパッチョ", "テリーヌ", "ポタージュ", "グラタン", "ラグー", "麻婆豆腐", "酢豚", "春巻き", "担々麺"};
+    private static final String[] INGREDIENTS = {
+            "鶏もも肉", "豚バラ肉", "牛すね肉", "真鯛", "鰆", "帆立", "海老", "蓮根", "牛蒡", "大根", "南瓜", "春菊",
+            "椎茸", "舞茸", "豆腐", "卵", "柚子", "生姜", "茗荷", "大葉", "ほうじ茶", "柚子胡椒", "味噌", "醤油", "バター",
+            "トリュフ", "ローズマリー", "タイム", "パルミジャーノ", "アンチョビ"};
+    private static final String[] TECHNIQUES = {
+            "低温でじっくり火を入れ", "強火で香ばしく焼き上げ", "昆布出汁で炊き", "燻製にして香りを移し", "一晩漬け込み",
+            "sous vide で加熱し", "炭火で炙り", "蒸し器で優しく蒸し", "揚げたてを合わせ", "ソースを煮詰めて絡め"};
+    private static final String[] STORY_SENTENCES = {
+            "産地の生産者を訪ねたときに聞いた話がきっかけになった。", "季節の移ろいを一皿で感じてもらいたいと考えた。",
+            "まかないで生まれた組み合わせを磨き上げた。", "祖母の台所で覚えた味を今の技法で組み立て直した。",
+            "お客様からの一言を受けて塩の量を見直した。", "器と盛り付けも含めて何度も試作を重ねた。",
+            "香りの立ち方を揃えるために仕込みの順番を変えた。", "地元の酒蔵と話し合いながら相性を探った。"};
+
+    private static final List<String> KEYWORDS = List.of("鶏もも", "柚子胡椒", "燻製 ほうじ茶", "sous vide", "鰆", "祖母 味噌");
+
+    @Test
+    void 全文検索_10万件の検索遅延を計測する() throws SQLException {
+        int rows = Integer.parseInt(System.getenv().getOrDefault("RECIPE_SEARCH_BENCHMARK_ROWS", "100000"));
+        try (Connection connection = DriverManager.getConnection(System.getenv("RECIPE_SEARCH_BENCHMARK_URL"),
+                System.getenv("RECIPE_SEARCH_BENCHMARK_USER"), System.getenv("RECIPE_SEARCH_BENCHMARK_PASSWORD"))) {
+            try {
+                createSchema(connection);
+                long loadStarted = System.nanoTime();
+                load(connection, rows);
+                System.out.printf("loaded %d recipes in %.1f s%n", rows, (System.nanoTime() - loadStarted) / 1e9);
+
+                System.out.printf("%-16s %8s %10s %10s %10s %10s%n", "keyword", "page", "p50(ms)", "p95(ms)",
+                        "p99(ms)", "hits");
+                for (String keyword : KEYWORDS) {
+                    String query = RecipeTextAnalyzer.query(keyword);
+                    measure(connection, keyword, "first", RecipeSearchDocumentRepository.SEARCH,
+                            Map.of("query", query, "candidates", CANDIDATES, "limit", PAGE_SIZE + 1));
+                    Cursor after = cursorAtPage(connection, query, DEEP_PAGE);
+                    if (after != null) {
+                        measure(connection, keyword, "page" + DEEP_PAGE, RecipeSearchDocumentRepository.SEARCH_AFTER,
+                                Map.of("query", query, "afterScore", after.score(), "afterId", after.recipeId(),
+                                        "candidates", CANDIDATES, "limit", PAGE_SIZE + 1));
+                    }
+                }
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+                }
+            }
+        }
+    }
+
+    private static void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+            statement.execute("CREATE TABLE recipes (id BIGINT PRIMARY KEY, status VARCHAR(50) NOT NULL, " +
+                    "updated_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE recipe_search_documents (recipe_id BIGINT PRIMARY KEY REFERENCES recipes(id), " +
+                    "document TSVECTOR NOT NULL, source_updated_at TIMESTAMP NOT NULL, " +
+                    "indexed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        }
+    }
+
+    private static void load(Connection connection, int rows) throws SQLException {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement recipe = connection.prepareStatement(
+                "INSERT INTO recipes (id, status, updated_at) VALUES (?, ?, ?)");
+             PreparedStatement document = connection.prepareStatement(toPositional(
+                     RecipeSearchDocumentRepository.UPSERT, new ArrayList<>()))) {
+            for (int id = 1; id <= rows; id++) {
+                recipe.setLong(1, id);
+                recipe.setString(2, id % 20 == 0 ? "DELETED" : "PUBLISHED");
+                recipe.setTimestamp(3, now);
+                recipe.addBatch();
+
+                String dish = pick(random, DISHES);
+                String ingredient = pick(random, INGREDIENTS);
+                document.setLong(1, id);
+                document.setString(2, RecipeTextAnalyzer.document(
+                        ingredient + "の" + dish,
+                        pick(random, INGREDIENTS) + "と" + ingredient + "を" + pick(random, TECHNIQUES) + "た" + dish + "。",
+                        sentences(random, TECHNIQUES, 6, "た。"),
+                        sentences(random, STORY_SENTENCES, 30, "")));
+                document.setTimestamp(3, now);
+                document.addBatch();
+
+                if (id % INSERT_BATCH_SIZE == 0 || id == rows) {
+                    recipe.executeBatch();
+                    document.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX idx_recipe_search_documents_document " +
+                    "ON recipe_search_documents USING GIN (document)");
+            statement.execute("ANALYZE recipes");
+            statement.execute("ANALYZE recipe_search_documents");
+        }
+    }
+
+    private static void measure(Connection connection, String keyword, String page, String sql,
+                                Map<String, Object> parameters) throws SQLException {
+        List<String> names = new ArrayList<>();
+        long[] nanos = new long[MEASURED_RUNS];
+        int hits = 0;
+        try (PreparedStatement statement = connection.prepareStatement(toPositional(sql, names))) {
+            bind(statement, names, parameters);
+            for (int run = -WARMUP_RUNS; run < MEASURED_RUNS; run++) {
+                long started = System.nanoTime();
+                hits = count(statement);
+                if (run >= 0) {
+                    nanos[run] = System.nanoTime() - started;
+                }
+            }
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%-16s %8s %10.2f %10.2f %10.2f %10d%n", keyword, page,
+                percentile(nanos, 50), percentile(nanos, 95), percentile(nanos, 99), hits);
+        assertTrue(hits > 0, keyword);
+    }
+
+    /**
+     * page ページ目（1始まり）の先頭を取得するためのカーソル（前ページ最後の score と ID）。その手前で尽きたら null
+     */
+    private static Cursor cursorAtPage(Connection connection, String query, int page) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                toPositional(RecipeSearchDocumentRepository.SEARCH, names))) {
+            bind(statement, names, Map.of("query", query, "candidates", CANDIDATES, "limit", PAGE_SIZE * (page - 1)));
+            Cursor last = null;
+            int rows = 0;
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    last = new Cursor(rs.getFloat("score"), rs.getLong("recipeId"));
+                    rows++;
+                }
+            }
+            return rows == PAGE_SIZE * (page - 1) ? last : null;
+        }
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static String toPositional(String sql, List<String> names) {
+        Matcher matcher = NAMED_PARAMETER.matcher(sql);
+        StringBuilder sb = new StringBuilder();
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+            matcher.appendReplacement(sb, "?");
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    private static void bind(PreparedStatement statement, List<String> names, Map<String, Object> parameters)
+            throws SQLException {
+        for (int i = 0; i < names.size(); i++) {
+            statement.setObject(i + 1, parameters.get(names.get(i)));
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, int percent) {
+        int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(sortedNanos.length * percent / 100.0) - 1);
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private static String sentences(Random random, String[] parts, int count, String suffix) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(pick(random, parts)).append(suffix);
+        }
+        return sb.toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private record Cursor(float score, long recipeId) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.recipe.manager.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagParserTest {
+
+    @Test
+    void 分割_正常系_区切り文字と空白を整理して順序を保つ() {
+        Map<String, String> tags = TagParser.parse(" 包丁 ,基本、 出汁，,  ");
+
+        assertEquals(List.of("包丁", "基本", "出汁"), List.copyOf(tags.values()));
+    }
+
+    @Test
+    void 分割_正常系_正規化して同じになるタグは最初の表記にまとめる() {
+        Map<String, String> tags = TagParser.parse("トマト,とまと,ＳＮＳ,sns");
+
+        assertEquals(2, tags.size());
+        assertEquals("トマト", tags.get("とまと"));
+        assertEquals("ＳＮＳ", tags.get("sns"));
+    }
+
+    @Test
+    void 分割_境界値_nullや空文字は空() {
+        assertTrue(TagParser.parse(null).isEmpty());
+        assertTrue(TagParser.parse(" , ").isEmpty());
+    }
+}
@@ -0,0 +1,47 @@
+package com.recipe.manager.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TextHighlighterTest {
+
+    @Test
+    void ハイライト_正常系_正規化して照合し元の表記を囲む() {
+        String result = TextHighlighter.highlight("鶏モモ肉の<照り焼き>", List.of("もも", "照り"));
+
+        assertEquals("鶏<mark>モモ</mark>肉の&lt;<mark>照り</mark>焼き&gt;", result);
+    }
+
+    @Test
+    void ハイライト_正常系_全角英字も一致する() {
+        assertEquals("<mark>ＡＢＣ</mark> <mark>abc</mark>", TextHighlighter.highlight("ＡＢＣ abc", List.of("abc")));
+    }
+
+    @Test
+    void ハイライト_正常系_半角カナの濁点も語全体で正規化して囲む() {
+        assertEquals("<mark>ｶﾞｽ</mark>火で焼く", TextHighlighter.highlight("ｶﾞｽ火で焼く", List.of("がす")));
+    }
+
+    @Test
+    void ハイライト_境界値_語の区切りをまたいでは一致しない() {
+        assertNull(TextHighlighter.highlight("a b", List.of("ab")));
+        assertNull(TextHighlighter.highlight("鶏・もも", List.of("鶏もも")));
+    }
+
+    @Test
+    void 抜粋_正常系_最初の一致の前後を切り出す() {
+        String text = "あいうえおかきくけこさしすせそたちつてと鶏もも肉なにぬねのはひふへほまみむめも";
+
+        assertEquals("…つてと<mark>鶏もも</mark>肉なにぬねの…", TextHighlighter.fragment(text, List.of("鶏もも"), 12));
+    }
+
+    @Test
+    void ハイライト_境界値_一致がなければnull() {
+        assertNull(TextHighlighter.highlight("なし", List.of("abc")));
+        assertNull(TextHighlighter.highlight(null, List.of("abc")));
+    }
+}
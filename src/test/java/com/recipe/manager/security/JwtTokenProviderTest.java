@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JwtTokenProviderTest {
@@ -30,6 +31,18 @@ class JwtTokenProviderTest {
         assertEquals(Role.CHEF, jwtTokenProvider.getRole(token));
     }
 
+    @Test
+    void トークン生成_正常系_用途を限定したトークンはscopeを持つ() {
+        String scoped = jwtTokenProvider.createScopedToken(1L, "chef@example.com", Role.CHEF,
+                "recipe-changes", 60_000L);
+        String normal = jwtTokenProvider.createToken(1L, "chef@example.com", Role.CHEF);
+
+        assertTrue(jwtTokenProvider.validateToken(scoped));
+        assertEquals("recipe-changes", jwtTokenProvider.getScope(scoped));
+        assertEquals(1L, jwtTokenProvider.getUserId(scoped));
+        assertNull(jwtTokenProvider.getScope(normal));
+    }
+
     @Test
     void トークン検証_正常系_有効なトークン() {
         String token = jwtTokenProvider.createToken(1L, "chef@example.com", Role.CHEF);
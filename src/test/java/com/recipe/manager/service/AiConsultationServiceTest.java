@@ -1,6 +1,7 @@
 package com.recipe.manager.service;
 
 import com.recipe.manager.ai.LlmClient;
+import com.recipe.manager.ai.LlmCompletion;
 import com.recipe.manager.ai.PromptBuilder;
 import com.recipe.manager.dto.request.CreateAiThreadRequest;
 import com.recipe.manager.entity.AiConsultationMessage;
@@ -10,9 +11,9 @@ import com.recipe.manager.entity.SenderType;
 import com.recipe.manager.entity.User;
 import com.recipe.manager.exception.ForbiddenException;
 import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.exception.TooManyRequestsException;
 import com.recipe.manager.repository.AiConsultationMessageRepository;
 import com.recipe.manager.repository.AiConsultationThreadRepository;
-import com.recipe.manager.repository.KnowledgeArticleRepository;
 import com.recipe.manager.repository.RecipeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,9 +29,12 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,15 +50,18 @@ class AiConsultationServiceTest {
     @Mock
     private RecipeRepository recipeRepository;
 
-    @Mock
-    private KnowledgeArticleRepository knowledgeArticleRepository;
-
     @Mock
     private LlmClient llmClient;
 
     @Mock
     private PromptBuilder promptBuilder;
 
+    @Mock
+    private AiUsageService aiUsageService;
+
+    @Mock
+    private KnowledgeChunkService knowledgeChunkService;
+
     @InjectMocks
     private AiConsultationService aiConsultationService;
 
@@ -77,10 +84,10 @@ class AiConsultationServiceTest {
             t.setId(1L);
             return t;
         });
-        when(knowledgeArticleRepository.searchByKeyword(anyString())).thenReturn(List.of());
+        when(knowledgeChunkService.findRelevantPassages(anyString(), any())).thenReturn(List.of());
         when(promptBuilder.buildSystemPrompt(any(), any())).thenReturn("system prompt");
         when(promptBuilder.buildConversationContext(any(), anyString())).thenReturn("user context");
-        when(llmClient.chat(anyString(), anyString())).thenReturn("冷製パスタには...");
+        when(llmClient.complete(anyString(), anyString())).thenReturn(completion("冷製パスタには..."));
 
         AiConsultationThread result = aiConsultationService.createThread(request, chefUser);
 
@@ -142,10 +149,10 @@ class AiConsultationServiceTest {
 
         when(threadRepository.findById(1L)).thenReturn(Optional.of(thread));
         when(messageRepository.findByThreadIdOrderByCreatedAtAsc(1L)).thenReturn(List.of());
-        when(knowledgeArticleRepository.searchByKeyword(anyString())).thenReturn(List.of());
+        when(knowledgeChunkService.findRelevantPassages(anyString(), any())).thenReturn(List.of());
         when(promptBuilder.buildSystemPrompt(any(), any())).thenReturn("system");
         when(promptBuilder.buildConversationContext(any(), anyString())).thenReturn("context");
-        when(llmClient.chat(anyString(), anyString())).thenReturn("AIの回答です");
+        when(llmClient.complete(anyString(), anyString())).thenReturn(completion("AIの回答です"));
         when(messageRepository.save(any(AiConsultationMessage.class))).thenAnswer(inv -> {
             AiConsultationMessage m = inv.getArgument(0);
             m.setId(1L);
@@ -157,6 +164,30 @@ class AiConsultationServiceTest {
 
         assertEquals(SenderType.AI, result.getSenderType());
         assertEquals("AIの回答です", result.getContent());
-        verify(llmClient).chat(anyString(), anyString());
+        assertEquals("stub", result.getModel());
+        assertEquals(120, result.getPromptTokens());
+        assertEquals(30, result.getCompletionTokens());
+        assertNotNull(result.getLatencyMs());
+        verify(aiUsageService).recordUsage(thread, chefUser, result);
+    }
+
+    @Test
+    void メッセージ送信_異常系_日次クォータ超過ならLLMを呼ばない() {
+        AiConsultationThread thread = AiConsultationThread.builder()
+                .id(1L).user(chefUser).theme("テーマ").build();
+
+        when(threadRepository.findById(1L)).thenReturn(Optional.of(thread));
+        doThrow(new TooManyRequestsException("上限", 60)).when(aiUsageService).checkDailyQuota(chefUser);
+
+        assertThrows(TooManyRequestsException.class,
+                () -> aiConsultationService.sendMessage(1L, "質問です", chefUser));
+
+        verify(llmClient, never()).complete(anyString(), anyString());
+        verify(messageRepository, never()).save(any());
+    }
+
+    private static LlmCompletion completion(String content) {
+        return LlmCompletion.builder()
+                .content(content).model("stub").promptTokens(120).completionTokens(30).build();
     }
 }
@@ -0,0 +1,161 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.config.AiProperties;
+import com.recipe.manager.dto.response.AiUsageSummaryResponse;
+import com.recipe.manager.entity.AiConsultationMessage;
+import com.recipe.manager.entity.AiConsultationThread;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.Role;
+import com.recipe.manager.entity.SenderType;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.TooManyRequestsException;
+import com.recipe.manager.repository.AiDailyUsageRepository;
+import com.recipe.manager.repository.AiUsageDailySummaryRepository;
+import com.recipe.manager.repository.AiUsageDailySummaryRepository.UsageAggregateRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AiUsageServiceTest {
+
+    @Mock
+    private AiDailyUsageRepository dailyUsageRepository;
+
+    @Mock
+    private AiUsageDailySummaryRepository summaryRepository;
+
+    @Spy
+    private AiProperties properties = new AiProperties();
+
+    @InjectMocks
+    private AiUsageService aiUsageService;
+
+    private User chefUser;
+
+    @BeforeEach
+    void setUp() {
+        chefUser = User.builder().id(1L).email("chef@example.com").name("Chef").role(Role.CHEF).build();
+        properties.getLimits().get(Role.CHEF).setDailyTokenQuota(1000);
+    }
+
+    @Test
+    void クォータ確認_正常系_上限未満なら通る() {
+        when(dailyUsageRepository.findTokenCost(eq(1L), any(LocalDate.class))).thenReturn(Optional.of(999L));
+
+        assertDoesNotThrow(() -> aiUsageService.checkDailyQuota(chefUser));
+    }
+
+    @Test
+    void クォータ確認_異常系_上限に達したら429() {
+        when(dailyUsageRepository.findTokenCost(eq(1L), any(LocalDate.class))).thenReturn(Optional.of(1000L));
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> aiUsageService.checkDailyQuota(chefUser));
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+    }
+
+    @Test
+    void クォータ確認_正常系_上限0以下は無制限() {
+        properties.getLimits().get(Role.CHEF).setDailyTokenQuota(0);
+
+        assertDoesNotThrow(() -> aiUsageService.checkDailyQuota(chefUser));
+    }
+
+    @Test
+    void 使用量記録_正常系_スレッド累計と日次とサマリに加算する() {
+        Recipe recipe = Recipe.builder().id(10L).title("冷製パスタ").build();
+        AiConsultationThread thread = AiConsultationThread.builder()
+                .id(1L).user(chefUser).recipe(recipe).theme("テーマ").build();
+
+        aiUsageService.recordUsage(thread, chefUser, aiMessage(100, 20, 350, true));
+        aiUsageService.recordUsage(thread, chefUser, aiMessage(40, 10, 150, false));
+
+        assertEquals(170L, thread.getTokenCost());
+        verify(dailyUsageRepository).addUsage(eq(1L), any(LocalDate.class), eq(120L));
+        verify(summaryRepository).addUsage(any(LocalDate.class), eq(1L), eq(10L), eq("stub"),
+                eq(100L), eq(20L), eq(350), eq(1));
+    }
+
+    @Test
+    void 使用量記録_正常系_モデル不明やレシピなしでも記録できる() {
+        AiConsultationThread thread = AiConsultationThread.builder().id(1L).user(chefUser).theme("テーマ").build();
+        AiConsultationMessage message = AiConsultationMessage.builder().senderType(SenderType.AI).content("回答").build();
+
+        aiUsageService.recordUsage(thread, chefUser, message);
+
+        verify(summaryRepository).addUsage(any(LocalDate.class), eq(1L), isNull(), eq("unknown"),
+                eq(0L), eq(0L), eq(0), eq(0));
+    }
+
+    @Test
+    void 集計_正常系_平均レイテンシとキャッシュヒット率を計算する() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 31);
+        when(summaryRepository.aggregateByUser(from, to)).thenReturn(List.of(
+                new UsageRow(1L, "Chef", null, 4L, 400L, 100L, 500L, 1000L, 600, 1L)));
+
+        List<AiUsageSummaryResponse> result = aiUsageService.summarizeByUser(from, to);
+
+        assertEquals(1, result.size());
+        assertEquals(500L, result.get(0).getTotalTokens());
+        assertEquals(new BigDecimal("250.0"), result.get(0).getAvgLatencyMs());
+        assertEquals(new BigDecimal("0.250"), result.get(0).getCacheHitRate());
+    }
+
+    @Test
+    void 集計_異常系_開始日が終了日より後() {
+        assertThrows(BusinessLogicException.class,
+                () -> aiUsageService.summarizeByDay(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1)));
+    }
+
+    @Test
+    void 再試行秒数_正常系_翌日0時までの秒数() {
+        assertEquals(60, AiUsageService.secondsUntilTomorrow(LocalDateTime.of(2026, 1, 1, 23, 59)));
+    }
+
+    private static AiConsultationMessage aiMessage(int promptTokens, int completionTokens, int latencyMs,
+                                                   boolean cacheHit) {
+        return AiConsultationMessage.builder()
+                .senderType(SenderType.AI).content("回答").model("stub")
+                .promptTokens(promptTokens).completionTokens(completionTokens)
+                .latencyMs(latencyMs).cacheHit(cacheHit)
+                .build();
+    }
+
+    private record UsageRow(Long id, String name, LocalDate usageDate, Long requestCount, Long promptTokens,
+                            Long completionTokens, Long totalTokens, Long totalLatencyMs, Integer maxLatencyMs,
+                            Long cacheHits) implements UsageAggregateRef {
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public LocalDate getUsageDate() { return usageDate; }
+        public Long getRequestCount() { return requestCount; }
+        public Long getPromptTokens() { return promptTokens; }
+        public Long getCompletionTokens() { return completionTokens; }
+        public Long getTotalTokens() { return totalTokens; }
+        public Long getTotalLatencyMs() { return totalLatencyMs; }
+        public Integer getMaxLatencyMs() { return maxLatencyMs; }
+        public Long getCacheHits() { return cacheHits; }
+    }
+}
@@ -0,0 +1,114 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.analytics.CommentDocument;
+import com.recipe.manager.analytics.CommentTokenizer;
+import com.recipe.manager.entity.CommentTermFrequency;
+import com.recipe.manager.entity.FeedbackCommentTerms;
+import com.recipe.manager.repository.CommentTermFrequencyRepository;
+import com.recipe.manager.repository.FeedbackCommentTermsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentAnalysisServiceTest {
+
+    @Mock
+    private CommentTokenizer tokenizer;
+
+    @Mock
+    private FeedbackCommentTermsRepository termsRepository;
+
+    @Mock
+    private CommentTermFrequencyRepository frequencyRepository;
+
+    @InjectMocks
+    private CommentAnalysisService commentAnalysisService;
+
+    @Test
+    void コメント傾向_正常系_未解析のコメントだけを解析しキーワードと代表コメントを出す() {
+        List<CommentDocument> comments = List.of(
+                new CommentDocument(1L, "塩味が強い"),
+                new CommentDocument(2L, "塩味が強すぎる"),
+                new CommentDocument(3L, "量が少ない"));
+
+        when(termsRepository.findByFeedbackIdIn(anyCollection())).thenReturn(List.of(
+                FeedbackCommentTerms.builder().feedbackId(1L).terms("塩味 強い").build(),
+                FeedbackCommentTerms.builder().feedbackId(2L).terms("塩味 強い").build()));
+        when(tokenizer.tokenize("量が少ない")).thenReturn(List.of("量", "少ない"));
+        when(termsRepository.insertIfAbsent(3L, "量 少ない")).thenReturn(1);
+        when(termsRepository.count()).thenReturn(100L);
+        when(frequencyRepository.findByTermIn(anyCollection())).thenReturn(List.of(
+                CommentTermFrequency.builder().term("塩味").documentCount(10L).build(),
+                CommentTermFrequency.builder().term("強い").documentCount(40L).build(),
+                CommentTermFrequency.builder().term("量").documentCount(5L).build(),
+                CommentTermFrequency.builder().term("少ない").documentCount(20L).build()));
+
+        String trend = commentAnalysisService.summarize(comments);
+
+        verify(tokenizer, never()).tokenize("塩味が強い");
+        verify(frequencyRepository).incrementDocumentCounts("少ない 量");
+        assertTrue(trend.startsWith("コメント件数: 3件\n"));
+        assertTrue(trend.contains("キーワード: 塩味(2)"));
+        assertTrue(trend.contains("- 塩味が強い（類似 2件）"));
+        assertTrue(trend.contains("- 量が少ない\n"));
+    }
+
+    @Test
+    void コメント傾向_正常系_並行処理で登録済みならコメント数を加算しない() {
+        when(termsRepository.findByFeedbackIdIn(anyCollection())).thenReturn(List.of());
+        when(tokenizer.tokenize(anyString())).thenReturn(List.of("美味しい"));
+        when(termsRepository.insertIfAbsent(anyLong(), anyString())).thenReturn(0);
+        when(termsRepository.count()).thenReturn(1L);
+        when(frequencyRepository.findByTermIn(anyCollection())).thenReturn(List.of());
+
+        Map<Long, String> trends = commentAnalysisService.summarizeAll(
+                Map.of(5L, List.of(new CommentDocument(1L, "美味しい"))));
+
+        verify(frequencyRepository, never()).incrementDocumentCounts(anyString());
+        assertEquals(1, trends.size());
+    }
+
+    @Test
+    void コメント傾向_正常系_解析結果はID順に登録し全コメント数は毎回数えない() {
+        when(termsRepository.findByFeedbackIdIn(anyCollection())).thenReturn(List.of());
+        when(tokenizer.tokenize(anyString())).thenReturn(List.of("美味しい"));
+        when(termsRepository.insertIfAbsent(anyLong(), anyString())).thenReturn(1);
+        when(termsRepository.count()).thenReturn(10L);
+        when(frequencyRepository.findByTermIn(anyCollection())).thenReturn(List.of());
+
+        commentAnalysisService.summarizeAll(Map.of(5L, List.of(
+                new CommentDocument(9L, "美味しい"), new CommentDocument(2L, "美味しい"))));
+        commentAnalysisService.summarizeAll(Map.of(6L, List.of(new CommentDocument(4L, "美味しい"))));
+
+        InOrder inOrder = inOrder(termsRepository);
+        inOrder.verify(termsRepository).insertIfAbsent(2L, "美味しい");
+        inOrder.verify(termsRepository).insertIfAbsent(9L, "美味しい");
+        verify(termsRepository, times(1)).count();
+    }
+
+    @Test
+    void コメント傾向_正常系_空白のみのコメントは結果に含めない() {
+        Map<Long, String> trends = commentAnalysisService.summarizeAll(
+                Map.of(5L, List.of(new CommentDocument(1L, " "))));
+
+        assertTrue(trends.isEmpty());
+    }
+}
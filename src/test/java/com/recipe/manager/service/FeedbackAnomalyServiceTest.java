@@ -0,0 +1,157 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.config.FeedbackAnomalyProperties;
+import com.recipe.manager.entity.FeedbackAlert;
+import com.recipe.manager.entity.FeedbackAlertStatus;
+import com.recipe.manager.entity.FeedbackAnomalyObservation;
+import com.recipe.manager.entity.FeedbackStat;
+import com.recipe.manager.entity.JobWatermark;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.Role;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.ForbiddenException;
+import com.recipe.manager.repository.FeedbackAlertRepository;
+import com.recipe.manager.repository.FeedbackAnomalyObservationRepository;
+import com.recipe.manager.repository.FeedbackStatRepository;
+import com.recipe.manager.repository.JobWatermarkRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository.FeedbackScoreRef;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.StoreRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackAnomalyServiceTest {
+
+    @Mock
+    private ProductFeedbackRepository feedbackRepository;
+
+    @Mock
+    private FeedbackStatRepository statRepository;
+
+    @Mock
+    private FeedbackAlertRepository alertRepository;
+
+    @Mock
+    private FeedbackAnomalyObservationRepository observationRepository;
+
+    @Mock
+    private JobWatermarkRepository watermarkRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Spy
+    private FeedbackAnomalyProperties properties = new FeedbackAnomalyProperties();
+
+    @InjectMocks
+    private FeedbackAnomalyService feedbackAnomalyService;
+
+    private record Score(Long id, Long recipeId, Long storeId, Integer satisfactionScore) implements FeedbackScoreRef {
+        public Long getId() { return id; }
+        public Long getRecipeId() { return recipeId; }
+        public Long getStoreId() { return storeId; }
+        public Integer getSatisfactionScore() { return satisfactionScore; }
+        public LocalDateTime getCreatedAt() { return LocalDateTime.of(2026, 10, 1, 12, 0); }
+    }
+
+    @Test
+    void バッチ処理_正常系_急落でアラートを作成しウォーターマークを進める() {
+        JobWatermark watermark = JobWatermark.builder().jobName(FeedbackAnomalyService.JOB_NAME).lastProcessedId(100L).build();
+        FeedbackStat stat = FeedbackStat.builder()
+                .recipeId(1L).observationCount(50L)
+                .baselineMean(4.5).baselineVariance(0.25).recentMean(4.5)
+                .build();
+
+        when(watermarkRepository.findForUpdate(FeedbackAnomalyService.JOB_NAME)).thenReturn(Optional.of(watermark));
+        when(feedbackRepository.findUnobservedScores(eq(100L), any(), any(), any()))
+                .thenReturn(List.of(new Score(101L, 1L, null, 1), new Score(102L, 2L, null, 4)));
+        when(statRepository.findByRecipeIdIn(anyCollection())).thenReturn(List.of(stat));
+        when(recipeRepository.getReferenceById(1L)).thenReturn(Recipe.builder().id(1L).build());
+
+        int processed = feedbackAnomalyService.processNextBatch();
+
+        assertEquals(2, processed);
+        assertEquals(102L, watermark.getLastProcessedId());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FeedbackAlert>> captor = ArgumentCaptor.forClass(List.class);
+        verify(alertRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(101L, captor.getValue().get(0).getFeedbackId());
+        verify(watermarkRepository).save(watermark);
+    }
+
+    @Test
+    void バッチ処理_正常系_遅れてコミットされた行も反映しウォーターマークは戻さない() {
+        JobWatermark watermark = JobWatermark.builder().jobName(FeedbackAnomalyService.JOB_NAME).lastProcessedId(100L).build();
+
+        when(watermarkRepository.findForUpdate(FeedbackAnomalyService.JOB_NAME)).thenReturn(Optional.of(watermark));
+        when(feedbackRepository.findUnobservedScores(eq(100L), any(), any(), any()))
+                .thenReturn(List.of(new Score(95L, 1L, null, 4)));
+        when(statRepository.findByRecipeIdIn(anyCollection())).thenReturn(List.of());
+
+        assertEquals(1, feedbackAnomalyService.processNextBatch());
+
+        assertEquals(100L, watermark.getLastProcessedId());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FeedbackAnomalyObservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(observationRepository).saveAll(captor.capture());
+        assertEquals(95L, captor.getValue().get(0).getFeedbackId());
+        verify(observationRepository).deleteByFeedbackCreatedAtBefore(any());
+    }
+
+    @Test
+    void バッチ処理_正常系_新着がなければ何も保存しない() {
+        JobWatermark watermark = JobWatermark.builder().jobName(FeedbackAnomalyService.JOB_NAME).lastProcessedId(100L).build();
+        when(watermarkRepository.findForUpdate(FeedbackAnomalyService.JOB_NAME)).thenReturn(Optional.of(watermark));
+        when(feedbackRepository.findUnobservedScores(eq(100L), any(), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, feedbackAnomalyService.processNextBatch());
+
+        verify(statRepository, never()).saveAll(any());
+        verify(watermarkRepository, never()).save(any());
+    }
+
+    @Test
+    void アラート確認_正常系_確認済みにできる() {
+        User chef = User.builder().id(1L).email("chef@example.com").name("Chef").role(Role.CHEF).build();
+        FeedbackAlert alert = FeedbackAlert.builder().id(1L).recipe(Recipe.builder().id(1L).build()).build();
+        when(alertRepository.findWithRelationsById(1L)).thenReturn(Optional.of(alert));
+        when(alertRepository.save(any(FeedbackAlert.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        FeedbackAlert result = feedbackAnomalyService.acknowledgeAlert(1L, chef);
+
+        assertEquals(FeedbackAlertStatus.ACKNOWLEDGED, result.getStatus());
+        assertEquals(chef, result.getAcknowledgedBy());
+    }
+
+    @Test
+    void アラート確認_異常系_PURCHASERは確認できない() {
+        User purchaser = User.builder().id(2L).email("p@example.com").name("Purchaser").role(Role.PURCHASER).build();
+
+        assertThrows(ForbiddenException.class, () -> feedbackAnomalyService.acknowledgeAlert(1L, purchaser));
+        verify(alertRepository, never()).findWithRelationsById(any());
+    }
+}
@@ -0,0 +1,109 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.config.CacheConfig;
+import com.recipe.manager.dto.response.FeedbackRankingResponse;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.repository.ProductFeedbackRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository.RankingRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackRankingServiceTest {
+
+    @Mock
+    private ProductFeedbackRepository feedbackRepository;
+
+    private FeedbackRankingService rankingService;
+
+    private final LocalDate from = LocalDate.of(2024, 6, 1);
+    private final LocalDate to = LocalDate.of(2024, 6, 30);
+
+    private record Ranking(Long id, String name, Long feedbackCount, Double avgSatisfaction,
+                           Long ranking, Double percentRank) implements RankingRef {
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public Long getFeedbackCount() { return feedbackCount; }
+        public Double getAvgSatisfaction() { return avgSatisfaction; }
+        public Long getRanking() { return ranking; }
+        public Double getPercentRank() { return percentRank; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        rankingService = new FeedbackRankingService(
+                feedbackRepository, new ConcurrentMapCacheManager(CacheConfig.FEEDBACK_RANKINGS));
+    }
+
+    @Test
+    void 店舗ランキング_正常系_順位とパーセンタイルを返し2回目はキャッシュを使う() {
+        when(feedbackRepository.rankStoresForRecipe(1L, from, to, 1)).thenReturn(List.of(
+                new Ranking(10L, "本店", 12L, 4.333, 1L, 1.0),
+                new Ranking(20L, "駅前店", 8L, 3.5, 2L, 0.0)));
+
+        FeedbackRankingResponse first = rankingService.rankStoresForRecipe(1L, from, to, 1);
+        FeedbackRankingResponse second = rankingService.rankStoresForRecipe(1L, from, to, 1);
+
+        assertEquals(2, first.getEntries().size());
+        assertEquals(new BigDecimal("4.33"), first.getEntries().get(0).getAvgSatisfaction());
+        assertEquals(new BigDecimal("100.0"), first.getEntries().get(0).getPercentile());
+        assertEquals(first, second);
+        verify(feedbackRepository, times(1)).rankStoresForRecipe(1L, from, to, 1);
+    }
+
+    @Test
+    void キャッシュ破棄_正常系_対象レシピと対象店舗のランキングだけを破棄する() {
+        when(feedbackRepository.rankStoresForRecipe(1L, from, to, 1)).thenReturn(List.of());
+        when(feedbackRepository.rankStoresForRecipe(2L, from, to, 1)).thenReturn(List.of());
+        when(feedbackRepository.rankRecipes(10L, from, to, 1, 50)).thenReturn(List.of());
+        when(feedbackRepository.rankRecipes(20L, from, to, 1, 50)).thenReturn(List.of());
+        rankingService.rankStoresForRecipe(1L, from, to, 1);
+        rankingService.rankStoresForRecipe(2L, from, to, 1);
+        rankingService.rankRecipes(10L, from, to, 1, 50);
+        rankingService.rankRecipes(20L, from, to, 1, 50);
+
+        rankingService.evict(1L, 10L);
+
+        rankingService.rankStoresForRecipe(1L, from, to, 1);
+        rankingService.rankStoresForRecipe(2L, from, to, 1);
+        rankingService.rankRecipes(10L, from, to, 1, 50);
+        rankingService.rankRecipes(20L, from, to, 1, 50);
+        verify(feedbackRepository, times(2)).rankStoresForRecipe(1L, from, to, 1);
+        verify(feedbackRepository, times(1)).rankStoresForRecipe(2L, from, to, 1);
+        verify(feedbackRepository, times(2)).rankRecipes(10L, from, to, 1, 50);
+        verify(feedbackRepository, times(1)).rankRecipes(20L, from, to, 1, 50);
+    }
+
+    @Test
+    void キャッシュ破棄_正常系_読み込み中に破棄された結果はキャッシュしない() {
+        when(feedbackRepository.rankStoresForRecipe(1L, from, to, 1)).thenAnswer(invocation -> {
+            rankingService.evict(1L, 10L);
+            return List.of();
+        });
+
+        rankingService.rankStoresForRecipe(1L, from, to, 1);
+        rankingService.rankStoresForRecipe(1L, from, to, 1);
+
+        verify(feedbackRepository, times(2)).rankStoresForRecipe(1L, from, to, 1);
+    }
+
+    @Test
+    void レシピランキング_異常系_期間が逆転している() {
+        assertThrows(BusinessLogicException.class,
+                () -> rankingService.rankRecipes(null, to, from, 1, 50));
+    }
+}
@@ -1,5 +1,6 @@
 package com.recipe.manager.service;
 
+import com.recipe.manager.analytics.CommentDocument;
 import com.recipe.manager.dto.request.CreateProductFeedbackRequest;
 import com.recipe.manager.entity.CollectionMethod;
 import com.recipe.manager.entity.FeedbackSummary;
@@ -9,6 +10,7 @@ import com.recipe.manager.entity.RecipeStatus;
 import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.Store;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.event.DomainEventPublisher;
 import com.recipe.manager.exception.BusinessLogicException;
 import com.recipe.manager.exception.ForbiddenException;
 import com.recipe.manager.exception.ResourceNotFoundException;
@@ -55,6 +57,12 @@ class FeedbackServiceTest {
     @Mock
     private StoreRepository storeRepository;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private CommentAnalysisService commentAnalysisService;
+
     @InjectMocks
     private FeedbackService feedbackService;
 
@@ -258,6 +266,9 @@ class FeedbackServiceTest {
         when(feedbackRepository.calculateAvgSatisfaction(1L, start, end)).thenReturn(3.5);
         when(feedbackRepository.calculateAvgEmotion(1L, start, end)).thenReturn(4.5);
         when(feedbackRepository.findByRecipeIdAndPeriod(1L, start, end)).thenReturn(List.of(fb1, fb2));
+        when(commentAnalysisService.summarize(List.of(
+                new CommentDocument(1L, "美味しかった"), new CommentDocument(2L, "普通でした"))))
+                .thenReturn("コメント件数: 2件\n");
         when(summaryRepository.findByRecipeIdAndPeriodStartAndPeriodEnd(1L, start, end)).thenReturn(Optional.empty());
         when(summaryRepository.save(any(FeedbackSummary.class))).thenAnswer(inv -> {
             FeedbackSummary s = inv.getArgument(0);
@@ -0,0 +1,167 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.analytics.CommentDocument;
+import com.recipe.manager.config.FeedbackSummaryProperties;
+import com.recipe.manager.entity.FeedbackSummary;
+import com.recipe.manager.entity.JobWatermark;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.entity.SummaryPeriodType;
+import com.recipe.manager.event.DomainEventPublisher;
+import com.recipe.manager.repository.FeedbackSummaryRepository;
+import com.recipe.manager.repository.JobWatermarkRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository.CommentRef;
+import com.recipe.manager.repository.ProductFeedbackRepository.PeriodAggregateRef;
+import com.recipe.manager.repository.RecipeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackSummaryBatchServiceTest {
+
+    @Mock
+    private ProductFeedbackRepository feedbackRepository;
+
+    @Mock
+    private FeedbackSummaryRepository summaryRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private JobWatermarkRepository watermarkRepository;
+
+    @Mock
+    private CommentAnalysisService commentAnalysisService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Spy
+    private FeedbackSummaryProperties properties = new FeedbackSummaryProperties();
+
+    @InjectMocks
+    private FeedbackSummaryBatchService batchService;
+
+    private final SummaryPeriod week = SummaryPeriod.weekOf(LocalDate.of(2024, 6, 12));
+    private final LocalDateTime lastUpdatedAt = LocalDateTime.of(2024, 6, 16, 12, 0);
+
+    private record Aggregate(Long recipeId, Long feedbackCount, Double avgSatisfaction, Double avgEmotion,
+                             LocalDateTime lastUpdatedAt) implements PeriodAggregateRef {
+        public Long getRecipeId() { return recipeId; }
+        public Long getFeedbackCount() { return feedbackCount; }
+        public Double getAvgSatisfaction() { return avgSatisfaction; }
+        public Double getAvgEmotion() { return avgEmotion; }
+        public LocalDateTime getLastUpdatedAt() { return lastUpdatedAt; }
+    }
+
+    private record Comment(Long id, Long recipeId, String comment) implements CommentRef {
+        public Long getId() { return id; }
+        public Long getRecipeId() { return recipeId; }
+        public String getComment() { return comment; }
+    }
+
+    @Test
+    void 期間_正常系_週は月曜始まりで月は月末まで() {
+        assertEquals(LocalDate.of(2024, 6, 10), week.getStart());
+        assertEquals(LocalDate.of(2024, 6, 16), week.getEnd());
+
+        SummaryPeriod month = SummaryPeriod.monthOf(LocalDate.of(2024, 2, 12));
+        assertEquals(LocalDate.of(2024, 2, 29), month.getEnd());
+        assertEquals(5, SummaryPeriod.recent(LocalDate.of(2024, 6, 12), 3, 2).size());
+
+        assertEquals(SummaryPeriodType.WEEKLY, SummaryPeriodType.of(week.getStart(), week.getEnd()));
+        assertEquals(SummaryPeriodType.MONTHLY, SummaryPeriodType.of(month.getStart(), month.getEnd()));
+        assertEquals(SummaryPeriodType.CUSTOM, SummaryPeriodType.of(week.getStart(), week.getEnd().plusDays(1)));
+    }
+
+    @Test
+    void バッチ集計_正常系_未集計と集計後に編集された期間だけを生成し最新の集計は書き換えない() {
+        JobWatermark watermark = JobWatermark.builder().jobName(week.partitionKey()).build();
+        FeedbackSummary fresh = FeedbackSummary.builder()
+                .recipe(Recipe.builder().id(2L).build()).feedbackCount(3)
+                .sourceUpdatedAt(lastUpdatedAt).build();
+        FeedbackSummary outdated = FeedbackSummary.builder()
+                .recipe(Recipe.builder().id(3L).build()).feedbackCount(4)
+                .avgSatisfaction(BigDecimal.ONE).sourceUpdatedAt(lastUpdatedAt.minusHours(1)).build();
+
+        when(watermarkRepository.findForUpdate(week.partitionKey())).thenReturn(Optional.of(watermark));
+        when(feedbackRepository.aggregateByRecipeAfter(eq(week.getStart()), eq(week.getEnd()), eq(0L),
+                eq(RecipeStatus.DELETED), any()))
+                .thenReturn(List.of(
+                        new Aggregate(1L, 2L, 4.5, null, lastUpdatedAt),
+                        new Aggregate(2L, 3L, 4.0, 3.0, lastUpdatedAt),
+                        new Aggregate(3L, 4L, 3.25, 2.0, lastUpdatedAt)));
+        when(summaryRepository.findByPeriodAndRecipeIdIn(eq(week.getStart()), eq(week.getEnd()), anyCollection()))
+                .thenReturn(List.of(fresh, outdated));
+        when(feedbackRepository.findCommentsByRecipeIdInAndPeriod(eq(List.of(1L, 3L)), any(), any()))
+                .thenReturn(List.of(new Comment(11L, 1L, "美味しかった")));
+        when(commentAnalysisService.summarizeAll(Map.of(1L, List.of(new CommentDocument(11L, "美味しかった")))))
+                .thenReturn(Map.of(1L, "コメント件数: 1件\n"));
+        when(recipeRepository.getReferenceById(1L)).thenReturn(Recipe.builder().id(1L).build());
+
+        FeedbackSummaryBatchService.BatchResult result = batchService.summarizeNextBatch(week);
+
+        assertEquals(3, result.getScanned());
+        assertEquals(2, result.getGenerated());
+        assertTrue(result.isFinished());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FeedbackSummary>> captor = ArgumentCaptor.forClass(List.class);
+        verify(summaryRepository).saveAll(captor.capture());
+        List<FeedbackSummary> saved = captor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals(new BigDecimal("4.50"), saved.get(0).getAvgSatisfaction());
+        assertEquals("コメント件数: 1件\n", saved.get(0).getMainCommentTrend());
+        assertNull(saved.get(1).getMainCommentTrend());
+        assertEquals(outdated, saved.get(1));
+        assertEquals(4, outdated.getFeedbackCount());
+        assertEquals(lastUpdatedAt, outdated.getSourceUpdatedAt());
+        verify(watermarkRepository).delete(watermark);
+    }
+
+    @Test
+    void バッチ集計_正常系_途中のバッチは進捗を保存して前回の続きから再開する() {
+        properties.setBatchSize(1);
+        JobWatermark watermark = JobWatermark.builder().jobName(week.partitionKey()).lastProcessedId(5L).build();
+
+        when(watermarkRepository.findForUpdate(week.partitionKey())).thenReturn(Optional.of(watermark));
+        when(feedbackRepository.aggregateByRecipeAfter(any(), any(), eq(5L), any(), any()))
+                .thenReturn(List.of(new Aggregate(7L, 1L, 5.0, null, lastUpdatedAt)));
+        when(summaryRepository.findByPeriodAndRecipeIdIn(any(), any(), anyCollection())).thenReturn(List.of());
+        when(feedbackRepository.findCommentsByRecipeIdInAndPeriod(anyCollection(), any(), any())).thenReturn(List.of());
+        when(commentAnalysisService.summarizeAll(Map.of())).thenReturn(Map.of());
+        when(recipeRepository.getReferenceById(7L)).thenReturn(Recipe.builder().id(7L).build());
+
+        FeedbackSummaryBatchService.BatchResult result = batchService.summarizeNextBatch(week);
+
+        assertFalse(result.isFinished());
+        assertEquals(7L, watermark.getLastProcessedId());
+        verify(watermarkRepository).save(watermark);
+        verify(watermarkRepository, never()).delete(any());
+    }
+}
@@ -0,0 +1,95 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.dto.request.CreateIngredientRequest;
+import com.recipe.manager.dto.request.UpdateIngredientRequest;
+import com.recipe.manager.entity.Ingredient;
+import com.recipe.manager.entity.Role;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ForbiddenException;
+import com.recipe.manager.repository.IngredientRepository;
+import com.recipe.manager.search.IngredientSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IngredientServiceTest {
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    @Mock
+    private IngredientSearchIndex searchIndex;
+
+    @InjectMocks
+    private IngredientService ingredientService;
+
+    private User purchaserUser;
+    private User serviceUser;
+
+    @BeforeEach
+    void setUp() {
+        purchaserUser = User.builder().id(1L).email("purchaser@example.com").name("Purchaser").role(Role.PURCHASER).build();
+        serviceUser = User.builder().id(2L).email("service@example.com").name("Service").role(Role.SERVICE).build();
+    }
+
+    @Test
+    void 食材作成_正常系_索引に反映される() {
+        when(ingredientRepository.findByName("トマト")).thenReturn(Optional.empty());
+        when(ingredientRepository.save(any(Ingredient.class))).thenAnswer(inv -> {
+            Ingredient i = inv.getArgument(0);
+            i.setId(10L);
+            return i;
+        });
+
+        Ingredient result = ingredientService.createIngredient(
+                CreateIngredientRequest.builder().name("トマト").nameKana("トマト").build(), purchaserUser);
+
+        assertEquals(10L, result.getId());
+        verify(searchIndex).upsert(result);
+    }
+
+    @Test
+    void 食材作成_異常系_同名の食材は登録できない() {
+        when(ingredientRepository.findByName("トマト"))
+                .thenReturn(Optional.of(Ingredient.builder().id(1L).name("トマト").build()));
+
+        assertThrows(BusinessLogicException.class,
+                () -> ingredientService.createIngredient(
+                        CreateIngredientRequest.builder().name("トマト").build(), purchaserUser));
+        verify(searchIndex, never()).upsert(any());
+    }
+
+    @Test
+    void 食材作成_異常系_SERVICEは登録できない() {
+        assertThrows(ForbiddenException.class,
+                () -> ingredientService.createIngredient(
+                        CreateIngredientRequest.builder().name("トマト").build(), serviceUser));
+    }
+
+    @Test
+    void 食材更新_正常系_読みを変更すると索引が更新される() {
+        Ingredient ingredient = Ingredient.builder().id(3L).name("玉ねぎ").build();
+        when(ingredientRepository.findById(3L)).thenReturn(Optional.of(ingredient));
+        when(ingredientRepository.save(any(Ingredient.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        Ingredient result = ingredientService.updateIngredient(
+                3L, UpdateIngredientRequest.builder().nameKana("タマネギ").build(), purchaserUser);
+
+        assertEquals("タマネギ", result.getNameKana());
+        verify(searchIndex).upsert(result);
+    }
+}
@@ -0,0 +1,163 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.dto.request.CreateKnowledgeCategoryRequest;
+import com.recipe.manager.dto.response.KnowledgeCategoryTreeResponse;
+import com.recipe.manager.entity.KnowledgeCategory;
+import com.recipe.manager.event.ArticleChangedEvent;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ConflictException;
+import com.recipe.manager.repository.KnowledgeCategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KnowledgeCategoryServiceTest {
+
+    @Mock
+    private KnowledgeCategoryRepository categoryRepository;
+
+    @InjectMocks
+    private KnowledgeCategoryService knowledgeCategoryService;
+
+    @Test
+    void ツリー構築_正常系_親子関係と記事数を保ったまま並び順で組み立てる() {
+        List<KnowledgeCategory> categories = List.of(
+                category(1L, null, "/1/", 0, 2, 5),
+                category(2L, null, "/2/", 0, 1, 1),
+                category(3L, 1L, "/1/3/", 1, 2, 3),
+                category(4L, 3L, "/1/3/4/", 2, 1, 1));
+
+        List<KnowledgeCategoryTreeResponse> roots = KnowledgeCategoryService.buildTree(categories);
+
+        assertEquals(2, roots.size());
+        KnowledgeCategoryTreeResponse root = roots.get(0);
+        assertEquals(5, root.getSubtreeArticleCount());
+        assertEquals(3L, root.getChildren().get(0).getId());
+        assertEquals(4L, root.getChildren().get(0).getChildren().get(0).getId());
+        assertEquals(0, roots.get(1).getChildren().size());
+    }
+
+    @Test
+    void ツリー取得_正常系_変更がなければスナップショットを使い回す() {
+        when(categoryRepository.findAllByOrderBySortOrderAsc())
+                .thenReturn(List.of(category(1L, null, "/1/", 0, 0, 0)));
+
+        List<KnowledgeCategoryTreeResponse> first = knowledgeCategoryService.getTree();
+        List<KnowledgeCategoryTreeResponse> second = knowledgeCategoryService.getTree();
+
+        assertSame(first, second);
+        verify(categoryRepository, times(1)).findAllByOrderBySortOrderAsc();
+    }
+
+    @Test
+    void ツリー取得_正常系_記事の変更後は作り直す() {
+        when(categoryRepository.findAllByOrderBySortOrderAsc())
+                .thenReturn(List.of(category(1L, null, "/1/", 0, 0, 0)))
+                .thenReturn(List.of(category(1L, null, "/1/", 0, 1, 1)));
+
+        knowledgeCategoryService.getTree();
+        knowledgeCategoryService.onArticleChanged(new BroadcastEvent<>(new ArticleChangedEvent(10L, false, List.of())));
+        List<KnowledgeCategoryTreeResponse> rebuilt = knowledgeCategoryService.getTree();
+
+        assertEquals(1, rebuilt.get(0).getArticleCount());
+        verify(categoryRepository, times(2)).findAllByOrderBySortOrderAsc();
+    }
+
+    @Test
+    void カテゴリ作成_正常系_親の経路に自身のIDを付け足す() {
+        KnowledgeCategory parent = category(1L, null, "/1/", 0, 0, 0);
+        when(categoryRepository.findByName("包丁")).thenReturn(Optional.empty());
+        when(categoryRepository.findAllForUpdate(Set.of(1L))).thenReturn(List.of(parent));
+        when(categoryRepository.save(any(KnowledgeCategory.class))).thenAnswer(inv -> {
+            KnowledgeCategory c = inv.getArgument(0);
+            c.setId(7L);
+            return c;
+        });
+
+        KnowledgeCategory result = knowledgeCategoryService.createCategory(
+                CreateKnowledgeCategoryRequest.builder().name("包丁").parentId(1L).build());
+
+        assertEquals("/1/7/", result.getPath());
+        assertEquals(1, result.getDepth());
+        assertEquals(1L, result.getParentId());
+    }
+
+    @Test
+    void カテゴリ作成_異常系_階層の上限を超える() {
+        KnowledgeCategory parent = category(5L, 4L, "/1/2/3/4/5/", 4, 0, 0);
+        when(categoryRepository.findByName("深すぎる")).thenReturn(Optional.empty());
+        when(categoryRepository.findAllForUpdate(Set.of(5L))).thenReturn(List.of(parent));
+
+        assertThrows(BusinessLogicException.class, () -> knowledgeCategoryService.createCategory(
+                CreateKnowledgeCategoryRequest.builder().name("深すぎる").parentId(5L).build()));
+        verify(categoryRepository, never()).save(any());
+    }
+
+    @Test
+    void カテゴリ移動_正常系_共通の祖先を除いて部分木の記事数を付け替える() {
+        // /1/2/3/ を /1/4/ の下へ移す。祖先1は移動前後で共通なので増減しない
+        KnowledgeCategory moving = category(3L, 2L, "/1/2/3/", 2, 1, 4);
+        KnowledgeCategory newParent = category(4L, 1L, "/1/4/", 1, 0, 0);
+        when(categoryRepository.findPathsByIdIn(List.of(3L, 4L))).thenReturn(List.of("/1/2/3/", "/1/4/"));
+        when(categoryRepository.findAllForUpdate(Set.of(1L, 2L, 3L, 4L))).thenReturn(List.of(moving, newParent));
+        when(categoryRepository.findMaxDepthInSubtree("/1/2/3/")).thenReturn(3);
+        when(categoryRepository.findById(3L)).thenReturn(Optional.of(moving));
+
+        knowledgeCategoryService.moveCategory(3L, 4L);
+
+        verify(categoryRepository).adjustSubtreeArticleCounts(Set.of(2L), -4);
+        verify(categoryRepository).adjustSubtreeArticleCounts(Set.of(4L), 4);
+        verify(categoryRepository).updateParent(3L, 4L);
+        verify(categoryRepository).moveSubtree("/1/2/3/", "/1/4/3/", 0);
+    }
+
+    @Test
+    void カテゴリ移動_異常系_自身の配下へは移動できない() {
+        KnowledgeCategory moving = category(1L, null, "/1/", 0, 0, 0);
+        KnowledgeCategory child = category(2L, 1L, "/1/2/", 1, 0, 0);
+        when(categoryRepository.findPathsByIdIn(List.of(1L, 2L))).thenReturn(List.of("/1/", "/1/2/"));
+        when(categoryRepository.findAllForUpdate(Set.of(1L, 2L))).thenReturn(List.of(moving, child));
+
+        assertThrows(BusinessLogicException.class, () -> knowledgeCategoryService.moveCategory(1L, 2L));
+        verify(categoryRepository, never()).moveSubtree(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void カテゴリ移動_異常系_ロック待ちの間に祖先が移動していたらやり直させる() {
+        // 読んだ時点では /2/3/ だったが、ロックを取るまでに祖先2が /5/ の下へ移動した
+        KnowledgeCategory moving = category(3L, 2L, "/5/2/3/", 2, 0, 0);
+        KnowledgeCategory newParent = category(4L, null, "/4/", 0, 0, 0);
+        when(categoryRepository.findPathsByIdIn(List.of(3L, 4L))).thenReturn(List.of("/2/3/", "/4/"));
+        when(categoryRepository.findAllForUpdate(Set.of(2L, 3L, 4L))).thenReturn(List.of(moving, newParent));
+
+        assertThrows(ConflictException.class, () -> knowledgeCategoryService.moveCategory(3L, 4L));
+        verify(categoryRepository, never()).moveSubtree(anyString(), anyString(), anyInt());
+    }
+
+    private static KnowledgeCategory category(Long id, Long parentId, String path, int depth,
+                                              int articleCount, int subtreeArticleCount) {
+        return KnowledgeCategory.builder()
+                .id(id).name("カテゴリ" + id).parentId(parentId).path(path).depth(depth)
+                .articleCount(articleCount).subtreeArticleCount(subtreeArticleCount)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.ai.ArticleChunker;
+import com.recipe.manager.config.KnowledgeChunkProperties;
+import com.recipe.manager.entity.KnowledgeArticle;
+import com.recipe.manager.entity.KnowledgeChunk;
+import com.recipe.manager.repository.KnowledgeArticleRepository;
+import com.recipe.manager.repository.KnowledgeChunkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KnowledgeChunkIndexerTest {
+
+    @Mock
+    private KnowledgeArticleRepository articleRepository;
+
+    @Mock
+    private KnowledgeChunkRepository chunkRepository;
+
+    @Mock
+    private KnowledgeEmbeddingService embeddingService;
+
+    private KnowledgeChunkIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        indexer = new KnowledgeChunkIndexer(new ArticleChunker(new KnowledgeChunkProperties()),
+                articleRepository, chunkRepository, embeddingService);
+    }
+
+    @Test
+    void 作り直し_正常系_パッセージを作り直して埋め込む() {
+        KnowledgeArticle article = KnowledgeArticle.builder()
+                .id(1L).title("出汁").content("# 昆布\n水出しする。\n# 鰹節\n沸騰直前で入れる。").version(2L).build();
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(chunkRepository.findArticleVersionsByArticleId(1L)).thenReturn(List.of(1L));
+        when(chunkRepository.findIdsByArticleId(1L)).thenReturn(List.of(10L, 11L));
+        when(chunkRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        indexer.rechunk(1L);
+
+        verify(chunkRepository).deleteByArticleId(1L);
+        verify(embeddingService).removeChunks(List.of(10L, 11L));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<KnowledgeChunk>> saved = ArgumentCaptor.forClass(List.class);
+        verify(embeddingService).embedChunks(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals(0, saved.getValue().get(0).getChunkIndex());
+        assertEquals(2L, saved.getValue().get(0).getArticleVersion());
+    }
+
+    @Test
+    void 作り直し_正常系_同じバージョンなら何もしない() {
+        KnowledgeArticle article = KnowledgeArticle.builder().id(1L).title("出汁").content("本文").version(2L).build();
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(chunkRepository.findArticleVersionsByArticleId(1L)).thenReturn(List.of(2L));
+
+        indexer.rechunk(1L);
+
+        verify(chunkRepository, never()).deleteByArticleId(any());
+        verify(embeddingService, never()).embedChunks(anyList());
+    }
+
+    @Test
+    void 削除_正常系_パッセージと索引から外す() {
+        when(chunkRepository.findIdsByArticleId(1L)).thenReturn(List.of(10L));
+
+        indexer.remove(1L);
+
+        verify(chunkRepository).deleteByArticleId(1L);
+        verify(embeddingService).removeChunks(List.of(10L));
+    }
+}
@@ -0,0 +1,150 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.config.KnowledgeChunkProperties;
+import com.recipe.manager.entity.KnowledgeArticle;
+import com.recipe.manager.entity.KnowledgeChunk;
+import com.recipe.manager.event.ArticleChangedEvent;
+import com.recipe.manager.repository.KnowledgeArticleRepository;
+import com.recipe.manager.repository.KnowledgeChunkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KnowledgeChunkServiceTest {
+
+    @Mock
+    private KnowledgeChunkIndexer indexer;
+
+    @Mock
+    private KnowledgeArticleRepository articleRepository;
+
+    @Mock
+    private KnowledgeChunkRepository chunkRepository;
+
+    @Mock
+    private KnowledgeEmbeddingService embeddingService;
+
+    private KnowledgeChunkProperties properties;
+    private KnowledgeChunkService chunkService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KnowledgeChunkProperties();
+        chunkService = new KnowledgeChunkService(properties, indexer, articleRepository, chunkRepository,
+                embeddingService);
+    }
+
+    @Test
+    void 記事変更_正常系_パッセージの作り直しを委譲する() {
+        chunkService.onArticleChanged(new ArticleChangedEvent(1L, false, List.of()));
+
+        verify(indexer).rechunk(1L);
+        verify(indexer, never()).remove(any());
+    }
+
+    @Test
+    void 記事変更_正常系_削除ならパッセージを外す() {
+        chunkService.onArticleChanged(new ArticleChangedEvent(1L, true, List.of()));
+
+        verify(indexer).remove(1L);
+    }
+
+    @Test
+    void パッセージ検索_正常系_文字数の上限に収める() {
+        properties.setMaxPromptChars(150);
+        KnowledgeArticle article = KnowledgeArticle.builder().id(1L).title("歴史").build();
+        KnowledgeChunk first = chunk(10L, article, "あ".repeat(100));
+        KnowledgeChunk tooLong = chunk(11L, article, "い".repeat(100));
+        KnowledgeChunk small = chunk(12L, article, "う".repeat(40));
+        stubKeywordHits(first, tooLong, small);
+        when(embeddingService.rankHybrid(anyString(), anyList(), anyInt())).thenAnswer(inv -> inv.getArgument(1));
+
+        List<KnowledgeChunk> result = chunkService.findRelevantPassages("江戸", null);
+
+        assertEquals(List.of(first, small), result);
+    }
+
+    @Test
+    void パッセージ検索_正常系_同じ記事のパッセージは上限件数までにする() {
+        KnowledgeArticle longArticle = KnowledgeArticle.builder().id(1L).title("歴史").build();
+        KnowledgeArticle other = KnowledgeArticle.builder().id(2L).title("産地").build();
+        KnowledgeChunk first = chunk(10L, longArticle, "江戸江戸");
+        KnowledgeChunk second = chunk(11L, longArticle, "江戸");
+        KnowledgeChunk third = chunk(12L, longArticle, "江戸");
+        KnowledgeChunk fromOther = chunk(20L, other, "江戸");
+        stubKeywordHits(first, second, third, fromOther);
+        when(embeddingService.rankHybrid(anyString(), anyList(), anyInt())).thenAnswer(inv -> inv.getArgument(1));
+
+        List<KnowledgeChunk> result = chunkService.findRelevantPassages("江戸", null);
+
+        assertEquals(List.of(first, second, fromOther), result);
+    }
+
+    @Test
+    void パッセージ検索_正常系_レシピに紐付く記事は冒頭のパッセージを加える() {
+        KnowledgeArticle matched = KnowledgeArticle.builder().id(1L).title("歴史").build();
+        KnowledgeArticle linked = KnowledgeArticle.builder().id(2L).title("産地").build();
+        KnowledgeChunk hit = chunk(10L, matched, "本文");
+        KnowledgeChunk intro = chunk(20L, linked, "冒頭");
+        stubKeywordHits(hit);
+        when(embeddingService.rankHybrid(anyString(), anyList(), anyInt())).thenAnswer(inv -> inv.getArgument(1));
+        when(articleRepository.findByRelatedRecipeId(5L)).thenReturn(List.of(matched, linked));
+        when(chunkRepository.findFirstChunksByArticleIdIn(List.of(2L))).thenReturn(List.of(intro));
+
+        List<KnowledgeChunk> result = chunkService.findRelevantPassages("江戸", 5L);
+
+        assertEquals(List.of(hit, intro), result);
+        assertEquals(List.of(matched, linked), KnowledgeChunkService.articlesOf(result));
+    }
+
+    @Test
+    void パッセージ検索_正常系_読み直したパッセージを関連度の順に戻す() {
+        KnowledgeArticle article = KnowledgeArticle.builder().id(1L).title("歴史").build();
+        KnowledgeChunk first = chunk(10L, article, "江戸江戸");
+        KnowledgeChunk second = chunk(20L, article, "江戸");
+        when(chunkRepository.searchIdsByKeyword(eq("江戸"), anyInt())).thenReturn(List.of(20L, 10L));
+        when(chunkRepository.findWithArticleByIdIn(List.of(20L, 10L))).thenReturn(List.of(first, second));
+        when(embeddingService.rankHybrid(anyString(), anyList(), anyInt())).thenAnswer(inv -> inv.getArgument(1));
+
+        List<KnowledgeChunk> result = chunkService.findRelevantPassages("江戸", null);
+
+        assertEquals(List.of(second, first), result);
+    }
+
+    @Test
+    void パッセージ検索_正常系_キーワードに一致しなければ読み直さない() {
+        when(chunkRepository.searchIdsByKeyword(eq("江戸"), anyInt())).thenReturn(List.of());
+        when(embeddingService.rankHybrid(anyString(), anyList(), anyInt())).thenAnswer(inv -> inv.getArgument(1));
+
+        List<KnowledgeChunk> result = chunkService.findRelevantPassages("江戸", null);
+
+        assertEquals(List.of(), result);
+        verify(chunkRepository, never()).findWithArticleByIdIn(any());
+    }
+
+    private void stubKeywordHits(KnowledgeChunk... chunks) {
+        List<Long> ids = Arrays.stream(chunks).map(KnowledgeChunk::getId).toList();
+        when(chunkRepository.searchIdsByKeyword(eq("江戸"), anyInt())).thenReturn(ids);
+        when(chunkRepository.findWithArticleByIdIn(ids)).thenReturn(List.of(chunks));
+    }
+
+    private static KnowledgeChunk chunk(Long id, KnowledgeArticle article, String content) {
+        return KnowledgeChunk.builder().id(id).article(article).chunkIndex(0).content(content).articleVersion(0L).build();
+    }
+}
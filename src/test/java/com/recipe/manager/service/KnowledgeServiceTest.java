@@ -2,10 +2,14 @@ package com.recipe.manager.service;
 
 import com.recipe.manager.dto.request.CreateKnowledgeArticleRequest;
 import com.recipe.manager.dto.request.UpdateKnowledgeArticleRequest;
+import com.recipe.manager.dto.response.KnowledgeSearchResponse;
+import com.recipe.manager.dto.response.TagFacetResponse;
 import com.recipe.manager.entity.KnowledgeArticle;
 import com.recipe.manager.entity.KnowledgeCategory;
 import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.event.DomainEventPublisher;
+import com.recipe.manager.exception.ConflictException;
 import com.recipe.manager.exception.ForbiddenException;
 import com.recipe.manager.exception.ResourceNotFoundException;
 import com.recipe.manager.repository.KnowledgeArticleRepository;
@@ -28,6 +32,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,6 +49,12 @@ class KnowledgeServiceTest {
     @Mock
     private RecipeRepository recipeRepository;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private KnowledgeTagService knowledgeTagService;
+
     @InjectMocks
     private KnowledgeService knowledgeService;
 
@@ -88,6 +99,8 @@ class KnowledgeServiceTest {
         assertEquals("包丁の使い方", result.getTitle());
         assertEquals(chefUser, result.getAuthor());
         verify(articleRepository).save(any(KnowledgeArticle.class));
+        verify(categoryRepository).adjustArticleCounts(1L, 1);
+        verify(knowledgeTagService).syncTags(1L, "包丁,基本");
     }
 
     @Test
@@ -115,6 +128,38 @@ class KnowledgeServiceTest {
         KnowledgeArticle result = knowledgeService.updateArticle(1L, request, chefUser);
 
         assertEquals("新タイトル", result.getTitle());
+        verify(knowledgeTagService, never()).syncTags(any(), any());
+    }
+
+    @Test
+    void 記事更新_正常系_カテゴリ移動で移動元と移動先の記事数を更新する() {
+        KnowledgeCategory other = KnowledgeCategory.builder().id(2L).name("演出方法").path("/2/").build();
+        KnowledgeArticle article = KnowledgeArticle.builder()
+                .id(1L).title("タイトル").content("本文").category(category).author(chefUser).build();
+
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(other));
+        when(articleRepository.save(any(KnowledgeArticle.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        KnowledgeArticle result = knowledgeService.updateArticle(1L,
+                UpdateKnowledgeArticleRequest.builder().categoryId(2L).build(), chefUser);
+
+        assertEquals(other, result.getCategory());
+        verify(categoryRepository).adjustArticleCounts(1L, -1);
+        verify(categoryRepository).adjustArticleCounts(2L, 1);
+    }
+
+    @Test
+    void 記事更新_正常系_同じカテゴリなら記事数を更新しない() {
+        KnowledgeArticle article = KnowledgeArticle.builder()
+                .id(1L).title("タイトル").content("本文").category(category).author(chefUser).build();
+
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(articleRepository.save(any(KnowledgeArticle.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        knowledgeService.updateArticle(1L, UpdateKnowledgeArticleRequest.builder().categoryId(1L).build(), chefUser);
+
+        verify(categoryRepository, never()).adjustArticleCounts(any(), anyInt());
     }
 
     @Test
@@ -146,6 +191,21 @@ class KnowledgeServiceTest {
                         serviceUser));
     }
 
+    @Test
+    void 記事更新_異常系_古いバージョンは409() {
+        KnowledgeArticle article = KnowledgeArticle.builder()
+                .id(1L).title("タイトル").content("本文").category(category).author(chefUser).version(2L).build();
+
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+
+        ConflictException ex = assertThrows(ConflictException.class,
+                () -> knowledgeService.updateArticle(1L,
+                        UpdateKnowledgeArticleRequest.builder().title("変更").version(1L).build(),
+                        chefUser));
+        assertEquals(2L, ex.getCurrentVersion());
+        verify(articleRepository, never()).save(any(KnowledgeArticle.class));
+    }
+
     @Test
     void 記事削除_正常系_自分の記事を削除できる() {
         KnowledgeArticle article = KnowledgeArticle.builder()
@@ -156,6 +216,7 @@ class KnowledgeServiceTest {
         knowledgeService.deleteArticle(1L, chefUser);
 
         verify(articleRepository).delete(article);
+        verify(categoryRepository).adjustArticleCounts(1L, -1);
     }
 
     @Test
@@ -180,7 +241,23 @@ class KnowledgeServiceTest {
         when(articleRepository.findByCategoryId(1L, pageable))
                 .thenReturn(new PageImpl<>(List.of(article)));
 
-        Page<KnowledgeArticle> result = knowledgeService.listArticles(1L, pageable);
+        Page<KnowledgeArticle> result = knowledgeService.listArticles(1L, false, pageable);
+
+        assertEquals(1, result.getContent().size());
+    }
+
+    @Test
+    void 記事一覧_正常系_配下のカテゴリも含めて経路の前方一致で取得する() {
+        Pageable pageable = PageRequest.of(0, 20);
+        category.setPath("/1/");
+        KnowledgeArticle article = KnowledgeArticle.builder()
+                .id(1L).title("記事").content("本文").category(category).author(chefUser).build();
+
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(articleRepository.findByCategoryPathStartingWith("/1/", pageable))
+                .thenReturn(new PageImpl<>(List.of(article)));
+
+        Page<KnowledgeArticle> result = knowledgeService.listArticles(1L, true, pageable);
 
         assertEquals(1, result.getContent().size());
     }
@@ -190,10 +267,25 @@ class KnowledgeServiceTest {
         KnowledgeArticle article = KnowledgeArticle.builder()
                 .id(1L).title("包丁技法").content("包丁の使い方").category(category).author(chefUser).build();
 
-        when(articleRepository.searchByKeyword("包丁")).thenReturn(List.of(article));
+        when(articleRepository.searchByKeyword("包丁", "包丁")).thenReturn(List.of(article));
+        when(knowledgeTagService.getKeywordFacets("包丁")).thenReturn(List.of(
+                TagFacetResponse.builder().tagId(1L).name("包丁").articleCount(1L).build()));
+
+        KnowledgeSearchResponse result = knowledgeService.searchArticles("包丁");
+
+        assertEquals(1, result.getArticles().size());
+        assertEquals(1, result.getFacets().size());
+        assertEquals("包丁", result.getFacets().get(0).getName());
+    }
+
+    @Test
+    void 記事検索_正常系_一致する記事がなければタグを集計しない() {
+        when(articleRepository.searchByKeyword("包丁", "包丁")).thenReturn(List.of());
 
-        List<KnowledgeArticle> result = knowledgeService.searchArticles("包丁");
+        KnowledgeSearchResponse result = knowledgeService.searchArticles("包丁");
 
-        assertEquals(1, result.size());
+        assertEquals(0, result.getArticles().size());
+        assertEquals(0, result.getFacets().size());
+        verify(knowledgeTagService, never()).getKeywordFacets(any());
     }
 }
@@ -0,0 +1,113 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.dto.response.TaggedArticlesResponse;
+import com.recipe.manager.entity.KnowledgeTag;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.repository.KnowledgeArticleRepository;
+import com.recipe.manager.repository.KnowledgeArticleTagRepository;
+import com.recipe.manager.repository.KnowledgeTagRepository;
+import com.recipe.manager.search.MatchMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KnowledgeTagServiceTest {
+
+    @Mock
+    private KnowledgeTagRepository tagRepository;
+
+    @Mock
+    private KnowledgeArticleTagRepository articleTagRepository;
+
+    @Mock
+    private KnowledgeArticleRepository articleRepository;
+
+    @InjectMocks
+    private KnowledgeTagService knowledgeTagService;
+
+    @Test
+    void タグ同期_正常系_増えたタグだけ登録し外れたタグだけ削除する() {
+        KnowledgeTag knife = tag(1L, "包丁", "包丁");
+        KnowledgeTag dashi = tag(3L, "出汁", "出汁");
+        when(tagRepository.findByNormalizedNameIn(Set.of("包丁", "出汁"))).thenReturn(List.of(knife));
+        when(tagRepository.findByNormalizedNameIn(List.of("出汁"))).thenReturn(List.of(dashi));
+        when(articleTagRepository.findTagIdsByArticleId(10L)).thenReturn(List.of(1L, 2L));
+
+        knowledgeTagService.syncTags(10L, "包丁, 出汁");
+
+        verify(tagRepository).insertIfAbsent("出汁", "出汁");
+        verify(articleTagRepository).deleteByArticleIdAndTagIdIn(10L, List.of(2L));
+        verify(articleTagRepository).insertIfAbsent(10L, 3L);
+        verify(articleTagRepository, never()).insertIfAbsent(10L, 1L);
+    }
+
+    @Test
+    void タグ同期_正常系_新しいタグは名前順に登録する() {
+        when(tagRepository.findByNormalizedNameIn(Set.of("包丁", "出汁"))).thenReturn(List.of());
+        when(tagRepository.findByNormalizedNameIn(List.of("出汁", "包丁")))
+                .thenReturn(List.of(tag(3L, "出汁", "出汁"), tag(1L, "包丁", "包丁")));
+        when(articleTagRepository.findTagIdsByArticleId(10L)).thenReturn(List.of());
+
+        knowledgeTagService.syncTags(10L, "包丁, 出汁");
+
+        InOrder inOrder = inOrder(tagRepository);
+        inOrder.verify(tagRepository).insertIfAbsent("出汁", "出汁");
+        inOrder.verify(tagRepository).insertIfAbsent("包丁", "包丁");
+    }
+
+    @Test
+    void タグ絞り込み_正常系_ALLは全タグを持つ記事とファセットを返す() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(tagRepository.findByNormalizedNameIn(Set.of("包丁", "基本")))
+                .thenReturn(List.of(tag(1L, "包丁", "包丁"), tag(2L, "基本", "基本")));
+        when(articleRepository.findTaggedAll(List.of(1L, 2L), 2, pageable)).thenReturn(new PageImpl<>(List.of()));
+        when(tagRepository.countArticlesTaggedAll(any(), anyLong(), any())).thenReturn(List.of());
+
+        TaggedArticlesResponse result = knowledgeTagService.findByTags(List.of("包丁", "基本"), MatchMode.ALL, pageable);
+
+        assertEquals(0, result.getTotalElements());
+        verify(articleRepository, never()).findTaggedAny(any(), any());
+    }
+
+    @Test
+    void タグ絞り込み_正常系_ALLに未登録のタグがあれば検索しない() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(tagRepository.findByNormalizedNameIn(Set.of("包丁", "未登録")))
+                .thenReturn(List.of(tag(1L, "包丁", "包丁")));
+
+        TaggedArticlesResponse result = knowledgeTagService.findByTags(List.of("包丁", "未登録"), MatchMode.ALL, pageable);
+
+        assertEquals(0, result.getTotalElements());
+        assertEquals(0, result.getFacets().size());
+        verify(articleRepository, never()).findTaggedAll(any(), anyLong(), any());
+    }
+
+    @Test
+    void タグ絞り込み_異常系_タグ未指定() {
+        assertThrows(BusinessLogicException.class,
+                () -> knowledgeTagService.findByTags(List.of(" "), MatchMode.ANY, PageRequest.of(0, 20)));
+    }
+
+    private static KnowledgeTag tag(Long id, String name, String normalizedName) {
+        return KnowledgeTag.builder().id(id).name(name).normalizedName(normalizedName).build();
+    }
+}
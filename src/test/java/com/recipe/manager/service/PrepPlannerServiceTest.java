@@ -0,0 +1,107 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.dto.request.PrepPlanRequest;
+import com.recipe.manager.dto.response.PrepPlanResponse;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.repository.RecipeIngredientRepository;
+import com.recipe.manager.repository.RecipeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrepPlannerServiceTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @InjectMocks
+    private PrepPlannerService prepPlannerService;
+
+    private record Summary(Long id, String title, Integer servings, Long prepMinutes)
+            implements RecipeRepository.PrepSummaryRef {
+        public Long getId() { return id; }
+        public String getTitle() { return title; }
+        public Integer getServings() { return servings; }
+        public Long getPrepMinutes() { return prepMinutes; }
+    }
+
+    private record Line(Long recipeId, Long ingredientId, String ingredientName, BigDecimal quantity, String unit)
+            implements RecipeIngredientRepository.PrepLine {
+        public Long getRecipeId() { return recipeId; }
+        public Long getIngredientId() { return ingredientId; }
+        public String getIngredientName() { return ingredientName; }
+        public BigDecimal getQuantity() { return quantity; }
+        public String getUnit() { return unit; }
+    }
+
+    @Test
+    void 仕込み計画_正常系_食材を単位を揃えて合算する() {
+        when(recipeRepository.findPrepSummariesByIdInAndStatusNot(anyCollection(), eq(RecipeStatus.DELETED)))
+                .thenReturn(List.of(new Summary(1L, "トマトソース", 4, 30L), new Summary(2L, "サラダ", 2, 10L)));
+        when(recipeIngredientRepository.findPrepLinesByRecipeIdIn(anyCollection())).thenReturn(List.of(
+                new Line(1L, 10L, "トマト", new BigDecimal("400"), "g"),
+                new Line(1L, 20L, "醤油", new BigDecimal("1"), "大さじ"),
+                new Line(2L, 10L, "トマト", new BigDecimal("0.1"), "kg"),
+                new Line(2L, 20L, "醤油", new BigDecimal("10"), "ml"),
+                new Line(2L, 30L, "卵", new BigDecimal("1"), "個")));
+
+        PrepPlanResponse result = prepPlannerService.plan(List.of(
+                new PrepPlanRequest.Item(1L, 40),
+                new PrepPlanRequest.Item(2L, 20)));
+
+        assertEquals(60, result.getTotalCovers());
+        assertEquals(40L, result.getTotalPrepMinutes());
+        assertEquals(3, result.getIngredients().size());
+
+        PrepPlanResponse.IngredientTotal tomato = result.getIngredients().get(0);
+        assertEquals(new BigDecimal("5"), tomato.getQuantity());
+        assertEquals("kg", tomato.getUnit());
+        assertEquals(2, tomato.getRecipeCount());
+
+        PrepPlanResponse.IngredientTotal soySauce = result.getIngredients().get(1);
+        assertEquals(new BigDecimal("250"), soySauce.getQuantity());
+        assertEquals("ml", soySauce.getUnit());
+
+        PrepPlanResponse.IngredientTotal egg = result.getIngredients().get(2);
+        assertEquals(new BigDecimal("10"), egg.getQuantity());
+        assertEquals("個", egg.getUnit());
+    }
+
+    @Test
+    void 仕込み計画_正常系_同じレシピの食数は合算される() {
+        when(recipeRepository.findPrepSummariesByIdInAndStatusNot(anyCollection(), eq(RecipeStatus.DELETED)))
+                .thenReturn(List.of(new Summary(1L, "トマトソース", 4, 30L)));
+        when(recipeIngredientRepository.findPrepLinesByRecipeIdIn(anyCollection())).thenReturn(List.of());
+
+        PrepPlanResponse result = prepPlannerService.plan(List.of(
+                new PrepPlanRequest.Item(1L, 10), new PrepPlanRequest.Item(1L, 6)));
+
+        assertEquals(1, result.getRecipes().size());
+        assertEquals(16, result.getRecipes().get(0).getCovers());
+    }
+
+    @Test
+    void 仕込み計画_異常系_存在しないレシピ() {
+        when(recipeRepository.findPrepSummariesByIdInAndStatusNot(anyCollection(), eq(RecipeStatus.DELETED)))
+                .thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> prepPlannerService.plan(List.of(new PrepPlanRequest.Item(99L, 10))));
+    }
+}
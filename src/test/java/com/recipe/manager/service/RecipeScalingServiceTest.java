@@ -0,0 +1,118 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.config.CacheConfig;
+import com.recipe.manager.dto.request.ScaleRecipesRequest;
+import com.recipe.manager.dto.response.ScaledRecipeResponse;
+import com.recipe.manager.entity.Ingredient;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeIngredient;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.repository.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeScalingServiceTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    private RecipeScalingService recipeScalingService;
+
+    private record Version(Long id, Long version) implements RecipeRepository.VersionRef {
+        public Long getId() { return id; }
+        public Long getVersion() { return version; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        recipeScalingService = new RecipeScalingService(
+                recipeRepository, new ConcurrentMapCacheManager(CacheConfig.SCALED_RECIPES));
+    }
+
+    private Recipe createRecipe(Long id, Integer servings) {
+        Recipe recipe = Recipe.builder().id(id).title("レシピ" + id).servings(servings).version(2L).build();
+        recipe.getIngredients().add(RecipeIngredient.builder()
+                .recipe(recipe).ingredient(Ingredient.builder().id(10L).name("トマト").build())
+                .quantity(new BigDecimal("200")).unit("g").build());
+        recipe.getIngredients().add(RecipeIngredient.builder()
+                .recipe(recipe).ingredient(Ingredient.builder().id(11L).name("醤油").build())
+                .quantity(new BigDecimal("2")).unit("大さじ").build());
+        return recipe;
+    }
+
+    @Test
+    void 人数換算_正常系_分量が人数比で換算される() {
+        when(recipeRepository.findVersionRefsByIdInAndStatusNot(anyCollection(), eq(RecipeStatus.DELETED)))
+                .thenReturn(List.of(new Version(1L, 2L)));
+        when(recipeRepository.findWithIngredientsByIdIn(anyCollection())).thenReturn(List.of(createRecipe(1L, 4)));
+
+        ScaledRecipeResponse result = recipeScalingService.scaleRecipe(1L, 240);
+
+        assertEquals(240, result.getServings());
+        assertEquals(new BigDecimal("12"), result.getIngredients().get(0).getQuantity());
+        assertEquals("kg", result.getIngredients().get(0).getUnit());
+        assertEquals(new BigDecimal("1.8"), result.getIngredients().get(1).getQuantity());
+        assertEquals("l", result.getIngredients().get(1).getUnit());
+    }
+
+    @Test
+    void 人数換算_正常系_同じバージョンと人数はキャッシュから返す() {
+        when(recipeRepository.findVersionRefsByIdInAndStatusNot(anyCollection(), eq(RecipeStatus.DELETED)))
+                .thenReturn(List.of(new Version(1L, 2L)));
+        when(recipeRepository.findWithIngredientsByIdIn(anyCollection())).thenReturn(List.of(createRecipe(1L, 4)));
+
+        ScaledRecipeResponse first = recipeScalingService.scaleRecipe(1L, 10);
+        ScaledRecipeResponse second = recipeScalingService.scaleRecipe(1L, 10);
+
+        assertSame(first, second);
+        verify(recipeRepository, times(1)).findWithIngredientsByIdIn(anyCollection());
+    }
+
+    @Test
+    void 一括換算_正常系_リクエスト順に結果が返る() {
+        when(recipeRepository.findVersionRefsByIdInAndStatusNot(anyCollection(), eq(RecipeStatus.DELETED)))
+                .thenReturn(List.of(new Version(1L, 2L), new Version(2L, 2L)));
+        when(recipeRepository.findWithIngredientsByIdIn(anyCollection()))
+                .thenReturn(List.of(createRecipe(2L, 2), createRecipe(1L, 4)));
+
+        List<ScaledRecipeResponse> result = recipeScalingService.scaleRecipes(List.of(
+                new ScaleRecipesRequest.Item(1L, 8), new ScaleRecipesRequest.Item(2L, 8)));
+
+        assertEquals(1L, result.get(0).getRecipeId());
+        assertEquals(new BigDecimal("400"), result.get(0).getIngredients().get(0).getQuantity());
+        assertEquals(2L, result.get(1).getRecipeId());
+        assertEquals(new BigDecimal("800"), result.get(1).getIngredients().get(0).getQuantity());
+    }
+
+    @Test
+    void 人数換算_異常系_存在しないレシピ() {
+        when(recipeRepository.findVersionRefsByIdInAndStatusNot(anyCollection(), eq(RecipeStatus.DELETED)))
+                .thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> recipeScalingService.scaleRecipe(99L, 10));
+    }
+
+    @Test
+    void 人数換算_異常系_人数が0以下() {
+        assertThrows(BusinessLogicException.class, () -> recipeScalingService.scaleRecipe(1L, 0));
+    }
+}
@@ -0,0 +1,128 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.entity.FeedbackSummary;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeScorecard;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.entity.SummaryPeriodType;
+import com.recipe.manager.repository.FeedbackSummaryRepository;
+import com.recipe.manager.repository.KnowledgeArticleRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository;
+import com.recipe.manager.repository.ProductFeedbackRepository.FeedbackTotalsRef;
+import com.recipe.manager.repository.RecipeHistoryRepository;
+import com.recipe.manager.repository.RecipeHistoryRepository.EditStatsRef;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.RecipeScorecardRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeScorecardProjectorTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private ProductFeedbackRepository feedbackRepository;
+
+    @Mock
+    private FeedbackSummaryRepository summaryRepository;
+
+    @Mock
+    private RecipeHistoryRepository recipeHistoryRepository;
+
+    @Mock
+    private KnowledgeArticleRepository articleRepository;
+
+    @Mock
+    private RecipeScorecardRepository scorecardRepository;
+
+    @InjectMocks
+    private RecipeScorecardProjector projector;
+
+    private record Totals(Long feedbackCount, Double avgSatisfaction, LocalDateTime lastFeedbackAt)
+            implements FeedbackTotalsRef {
+        public Long getFeedbackCount() { return feedbackCount; }
+        public Double getAvgSatisfaction() { return avgSatisfaction; }
+        public LocalDateTime getLastFeedbackAt() { return lastFeedbackAt; }
+    }
+
+    private record EditStats(LocalDateTime lastChangedAt, Long editorCount) implements EditStatsRef {
+        public LocalDateTime getLastChangedAt() { return lastChangedAt; }
+        public Long getEditorCount() { return editorCount; }
+    }
+
+    private FeedbackSummary summary(LocalDate start, String avg) {
+        return FeedbackSummary.builder()
+                .periodStart(start).periodEnd(start.plusDays(6))
+                .avgSatisfaction(new BigDecimal(avg)).avgEmotion(new BigDecimal("4.00"))
+                .build();
+    }
+
+    @Test
+    void スコアカード更新_正常系_各集計を1行にまとめる() {
+        Recipe recipe = Recipe.builder().id(1L).title("トマトパスタ").status(RecipeStatus.PUBLISHED).build();
+        LocalDateTime editedAt = LocalDateTime.of(2026, 3, 1, 10, 0);
+        when(recipeRepository.findByIdAndStatusNot(1L, RecipeStatus.DELETED)).thenReturn(Optional.of(recipe));
+        when(scorecardRepository.findForUpdate(1L))
+                .thenReturn(Optional.of(RecipeScorecard.builder().recipeId(1L).build()));
+        when(feedbackRepository.findTotalsByRecipeId(1L)).thenReturn(new Totals(12L, 4.125, editedAt));
+        when(summaryRepository.findTop6ByRecipeIdAndPeriodTypeOrderByPeriodStartDesc(1L, SummaryPeriodType.WEEKLY))
+                .thenReturn(List.of(
+                        summary(LocalDate.of(2026, 3, 2), "3.50"),
+                        summary(LocalDate.of(2026, 1, 31), "4.50")));
+        when(recipeHistoryRepository.findEditStatsByRecipeId(1L)).thenReturn(new EditStats(editedAt, 3L));
+        when(articleRepository.countByRelatedRecipeId(1L)).thenReturn(2L);
+        when(scorecardRepository.save(any(RecipeScorecard.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        RecipeScorecard scorecard = projector.refresh(1L).orElseThrow();
+
+        InOrder inOrder = inOrder(scorecardRepository, feedbackRepository);
+        inOrder.verify(scorecardRepository).insertIfAbsent(1L);
+        inOrder.verify(scorecardRepository).findForUpdate(1L);
+        inOrder.verify(feedbackRepository).findTotalsByRecipeId(1L);
+
+        assertEquals("トマトパスタ", scorecard.getTitle());
+        assertEquals(12L, scorecard.getFeedbackCount());
+        assertEquals(new BigDecimal("4.13"), scorecard.getAvgSatisfaction());
+        assertEquals(new BigDecimal("3.50"), scorecard.getLatestAvgSatisfaction());
+        assertEquals(new BigDecimal("-1.000"), scorecard.getTrendSlope());
+        assertEquals(editedAt, scorecard.getLastEditedAt());
+        assertEquals(3, scorecard.getEditorCount());
+        assertEquals(2, scorecard.getLinkedArticleCount());
+    }
+
+    @Test
+    void スコアカード更新_正常系_削除済みレシピはスコアカードを消す() {
+        RecipeScorecard existing = RecipeScorecard.builder().recipeId(1L).title("旧").build();
+        when(recipeRepository.findByIdAndStatusNot(1L, RecipeStatus.DELETED)).thenReturn(Optional.empty());
+        when(scorecardRepository.findForUpdate(1L)).thenReturn(Optional.of(existing));
+
+        assertTrue(projector.refresh(1L).isEmpty());
+
+        verify(scorecardRepository).delete(existing);
+    }
+
+    @Test
+    void 傾き_正常系_集計が1期間だけならnull() {
+        assertNull(RecipeScorecardProjector.trendSlope(List.of(summary(LocalDate.of(2026, 1, 1), "4.00"))));
+    }
+}
@@ -0,0 +1,179 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.dto.response.RecipeSearchResponse;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.RecipeChangedEvent;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.repository.IngredientRepository;
+import com.recipe.manager.repository.RecipeIngredientRepository;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.UserRepository;
+import com.recipe.manager.search.RecipeFacetIndex;
+import com.recipe.manager.search.RecipeSearchCriteria;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeSearchServiceTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RecipeFacetIndex recipeFacetIndex;
+
+    @InjectMocks
+    private RecipeSearchService recipeSearchService;
+
+    @Test
+    void 検索_正常系_索引が使えるときはDBで絞り込まない() {
+        Pageable pageable = PageRequest.of(0, 20);
+        RecipeSearchCriteria criteria = RecipeSearchCriteria.builder().categories(List.of("和食")).build();
+        when(recipeFacetIndex.isReady()).thenReturn(true);
+        when(recipeFacetIndex.search(eq(criteria), eq(0L), eq(20), anyInt())).thenReturn(new RecipeFacetIndex.Result(
+                List.of(), 0, Map.of("和食", 2L), Map.of(), Map.of(), Map.of()));
+
+        RecipeSearchResponse result = recipeSearchService.search(criteria, pageable);
+
+        assertEquals("和食", result.getFacets().getCategories().get(0).getKey());
+        assertEquals(2, result.getFacets().getCategories().get(0).getCount());
+        verify(recipeRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void 検索_正常系_キーワード指定はDBで検索する() {
+        Pageable pageable = PageRequest.of(0, 20);
+        RecipeSearchCriteria criteria = RecipeSearchCriteria.builder().keyword("鶏").build();
+        when(recipeFacetIndex.isReady()).thenReturn(true);
+        when(recipeRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of()));
+        when(recipeRepository.countByCategory(any())).thenReturn(Map.of());
+        when(recipeRepository.countByStatus(any())).thenReturn(Map.of(RecipeStatus.PUBLISHED, 1L));
+        when(recipeRepository.countByCreator(any())).thenReturn(Map.of());
+        when(recipeRepository.countByIngredient(any(), anyInt())).thenReturn(Map.of());
+
+        RecipeSearchResponse result = recipeSearchService.search(criteria, pageable);
+
+        assertEquals("PUBLISHED", result.getFacets().getStatuses().get(0).getKey());
+        verify(recipeFacetIndex, never()).search(any(), anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void 検索_異常系_削除済みステータスは指定できない() {
+        RecipeSearchCriteria criteria = RecipeSearchCriteria.builder().statuses(List.of(RecipeStatus.DELETED)).build();
+
+        assertThrows(BusinessLogicException.class, () -> recipeSearchService.search(criteria, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void 検索_異常系_日付範囲が逆転している() {
+        RecipeSearchCriteria criteria = RecipeSearchCriteria.builder()
+                .createdFrom(LocalDate.of(2026, 2, 1))
+                .createdTo(LocalDate.of(2026, 1, 1))
+                .build();
+
+        assertThrows(BusinessLogicException.class, () -> recipeSearchService.search(criteria, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void 変更イベント_正常系_削除されたレシピは索引から外す() {
+        when(recipeFacetIndex.isReady()).thenReturn(true);
+        when(recipeRepository.findFacetRefById(1L)).thenReturn(Optional.empty());
+
+        recipeSearchService.onRecipeChanged(
+                new BroadcastEvent<>(new RecipeChangedEvent(1L, "和食", RecipeStatus.DELETED, "DELETE", null)));
+
+        verify(recipeFacetIndex).remove(1L);
+        verify(recipeFacetIndex, never()).put(any());
+    }
+
+    @Test
+    void 索引読み込み_正常系_読み込み中に変更されたレシピを読み直す() {
+        when(recipeFacetIndex.isEnabled()).thenReturn(true);
+        when(recipeFacetIndex.isReady()).thenReturn(true);
+        when(recipeRepository.findFacetRefsByStatusNot(RecipeStatus.DELETED)).thenReturn(List.of());
+        when(recipeRepository.findFacetRefsUpdatedSince(any()))
+                .thenReturn(List.of(facetRef(1L, RecipeStatus.PUBLISHED), facetRef(2L, RecipeStatus.DELETED)));
+        when(recipeIngredientRepository.findIngredientRefsByRecipeIdIn(List.of(1L, 2L))).thenReturn(List.of());
+
+        recipeSearchService.loadRecipeFacetIndex();
+
+        verify(recipeFacetIndex).put(any(RecipeFacetIndex.Entry.class));
+        verify(recipeFacetIndex).remove(2L);
+    }
+
+    @Test
+    void 索引追従_正常系_読み込み前は何もしない() {
+        when(recipeFacetIndex.isReady()).thenReturn(false);
+
+        recipeSearchService.catchUpRecipeFacetIndex();
+
+        verify(recipeRepository, never()).findFacetRefsUpdatedSince(any());
+    }
+
+    private static RecipeRepository.FacetRef facetRef(Long id, RecipeStatus status) {
+        return new RecipeRepository.FacetRef() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public RecipeStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public String getCategory() {
+                return "和食";
+            }
+
+            @Override
+            public Long getCreatorId() {
+                return 1L;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return LocalDateTime.of(2026, 1, 1, 0, 0);
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return LocalDateTime.of(2026, 1, 2, 0, 0);
+            }
+        };
+    }
+}
@@ -12,12 +12,19 @@ import com.recipe.manager.entity.RecipeStatus;
 import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.ServiceDesign;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.event.BroadcastEvent;
+import com.recipe.manager.event.DomainEventPublisher;
+import com.recipe.manager.event.RecipeChangedEvent;
 import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.exception.ConflictException;
 import com.recipe.manager.exception.ForbiddenException;
 import com.recipe.manager.exception.ResourceNotFoundException;
 import com.recipe.manager.repository.IngredientRepository;
 import com.recipe.manager.repository.RecipeHistoryRepository;
+import com.recipe.manager.repository.RecipeIngredientRepository;
 import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.search.MatchMode;
+import com.recipe.manager.search.RecipeBitmapIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +38,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,7 +46,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,6 +65,15 @@ class RecipeServiceTest {
     @Mock
     private RecipeHistoryRepository recipeHistoryRepository;
 
+    @Mock
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Mock
+    private RecipeBitmapIndex recipeBitmapIndex;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
     @InjectMocks
     private RecipeService recipeService;
 
@@ -83,6 +102,64 @@ class RecipeServiceTest {
                 .build();
     }
 
+    @Test
+    void 変更イベント_正常系_現在の行を読み直してビットマップ索引に反映する() {
+        RecipeRepository.FacetRef ref = mock(RecipeRepository.FacetRef.class);
+        when(ref.getStatus()).thenReturn(RecipeStatus.PUBLISHED);
+        when(recipeBitmapIndex.isReady()).thenReturn(true);
+        when(recipeRepository.findFacetRefById(1L)).thenReturn(Optional.of(ref));
+        when(recipeIngredientRepository.findIngredientIdsByRecipeId(1L)).thenReturn(List.of(10L, 11L));
+
+        recipeService.onRecipeChanged(
+                new BroadcastEvent<>(new RecipeChangedEvent(1L, "メイン", RecipeStatus.DRAFT, "STATUS_CHANGE", null)));
+
+        verify(recipeBitmapIndex).putRecipe(1L, RecipeStatus.PUBLISHED, List.of(10L, 11L));
+    }
+
+    @Test
+    void 変更イベント_正常系_削除されたレシピはビットマップ索引から外す() {
+        when(recipeBitmapIndex.isReady()).thenReturn(true);
+        when(recipeRepository.findFacetRefById(1L)).thenReturn(Optional.empty());
+
+        recipeService.onRecipeChanged(
+                new BroadcastEvent<>(new RecipeChangedEvent(1L, "メイン", RecipeStatus.DELETED, "DELETE", null)));
+
+        verify(recipeBitmapIndex).removeRecipe(1L);
+    }
+
+    @Test
+    void 索引読み込み_正常系_読み込み中に変更されたレシピをビットマップ索引に読み直す() {
+        RecipeRepository.FacetRef published = mock(RecipeRepository.FacetRef.class);
+        when(published.getId()).thenReturn(1L);
+        when(published.getStatus()).thenReturn(RecipeStatus.PUBLISHED);
+        RecipeRepository.FacetRef deleted = mock(RecipeRepository.FacetRef.class);
+        when(deleted.getId()).thenReturn(2L);
+        when(deleted.getStatus()).thenReturn(RecipeStatus.DELETED);
+        RecipeIngredientRepository.IngredientRef ingredient = mock(RecipeIngredientRepository.IngredientRef.class);
+        when(ingredient.getRecipeId()).thenReturn(1L);
+        when(ingredient.getIngredientId()).thenReturn(10L);
+        when(recipeBitmapIndex.isEnabled()).thenReturn(true);
+        when(recipeBitmapIndex.isReady()).thenReturn(true);
+        when(recipeRepository.findStatusRefsByStatusNot(RecipeStatus.DELETED)).thenReturn(List.of());
+        when(recipeIngredientRepository.findIngredientRefsByRecipeStatusNot(RecipeStatus.DELETED)).thenReturn(List.of());
+        when(recipeRepository.findFacetRefsUpdatedSince(any())).thenReturn(List.of(published, deleted));
+        when(recipeIngredientRepository.findIngredientRefsByRecipeIdIn(List.of(1L, 2L))).thenReturn(List.of(ingredient));
+
+        recipeService.loadRecipeBitmapIndex();
+
+        verify(recipeBitmapIndex).putRecipe(1L, RecipeStatus.PUBLISHED, List.of(10L));
+        verify(recipeBitmapIndex).removeRecipe(2L);
+    }
+
+    @Test
+    void 索引追従_正常系_読み込み前は何もしない() {
+        when(recipeBitmapIndex.isReady()).thenReturn(false);
+
+        recipeService.catchUpRecipeBitmapIndex();
+
+        verify(recipeRepository, never()).findFacetRefsUpdatedSince(any());
+    }
+
     @Test
     void レシピ作成_正常系_シェフが作成できる() {
         CreateRecipeRequest request = CreateRecipeRequest.builder()
@@ -107,6 +184,21 @@ class RecipeServiceTest {
         verify(recipeHistoryRepository).save(any(RecipeHistory.class));
     }
 
+    @Test
+    void レシピ作成_異常系_工程の依存関係が循環している() {
+        CreateRecipeRequest request = CreateRecipeRequest.builder()
+                .title("循環レシピ")
+                .cookingSteps(List.of(
+                        CreateRecipeRequest.CookingStepInput.builder()
+                                .stepNumber(1).description("下茹で").dependsOn(List.of(2)).build(),
+                        CreateRecipeRequest.CookingStepInput.builder()
+                                .stepNumber(2).description("仕上げ").dependsOn(List.of(1)).build()))
+                .build();
+
+        assertThrows(BusinessLogicException.class, () -> recipeService.createRecipe(request, chefUser));
+        verify(recipeRepository, never()).save(any(Recipe.class));
+    }
+
     @Test
     void レシピ作成_正常系_PRODUCERも作成できる() {
         CreateRecipeRequest request = CreateRecipeRequest.builder()
@@ -190,6 +282,15 @@ class RecipeServiceTest {
                 () -> recipeService.getRecipeById(999L));
     }
 
+    @Test
+    void バージョン取得_異常系_削除済みレシピは404() {
+        when(recipeRepository.findVersionByIdAndStatusNot(999L, RecipeStatus.DELETED))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> recipeService.getRecipeVersion(999L));
+    }
+
     @Test
     void レシピ一覧_正常系_DELETED以外が取得できる() {
         Pageable pageable = PageRequest.of(0, 20);
@@ -226,6 +327,18 @@ class RecipeServiceTest {
         assertEquals(1, result.getContent().size());
     }
 
+    @Test
+    void レシピ一覧_正常系_ステータスとカテゴリを組み合わせる() {
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<Recipe> page = new PageImpl<>(List.of(createTestRecipe()));
+        when(recipeRepository.findByStatusAndCategory(RecipeStatus.PUBLISHED, "メイン", pageable))
+                .thenReturn(page);
+
+        Page<Recipe> result = recipeService.listRecipes("メイン", RecipeStatus.PUBLISHED, pageable);
+
+        assertEquals(1, result.getContent().size());
+    }
+
     @Test
     void レシピ一覧_異常系_DELETEDステータスでの検索は不可() {
         Pageable pageable = PageRequest.of(0, 20);
@@ -255,6 +368,74 @@ class RecipeServiceTest {
         assertEquals("title", captor.getValue().getChangedFields());
     }
 
+    @Test
+    void レシピ更新_正常系_別フィールドの同時更新はマージされる() {
+        Recipe recipe = createTestRecipe();
+        recipe.setVersion(2L);
+        RecipeHistory concurrent = RecipeHistory.builder()
+                .changeType("UPDATE").changedFields("description, story").baseVersion(1L).build();
+        RecipeHistory serviceDesignChange = RecipeHistory.builder()
+                .changeType("UPDATE_SERVICE_DESIGN").changedFields("serviceDesign").baseVersion(1L).build();
+
+        when(recipeRepository.findByIdAndStatusNot(1L, RecipeStatus.DELETED))
+                .thenReturn(Optional.of(recipe));
+        when(recipeHistoryRepository.findByRecipeIdAndBaseVersionGreaterThanEqual(1L, 1L))
+                .thenReturn(List.of(concurrent, serviceDesignChange));
+        when(recipeRepository.save(any(Recipe.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UpdateRecipeRequest request = UpdateRecipeRequest.builder()
+                .title("マージ後タイトル")
+                .version(1L)
+                .build();
+
+        Recipe result = recipeService.updateRecipe(1L, request, chefUser);
+
+        assertEquals("マージ後タイトル", result.getTitle());
+        ArgumentCaptor<RecipeHistory> captor = ArgumentCaptor.forClass(RecipeHistory.class);
+        verify(recipeHistoryRepository).save(captor.capture());
+        assertEquals(2L, captor.getValue().getBaseVersion());
+    }
+
+    @Test
+    void レシピ更新_異常系_同じフィールドの同時更新は409() {
+        Recipe recipe = createTestRecipe();
+        recipe.setVersion(2L);
+        RecipeHistory concurrent = RecipeHistory.builder()
+                .changeType("UPDATE").changedFields("title").baseVersion(1L).build();
+
+        when(recipeRepository.findByIdAndStatusNot(1L, RecipeStatus.DELETED))
+                .thenReturn(Optional.of(recipe));
+        when(recipeHistoryRepository.findByRecipeIdAndBaseVersionGreaterThanEqual(1L, 1L))
+                .thenReturn(List.of(concurrent));
+
+        UpdateRecipeRequest request = UpdateRecipeRequest.builder()
+                .title("競合するタイトル")
+                .version(1L)
+                .build();
+
+        ConflictException ex = assertThrows(ConflictException.class,
+                () -> recipeService.updateRecipe(1L, request, chefUser));
+        assertEquals(2L, ex.getCurrentVersion());
+        verify(recipeRepository, never()).save(any(Recipe.class));
+    }
+
+    @Test
+    void サービス設計更新_異常系_古いバージョンは409() {
+        Recipe recipe = createTestRecipe();
+        ServiceDesign serviceDesign = ServiceDesign.builder().id(1L).recipe(recipe).version(5L).build();
+        recipe.setServiceDesign(serviceDesign);
+        when(recipeRepository.findByIdAndStatusNot(1L, RecipeStatus.DELETED))
+                .thenReturn(Optional.of(recipe));
+
+        UpdateServiceDesignRequest request = UpdateServiceDesignRequest.builder()
+                .platingInstructions("黒い皿")
+                .version(4L)
+                .build();
+
+        assertThrows(ConflictException.class,
+                () -> recipeService.updateServiceDesign(1L, request, serviceUser));
+    }
+
     @Test
     void レシピ更新_異常系_SERVICEは基本情報を更新できない() {
         assertThrows(ForbiddenException.class,
@@ -427,4 +608,48 @@ class RecipeServiceTest {
         assertEquals(2, result.size());
         assertEquals("UPDATE", result.get(0).getChangeType());
     }
+
+    @Test
+    void 食材逆引き_正常系_インデックス未構築時はDBで検索する() {
+        Pageable pageable = PageRequest.of(0, 20);
+        Recipe recipe = createTestRecipe();
+        when(recipeBitmapIndex.isReady()).thenReturn(false);
+        when(recipeRepository.findByAllIngredients(anyCollection(), eq(2L), anyCollection(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(recipe)));
+
+        Page<Recipe> result = recipeService.findRecipesByIngredients(
+                List.of(10L, 20L, 10L), MatchMode.ALL, null, pageable);
+
+        assertEquals(1, result.getContent().size());
+        verify(recipeRepository, never()).findByAnyIngredient(anyCollection(), anyCollection(), any());
+    }
+
+    @Test
+    void 食材逆引き_正常系_インデックス構築済みならビットマップで絞り込む() {
+        Pageable pageable = PageRequest.of(0, 2);
+        BitSet matched = new BitSet();
+        matched.set(3);
+        matched.set(5);
+        matched.set(9);
+        Recipe recipe5 = Recipe.builder().id(5L).title("五").createdBy(chefUser).build();
+        Recipe recipe9 = Recipe.builder().id(9L).title("九").createdBy(chefUser).build();
+
+        when(recipeBitmapIndex.isReady()).thenReturn(true);
+        when(recipeBitmapIndex.match(anyCollection(), eq(MatchMode.ANY), eq(List.of(RecipeStatus.PUBLISHED))))
+                .thenReturn(matched);
+        when(recipeRepository.findByIdIn(List.of(9L, 5L))).thenReturn(List.of(recipe5, recipe9));
+
+        Page<Recipe> result = recipeService.findRecipesByIngredients(
+                List.of(10L), MatchMode.ANY, RecipeStatus.PUBLISHED, pageable);
+
+        assertEquals(3, result.getTotalElements());
+        assertEquals(9L, result.getContent().get(0).getId());
+        assertEquals(5L, result.getContent().get(1).getId());
+    }
+
+    @Test
+    void 食材逆引き_異常系_食材IDが空() {
+        assertThrows(BusinessLogicException.class,
+                () -> recipeService.findRecipesByIngredients(List.of(), MatchMode.ANY, null, PageRequest.of(0, 20)));
+    }
 }
@@ -0,0 +1,119 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.dto.response.RecipeTextSearchResponse;
+import com.recipe.manager.entity.Recipe;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.event.RecipeChangedEvent;
+import com.recipe.manager.exception.BusinessLogicException;
+import com.recipe.manager.repository.RecipeRepository;
+import com.recipe.manager.repository.RecipeSearchDocumentRepository;
+import com.recipe.manager.repository.RecipeSearchDocumentRepository.TextMatchRef;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeTextSearchServiceTest {
+
+    private static final String QUERY = "('鶏も' <-> 'もも')";
+
+    @Mock
+    private RecipeSearchDocumentRepository documentRepository;
+
+    @Mock
+    private RecipeSearchDocumentIndexer indexer;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @InjectMocks
+    private RecipeTextSearchService recipeTextSearchService;
+
+    @Test
+    void 全文検索_正常系_スコア順にハイライトして次のカーソルを返す() {
+        when(documentRepository.search(QUERY, Constants.TEXT_SEARCH_RANK_CANDIDATES, 2)).thenReturn(List.of(match(2L, 0.5f), match(1L, 0.25f)));
+        when(recipeRepository.findByIdIn(List.of(2L))).thenReturn(List.of(recipe(2L, "鶏モモの照り焼き", "甘辛い鶏ももを焼く")));
+
+        RecipeTextSearchResponse result = recipeTextSearchService.search("鶏もも", null, 1);
+
+        assertEquals(1, result.getHits().size());
+        RecipeTextSearchResponse.Hit hit = result.getHits().get(0);
+        assertEquals("<mark>鶏モモ</mark>の照り焼き", hit.getTitleHighlight());
+        assertEquals("description", hit.getSnippetField());
+        assertEquals("甘辛い<mark>鶏もも</mark>を焼く", hit.getSnippet());
+
+        when(documentRepository.searchAfter(QUERY, 0.5f, 2L, Constants.TEXT_SEARCH_RANK_CANDIDATES, 2)).thenReturn(List.of(match(1L, 0.25f)));
+        when(recipeRepository.findByIdIn(List.of(1L))).thenReturn(List.of(recipe(1L, "鶏もも焼き", null)));
+
+        RecipeTextSearchResponse next = recipeTextSearchService.search("鶏もも", result.getNextCursor(), 1);
+
+        assertEquals(1L, next.getHits().get(0).getRecipe().getId());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void 全文検索_異常系_文字を含まない検索語() {
+        assertThrows(BusinessLogicException.class, () -> recipeTextSearchService.search("！？", null, 20));
+    }
+
+    @Test
+    void 全文検索_異常系_不正なカーソル() {
+        assertThrows(BusinessLogicException.class, () -> recipeTextSearchService.search("鶏もも", "###", 20));
+    }
+
+    @Test
+    void 変更イベント_正常系_文書を作り直す() {
+        recipeTextSearchService.onRecipeChanged(
+                new RecipeChangedEvent(3L, "主菜", RecipeStatus.PUBLISHED, "UPDATE", "story"));
+
+        verify(indexer).reindex(3L);
+    }
+
+    @Test
+    void 起動時同期_正常系_失敗したレシピがあっても続ける() {
+        when(documentRepository.deleteForDeletedRecipes()).thenReturn(1);
+        when(documentRepository.findStaleRecipeIds(0L, 500)).thenReturn(List.of(4L, 7L));
+        when(indexer.reindex(4L)).thenReturn(true);
+        when(indexer.reindex(7L)).thenThrow(new IllegalStateException("tsvector"));
+
+        recipeTextSearchService.syncSearchDocuments();
+
+        verify(indexer).reindex(7L);
+    }
+
+    private static TextMatchRef match(Long recipeId, float score) {
+        return new TextMatchRef() {
+            @Override
+            public Long getRecipeId() {
+                return recipeId;
+            }
+
+            @Override
+            public Float getScore() {
+                return score;
+            }
+        };
+    }
+
+    private static Recipe recipe(Long id, String title, String description) {
+        return Recipe.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .status(RecipeStatus.PUBLISHED)
+                .createdBy(User.builder().id(1L).name("シェフ").build())
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.common.Constants;
+import com.recipe.manager.entity.Notification;
+import com.recipe.manager.entity.RecipeStatus;
+import com.recipe.manager.entity.SupplyStatus;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.repository.RecipeIngredientRepository;
+import com.recipe.manager.repository.RecipeIngredientRepository.ImpactedRecipeRef;
+import com.recipe.manager.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SupplyImpactNotifierTest {
+
+    @Mock
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private SupplyImpactNotifier supplyImpactNotifier;
+
+    private record Impacted(Long recipeId, String title, Long ownerId) implements ImpactedRecipeRef {
+        public Long getRecipeId() { return recipeId; }
+        public String getTitle() { return title; }
+        public Long getOwnerId() { return ownerId; }
+    }
+
+    private SupplyStatusChange change() {
+        return SupplyStatusChange.builder()
+                .ingredientId(10L).ingredientName("トマト")
+                .previousStatus(SupplyStatus.AVAILABLE).newStatus(SupplyStatus.UNAVAILABLE)
+                .build();
+    }
+
+    @Test
+    void 影響通知_正常系_複数バッチを走査し作成者ごとに1件通知する() {
+        List<ImpactedRecipeRef> firstBatch = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            firstBatch.add(new Impacted(id, "レシピ" + id, id % 2 == 0 ? 100L : 200L));
+        }
+        List<ImpactedRecipeRef> secondBatch = List.of(new Impacted(501L, "レシピ501", 300L));
+
+        when(recipeIngredientRepository.findImpactedRecipesAfter(eq(10L), eq(RecipeStatus.DELETED), eq(0L), any()))
+                .thenReturn(firstBatch);
+        when(recipeIngredientRepository.findImpactedRecipesAfter(eq(10L), eq(RecipeStatus.DELETED), eq(500L), any()))
+                .thenReturn(secondBatch);
+        when(userRepository.getReferenceById(anyLong()))
+                .thenAnswer(inv -> User.builder().id(inv.getArgument(0)).build());
+
+        supplyImpactNotifier.notifyRecipeOwners(change());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).createAll(captor.capture());
+        List<Notification> notifications = captor.getValue();
+        assertEquals(3, notifications.size());
+        assertTrue(notifications.get(0).getMessage().contains("250件"));
+        assertTrue(notifications.get(0).getMessage().contains("ほか"));
+    }
+
+    @Test
+    void 影響通知_正常系_長い食材名はタイトルの列長に収まるよう省略する() {
+        when(recipeIngredientRepository.findImpactedRecipesAfter(eq(10L), eq(RecipeStatus.DELETED), eq(0L), any()))
+                .thenReturn(List.of(new Impacted(1L, "レシピ1", 100L)));
+        when(userRepository.getReferenceById(100L)).thenReturn(User.builder().id(100L).build());
+        SupplyStatusChange change = SupplyStatusChange.builder()
+                .ingredientId(10L).ingredientName("ト".repeat(255))
+                .previousStatus(SupplyStatus.AVAILABLE).newStatus(SupplyStatus.UNAVAILABLE)
+                .build();
+
+        supplyImpactNotifier.notifyRecipeOwners(change);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).createAll(captor.capture());
+        String title = captor.getValue().get(0).getTitle();
+        assertEquals(Constants.NOTIFICATION_TITLE_MAX_LENGTH, title.length());
+        assertTrue(title.endsWith("..."));
+    }
+
+    @Test
+    void 影響通知_正常系_影響レシピがなければ通知しない() {
+        when(recipeIngredientRepository.findImpactedRecipesAfter(eq(10L), eq(RecipeStatus.DELETED), eq(0L), any()))
+                .thenReturn(List.of());
+
+        supplyImpactNotifier.notifyRecipeOwners(change());
+
+        verify(notificationService, never()).createAll(any());
+    }
+}
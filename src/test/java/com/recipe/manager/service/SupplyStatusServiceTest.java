@@ -0,0 +1,126 @@
+package com.recipe.manager.service;
+
+import com.recipe.manager.dto.request.UpdateSupplyStatusRequest;
+import com.recipe.manager.entity.Ingredient;
+import com.recipe.manager.entity.IngredientSupplyStatus;
+import com.recipe.manager.entity.IngredientSupplyStatusHistory;
+import com.recipe.manager.entity.Role;
+import com.recipe.manager.entity.Store;
+import com.recipe.manager.entity.SupplyStatus;
+import com.recipe.manager.entity.User;
+import com.recipe.manager.exception.ForbiddenException;
+import com.recipe.manager.exception.ResourceNotFoundException;
+import com.recipe.manager.repository.IngredientRepository;
+import com.recipe.manager.repository.IngredientSupplyStatusHistoryRepository;
+import com.recipe.manager.repository.IngredientSupplyStatusRepository;
+import com.recipe.manager.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SupplyStatusServiceTest {
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private IngredientSupplyStatusRepository supplyStatusRepository;
+
+    @Mock
+    private IngredientSupplyStatusHistoryRepository supplyStatusHistoryRepository;
+
+    @Mock
+    private SupplyImpactNotifier supplyImpactNotifier;
+
+    @InjectMocks
+    private SupplyStatusService supplyStatusService;
+
+    private User purchaserUser;
+    private User chefUser;
+    private Ingredient tomato;
+
+    @BeforeEach
+    void setUp() {
+        purchaserUser = User.builder().id(1L).email("purchaser@example.com").name("Purchaser").role(Role.PURCHASER).build();
+        chefUser = User.builder().id(2L).email("chef@example.com").name("Chef").role(Role.CHEF).build();
+        tomato = Ingredient.builder().id(10L).name("トマト").build();
+    }
+
+    @Test
+    void 供給状況更新_正常系_店舗別の状況と履歴が保存され通知される() {
+        Store store = Store.builder().id(3L).storeCode("S003").name("渋谷店").build();
+        IngredientSupplyStatus existing = IngredientSupplyStatus.builder()
+                .id(5L).ingredient(tomato).store(store).status(SupplyStatus.AVAILABLE).updatedBy(purchaserUser).build();
+
+        when(ingredientRepository.findById(10L)).thenReturn(Optional.of(tomato));
+        when(storeRepository.findById(3L)).thenReturn(Optional.of(store));
+        when(supplyStatusRepository.findByIngredientIdAndStoreId(10L, 3L)).thenReturn(Optional.of(existing));
+        when(supplyStatusRepository.save(any(IngredientSupplyStatus.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        IngredientSupplyStatus result = supplyStatusService.updateSupplyStatus(10L,
+                UpdateSupplyStatusRequest.builder().storeId(3L).status(SupplyStatus.UNAVAILABLE).note("入荷停止").build(),
+                purchaserUser);
+
+        assertEquals(SupplyStatus.UNAVAILABLE, result.getStatus());
+
+        ArgumentCaptor<IngredientSupplyStatusHistory> historyCaptor =
+                ArgumentCaptor.forClass(IngredientSupplyStatusHistory.class);
+        verify(supplyStatusHistoryRepository).save(historyCaptor.capture());
+        assertEquals(SupplyStatus.AVAILABLE, historyCaptor.getValue().getPreviousStatus());
+        assertEquals(SupplyStatus.UNAVAILABLE, historyCaptor.getValue().getNewStatus());
+
+        ArgumentCaptor<SupplyStatusChange> changeCaptor = ArgumentCaptor.forClass(SupplyStatusChange.class);
+        verify(supplyImpactNotifier).notifyRecipeOwners(changeCaptor.capture());
+        assertEquals("渋谷店", changeCaptor.getValue().getStoreName());
+    }
+
+    @Test
+    void 供給状況更新_正常系_初回のAVAILABLE登録では通知しない() {
+        when(ingredientRepository.findById(10L)).thenReturn(Optional.of(tomato));
+        when(supplyStatusRepository.findByIngredientIdAndStoreId(10L, null)).thenReturn(Optional.empty());
+        when(supplyStatusRepository.save(any(IngredientSupplyStatus.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        IngredientSupplyStatus result = supplyStatusService.updateSupplyStatus(10L,
+                UpdateSupplyStatusRequest.builder().status(SupplyStatus.AVAILABLE).build(), purchaserUser);
+
+        assertNull(result.getStore());
+        verify(supplyImpactNotifier, never()).notifyRecipeOwners(any());
+    }
+
+    @Test
+    void 供給状況更新_異常系_CHEFは更新できない() {
+        assertThrows(ForbiddenException.class,
+                () -> supplyStatusService.updateSupplyStatus(10L,
+                        UpdateSupplyStatusRequest.builder().status(SupplyStatus.LIMITED).build(), chefUser));
+        verify(supplyStatusRepository, never()).save(any());
+    }
+
+    @Test
+    void 供給状況更新_異常系_存在しない店舗() {
+        when(ingredientRepository.findById(10L)).thenReturn(Optional.of(tomato));
+        when(storeRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> supplyStatusService.updateSupplyStatus(10L,
+                        UpdateSupplyStatusRequest.builder().storeId(99L).status(SupplyStatus.LIMITED).build(),
+                        purchaserUser));
+    }
+}
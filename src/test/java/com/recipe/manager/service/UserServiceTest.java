@@ -2,6 +2,8 @@ package com.recipe.manager.service;
 
 import com.recipe.manager.entity.Role;
 import com.recipe.manager.entity.User;
+import com.recipe.manager.event.DomainEventPublisher;
+import com.recipe.manager.event.RoleChangedEvent;
 import com.recipe.manager.exception.BusinessLogicException;
 import com.recipe.manager.exception.ResourceNotFoundException;
 import com.recipe.manager.repository.UserRepository;
@@ -27,6 +29,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -69,6 +74,7 @@ class UserServiceTest {
 
         assertEquals(Role.SERVICE, result.getRole());
         verify(userRepository).save(targetUser);
+        verify(eventPublisher).publish(any(RoleChangedEvent.class));
     }
 
     @Test